@@ -6,13 +6,15 @@ import armameeldoparti.controllers.MainMenuController;
 import armameeldoparti.controllers.NamesInputController;
 import armameeldoparti.controllers.ResultsController;
 import armameeldoparti.controllers.SkillPointsInputController;
-import armameeldoparti.models.Player;
+import armameeldoparti.models.Formation;
 import armameeldoparti.models.enums.Error;
 import armameeldoparti.models.enums.Position;
+import armameeldoparti.models.enums.ProgramIcon;
 import armameeldoparti.models.enums.ProgramView;
 import armameeldoparti.utils.common.CommonFields;
 import armameeldoparti.utils.common.CommonFunctions;
 import armameeldoparti.utils.common.Constants;
+import armameeldoparti.utils.common.IconRegistry;
 import armameeldoparti.utils.common.custom.graphical.ui.CustomOptionPaneUI;
 import armameeldoparti.views.AnchoragesView;
 import armameeldoparti.views.HelpView;
@@ -27,15 +29,23 @@ import java.awt.GraphicsEnvironment;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
-import java.util.stream.IntStream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import javax.swing.SwingUtilities;
 import javax.swing.ToolTipManager;
+import javax.swing.UIDefaults;
 import javax.swing.UIManager;
 import javax.swing.border.EmptyBorder;
 import javax.swing.plaf.FontUIResource;
@@ -51,6 +61,12 @@ import javax.swing.plaf.FontUIResource;
  */
 public final class Main {
 
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private static final Map<String, Long> PHASES_DURATIONS = Collections.synchronizedMap(new LinkedHashMap<>());
+
   // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
 
   /**
@@ -65,12 +81,16 @@ public final class Main {
   /**
    * Starts the program by initializing the fields needed along with the program's graphical properties, and making the main menu view visible.
    *
-   * @param args Program arguments (not used).
+   * <p>The startup phases that do not depend on each other run concurrently: the program font is created and the formations are loaded on virtual
+   * threads, while the general graphical properties are set up on the main thread. Everything is joined before the main menu is shown. The
+   * duration of every phase is recorded, and reported along with the time to the first frame if the {@value Constants#ARG_STARTUP_REPORT} argument
+   * is given.
+   *
+   * @param args Program arguments.
    */
   public static void main(String[] args) {
-    // Establishes the main monitor as the active monitor by default
-    CommonFields.setActiveMonitor(GraphicsEnvironment.getLocalGraphicsEnvironment()
-                                                     .getDefaultScreenDevice());
+    long startTime = System.nanoTime();
+
     CommonFields.setAnchoragesEnabled(false);
     CommonFields.setControllersMap(new EnumMap<>(ProgramView.class));
     CommonFields.setPlayersLimitPerPosition(new EnumMap<>(Position.class));
@@ -81,89 +101,168 @@ public final class Main {
                                         Position.FORWARD, Constants.POSITION_FORWARDS,
                                         Position.GOALKEEPER, Constants.POSITION_GOALKEEPERS));
 
-    setUpGeneralGraphicalProperties();
-    setPlayersDistribution();
-    populatePlayersSets();
-    setUpControllers();
+    try (ExecutorService startupThreads = Executors.newVirtualThreadPerTaskExecutor()) {
+      Future<Font> programFont = startupThreads.submit(() -> supplyPhase("Creación de la fuente", Main::createProgramFont));
+      Future<?> formations = startupThreads.submit(() -> runPhase("Carga de formaciones", Main::setUpFormations));
+
+      // Establishes the main monitor as the active monitor by default
+      runPhase("Monitor activo", () -> CommonFields.setActiveMonitor(GraphicsEnvironment.getLocalGraphicsEnvironment()
+                                                                                        .getDefaultScreenDevice()));
+      runPhase("Propiedades gráficas", Main::setUpGeneralGraphicalProperties);
+
+      Font font = programFont.get();
+
+      runPhase("Aplicación de la fuente", () -> setProgramFont(font));
 
-    SwingUtilities.invokeLater(((MainMenuController) CommonFunctions.getController(ProgramView.MAIN_MENU))::showView);
+      formations.get();
+    } catch (ExecutionException _) {
+      CommonFunctions.exitProgram(Error.ERROR_INTERNAL);
+    } catch (InterruptedException _) {
+      Thread.currentThread()
+            .interrupt();
+
+      CommonFunctions.exitProgram(Error.ERROR_INTERNAL);
+    }
+
+    runPhase("Registro de controladores", Main::setUpControllers);
+
+    SwingUtilities.invokeLater(() -> {
+      runPhase("Menú principal", ((MainMenuController) CommonFunctions.getController(ProgramView.MAIN_MENU))::showView);
+
+      if (Arrays.asList(args)
+                .contains(Constants.ARG_STARTUP_REPORT)) {
+        printStartupReport(startTime);
+      }
+
+      CommonFunctions.prewarmControllers(List.of(ProgramView.NAMES_INPUT,
+                                                 ProgramView.HELP,
+                                                 ProgramView.SKILL_POINTS,
+                                                 ProgramView.ANCHORAGES,
+                                                 ProgramView.RESULTS));
+      IconRegistry.prescaleIcons(List.of(ProgramIcon.OP_ERROR,
+                                         ProgramIcon.OP_INFORMATION,
+                                         ProgramIcon.OP_QUESTION,
+                                         ProgramIcon.OP_WARNING),
+                                 Constants.SCALE_ICON_DIALOG);
+    });
   }
 
   // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
 
   /**
-   * Populates the players sets with empty players.
+   * Runs a startup phase, recording its duration.
    *
-   * <p>The "java:S1190" and "java:S117" warnings are suppressed since JDK22+ allows the use of unnamed variables.
+   * @param phase Phase name, as shown in the startup report.
+   * @param body  Phase to run.
    */
-  @SuppressWarnings({"java:S1190", "java:S117"})
-  private static void populatePlayersSets() {
-    Arrays.stream(Position.values())
-          .forEach(position -> CommonFields.getPlayersSets()
-                                           .put(position, IntStream.range(0, CommonFields.getPlayersLimitPerPosition()
-                                                                                         .get(position) * 2)
-                                                                   .mapToObj(_ -> new Player("", position))
-                                                                   .toList()));
+  private static void runPhase(String phase, Runnable body) {
+    long phaseStartTime = System.nanoTime();
+
+    body.run();
+
+    PHASES_DURATIONS.put(phase, System.nanoTime() - phaseStartTime);
   }
 
   /**
-   * Gets the number of players for each position per team using regular expressions.
+   * Runs a startup phase that produces a result, recording its duration.
    *
-   * <p>{@code [CLMFG].+>.+}: Retrieves the lines that start with C, L, M, F, or G, followed by at least one '>' character (these are the lines that
-   * matters in the .pda file).
+   * @param <T>   Phase result type.
+   * @param phase Phase name, as shown in the startup report.
+   * @param body  Phase to run.
    *
-   * <p>{@code (?!(?<=X)\\d).}: Gets the part of the line that is not a number that we are interested in (the number would take the place of the X).
+   * @return The phase result.
+   */
+  private static <T> T supplyPhase(String phase, Supplier<T> body) {
+    long phaseStartTime = System.nanoTime();
+
+    T result = body.get();
+
+    PHASES_DURATIONS.put(phase, System.nanoTime() - phaseStartTime);
+
+    return result;
+  }
+
+  /**
+   * Prints the duration of every startup phase, in the order they ended, and the time elapsed since the program started.
    *
-   * <p>If the .pda file is modified in terms of the order of the important lines, it must be taken into account that {@code Position.values()[index]}
-   * trusts that what is found corresponds to the order in which the values in the Position enum are declared. Idem, if the order of the Position enum
-   * values are changed, it should be noted that {@code Position.values()[index]} trusts the order in which the data will be retrieved from the .pda
-   * file and, therefore, you should review the order of the important lines in the file.
+   * <p>Phases run concurrently, so their durations may add up to more than the elapsed time.
+   *
+   * @param startTime Time when the program started, in nanoseconds.
+   */
+  private static void printStartupReport(long startTime) {
+    long elapsedTime = System.nanoTime() - startTime;
+
+    synchronized (PHASES_DURATIONS) {
+      PHASES_DURATIONS.forEach((phase, duration) -> System.out.printf("%-30s %8.1f ms%n", phase, duration / NANOS_PER_MILLI));
+    }
+
+    System.out.printf("%-30s %8.1f ms%n", "Primer cuadro", elapsedTime / NANOS_PER_MILLI);
+  }
+
+  /**
+   * Loads the available formations from the .pda file and applies the default one, for the minimum number of teams.
+   *
+   * <p>Every line containing the {@code >>} separator describes a formation (see {@link Formation#parse(String)}); the remaining lines are ignored. If
+   * the default formation is not found, the first one in the file is applied.
    *
    * <p>The "java:S1190" warning is suppressed since JDK22+ allows the use of unnamed variables.
    */
   @SuppressWarnings("java:S1190")
-  private static void setPlayersDistribution() {
+  private static void setUpFormations() {
     try (BufferedReader buff = new BufferedReader(
            new InputStreamReader(
              Objects.requireNonNull(CommonFunctions.class
                                                    .getClassLoader()
-                                                   .getResourceAsStream(Constants.PATH_DOCS + Constants.FILENAME_PDA))
+                                                   .getResourceAsStream(Constants.PATH_DOCS + Constants.FILENAME_PDA)),
+             StandardCharsets.UTF_8
            )
          )
     ) {
-      List<String> filteredLines = buff.lines()
-                                       .filter(line -> line.matches(Constants.REGEX_PDA_DATA_RETRIEVE))
-                                       .toList();
-
-      IntStream.range(0, filteredLines.size())
-               .forEach(index -> CommonFields.getPlayersLimitPerPosition()
-                                             .put(Position.values()[index],
-                                                  Integer.parseInt(filteredLines.get(index)
-                                                                                .replaceAll(Constants.REGEX_PLAYERS_COUNT, ""))));
-    } catch (IOException _) {
+      CommonFields.setFormations(buff.lines()
+                                     .filter(line -> line.contains(Constants.PDA_FORMATION_SEPARATOR))
+                                     .map(Formation::parse)
+                                     .toList());
+    } catch (IOException | IllegalArgumentException _) {
+      CommonFunctions.exitProgram(Error.ERROR_FILES);
+    }
+
+    if (CommonFields.getFormations()
+                    .isEmpty()) {
       CommonFunctions.exitProgram(Error.ERROR_FILES);
     }
+
+    CommonFunctions.applyFormation(CommonFields.getFormations()
+                                               .stream()
+                                               .filter(formation -> formation.getName()
+                                                                             .equals(Constants.FORMATION_DEFAULT))
+                                               .findFirst()
+                                               .orElse(CommonFields.getFormations()
+                                                                   .get(0)),
+                                   Constants.TEAMS_COUNT_MIN);
   }
 
   /**
-   * Creates the controllers and assigns their corresponding view to control.
+   * Registers how to create every controller along with its view to control.
+   *
+   * <p>The controllers are created on first access instead of here, so the main menu is shown without waiting for every other view to be built. The
+   * rest of them are pre-warmed once the main menu is shown.
    */
   private static void setUpControllers() {
-    CommonFields.getControllersMap()
-                .putAll(Map.of(ProgramView.MAIN_MENU, new MainMenuController(new MainMenuView()),
-                               ProgramView.HELP, new HelpController(new HelpView()),
-                               ProgramView.NAMES_INPUT, new NamesInputController(new NamesInputView()),
-                               ProgramView.ANCHORAGES, new AnchoragesController(new AnchoragesView()),
-                               ProgramView.SKILL_POINTS, new SkillPointsInputController(new SkillPointsInputView()),
-                               ProgramView.RESULTS, new ResultsController(new ResultsView())));
+    CommonFields.setControllerFactoriesMap(Map.of(
+      ProgramView.MAIN_MENU, () -> new MainMenuController(new MainMenuView()),
+      ProgramView.HELP, () -> new HelpController(new HelpView()),
+      ProgramView.NAMES_INPUT, () -> new NamesInputController(new NamesInputView()),
+      ProgramView.ANCHORAGES, () -> new AnchoragesController(new AnchoragesView()),
+      ProgramView.SKILL_POINTS, () -> new SkillPointsInputController(new SkillPointsInputView()),
+      ProgramView.RESULTS, () -> new ResultsController(new ResultsView())
+    ));
   }
 
   /**
-   * Sets up the program's GUI properties.
+   * Sets up the program's GUI properties, except for the program font.
    *
-   * <p>The "java:S1190" warning is suppressed since JDK22+ allows the use of unnamed variables.
+   * <p>The option pane icons are set up as lazy values, so they are only loaded when the first dialog is shown.
    */
-  @SuppressWarnings("java:S1190")
   private static void setUpGeneralGraphicalProperties() {
     UIManager.put("Button.background", Constants.COLOR_GREEN_DARK);
     UIManager.put("Button.foreground", Color.WHITE);
@@ -180,10 +279,10 @@ public final class Main {
     UIManager.put("OptionPane.noButtonText", Constants.TEXT_BUTTON_DIALOG_NO);
     UIManager.put("OptionPane.okButtonText", Constants.TEXT_BUTTON_DIALOG_OK);
     UIManager.put("OptionPane.yesButtonText", Constants.TEXT_BUTTON_DIALOG_YES);
-    UIManager.put("OptionPane.errorIcon", Constants.ICON_DIALOG_ERROR);
-    UIManager.put("OptionPane.informationIcon", Constants.ICON_DIALOG_INFORMATION);
-    UIManager.put("OptionPane.questionIcon", Constants.ICON_DIALOG_QUESTION);
-    UIManager.put("OptionPane.warningIcon", Constants.ICON_DIALOG_WARNING);
+    UIManager.put("OptionPane.errorIcon", createLazyDialogIcon(ProgramIcon.OP_ERROR));
+    UIManager.put("OptionPane.informationIcon", createLazyDialogIcon(ProgramIcon.OP_INFORMATION));
+    UIManager.put("OptionPane.questionIcon", createLazyDialogIcon(ProgramIcon.OP_QUESTION));
+    UIManager.put("OptionPane.warningIcon", createLazyDialogIcon(ProgramIcon.OP_WARNING));
     UIManager.put("Panel.background", Constants.COLOR_GREEN_LIGHT);
     UIManager.put("RadioButton.background", Constants.COLOR_GREEN_LIGHT);
     UIManager.put("RadioButton.focus", Constants.COLOR_GREEN_LIGHT);
@@ -202,22 +301,46 @@ public final class Main {
                   .setInitialDelay(Constants.TOOLTIP_INITIAL_DELAY);
     ToolTipManager.sharedInstance()
                   .setDismissDelay(Constants.TOOLTIP_DISMISS_DELAY);
+  }
+
+  /**
+   * The "java:S1190" and "java:S117" warnings are suppressed since JDK22+ allows the use of unnamed variables.
+   *
+   * @param icon Option pane icon.
+   *
+   * @return A UI default that scales the given icon to the dialog icons size the first time it is looked up.
+   */
+  @SuppressWarnings({"java:S1190", "java:S117"})
+  private static UIDefaults.LazyValue createLazyDialogIcon(ProgramIcon icon) {
+    return _ -> IconRegistry.getScaledIcon(icon, Constants.SCALE_ICON_DIALOG);
+  }
+
+  /**
+   * Creates the program font from its file, and registers it in the local graphics environment.
+   *
+   * <p>The "java:S1190" warning is suppressed since JDK22+ allows the use of unnamed variables.
+   *
+   * @return The program font, in the program font size.
+   */
+  @SuppressWarnings("java:S1190")
+  private static Font createProgramFont() {
+    Font programFont = null;
 
     try {
-      Font programFont = Font.createFont(Font.TRUETYPE_FONT,
-                                         Objects.requireNonNull(CommonFunctions.class
-                                                                               .getClassLoader()
-                                                                               .getResourceAsStream(Constants.PATH_TTF + Constants.FILENAME_FONT),
-                                                                Constants.MSG_ERROR_NULL_RESOURCE))
-                             .deriveFont(Constants.FONT_SIZE);
+      programFont = Font.createFont(Font.TRUETYPE_FONT,
+                                    Objects.requireNonNull(CommonFunctions.class
+                                                                          .getClassLoader()
+                                                                          .getResourceAsStream(Constants.PATH_TTF + Constants.FILENAME_FONT),
+                                                           Constants.MSG_ERROR_NULL_RESOURCE))
+                        .deriveFont(Constants.FONT_SIZE);
 
       GraphicsEnvironment.getLocalGraphicsEnvironment()
                          .registerFont(programFont);
-
-      setProgramFont(programFont);
     } catch (IOException | FontFormatException _) {
       CommonFunctions.exitProgram(Error.ERROR_GUI);
     }
+
+    return programFont;
   }
 
   /**
@@ -2,19 +2,21 @@ package armameeldoparti.controllers;
 
 import armameeldoparti.models.Player;
 import armameeldoparti.models.Team;
+import armameeldoparti.models.enums.MixerQuality;
 import armameeldoparti.models.enums.Position;
+import armameeldoparti.models.enums.ProgramIcon;
 import armameeldoparti.models.enums.ProgramView;
 import armameeldoparti.utils.common.CommonFields;
 import armameeldoparti.utils.common.CommonFunctions;
 import armameeldoparti.utils.common.Constants;
+import armameeldoparti.utils.common.IconRegistry;
 import armameeldoparti.views.AnchoragesView;
 import java.awt.Component;
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
-import javax.swing.JCheckBox;
 import javax.swing.JOptionPane;
 
 /**
@@ -50,23 +52,11 @@ public class AnchoragesController extends Controller<AnchoragesView> {
   // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
 
   /**
-   * Updates the checkboxes text with the players names.
+   * Updates the players table with the players names.
    */
-  public void updateCheckboxesText() {
-    for (Position position : Position.values()) {
-      IntStream.range(0, CommonFields.getPlayersSets()
-                                     .get(position)
-                                     .size())
-               .forEach(checkboxIndex -> view.getCheckboxesMap()
-                                             .get(position)
-                                             .get(checkboxIndex)
-                                             .setText(CommonFields.getPlayersSets()
-                                                                  .get(position)
-                                                                  .get(checkboxIndex)
-                                                                  .getName()));
-    }
-
-    view.pack();
+  public void updatePlayersNames() {
+    view.getPlayersTableModel()
+        .updateNames();
   }
 
   /**
@@ -75,7 +65,7 @@ public class AnchoragesController extends Controller<AnchoragesView> {
    * @param parentComponent Graphical component where the dialogs associated with the event should be displayed.
    */
   public void finishButtonEvent(Component parentComponent) {
-    if (!validAnchoragesCombination(0, Arrays.asList(new Team(0), new Team(1)))) {
+    if (!validAnchoragesCombination(0, CommonFunctions.createTeams())) {
       CommonFunctions.showMessage(
         parentComponent,
         "Existen conflictos entre anclajes",
@@ -97,19 +87,16 @@ public class AnchoragesController extends Controller<AnchoragesView> {
     if (!validCheckedPlayersPerPosition()) {
       CommonFunctions.showMessage(
         parentComponent,
-        "No puede haber más de la mitad de jugadores\nde una misma posición en un mismo anclaje",
+        "No puede haber en un mismo anclaje más jugadores\nde una posición que los que entran en un equipo",
         JOptionPane.WARNING_MESSAGE
       );
 
       return;
     }
 
-    int playersToAnchorCount = (int) view.getCheckboxesMap()
-                                         .values()
-                                         .stream()
-                                         .flatMap(List::stream)
-                                         .filter(JCheckBox::isSelected)
-                                         .count();
+    int playersToAnchorCount = view.getPlayersTableModel()
+                                   .getSelectedPlayers()
+                                   .size();
 
     if (playersToAnchorCount == 0) {
       CommonFunctions.showMessage(
@@ -122,7 +109,8 @@ public class AnchoragesController extends Controller<AnchoragesView> {
     } else if (!validChecksCount(playersToAnchorCount)) {
       CommonFunctions.showMessage(
         parentComponent,
-        "No puede haber más de " + Constants.MAX_PLAYERS_PER_ANCHORAGE
+        "No puede haber más de " + CommonFields.getFormation()
+                                               .getMaxPlayersPerAnchorage()
         + " ni menos de " + Constants.MIN_PLAYERS_PER_ANCHORAGE
         + " jugadores en un mismo anclaje",
         JOptionPane.WARNING_MESSAGE
@@ -134,7 +122,8 @@ public class AnchoragesController extends Controller<AnchoragesView> {
     if (!validAnchoredPlayersCount(playersToAnchorCount)) {
       CommonFunctions.showMessage(
         parentComponent,
-        "No puede haber más de " + Constants.MAX_ANCHORED_PLAYERS + " jugadores anclados en total",
+        "No puede haber más de " + CommonFields.getFormation()
+                                               .getMaxAnchoredPlayers(CommonFields.getTeamsCount()) + " jugadores anclados en total",
         JOptionPane.INFORMATION_MESSAGE
       );
 
@@ -171,7 +160,7 @@ public class AnchoragesController extends Controller<AnchoragesView> {
       "Antes de continuar...",
       JOptionPane.OK_CANCEL_OPTION,
       JOptionPane.QUESTION_MESSAGE,
-      Constants.ICON_DIALOG_QUESTION,
+      IconRegistry.getScaledIcon(ProgramIcon.OP_QUESTION, Constants.SCALE_ICON_DIALOG),
       optionsDelete,
       optionsDelete[0]
     );
@@ -207,12 +196,12 @@ public class AnchoragesController extends Controller<AnchoragesView> {
   /**
    * Resets the controlled view to its default values.
    *
-   * <p>Clears every anchorage made, updating the text area and the state of the buttons, and the checkboxes that were selected whose players were not
-   * anchored, are deselected.
+   * <p>Clears every anchorage made, updating the text area and the state of the buttons, and the players that were selected but not anchored are
+   * unselected.
    */
   @Override
   protected void resetView() {
-    clearCheckboxes();
+    clearSelection();
     clearAnchorages();
     updateTextArea();
     toggleButtons();
@@ -252,19 +241,19 @@ public class AnchoragesController extends Controller<AnchoragesView> {
   // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
 
   /**
-   * Sets a new anchorage based on the players checked.
-   *
-   * @see #setAnchorages(List)
+   * Sets a new anchorage with the selected players, which are no longer shown in the players table.
    */
   private void newAnchorage() {
     anchoragesCount++;
 
-    view.getCheckboxesMap()
-        .values()
-        .stream()
-        .filter(checkboxesSet -> checkboxesSet.stream()
-                                              .anyMatch(JCheckBox::isSelected))
-        .forEach(this::setAnchorages);
+    view.getPlayersTableModel()
+        .getSelectedPlayers()
+        .forEach(player -> {
+          player.setAnchorageNumber(anchoragesCount);
+          player.setAnchored(true);
+        });
+    view.getPlayersTableModel()
+        .updateAnchoredPlayers();
 
     anchoredPlayersCount = (int) CommonFields.getPlayersSets()
                                              .values()
@@ -313,7 +302,7 @@ public class AnchoragesController extends Controller<AnchoragesView> {
   }
 
   /**
-   * Toggles the buttons and checkboxes states.
+   * Toggles the buttons states, and whether the players can be selected.
    */
   private void toggleButtons() {
     view.getAnchorageButtons()
@@ -331,24 +320,13 @@ public class AnchoragesController extends Controller<AnchoragesView> {
           .forEach(button -> button.setEnabled(true));
     }
 
-    if (Constants.MAX_ANCHORED_PLAYERS - anchoredPlayersCount < 2) {
-      view.getNewAnchorageButton()
-          .setEnabled(false);
-      view.getCheckboxesMap()
-          .values()
-          .stream()
-          .flatMap(List::stream)
-          .forEach(checkbox -> checkbox.setEnabled(!checkbox.isEnabled()));
-    } else {
-      view.getNewAnchorageButton()
-          .setEnabled(true);
-      view.getCheckboxesMap()
-          .values()
-          .stream()
-          .flatMap(List::stream)
-          .filter(checkbox -> !checkbox.isEnabled() && !checkbox.isSelected())
-          .forEach(checkbox -> checkbox.setEnabled(true));
-    }
+    boolean anchorageAvailable = CommonFields.getFormation()
+                                             .getMaxAnchoredPlayers(CommonFields.getTeamsCount()) - anchoredPlayersCount >= 2;
+
+    view.getNewAnchorageButton()
+        .setEnabled(anchorageAvailable);
+    view.getPlayersTableModel()
+        .setSelectionEnabled(anchorageAvailable);
   }
 
   /**
@@ -365,8 +343,9 @@ public class AnchoragesController extends Controller<AnchoragesView> {
   /**
    * Deletes a specific anchorage.
    *
-   * <p>The players that have the specified anchorage now will have anchorage number 0. If the anchorage number to delete is not the last one, then
-   * the remaining players (from {@code anchorageToDelete + 1} up to {@code anchoragesCount}) will have their anchorage number decreased by 1.
+   * <p>The players that have the specified anchorage now will have anchorage number 0, and are shown again in the players table. If the anchorage
+   * number to delete is not the last one, then the remaining players (from {@code anchorageToDelete + 1} up to {@code anchoragesCount}) will have
+   * their anchorage number decreased by 1.
    *
    * @param anchorageToDelete Anchorage number to delete.
    */
@@ -380,13 +359,16 @@ public class AnchoragesController extends Controller<AnchoragesView> {
     }
 
     anchoragesCount--;
+
+    view.getPlayersTableModel()
+        .updateAnchoredPlayers();
   }
 
   /**
    * Changes the anchorage number of certain players.
    *
-   * <p>If the replacement is 0 (an anchorage must be removed), then those players will be set as not-anchored, the players corresponding checkboxes
-   * will be visible and enabled again, and the anchored players count will be decreased as needed.
+   * <p>If the replacement is 0 (an anchorage must be removed), then those players will be set as not-anchored, and the anchored players count will
+   * be decreased as needed.
    *
    * @param target      Anchorage number to replace.
    * @param replacement New anchorage number to set.
@@ -404,14 +386,6 @@ public class AnchoragesController extends Controller<AnchoragesView> {
                     if (replacement == 0) {
                       player.setAnchored(false);
 
-                      CommonFunctions.retrieveOptional(view.getCheckboxesMap()
-                                                           .get(player.getPosition())
-                                                           .stream()
-                                                           .filter(checkbox -> checkbox.getText()
-                                                                                       .equals(player.getName()))
-                                                           .findFirst())
-                                     .setVisible(true);
-
                       anchoredPlayersCount--;
                     }
                   }
@@ -419,13 +393,13 @@ public class AnchoragesController extends Controller<AnchoragesView> {
   }
 
   /**
-   * The checkboxes that were selected whose players were not anchored, are deselected. Then, shows the corresponding following view.
+   * The players that were selected but not anchored are unselected. Then, shows the corresponding following view.
    */
   private void finish() {
     hideView();
-    clearCheckboxes();
+    clearSelection();
 
-    if (CommonFields.getDistribution() == Constants.MIX_BY_SKILL_POINTS) {
+    if (CommonFields.getMixerQuality() != MixerQuality.RANDOM) {
       ((SkillPointsInputController) CommonFunctions.getController(ProgramView.SKILL_POINTS)).updateNameLabels();
 
       CommonFunctions.getController(ProgramView.SKILL_POINTS)
@@ -439,62 +413,44 @@ public class AnchoragesController extends Controller<AnchoragesView> {
   }
 
   /**
-   * Sets the corresponding anchorage number to the selected players. Then, unchecks their checkboxes and makes them invisible.
-   *
-   * @param cbSet Check boxes set with players checked.
+   * Unselects the selected players, discarding the edition in progress, if any.
    */
-  private void setAnchorages(List<JCheckBox> cbSet) {
-    CommonFields.getPlayersSets()
-                .get(CommonFunctions.getCorrespondingPosition(view.getCheckboxesMap(), cbSet))
-                .stream()
-                .filter(player -> cbSet.stream()
-                                       .filter(JCheckBox::isSelected)
-                                       .anyMatch(checkbox -> checkbox.getText()
-                                                                     .equals(player.getName())))
-                .forEach(player -> {
-                  player.setAnchorageNumber(anchoragesCount);
-                  player.setAnchored(true);
-                });
-
-    cbSet.stream()
-         .filter(JCheckBox::isSelected)
-         .forEach(checkbox -> {
-           checkbox.setVisible(false);
-           checkbox.setSelected(false);
-         });
-  }
+  private void clearSelection() {
+    if (view.getPlayersTable()
+            .isEditing()) {
+      view.getPlayersTable()
+          .getCellEditor()
+          .cancelCellEditing();
+    }
 
-  /**
-   * Unchecks the checked checkboxes.
-   */
-  private void clearCheckboxes() {
-    view.getCheckboxesMap()
-        .values()
-        .stream()
-        .flatMap(List::stream)
-        .filter(checkbox -> checkbox.isSelected() && checkbox.isVisible())
-        .forEach(checkbox -> checkbox.setSelected(false));
+    view.getPlayersTableModel()
+        .clearSelection();
   }
 
   /**
    * @param playersToAnchorCount Selected players to anchor.
    *
-   * @return Whether the number of selected players is at least 2 and at most MAX_PLAYERS_PER_ANCHORAGE.
+   * @return Whether the number of selected players is at least 2 and at most the formation's maximum players per anchorage.
    */
   private boolean validChecksCount(int playersToAnchorCount) {
-    return playersToAnchorCount <= Constants.MAX_PLAYERS_PER_ANCHORAGE && playersToAnchorCount >= 2;
+    return playersToAnchorCount <= CommonFields.getFormation()
+                                               .getMaxPlayersPerAnchorage() && playersToAnchorCount >= 2;
   }
 
   /**
-   * @return Whether more than half of any players set is checked.
+   * @return Whether, in every players set, at most as many players are selected as the ones of that position that fit in a team.
    */
   private boolean validCheckedPlayersPerPosition() {
-    return view.getCheckboxesMap()
-               .values()
-               .stream()
-               .noneMatch(checkboxesSet -> checkboxesSet.stream()
-                                                        .filter(JCheckBox::isSelected)
-                                                        .count() > checkboxesSet.size() / 2);
+    Map<Position, Long> selectedPerPosition = view.getPlayersTableModel()
+                                                  .getSelectedPlayers()
+                                                  .stream()
+                                                  .collect(Collectors.groupingBy(Player::getPosition, Collectors.counting()));
+
+    return selectedPerPosition.entrySet()
+                              .stream()
+                              .noneMatch(positionCount -> positionCount.getValue() > CommonFields.getPlayersSets()
+                                                                                                 .get(positionCount.getKey())
+                                                                                                 .size() / CommonFields.getTeamsCount());
   }
 
   /**
@@ -503,7 +459,8 @@ public class AnchoragesController extends Controller<AnchoragesView> {
    * @return Whether the number of selected players is at most the maximum allowed per anchorage.
    */
   private boolean validAnchoredPlayersCount(int playersToAnchorCount) {
-    return anchoredPlayersCount + playersToAnchorCount <= Constants.MAX_ANCHORED_PLAYERS;
+    return anchoredPlayersCount + playersToAnchorCount <= CommonFields.getFormation()
+                                                                      .getMaxAnchoredPlayers(CommonFields.getTeamsCount());
   }
 
   /**
@@ -511,7 +468,7 @@ public class AnchoragesController extends Controller<AnchoragesView> {
    * distribution itself.
    *
    * <p>It starts by gathering the first anchorage: if there's no conflict in the first team, then it is added to it. If not, it tries to add it to
-   * the second team. If the anchorage can't be added successfully to any team, then an anchorages conflict exists. This procedure is repeated
+   * the next team. If the anchorage can't be added successfully to any team, then an anchorages conflict exists. This procedure is repeated
    * recursively with every anchorage. When the final anchorage is reached, the resulting temporary teams are validated to return that as the
    * recursion break condition.
    *
@@ -541,7 +498,9 @@ public class AnchoragesController extends Controller<AnchoragesView> {
           return true;
         }
 
-        team.clear();
+        anchorage.forEach(player -> team.getTeamPlayers()
+                                        .get(player.getPosition())
+                                        .remove(player));
       }
     }
 
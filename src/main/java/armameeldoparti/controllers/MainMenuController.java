@@ -1,13 +1,26 @@
 package armameeldoparti.controllers;
 
+import armameeldoparti.models.Formation;
+import armameeldoparti.models.Player;
+import armameeldoparti.models.enums.Position;
 import armameeldoparti.models.enums.ProgramView;
+import armameeldoparti.utils.common.CommonFields;
 import armameeldoparti.utils.common.CommonFunctions;
 import armameeldoparti.utils.common.Constants;
 import armameeldoparti.views.MainMenuView;
+import armameeldoparti.views.View;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Main menu view controller class.
  *
+ * <p>The views whose components depend on the formation and the number of teams are pooled, along with the players they were built for, one set
+ * per formation and number of teams. Switching back to a formation and number of teams used before reuses its views instead of building new ones.
+ *
  * @author Bonino, Francisco Ignacio.
  *
  * @version 0.0.1
@@ -16,6 +29,18 @@ import armameeldoparti.views.MainMenuView;
  */
 public class MainMenuController extends Controller<MainMenuView> {
 
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final List<ProgramView> FORMATION_VIEWS = List.of(ProgramView.NAMES_INPUT,
+                                                                   ProgramView.ANCHORAGES,
+                                                                   ProgramView.SKILL_POINTS,
+                                                                   ProgramView.RESULTS);
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final Map<List<Object>, Map<Position, List<Player>>> playersSetsPool = new HashMap<>();
+  private final Map<List<Object>, Map<ProgramView, Controller<? extends View>>> controllersPool = new HashMap<>();
+
   // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
 
   /**
@@ -49,8 +74,25 @@ public class MainMenuController extends Controller<MainMenuView> {
 
   /**
    * Makes the controlled view invisible and shows the names input view.
+   *
+   * <p>If the selected formation or number of teams are not the current ones, they are applied first and the views that depend on them are swapped
+   * for the pooled ones, or built if there are none yet.
    */
   public void startButtonEvent() {
+    Formation selectedFormation = (Formation) Objects.requireNonNull(view.getFormationComboBox()
+                                                                         .getSelectedItem());
+
+    int selectedTeamsCount = view.getTeamsCountComboBox()
+                                 .getSelectedIndex() + Constants.TEAMS_COUNT_MIN;
+
+    if (selectedFormation != CommonFields.getFormation() || selectedTeamsCount != CommonFields.getTeamsCount()) {
+      poolFormationControllers();
+
+      CommonFunctions.applyFormation(selectedFormation, selectedTeamsCount);
+
+      setUpFormationControllers();
+    }
+
     hideView();
 
     CommonFunctions.getController(ProgramView.NAMES_INPUT)
@@ -98,4 +140,72 @@ public class MainMenuController extends Controller<MainMenuView> {
     view.getIssuesButton()
         .addActionListener(_ -> issuesButtonEvent());
   }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Pools the views whose components depend on the current formation and number of teams, along with the current players. Views not built yet are
+   * left out, and are built later if needed.
+   *
+   * <p>The views are already reset, since going back to the main menu resets every view on the way.
+   */
+  private void poolFormationControllers() {
+    Map<ProgramView, Controller<? extends View>> formationControllers = new EnumMap<>(ProgramView.class);
+
+    FORMATION_VIEWS.stream()
+                   .filter(CommonFields.getControllersMap()::containsKey)
+                   .forEach(programView -> formationControllers.put(programView, CommonFields.getControllersMap()
+                                                                                             .get(programView)));
+
+    playersSetsPool.put(getPoolKey(), new EnumMap<>(CommonFields.getPlayersSets()));
+    controllersPool.put(getPoolKey(), formationControllers);
+  }
+
+  /**
+   * Sets up the controllers of the views whose components depend on the current formation and number of teams.
+   *
+   * <p>If they were pooled, they are reused along with the players they were built for, reset as explained in
+   * {@link #resetPooledPlayers(Map)}. Otherwise, they are built for the current players on first access, and pre-warmed meanwhile.
+   */
+  private void setUpFormationControllers() {
+    List<Object> poolKey = getPoolKey();
+
+    FORMATION_VIEWS.forEach(CommonFields.getControllersMap()::remove);
+
+    if (controllersPool.containsKey(poolKey)) {
+      resetPooledPlayers(playersSetsPool.get(poolKey));
+
+      CommonFields.getPlayersSets()
+                  .putAll(playersSetsPool.get(poolKey));
+      CommonFields.getControllersMap()
+                  .putAll(controllersPool.get(poolKey));
+    }
+
+    CommonFunctions.prewarmControllers(FORMATION_VIEWS);
+  }
+
+  /**
+   * Takes every pooled player out of its team and anchorage, and makes it play its natural position again, since the pooled views are reset and no
+   * longer show them.
+   *
+   * @param playersSets Pooled players sets.
+   */
+  private static void resetPooledPlayers(Map<Position, List<Player>> playersSets) {
+    playersSets.values()
+               .stream()
+               .flatMap(List::stream)
+               .forEach(player -> {
+                 player.setTeamNumber(0);
+                 player.setAnchored(false);
+                 player.setAnchorageNumber(0);
+                 player.resetPosition();
+               });
+  }
+
+  /**
+   * @return The pool key of the current formation and number of teams.
+   */
+  private static List<Object> getPoolKey() {
+    return List.of(CommonFields.getFormation(), CommonFields.getTeamsCount());
+  }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package armameeldoparti.controllers;
 
 import armameeldoparti.models.Player;
+import armameeldoparti.models.enums.MixerQuality;
 import armameeldoparti.models.enums.ProgramView;
 import armameeldoparti.utils.common.CommonFields;
 import armameeldoparti.utils.common.CommonFunctions;
@@ -17,7 +18,7 @@ import java.util.stream.IntStream;
 import javax.naming.InvalidNameException;
 import javax.swing.JComboBox;
 import javax.swing.JOptionPane;
-import javax.swing.JPanel;
+import javax.swing.JRadioButton;
 
 /**
  * Names input view controller class.
@@ -76,15 +77,14 @@ public class NamesInputController extends Controller<NamesInputView> {
   public void mixButtonEvent(Component parentComponent) {
     hideView();
 
-    CommonFields.setDistribution(view.getRadioButtonRandom()
-                                     .isSelected() ? Constants.MIX_RANDOM : Constants.MIX_BY_SKILL_POINTS);
+    CommonFields.setMixerQuality(getChosenMixerQuality());
 
     if (CommonFields.isAnchoragesEnabled()) {
-      ((AnchoragesController) CommonFunctions.getController(ProgramView.ANCHORAGES)).updateCheckboxesText();
+      ((AnchoragesController) CommonFunctions.getController(ProgramView.ANCHORAGES)).updatePlayersNames();
 
       CommonFunctions.getController(ProgramView.ANCHORAGES)
                      .showView();
-    } else if (CommonFields.getDistribution() == Constants.MIX_RANDOM) {
+    } else if (CommonFields.getMixerQuality() == MixerQuality.RANDOM) {
       // Random distribution
       ((ResultsController) CommonFunctions.getController(ProgramView.RESULTS)).setUp();
 
@@ -138,23 +138,47 @@ public class NamesInputController extends Controller<NamesInputView> {
   }
 
   /**
-   * Updates the shown text field according to the selected combobox option.
+   * Applies the name edited in the names table to the corresponding player of the shown position.
+   *
+   * <p>If the edited name is not both a valid string and name, a message is shown and the player keeps its name.
+   *
+   * @param playerIndex The index of the player whose name was edited.
+   * @param text        The edited name.
+   */
+  public void nameEditEvent(int playerIndex, String text) {
+    try {
+      textFieldEvent(playerIndex,
+                     view.getNamesTableModel()
+                         .getPlayers(),
+                     text);
+    } catch (IllegalArgumentException | InvalidNameException exception) {
+      CommonFunctions.showMessage(view.getNamesTable(),
+                                  exception instanceof IllegalArgumentException ? Constants.MSG_ERROR_INVALID_STRING
+                                                                                : Constants.MSG_ERROR_INVALID_NAME,
+                                  JOptionPane.INFORMATION_MESSAGE);
+    }
+  }
+
+  /**
+   * Updates the names table according to the selected combobox option.
    *
    * @param selectedOption Combobox selected option.
    */
   public void comboBoxEvent(String selectedOption) {
-    updateTextFields(selectedOption);
+    updateNamesTable(selectedOption);
   }
 
   /**
-   * Since there can be only one distribution method at a time: if one radio button is selected, the other is unselected automatically. Then, if the
-   * conditions are met, the mix button is enabled.
+   * Since there can be only one distribution method at a time: if one radio button is selected, the others are unselected automatically. Then, if
+   * the conditions are met, the mix button is enabled.
    *
    * @param e Radio button click event.
    */
   public void radioButtonEvent(ItemEvent e) {
     if (e.getStateChange() == ItemEvent.SELECTED) {
-      (e.getSource() == view.getRadioButtonRandom() ? view.getRadioButtonBySkillPoints() : view.getRadioButtonRandom()).setSelected(false);
+      getRadioButtons().stream()
+                       .filter(radioButton -> radioButton != e.getSource())
+                       .forEach(radioButton -> radioButton.setSelected(false));
     }
 
     validateMixButtonEnable();
@@ -177,12 +201,9 @@ public class NamesInputController extends Controller<NamesInputView> {
         .setText("");
     view.getMixButton()
         .setEnabled(false);
-    view.getRadioButtonRandom()
-        .setSelected(false);
-    view.getRadioButtonBySkillPoints()
-        .setSelected(false);
+    getRadioButtons().forEach(radioButton -> radioButton.setSelected(false));
 
-    updateTextFields(view.getComboBox()
+    updateNamesTable(view.getComboBox()
                          .getItemAt(0));
   }
 
@@ -202,47 +223,13 @@ public class NamesInputController extends Controller<NamesInputView> {
         .addActionListener(_ -> mixButtonEvent(view));
     view.getBackButton()
         .addActionListener(_ -> backButtonEvent());
-    view.getRadioButtonRandom()
-        .addItemListener(this::radioButtonEvent);
-    view.getRadioButtonBySkillPoints()
-        .addItemListener(this::radioButtonEvent);
+    getRadioButtons().forEach(radioButton -> radioButton.addItemListener(this::radioButtonEvent));
     view.getComboBox()
         .addActionListener(event -> comboBoxEvent((String) Objects.requireNonNull(((JComboBox<?>) event.getSource()).getSelectedItem())));
     view.getAnchoragesCheckbox()
         .addActionListener(_ -> CommonFields.setAnchoragesEnabled(!CommonFields.isAnchoragesEnabled()));
-    view.getTextFieldsMap()
-        .forEach((player, textFieldsSet) ->
-          textFieldsSet.forEach(textField ->
-            textField.addActionListener(event -> {
-                /*
-                 * If the entered text is both a valid string and name, it will be applied to the corresponding player.
-                 * If not, a message will be shown and the text field will be reset to the player's name.
-                 */
-                try {
-                  textFieldEvent(
-                    textFieldsSet.indexOf(textField),
-                    CommonFields.getPlayersSets()
-                                .get(player),
-                    textField.getText()
-                  );
-                } catch (IllegalArgumentException | InvalidNameException exception) {
-                  CommonFunctions.showMessage(
-                    CommonFunctions.getComponentFromEvent(event),
-                    exception instanceof IllegalArgumentException ? Constants.MSG_ERROR_INVALID_STRING : Constants.MSG_ERROR_INVALID_NAME,
-                    JOptionPane.INFORMATION_MESSAGE
-                  );
-
-                  textField.setText(
-                    CommonFields.getPlayersSets()
-                                .get(player)
-                                .get(textFieldsSet.indexOf(textField))
-                                .getName()
-                  );
-                }
-              }
-            )
-          )
-        );
+    view.getNamesTableModel()
+        .setNameEditListener(this::nameEditEvent);
   }
 
   /**
@@ -252,7 +239,7 @@ public class NamesInputController extends Controller<NamesInputView> {
    */
   @Override
   protected void showView() {
-    updateTextFields(
+    updateNamesTable(
       Objects.requireNonNull(
         view.getComboBox()
             .getSelectedItem(),
@@ -299,51 +286,57 @@ public class NamesInputController extends Controller<NamesInputView> {
                                                                                     .ordinal()))
                                        .toList();
 
+    int playersTotal = CommonFields.getFormation()
+                                   .getPlayersTotal(CommonFields.getTeamsCount());
+
     IntStream.range(0, players.size())
              .forEachOrdered(index -> view.getTextArea()
                                           .append((index + 1) + " - " + players.get(index)
                                                                                .getName()
-                                                  + (index < Constants.PLAYERS_TOTAL - 1 ? System.lineSeparator() : "")));
+                                                  + (index < playersTotal - 1 ? System.lineSeparator() : "")));
   }
 
   /**
-   * Toggles the text fields visibility.
+   * Shows in the names table the players of the position corresponding to the selected combobox option.
+   *
+   * <p>The edition in progress, if any, is discarded.
    *
    * @param selectedOption Combobox selected option.
    */
-  private void updateTextFields(String selectedOption) {
-    JPanel leftTopPanel = view.getLeftTopPanel();
-
-    // Removes the text fields from the view's top left panel
-    view.getTextFieldsMap()
-        .values()
-        .stream()
-        .flatMap(Collection::stream)
-        .filter(textField -> textField.getParent() == leftTopPanel)
-        .forEach(leftTopPanel::remove);
-    view.getTextFieldsMap()
-        .get(CommonFunctions.getCorrespondingPosition(CommonFields.getPositionsMap(), selectedOption.toUpperCase()))
-        .forEach(textField -> leftTopPanel.add(textField, Constants.MIG_LAYOUT_GROWX));
-
-    leftTopPanel.revalidate();
-    leftTopPanel.repaint();
+  private void updateNamesTable(String selectedOption) {
+    cancelNameEditing();
+
+    view.getNamesTableModel()
+        .setPlayers(CommonFields.getPlayersSets()
+                                .get(CommonFunctions.getCorrespondingPosition(CommonFields.getPositionsMap(), selectedOption.toUpperCase())));
   }
 
   /**
-   * Clears the players names and text fields.
+   * Clears the players names, discarding the edition in progress, if any.
    */
   private void clearPlayersNames() {
-    view.getTextFieldsMap()
-        .values()
-        .stream()
-        .flatMap(List::stream)
-        .forEach(textField -> textField.setText(null));
+    cancelNameEditing();
 
     CommonFields.getPlayersSets()
                 .values()
                 .stream()
                 .flatMap(List::stream)
                 .forEach(player -> player.setName(""));
+
+    view.getNamesTableModel()
+        .fireTableDataChanged();
+  }
+
+  /**
+   * Discards the name edition in progress in the names table, if any.
+   */
+  private void cancelNameEditing() {
+    if (view.getNamesTable()
+            .isEditing()) {
+      view.getNamesTable()
+          .getCellEditor()
+          .cancelCellEditing();
+    }
   }
 
   /**
@@ -377,10 +370,28 @@ public class NamesInputController extends Controller<NamesInputView> {
    * @return Whether the user has chosen a players distribution method.
    */
   private boolean distributionMethodHasBeenChosen() {
-    return view.getRadioButtonRandom()
-               .isSelected()
-           || view.getRadioButtonBySkillPoints()
-                  .isSelected();
+    return getRadioButtons().stream()
+                            .anyMatch(JRadioButton::isSelected);
+  }
+
+  /**
+   * @return The distribution quality of the chosen distribution method: random, exact by skill points, or heuristic by skill points for the fast one.
+   */
+  private MixerQuality getChosenMixerQuality() {
+    if (view.getRadioButtonRandom()
+            .isSelected()) {
+      return MixerQuality.RANDOM;
+    }
+
+    return view.getRadioButtonFast()
+               .isSelected() ? MixerQuality.HEURISTIC : MixerQuality.EXACT;
+  }
+
+  /**
+   * @return The radio buttons to choose the players distribution method.
+   */
+  private List<JRadioButton> getRadioButtons() {
+    return List.of(view.getRadioButtonRandom(), view.getRadioButtonBySkillPoints(), view.getRadioButtonFast());
   }
 
   /**
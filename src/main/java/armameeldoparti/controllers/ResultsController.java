@@ -1,33 +1,48 @@
 package armameeldoparti.controllers;
 
 import armameeldoparti.models.Player;
+import armameeldoparti.models.ResultsTableModel;
+import armameeldoparti.models.RosterSnapshot;
 import armameeldoparti.models.Team;
-import armameeldoparti.models.enums.Position;
+import armameeldoparti.models.enums.Error;
+import armameeldoparti.models.enums.MixerQuality;
 import armameeldoparti.models.enums.ProgramView;
 import armameeldoparti.utils.common.CommonFields;
 import armameeldoparti.utils.common.CommonFunctions;
 import armameeldoparti.utils.common.Constants;
 import armameeldoparti.utils.common.custom.graphical.CustomTable;
-import armameeldoparti.utils.mixers.BySkillPointsMixer;
-import armameeldoparti.utils.mixers.RandomMixer;
+import armameeldoparti.utils.common.custom.graphical.RoundedRectanglePainter;
+import armameeldoparti.utils.mixers.MixerSelector;
+import armameeldoparti.utils.mixers.PlayersMixer;
 import armameeldoparti.views.ResultsView;
-import java.awt.Color;
 import java.awt.Component;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.swing.JComponent;
 import javax.swing.JTable;
-import javax.swing.SwingConstants;
-import javax.swing.border.EmptyBorder;
+import javax.swing.SwingUtilities;
 import javax.swing.table.DefaultTableCellRenderer;
 
 /**
  * Results view controller.
  *
+ * <p>The players are distributed on a background virtual thread, so slow mixers never freeze the interface: the view shows a progress bar meanwhile,
+ * and only the results table update runs on the Event Dispatch Thread. Going back cancels the distribution in progress. Every distribution works on
+ * a {@link RosterSnapshot} taken on the Event Dispatch Thread when it starts, so the mixing thread never touches the players nor the settings the
+ * interface may be changing meanwhile. The results are copied back to the players on the Event Dispatch Thread, and only if the distribution was
+ * not cancelled or superseded.
+ *
+ * <p>When mixing by skill points, the distribution can be started speculatively while the skill points are still being entered. If the skill points
+ * did not change by the time the results are requested, the speculative distribution is adopted instead of starting a new one, so the results are
+ * shown as soon as it ends, or right away if it already did.
+ *
  * @author Bonino, Francisco Ignacio.
  *
  * @version 0.0.1
@@ -38,21 +53,27 @@ public class ResultsController extends Controller<ResultsView> {
 
   // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
 
-  private static final int TABLE_COLUMNS = 3;
+  private static final ExecutorService MIXING_THREAD = Executors.newSingleThreadExecutor(Thread.ofVirtual()
+                                                                                               .name("mixer")
+                                                                                               .factory());
 
   // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
 
-  private BySkillPointsMixer bySkillPointsMixer;
+  private boolean resultsRequested;
 
-  private RandomMixer randomMixer;
+  private int mixGeneration;
 
   private CustomTable table;
 
-  private Team team1;
-  private Team team2;
+  private ResultsTableModel tableModel;
 
+  private Future<?> mixTask;
+
+  private List<Team> speculativeTeams;
   private List<Team> teams;
 
+  private Map<Player, Integer> speculativeSkillPoints;
+
   // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
 
   /**
@@ -63,13 +84,6 @@ public class ResultsController extends Controller<ResultsView> {
   public ResultsController(ResultsView resultsView) {
     super(resultsView);
 
-    bySkillPointsMixer = new BySkillPointsMixer();
-
-    randomMixer = new RandomMixer();
-
-    team1 = new Team(1);
-    team2 = new Team(2);
-
     teams = new ArrayList<>();
 
     setUpListeners();
@@ -78,37 +92,86 @@ public class ResultsController extends Controller<ResultsView> {
   // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
 
   /**
-   * Creates the teams and the results table, applies the needed table format, fills the non-variable table cells and displays the distribution
-   * results.
+   * Shows the distribution progress in the controlled view and starts distributing the players in the background, keeping their skill points.
+   *
+   * <p>Once the players are distributed, the results table is built and displayed as explained in {@link #showResults(List)}.
    */
   public void setUp() {
-    teams = (CommonFields.getDistribution() == Constants.MIX_RANDOM ? randomMix(Arrays.asList(team1, team2))
-                                                                    : bySkillPointsMix(Arrays.asList(team1, team2)));
-
-    view.setTable(new CustomTable(Constants.PLAYERS_PER_TEAM + CommonFields.getDistribution() + 1, TABLE_COLUMNS));
-    view.initializeInterface();
+    setUp(Map.of());
+  }
 
-    table = (CustomTable) view.getTable();
+  /**
+   * Shows the distribution progress in the controlled view and distributes the players with the given skill points in the background.
+   *
+   * <p>If a speculative distribution was started with the same skill points, it is adopted instead: its results are shown right away if it already
+   * ended, or as soon as it does.
+   *
+   * @param skillPoints Skill points to set to the players before distributing them.
+   */
+  public void setUp(Map<Player, Integer> skillPoints) {
+    if (skillPoints.equals(speculativeSkillPoints)) {
+      resultsRequested = true;
 
-    overrideTableFormat();
-    fillTableFields();
-    updateTable();
+      if (speculativeTeams != null) {
+        deliverResults(speculativeTeams);
 
-    table.adjustCells();
+        return;
+      }
+    } else {
+      startMix(skillPoints);
+    }
 
+    view.initializeProgressInterface();
     view.pack();
   }
 
   /**
-   * Resets the teams, resets the controlled view to its default values and makes it invisible, and shows the corresponding previous view.
+   * Starts distributing the players with the given skill points in the background, without showing the results, unless a speculative
+   * distribution with the same skill points was already started.
+   *
+   * <p>Any other distribution in progress is cancelled.
+   *
+   * @param skillPoints Skill points to set to the players before distributing them.
+   */
+  public void speculate(Map<Player, Integer> skillPoints) {
+    if (skillPoints.equals(speculativeSkillPoints)) {
+      return;
+    }
+
+    startMix(skillPoints);
+
+    resultsRequested = false;
+    speculativeSkillPoints = Map.copyOf(skillPoints);
+  }
+
+  /**
+   * Cancels the distribution in progress, if any, interrupting the mixing thread so the mixer searches stop early. Its results will be discarded,
+   * and the players are reset right away, since the distribution only modifies copies of them.
+   */
+  public void cancelMix() {
+    mixGeneration++;
+    speculativeSkillPoints = null;
+    speculativeTeams = null;
+
+    if (mixTask != null) {
+      mixTask.cancel(true);
+    }
+
+    resetPlayers();
+  }
+
+  /**
+   * Cancels the distribution in progress, if any, resets the teams, resets the controlled view to its default values and makes it invisible, and
+   * shows the corresponding previous view.
    */
   public void backButtonEvent() {
+    cancelMix();
     resetTeams();
     resetView();
 
     ProgramView previousView;
 
-    if (CommonFields.getDistribution() == Constants.MIX_RANDOM) {
+    if (CommonFields.getMixerQuality() == MixerQuality.RANDOM) {
       previousView = CommonFields.isAnchoragesEnabled() ? ProgramView.ANCHORAGES : ProgramView.NAMES_INPUT;
     } else {
       previousView = ProgramView.SKILL_POINTS;
@@ -119,91 +182,52 @@ public class ResultsController extends Controller<ResultsView> {
   }
 
   /**
-   * Resets the teams, redistributes the players with the specified method and updates the results table.
+   * Redistributes the players in the background with the specified method, and updates the results table once done.
    */
   public void remixButtonEvent() {
-    resetTeams();
-
-    teams = randomMix(Arrays.asList(team1, team2));
-
-    updateTable();
+    startMix(Map.of());
   }
 
   /**
-   * Fills the table with the distribution results.
-   *
-   * <p>The table cells are filled trusting the positions order in the first column (same order as the Position enum).
+   * Fills the table with the distribution results, by handing the teams over to the table model.
    *
-   * @see armameeldoparti.models.enums.Position
+   * @see armameeldoparti.models.ResultsTableModel
    */
   public void updateTable() {
-    var wrapper = new Object() {
-      int column = 1;
-      int row = 1;
-    };
-
-    teams.forEach(
-      team -> {
-        Arrays.stream(Position.values())
-              .forEach(position -> team.getTeamPlayers()
-                                       .get(position)
-                                       .forEach(player -> table.setValueAt(player.getName(), wrapper.row++, wrapper.column)));
-
-        wrapper.column++;
-        wrapper.row = 1;
-      }
-    );
-
-    if (CommonFields.getDistribution() == Constants.MIX_BY_SKILL_POINTS) {
-      for (int teamIndex = 0; teamIndex < teams.size(); teamIndex++) {
-        table.setValueAt(
-          teams.get(teamIndex)
-               .getTeamPlayers()
-               .values()
-               .stream()
-               .flatMap(List::stream)
-               .mapToInt(Player::getSkillPoints)
-               .reduce(0, Math::addExact),
-          table.getRowCount() - 1,
-          teamIndex + 1
-        );
-      }
-    }
+    tableModel.setTeams(teams);
   }
 
   /**
-   * Distributes the players randomly.
+   * Distributes the players with the fastest available mixer that meets the chosen distribution quality.
    *
-   * @param teams Teams to populate randomly.
+   * @param snapshot Snapshot of the roster to distribute.
    *
-   * @return The updated teams with the players distributed.
-   */
-  public List<Team> randomMix(List<Team> teams) {
-    return CommonFields.isAnchoragesEnabled() ? randomMixer.withAnchorages(teams) : randomMixer.withoutAnchorages(teams);
-  }
-
-  /**
-   * Distributes the players based on their skill points.
+   * @return New teams with the snapshot players distributed.
    *
-   * @param teams Teams to populate by skill points.
-   *
-   * @return The updated teams with the players distributed.
+   * @see armameeldoparti.utils.mixers.MixerSelector
    */
-  public List<Team> bySkillPointsMix(List<Team> teams) {
-    return CommonFields.isAnchoragesEnabled() ? bySkillPointsMixer.withAnchorages(teams) : bySkillPointsMixer.withoutAnchorages(teams);
+  public List<Team> mix(RosterSnapshot snapshot) {
+    PlayersMixer mixer = MixerSelector.select(snapshot.getMixerQuality(), snapshot.isAnchoragesEnabled(), snapshot.getFormation(),
+                                              snapshot.getTeamsCount());
+
+    List<Team> teams = snapshot.createTeams();
+
+    return snapshot.isAnchoragesEnabled() ? mixer.withAnchorages(teams, snapshot) : mixer.withoutAnchorages(teams, snapshot);
   }
 
   // ---------- Protected methods --------------------------------------------------------------------------------------------------------------------
 
   /**
-   * Disposes the controlled view and creates a new one to control.
+   * Makes the controlled view invisible and drops the results table model, so the next results are shown on a new one.
+   *
+   * <p>The view itself, its table and the table renderer are kept and reused, since the teams count cannot change without building a new results
+   * view controller.
    */
   @Override
   protected void resetView() {
-    view.dispose();
+    tableModel = null;
 
-    setView(new ResultsView());
-    setUpListeners();
+    hideView();
   }
 
   @Override
@@ -226,63 +250,165 @@ public class ResultsController extends Controller<ResultsView> {
   // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
 
   /**
-   * Fills the table cells whose texts do not change.
+   * Cancels the distribution in progress, if any, then sets the given skill points to the players, takes a snapshot of them and distributes it on
+   * the mixing thread, and hands the new teams over to the Event Dispatch Thread.
+   *
+   * <p>Every distribution is tagged with a generation number, so the results of a cancelled or superseded distribution are discarded. If the
+   * distribution fails, either by an exception or by an error such as running out of memory, it is handled as explained in
+   * {@link #abortMix(int)}.
+   *
+   * <p>The "java:S1181" warning is suppressed since an error thrown by a mixer must not leave the view stuck on the distribution progress, and the
+   * "java:S1190" and "java:S117" warnings are suppressed since JDK22+ allows the use of unnamed variables.
+   *
+   * @param skillPoints Skill points to set to the players before distributing them.
+   */
+  @SuppressWarnings({"java:S1181", "java:S1190", "java:S117"})
+  private void startMix(Map<Player, Integer> skillPoints) {
+    cancelMix();
+
+    int generation = mixGeneration;
+
+    skillPoints.forEach(Player::setSkillPoints);
+
+    RosterSnapshot snapshot = new RosterSnapshot(CommonFields.getFormation(), CommonFields.getTeamsCount(), CommonFields.isAnchoragesEnabled(),
+                                                 CommonFields.getMixerQuality(), CommonFields.getPlayersSets());
+
+    resultsRequested = true;
+
+    view.getRemixButton()
+        .setEnabled(false);
+
+    mixTask = MIXING_THREAD.submit(() -> {
+      try {
+        List<Team> mixedTeams = mix(snapshot);
+
+        SwingUtilities.invokeLater(() -> publishResults(generation, snapshot, mixedTeams));
+      } catch (Throwable _) {
+        SwingUtilities.invokeLater(() -> abortMix(generation));
+      }
+    });
+  }
+
+  /**
+   * Handles a failed distribution: the program exits with a fatal internal error code, unless the distribution was cancelled or superseded, since
+   * its failure does not concern the view anymore.
+   *
+   * @param generation Generation number of the failed distribution.
    */
-  private void fillTableFields() {
-    int rowCount = table.getRowCount() - 1;
+  private void abortMix(int generation) {
+    if (generation != mixGeneration) {
+      return;
+    }
 
-    Map<Position, String> positionsMap = CommonFields.getPositionsMap();
+    CommonFunctions.exitProgram(Error.ERROR_INTERNAL);
+  }
 
-    for (int teamIndex = 0; teamIndex < teams.size(); teamIndex++) {
-      table.setValueAt("EQUIPO " + (teamIndex + 1), 0, teamIndex + 1);
+  /**
+   * Copies the results of a distribution back to the players, unless it was cancelled or superseded, and delivers them.
+   *
+   * @param generation Generation number of the distribution.
+   * @param snapshot   Snapshot the distribution worked on.
+   * @param mixedTeams Teams with the snapshot players distributed.
+   */
+  private void publishResults(int generation, RosterSnapshot snapshot, List<Team> mixedTeams) {
+    if (generation != mixGeneration) {
+      return;
     }
 
-    for (int row = 1; row < rowCount; row++) {
-      table.setValueAt(
-        positionsMap.get(
-          switch (row) {
-            case 1 -> Position.CENTRAL_DEFENDER;
-            case 2, 3 -> Position.LATERAL_DEFENDER;
-            case 4, 5 -> Position.MIDFIELDER;
-            default -> Position.FORWARD;
-          }
-        ),
-        row,
-        0
-      );
+    deliverResults(snapshot.publish(mixedTeams));
+  }
+
+  /**
+   * Receives the results of a distribution. Speculative results are kept until they are requested, and handed to the skill points input controller
+   * as the starting point of its live estimate, while the rest of them are displayed.
+   *
+   * @param mixedTeams Teams with the players distributed.
+   */
+  private void deliverResults(List<Team> mixedTeams) {
+    if (!resultsRequested) {
+      speculativeTeams = mixedTeams;
+
+      ((SkillPointsInputController) CommonFunctions.getController(ProgramView.SKILL_POINTS)).seedWhatIf(mixedTeams);
+
+      return;
     }
 
-    if (CommonFields.getDistribution() == Constants.MIX_BY_SKILL_POINTS) {
-      for (int column = 0; column < teams.size(); column++) {
-        table.setValueAt(column == 0 ? positionsMap.get(Position.GOALKEEPER) : "Puntuación del equipo", table.getRowCount() + column - 2, 0);
+    speculativeSkillPoints = null;
+    speculativeTeams = null;
+
+    showResults(mixedTeams);
+  }
+
+  /**
+   * Displays the results of a distribution.
+   *
+   * <p>After the view is reset, a new table model that fills and styles the non-variable cells is created, since the mixer quality may have changed.
+   * The results table is created the first time, with one column per team besides the positions column, and its format is applied. Later on, it is
+   * just bound to the new model. Then, the variable cells are updated.
+   *
+   * @param mixedTeams Teams with the players distributed.
+   */
+  private void showResults(List<Team> mixedTeams) {
+    teams = mixedTeams;
+
+    if (tableModel == null) {
+      tableModel = new ResultsTableModel(teams.size(),
+                                         CommonFields.getFormation()
+                                                     .getSlotLayout(),
+                                         CommonFields.getPositionsMap(),
+                                         CommonFields.getMixerQuality() != MixerQuality.RANDOM);
+
+      if (table == null) {
+        view.setTable(new CustomTable(tableModel));
+
+        table = (CustomTable) view.getTable();
+
+        overrideTableFormat();
+      } else {
+        table.setModel(tableModel);
       }
-    } else {
-      table.setValueAt(positionsMap.get(Position.GOALKEEPER), table.getRowCount() - 1, 0);
+
+      view.initializeInterface();
     }
+
+    updateTable();
+
+    table.adjustCells();
+
+    view.getRemixButton()
+        .setEnabled(true);
+    view.pack();
+
+    centerView();
   }
 
   /**
-   * Resets both teams.
+   * Empties the teams. The players themselves are reset when the distribution is cancelled, as explained in {@link #cancelMix()}.
    */
   private void resetTeams() {
     teams.forEach(Team::clear);
+  }
 
+  /**
+   * Takes every player out of its team, and makes it play its natural position again.
+   *
+   * <p>Only called on the Event Dispatch Thread.
+   */
+  private void resetPlayers() {
     CommonFields.getPlayersSets()
                 .values()
                 .stream()
                 .flatMap(List::stream)
-                .forEach(player -> player.setTeamNumber(0));
+                .forEach(player -> {
+                  player.setTeamNumber(0);
+                  player.resetPosition();
+                });
   }
 
   /**
    * Overrides the table cells format in order to fit the program aesthetics, including text alignment and background and foreground colors.
    *
-   * <p>Row 0 and column 0 have dark green background and white foreground. The remaining cells will have black foreground.
-   *
-   * <p>The background color will be medium green if the cell shows any skill points related information. If the cell contains an anchored player
-   * name, its background will be the corresponding from the anchorages colors array. If not, its background will be light green.
-   *
-   * <p>The cell text will be centered if it shows any skill points related information or a team name. Otherwise, it will be left-aligned.
+   * <p>The style of every cell is precomputed by the table model, as explained in {@link armameeldoparti.models.ResultsTableModel}.
    */
   private void overrideTableFormat() {
     view.getTable()
@@ -293,83 +419,38 @@ public class ResultsController extends Controller<ResultsView> {
             public Component getTableCellRendererComponent(JTable myTable, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
               JComponent c = (JComponent) super.getTableCellRendererComponent(myTable, value, isSelected, hasFocus, row, column);
 
-              boolean mixBySkill = CommonFields.getDistribution() == Constants.MIX_BY_SKILL_POINTS && row == view.getTable()
-                                                                                                                 .getRowCount() - 1;
+              // The table model is taken from the painted table, since the controller drops its own one when the view is reset
+              ResultsTableModel paintedModel = (ResultsTableModel) myTable.getModel();
 
               c.setOpaque(false);
-              c.setBorder(new EmptyBorder(Constants.INSETS_GENERAL));
-
-              if (row == 0) {
-                c.setBackground(Constants.COLOR_GREEN_DARK);
-                c.setForeground(Color.WHITE);
+              c.setBorder(Constants.BORDER_GENERAL);
+              c.setBackground(paintedModel.getBackground(row, column));
+              c.setForeground(paintedModel.getForeground(row, column));
 
-                ((DefaultTableCellRenderer) c).setHorizontalAlignment(SwingConstants.CENTER);
-
-                return c;
-              }
-
-              if (column == 0) {
-                if (mixBySkill) {
-                  c.setBackground(Constants.COLOR_GREEN_MEDIUM);
-                  c.setForeground(Color.WHITE);
-
-                  ((DefaultTableCellRenderer) c).setHorizontalAlignment(SwingConstants.CENTER);
-
-                  return c;
-                }
-
-                c.setBackground(Constants.COLOR_GREEN_DARK);
-                c.setForeground(Color.WHITE);
-
-                ((DefaultTableCellRenderer) c).setHorizontalAlignment(SwingConstants.LEFT);
-
-                return c;
-              }
-
-              if (mixBySkill) {
-                c.setBackground(Constants.COLOR_GREEN_MEDIUM);
-                c.setForeground(Color.WHITE);
-
-                ((DefaultTableCellRenderer) c).setHorizontalAlignment(SwingConstants.CENTER);
-
-                return c;
-              }
-
-              Player playerOnCell = CommonFunctions.retrieveOptional(CommonFields.getPlayersSets()
-                                                                                 .values()
-                                                                                 .stream()
-                                                                                 .flatMap(List::stream)
-                                                                                 .filter(player -> player.getName() == value)
-                                                                                 .findFirst());
-
-              c.setBackground(playerOnCell.getAnchorageNumber() != 0 ? Constants.COLORS_ANCHORAGES
-                                                                                .get(playerOnCell.getAnchorageNumber() - 1)
-                                                                     : Constants.COLOR_GREEN_LIGHT_WHITE);
-              c.setForeground(Color.BLACK);
-
-              ((DefaultTableCellRenderer) c).setHorizontalAlignment(SwingConstants.LEFT);
+              ((DefaultTableCellRenderer) c).setHorizontalAlignment(paintedModel.getAlignment(row, column));
 
               return c;
             }
 
             @Override
             protected void paintComponent(Graphics g) {
-              Graphics2D g2 = (Graphics2D) g.create();
+              Graphics2D g2 = (Graphics2D) g;
+
+              // The cell graphics context is a copy, so only the hints the text needs are set on it; the background is pre-rendered
+              g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+              g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
 
-              g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
-              g2.setColor(getBackground());
-              g2.fillRoundRect(
+              RoundedRectanglePainter.fill(
+                g2,
                 0,
                 0,
                 (getWidth() - 1),
                 (getHeight() - 1),
                 Constants.ROUNDED_BORDER_ARC_TABLE_CELLS,
-                Constants.ROUNDED_BORDER_ARC_TABLE_CELLS
+                getBackground()
               );
 
               super.paintComponent(g2);
-
-              g2.dispose();
             }
           }
         );
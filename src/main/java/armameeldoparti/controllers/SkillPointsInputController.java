@@ -1,15 +1,31 @@
 package armameeldoparti.controllers;
 
-import armameeldoparti.models.enums.Position;
+import armameeldoparti.models.Player;
+import armameeldoparti.models.RosterTableModel;
+import armameeldoparti.models.SkillPointsTableModel;
+import armameeldoparti.models.Team;
 import armameeldoparti.models.enums.ProgramView;
 import armameeldoparti.utils.common.CommonFields;
 import armameeldoparti.utils.common.CommonFunctions;
-import armameeldoparti.utils.common.Constants;
+import armameeldoparti.utils.mixers.solvers.IncrementalSkillBalancer;
 import armameeldoparti.views.SkillPointsInputView;
+import java.util.List;
+import java.util.Map;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.event.TableModelEvent;
 
 /**
  * Skill points input view controller class.
  *
+ * <p>While the skill points are being entered, the players are distributed speculatively in the background with the skill points entered so far.
+ * Every skill points change restarts a short delay, and the distribution is only started once the skill points stay still for that long, so the
+ * results are usually ready by the time the finish button is pressed.
+ *
+ * <p>Every speculative distribution also becomes the starting point of a live estimate of the skill points difference between the teams: each
+ * skill points change re-optimizes that distribution incrementally, only for the changed player, and the estimate is shown right away, without
+ * waiting for the next speculative distribution.
+ *
  * @author Bonino, Francisco Ignacio.
  *
  * @version 0.0.1
@@ -18,6 +34,19 @@ import armameeldoparti.views.SkillPointsInputView;
  */
 public class SkillPointsInputController extends Controller<SkillPointsInputView> {
 
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final int SPECULATION_DELAY = 300;
+
+  private static final String GAP_TEXT = "Diferencia estimada entre equipos: ";
+  private static final String GAP_UNKNOWN_TEXT = GAP_TEXT + "-";
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private IncrementalSkillBalancer whatIfBalancer;
+
+  private Timer speculationTimer;
+
   // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
 
   /**
@@ -27,37 +56,48 @@ public class SkillPointsInputController extends Controller<SkillPointsInputView>
    */
   public SkillPointsInputController(SkillPointsInputView skillPointsInputView) {
     super(skillPointsInputView);
+
+    speculationTimer = new Timer(SPECULATION_DELAY, _ -> speculate());
+
+    speculationTimer.setRepeats(false);
+
     setUpListeners();
   }
 
   // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
 
   /**
-   * Sets the entered skill points for each player, makes the controlled view invisible and shows the results view.
+   * Makes the controlled view invisible and shows the results view, distributing the players with the entered skill points.
+   *
+   * <p>If the speculative distribution was started with the same skill points, its results are reused.
    */
   public void finishButtonEvent() {
-    hideView();
+    speculationTimer.stop();
 
-    view.getSpinnersMap()
-        .forEach((player, spinner) -> player.setSkillPoints((int) spinner.getValue()));
+    hideView();
 
-    ((ResultsController) CommonFunctions.getController(ProgramView.RESULTS)).setUp();
+    ((ResultsController) CommonFunctions.getController(ProgramView.RESULTS)).setUp(getEnteredSkillPoints());
 
     CommonFunctions.getController(ProgramView.RESULTS)
                    .showView();
   }
 
   /**
-   * Sets 0 skill points to every player and resets every spinner value to the minimum assignable skill point.
+   * Resets every player skill points to the initial skill points.
    */
   public void resetSkillPointsButtonEvent() {
     resetSkillPoints();
   }
 
   /**
-   * Resets the controlled view to its default values, makes it invisible and shows the corresponding next view.
+   * Cancels the speculative distribution, resets the controlled view to its default values, makes it invisible and shows the corresponding next
+   * view.
    */
   public void backButtonEvent() {
+    speculationTimer.stop();
+
+    ((ResultsController) CommonFunctions.getController(ProgramView.RESULTS)).cancelMix();
+
     resetView();
     hideView();
 
@@ -66,19 +106,29 @@ public class SkillPointsInputController extends Controller<SkillPointsInputView>
   }
 
   /**
-   * Updates the players name labels.
+   * Updates the players name labels and the live skill points difference estimate, and schedules a speculative distribution with the current skill
+   * points.
    */
   public void updateNameLabels() {
-    for (Position position : Position.values()) {
-      CommonFields.getPlayersSets()
-                  .get(position)
-                  .forEach(player -> view.getLabelsMap()
-                                         .get(view.getSpinnersMap()
-                                                  .get(player))
-                                         .setText(player.getName()));
-    }
+    view.getSkillPointsTableModel()
+        .updateNames();
+
+    updateGapLabel();
 
     view.pack();
+
+    speculationTimer.restart();
+  }
+
+  /**
+   * Starts the live skill points difference estimate from a speculative distribution, with the skill points currently entered.
+   *
+   * @param mixedTeams Teams with the players distributed.
+   */
+  public void seedWhatIf(List<Team> mixedTeams) {
+    whatIfBalancer = new IncrementalSkillBalancer(mixedTeams, getEnteredSkillPoints(), CommonFields.isAnchoragesEnabled());
+
+    updateGapLabel();
   }
 
   // ---------- Protected methods --------------------------------------------------------------------------------------------------------------------
@@ -86,6 +136,12 @@ public class SkillPointsInputController extends Controller<SkillPointsInputView>
   @Override
   protected void resetView() {
     resetSkillPoints();
+
+    speculationTimer.stop();
+
+    whatIfBalancer = null;
+
+    updateGapLabel();
   }
 
   @Override
@@ -105,18 +161,77 @@ public class SkillPointsInputController extends Controller<SkillPointsInputView>
         .addActionListener(_ -> finishButtonEvent());
     view.getResetSkillPointsButton()
         .addActionListener(_ -> resetSkillPointsButtonEvent());
+    view.getSkillPointsTableModel()
+        .addTableModelListener(this::skillPointsChangeEvent);
   }
 
   // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
 
   /**
-   * Sets 0 skill points to every player and resets every spinner value to the minimum skill point.
+   * Resets every player skill points to the initial skill points, discarding the edition in progress, if any.
+   *
+   * <p>The players skill points are not modified here, since they belong to the mixing thread: they are set from the entered values before every
+   * distribution.
    */
   private void resetSkillPoints() {
-    view.getSpinnersMap()
-        .forEach((player, spinner) -> {
-          player.setSkillPoints(0);
-          spinner.setValue(Constants.SKILL_MIN);
-        });
+    JTable skillPointsTable = view.getSkillPointsTable();
+
+    if (skillPointsTable.isEditing()) {
+      skillPointsTable.getCellEditor()
+                      .cancelCellEditing();
+    }
+
+    view.getSkillPointsTableModel()
+        .resetSkillPoints();
+  }
+
+  /**
+   * Updates the live skill points difference estimate for the players whose skill points changed, and schedules a speculative distribution.
+   *
+   * <p>Changes that do not involve the skill points column, such as the players names updates, are ignored.
+   *
+   * @param event Skill points table change event.
+   */
+  private void skillPointsChangeEvent(TableModelEvent event) {
+    if (event.getColumn() != TableModelEvent.ALL_COLUMNS && event.getColumn() != RosterTableModel.COLUMN_VALUE) {
+      return;
+    }
+
+    if (whatIfBalancer != null) {
+      SkillPointsTableModel skillPointsTableModel = view.getSkillPointsTableModel();
+
+      int lastRow = Math.min(event.getLastRow(), skillPointsTableModel.getRowCount() - 1);
+
+      for (int row = Math.max(event.getFirstRow(), 0); row <= lastRow; row++) {
+        whatIfBalancer.updateSkill(skillPointsTableModel.getPlayer(row), skillPointsTableModel.getSkillPoints(row));
+      }
+
+      updateGapLabel();
+    }
+
+    speculationTimer.restart();
+  }
+
+  /**
+   * Shows the live skill points difference estimate, if any.
+   */
+  private void updateGapLabel() {
+    view.getGapLabel()
+        .setText(whatIfBalancer == null ? GAP_UNKNOWN_TEXT : GAP_TEXT + whatIfBalancer.getGap());
+  }
+
+  /**
+   * Starts a speculative distribution with the skill points entered so far.
+   */
+  private void speculate() {
+    ((ResultsController) CommonFunctions.getController(ProgramView.RESULTS)).speculate(getEnteredSkillPoints());
+  }
+
+  /**
+   * @return The skill points entered for every player.
+   */
+  private Map<Player, Integer> getEnteredSkillPoints() {
+    return view.getSkillPointsTableModel()
+               .getSkillPoints();
   }
 }
\ No newline at end of file
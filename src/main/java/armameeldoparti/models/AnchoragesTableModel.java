@@ -0,0 +1,125 @@
+package armameeldoparti.models;
+
+import armameeldoparti.models.enums.Position;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Anchorages table model class, with whether every player is selected to be anchored in column 2.
+ *
+ * <p>Only the players that are not anchored yet are shown, since the anchored ones can not be selected again until their anchorage is deleted.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public class AnchoragesTableModel extends RosterTableModel {
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private boolean selectionEnabled;
+
+  private final transient List<Player> allPlayers;
+
+  private final transient Set<Player> selectedPlayers;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the anchorages table model, with every non-anchored player shown and none selected.
+   *
+   * @param players      Every player that may be anchored, in the same positions order as the Position enum.
+   * @param positionsMap Name of every position.
+   */
+  public AnchoragesTableModel(List<Player> players, Map<Position, String> positionsMap) {
+    super(List.of(), positionsMap);
+
+    allPlayers = players;
+    selectedPlayers = new HashSet<>();
+    selectionEnabled = true;
+
+    updateAnchoredPlayers();
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Shows only the players that are not anchored, unselecting the ones that were anchored.
+   */
+  public void updateAnchoredPlayers() {
+    selectedPlayers.removeIf(Player::isAnchored);
+
+    setPlayers(allPlayers.stream()
+                         .filter(player -> !player.isAnchored())
+                         .toList());
+  }
+
+  /**
+   * Unselects every player.
+   */
+  public void clearSelection() {
+    selectedPlayers.clear();
+
+    fireTableDataChanged();
+  }
+
+  // ---------- Protected methods --------------------------------------------------------------------------------------------------------------------
+
+  @Override
+  protected Class<?> getValueClass() {
+    return Boolean.class;
+  }
+
+  @Override
+  protected boolean isValueEditable() {
+    return selectionEnabled;
+  }
+
+  @Override
+  protected Object getValue(Player player) {
+    return selectedPlayers.contains(player);
+  }
+
+  @Override
+  protected void setValue(Player player, Object value) {
+    if (Boolean.TRUE.equals(value)) {
+      selectedPlayers.add(player);
+    } else {
+      selectedPlayers.remove(player);
+    }
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * @return The selected players, in the same positions order as the Position enum.
+   */
+  public List<Player> getSelectedPlayers() {
+    return allPlayers.stream()
+                     .filter(selectedPlayers::contains)
+                     .toList();
+  }
+
+  public boolean isSelectionEnabled() {
+    return selectionEnabled;
+  }
+
+  // ---------- Setters ------------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Enables or disables the players selection, notifying that every row may have changed so the checkboxes are repainted accordingly.
+   *
+   * @param selectionEnabled Whether the players can be selected.
+   */
+  public void setSelectionEnabled(boolean selectionEnabled) {
+    if (this.selectionEnabled != selectionEnabled) {
+      this.selectionEnabled = selectionEnabled;
+
+      fireTableDataChanged();
+    }
+  }
+}
\ No newline at end of file
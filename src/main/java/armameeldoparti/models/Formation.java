@@ -0,0 +1,287 @@
+package armameeldoparti.models;
+
+import armameeldoparti.models.enums.Position;
+import armameeldoparti.utils.common.Constants;
+import armameeldoparti.utils.mixers.solvers.GraySplitEnumerator;
+import armameeldoparti.utils.mixers.solvers.SplitRoster;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Formation class.
+ *
+ * <p>A formation states how many players of each position form a team. Everything that only depends on it (per-position limits, the position of
+ * every row in a team, and the table of valid first team choices for every position) is computed once when the formation is built, so it can be
+ * shared by every view and mixer instead of being recomputed for every distribution.
+ *
+ * <p>The valid first team choices table is only built when two teams fit in a split mask; larger formations are split by
+ * {@link armameeldoparti.utils.mixers.solvers.SkillSumDpSolver}, which does not need it.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class Formation {
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final String name;
+
+  private final int playersPerTeam;
+
+  private final int[] positionLimits;
+
+  private final long splitsCount;
+
+  private final long[][] splitSequences;
+
+  private final Position[] slotLayout;
+
+  private final Map<Position, Integer> playersLimitPerPosition;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds a formation and precomputes its derived data.
+   *
+   * @param name                    Formation name, as displayed to the user.
+   * @param playersLimitPerPosition Number of players per position in each team. Missing positions are considered to have no players.
+   *
+   * @throws IllegalArgumentException When the name is blank, a limit is negative, or the formation has no players.
+   */
+  public Formation(String name, Map<Position, Integer> playersLimitPerPosition) {
+    if (name == null || name.isBlank()) {
+      throw new IllegalArgumentException("Formation name can't be blank");
+    }
+
+    this.name = name.strip();
+
+    positionLimits = new int[Position.values().length];
+
+    int playersCount = 0;
+
+    for (Position position : Position.values()) {
+      int limit = playersLimitPerPosition.getOrDefault(position, 0);
+
+      if (limit < 0) {
+        throw new IllegalArgumentException("Negative players limit for " + position + " in formation " + this.name);
+      }
+
+      positionLimits[position.ordinal()] = limit;
+      playersCount += limit;
+    }
+
+    if (playersCount == 0) {
+      throw new IllegalArgumentException("Invalid players count in formation " + this.name + ": " + playersCount);
+    }
+
+    playersPerTeam = playersCount;
+
+    Map<Position, Integer> limits = new EnumMap<>(Position.class);
+
+    for (Position position : Position.values()) {
+      limits.put(position, positionLimits[position.ordinal()]);
+    }
+
+    this.playersLimitPerPosition = Collections.unmodifiableMap(limits);
+
+    slotLayout = buildSlotLayout();
+    splitSequences = 2 * playersCount <= SplitRoster.MAX_PLAYERS ? buildSplitSequences() : new long[0][];
+
+    long count = splitSequences.length == 0 ? 0 : 1;
+
+    for (long[] sequence : splitSequences) {
+      count = Math.multiplyExact(count, sequence.length);
+    }
+
+    splitsCount = count;
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds a formation from a .pda file line.
+   *
+   * <p>The expected format is the formation name, the {@code >>} separator, and one token per position made of the position initial followed by the
+   * number of players of that position per team, separated by tabs or spaces (e.g. {@code Fútbol 7 >> C1 L2 M2 F1 G1}).
+   *
+   * @param line Line to parse.
+   *
+   * @return The formation described by the line.
+   *
+   * @throws IllegalArgumentException When the line does not describe a valid formation.
+   */
+  public static Formation parse(String line) {
+    int separatorIndex = line.indexOf(Constants.PDA_FORMATION_SEPARATOR);
+
+    if (separatorIndex < 0) {
+      throw new IllegalArgumentException("Missing formation separator: " + line);
+    }
+
+    Map<Position, Integer> limits = new EnumMap<>(Position.class);
+
+    int index = separatorIndex + Constants.PDA_FORMATION_SEPARATOR.length();
+
+    while (index < line.length()) {
+      if (Character.isWhitespace(line.charAt(index))) {
+        index++;
+
+        continue;
+      }
+
+      int tokenEnd = index;
+
+      while (tokenEnd < line.length() && !Character.isWhitespace(line.charAt(tokenEnd))) {
+        tokenEnd++;
+      }
+
+      Position position = positionOf(line.charAt(index));
+
+      if (position == null || limits.containsKey(position)) {
+        throw new IllegalArgumentException("Invalid or repeated position in formation line: " + line);
+      }
+
+      try {
+        limits.put(position, Integer.parseInt(line, index + 1, tokenEnd, 10));
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("Invalid players count in formation line: " + line, e);
+      }
+
+      index = tokenEnd;
+    }
+
+    return new Formation(line.substring(0, separatorIndex), limits);
+  }
+
+  /**
+   * @param position Position whose limit is needed.
+   *
+   * @return The number of players of the given position in each team.
+   */
+  public int getPlayersLimit(Position position) {
+    return positionLimits[position.ordinal()];
+  }
+
+  /**
+   * @param teamsCount Number of teams.
+   *
+   * @return The number of players among all teams.
+   */
+  public int getPlayersTotal(int teamsCount) {
+    return teamsCount * playersPerTeam;
+  }
+
+  /**
+   * @return The maximum number of players in a single anchorage, so at least one team member is left unanchored.
+   */
+  public int getMaxPlayersPerAnchorage() {
+    return playersPerTeam - 1;
+  }
+
+  /**
+   * @param teamsCount Number of teams.
+   *
+   * @return The maximum number of anchored players among all teams.
+   */
+  public int getMaxAnchoredPlayers(int teamsCount) {
+    return teamsCount * getMaxPlayersPerAnchorage();
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * @param initial Position initial.
+   *
+   * @return The position whose name starts with the given initial, or null if there is none.
+   */
+  private static Position positionOf(char initial) {
+    for (Position position : Position.values()) {
+      if (position.name()
+                  .charAt(0) == Character.toUpperCase(initial)) {
+        return position;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * @return The position of every row in a team, following the Position enum order.
+   */
+  private Position[] buildSlotLayout() {
+    Position[] layout = new Position[playersPerTeam];
+
+    int slot = 0;
+
+    for (Position position : Position.values()) {
+      for (int count = 0; count < positionLimits[position.ordinal()]; count++) {
+        layout[slot++] = position;
+      }
+    }
+
+    return layout;
+  }
+
+  /**
+   * Builds, for every position, the sequence of valid first team choices over the roster indexes used by {@link SplitRoster}, where every position
+   * set holds twice its limit and the sets are laid out in the Position enum order.
+   *
+   * @return One split sequence per position, indexed by the position ordinal.
+   */
+  private long[][] buildSplitSequences() {
+    long[][] sequences = new long[Position.values().length][];
+
+    int firstSlot = 0;
+
+    for (Position position : Position.values()) {
+      int[] slots = new int[2 * positionLimits[position.ordinal()]];
+
+      for (int slot = 0; slot < slots.length; slot++) {
+        slots[slot] = firstSlot + slot;
+      }
+
+      sequences[position.ordinal()] = GraySplitEnumerator.positionSequence(slots, positionLimits[position.ordinal()]);
+      firstSlot += slots.length;
+    }
+
+    return sequences;
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  public String getName() {
+    return name;
+  }
+
+  public int getPlayersPerTeam() {
+    return playersPerTeam;
+  }
+
+  public int[] getPositionLimits() {
+    return positionLimits;
+  }
+
+  public long getSplitsCount() {
+    return splitsCount;
+  }
+
+  public long[][] getSplitSequences() {
+    return splitSequences;
+  }
+
+  public Position[] getSlotLayout() {
+    return slotLayout;
+  }
+
+  public Map<Position, Integer> getPlayersLimitPerPosition() {
+    return playersLimitPerPosition;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+package armameeldoparti.models;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Names input table model class, with one row per player of the selected position.
+ *
+ * <p>Column 0 holds the player number, and column 1 the player name. Edited names are not applied here but handed to the name edit listener, which
+ * validates them and applies the valid ones to the players, so the cell keeps showing the player name if the edited one is rejected.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public class NamesTableModel extends AbstractTableModel {
+
+  // ---------- Public constants ---------------------------------------------------------------------------------------------------------------------
+
+  public static final int COLUMN_NUMBER = 0;
+  public static final int COLUMN_NAME = 1;
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final int COLUMN_COUNT = 2;
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private transient BiConsumer<Integer, String> nameEditListener;
+
+  private transient List<Player> players;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the names input table model, with no players yet.
+   */
+  public NamesTableModel() {
+    players = List.of();
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  @Override
+  public int getRowCount() {
+    return players.size();
+  }
+
+  @Override
+  public int getColumnCount() {
+    return COLUMN_COUNT;
+  }
+
+  @Override
+  public Class<?> getColumnClass(int column) {
+    return String.class;
+  }
+
+  @Override
+  public boolean isCellEditable(int row, int column) {
+    return column == COLUMN_NAME;
+  }
+
+  @Override
+  public Object getValueAt(int row, int column) {
+    return column == COLUMN_NUMBER ? Integer.toString(row + 1) : players.get(row)
+                                                                        .getName();
+  }
+
+  /**
+   * Hands the edited name to the name edit listener, unless it is the same as the player name.
+   *
+   * @param value  Edited name.
+   * @param row    Cell row.
+   * @param column Cell column.
+   */
+  @Override
+  public void setValueAt(Object value, int row, int column) {
+    if (column != COLUMN_NAME || nameEditListener == null || Objects.equals(value, getValueAt(row, column))) {
+      return;
+    }
+
+    nameEditListener.accept(row, (String) value);
+
+    fireTableCellUpdated(row, column);
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  public List<Player> getPlayers() {
+    return players;
+  }
+
+  // ---------- Setters ------------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Sets the listener of the edited names.
+   *
+   * @param nameEditListener Listener that receives the row and the text of every edited name.
+   */
+  public void setNameEditListener(BiConsumer<Integer, String> nameEditListener) {
+    this.nameEditListener = nameEditListener;
+  }
+
+  /**
+   * Replaces the shown players, notifying that every row may have changed.
+   *
+   * @param players Players to show, one per row.
+   */
+  public void setPlayers(List<Player> players) {
+    this.players = players;
+
+    fireTableDataChanged();
+  }
+}
\ No newline at end of file
@@ -1,10 +1,23 @@
 package armameeldoparti.models;
 
+import armameeldoparti.models.enums.Attribute;
 import armameeldoparti.models.enums.Position;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Players class.
  *
+ * <p>Besides the position it was entered with (its natural position), a player can be eligible for other positions, each one with its own optional
+ * skill points. The position a player plays in a distribution can then differ from its natural one, and its skill points are the ones of the position
+ * it plays.
+ *
+ * <p>A player can also be rated on every {@link Attribute}, so the teams can be balanced on each one of them besides the skill points. The attributes
+ * are kept in a primitive array indexed by the attribute ordinal.
+ *
  * @author Bonino, Francisco Ignacio.
  *
  * @version 3.0.0
@@ -21,20 +34,32 @@ public class Player {
   private int skillPoints;
   private int teamNumber;
 
+  private int[] attributes;
+
   private String name;
 
+  private Position naturalPosition;
   private Position position;
 
-  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+  private Map<Position, Integer> positionSkillPoints;
+
+  private Set<Position> eligiblePositions;
+
+  // ---------- Constructors -------------------------------------------------------------------------------------------------------------------------
 
   /**
    * Builds a basic player with the received parameters.
    *
    * @param name     Player name.
-   * @param position Player position.
+   * @param position Player natural position.
    */
   public Player(String name, Position position) {
+    attributes = new int[Attribute.values().length];
+    eligiblePositions = EnumSet.of(position);
+    positionSkillPoints = new EnumMap<>(Position.class);
+
     setName(name);
+    setNaturalPosition(position);
     setPosition(position);
     setAnchored(false);
     setTeamNumber(0);
@@ -42,6 +67,109 @@ public class Player {
     setSkillPoints(0);
   }
 
+  /**
+   * Builds a copy of the given player, outside any team and playing its natural position.
+   *
+   * @param player Player to copy.
+   */
+  public Player(Player player) {
+    attributes = player.attributes.clone();
+    eligiblePositions = EnumSet.copyOf(player.eligiblePositions);
+    positionSkillPoints = new EnumMap<>(player.positionSkillPoints);
+
+    setName(player.name);
+    setNaturalPosition(player.naturalPosition);
+    setPosition(player.naturalPosition);
+    setAnchored(player.isAnchored);
+    setTeamNumber(0);
+    setAnchorageNumber(player.anchorageNumber);
+    setSkillPoints(player.skillPoints);
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Makes the player eligible for the given position, with its general skill points.
+   *
+   * @param position Position the player can play.
+   */
+  public void addEligiblePosition(Position position) {
+    eligiblePositions.add(position);
+  }
+
+  /**
+   * Makes the player eligible for the given position, with specific skill points for it.
+   *
+   * @param position    Position the player can play.
+   * @param skillPoints Skill points of the player when playing the given position.
+   */
+  public void addEligiblePosition(Position position, int skillPoints) {
+    eligiblePositions.add(position);
+    positionSkillPoints.put(position, skillPoints);
+  }
+
+  /**
+   * @param position Position to check.
+   *
+   * @return Whether the player can play the given position.
+   */
+  public boolean isEligibleFor(Position position) {
+    return eligiblePositions.contains(position);
+  }
+
+  /**
+   * @return Whether the player can play any position besides its natural one.
+   */
+  public boolean hasAlternativePositions() {
+    return eligiblePositions.size() > 1;
+  }
+
+  /**
+   * @param position Position to check.
+   *
+   * @return The skill points of the player when playing the given position: the specific ones if set, or the general ones otherwise.
+   */
+  public int getSkillPointsAt(Position position) {
+    return positionSkillPoints.getOrDefault(position, skillPoints);
+  }
+
+  /**
+   * @param attribute Attribute to check.
+   *
+   * @return The player rating on the given attribute.
+   */
+  public int getAttribute(Attribute attribute) {
+    return attributes[attribute.ordinal()];
+  }
+
+  /**
+   * @param attribute Attribute to rate.
+   * @param rating    The player rating on the given attribute.
+   */
+  public void setAttribute(Attribute attribute, int rating) {
+    attributes[attribute.ordinal()] = rating;
+  }
+
+  /**
+   * @return Whether the player has been rated on any attribute.
+   */
+  public boolean hasAttributes() {
+    for (int rating : attributes) {
+      if (rating != 0) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Makes the player play its natural position again.
+   */
+  public void resetPosition() {
+    setPosition(naturalPosition);
+  }
+
   // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
 
   public boolean isAnchored() {
@@ -52,22 +180,37 @@ public class Player {
     return anchorageNumber;
   }
 
+  /**
+   * @return The skill points of the player in the position it plays.
+   */
   public int getSkillPoints() {
-    return skillPoints;
+    return getSkillPointsAt(position);
   }
 
   public int getTeamNumber() {
     return teamNumber;
   }
 
+  public int[] getAttributes() {
+    return attributes;
+  }
+
   public String getName() {
     return name;
   }
 
+  public Position getNaturalPosition() {
+    return naturalPosition;
+  }
+
   public Position getPosition() {
     return position;
   }
 
+  public Set<Position> getEligiblePositions() {
+    return Collections.unmodifiableSet(eligiblePositions);
+  }
+
   // ---------- Setters ------------------------------------------------------------------------------------------------------------------------------
 
   public void setAnchored(boolean isAnchored) {
@@ -90,6 +233,10 @@ public class Player {
     this.name = name;
   }
 
+  public void setNaturalPosition(Position naturalPosition) {
+    this.naturalPosition = naturalPosition;
+  }
+
   public void setPosition(Position position) {
     this.position = position;
   }
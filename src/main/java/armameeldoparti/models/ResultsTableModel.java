@@ -0,0 +1,215 @@
+package armameeldoparti.models;
+
+import armameeldoparti.models.enums.Position;
+import armameeldoparti.utils.common.Constants;
+import java.awt.Color;
+import java.util.List;
+import java.util.Map;
+import javax.swing.SwingConstants;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Results table model class, backed by the distributed players themselves.
+ *
+ * <p>Row 0 holds the teams names and column 0 the positions names, plus the team skill points row at the bottom when mixing by skill points. The
+ * remaining cells show the players of every team, in the same positions order as the Position enum.
+ *
+ * <p>The style of every cell (background color, foreground color and text alignment) is computed once per distribution, when the teams are set, so
+ * rendering a cell is a plain array lookup instead of a search for the player shown on it. The teams names and skill points are kept as ready-made
+ * objects for the same reason, so painting a cell allocates nothing.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ *
+ * @see armameeldoparti.models.enums.Position
+ */
+public class ResultsTableModel extends AbstractTableModel {
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final boolean skillRow;
+
+  private final int columnCount;
+  private final int rowCount;
+
+  private final int[][] alignments;
+
+  private final Color[][] backgrounds;
+  private final Color[][] foregrounds;
+
+  private final Long[] teamSkills;
+
+  private final String[] positionNames;
+  private final String[] teamNames;
+
+  private final transient Player[][] players;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the results table model with the fixed cells filled and styled, and no players yet.
+   *
+   * @param teamsCount   Number of teams.
+   * @param slotLayout   Position of every player row, in order.
+   * @param positionsMap Name of every position.
+   * @param skillRow     Whether to add the team skill points row.
+   */
+  public ResultsTableModel(int teamsCount, Position[] slotLayout, Map<Position, String> positionsMap, boolean skillRow) {
+    this.skillRow = skillRow;
+
+    columnCount = teamsCount + 1;
+    rowCount = slotLayout.length + (skillRow ? 2 : 1);
+    alignments = new int[rowCount][columnCount];
+    teamSkills = new Long[teamsCount];
+    backgrounds = new Color[rowCount][columnCount];
+    foregrounds = new Color[rowCount][columnCount];
+    positionNames = new String[slotLayout.length];
+    teamNames = new String[teamsCount];
+    players = new Player[slotLayout.length][teamsCount];
+
+    for (int slot = 0; slot < slotLayout.length; slot++) {
+      positionNames[slot] = positionsMap.get(slotLayout[slot]);
+    }
+
+    for (int teamIndex = 0; teamIndex < teamsCount; teamIndex++) {
+      teamNames[teamIndex] = "EQUIPO " + (teamIndex + 1);
+    }
+
+    for (int row = 0; row < rowCount; row++) {
+      for (int column = 0; column < columnCount; column++) {
+        setUpFixedStyle(row, column);
+      }
+    }
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Shows the given teams, restyling the players cells by their anchorages.
+   *
+   * <p>Only the rows whose contents may change are notified, so the table keeps its row heights.
+   *
+   * @param teams Teams with the players distributed.
+   */
+  public void setTeams(List<Team> teams) {
+    for (int teamIndex = 0; teamIndex < teams.size(); teamIndex++) {
+      Team team = teams.get(teamIndex);
+
+      int slot = 0;
+
+      for (Position position : Position.values()) {
+        for (Player player : team.getTeamPlayers()
+                                 .get(position)) {
+          players[slot][teamIndex] = player;
+          backgrounds[slot + 1][teamIndex + 1] = getPlayerBackground(player);
+
+          slot++;
+        }
+      }
+
+      teamSkills[teamIndex] = (long) team.getTeamSkill();
+    }
+
+    fireTableRowsUpdated(1, rowCount - 1);
+  }
+
+  @Override
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  @Override
+  public int getColumnCount() {
+    return columnCount;
+  }
+
+  @Override
+  public Object getValueAt(int row, int column) {
+    if (row == 0) {
+      return column == 0 ? null : teamNames[column - 1];
+    }
+
+    if (isSkillRow(row)) {
+      return column == 0 ? "Puntuación del equipo" : teamSkills[column - 1];
+    }
+
+    if (column == 0) {
+      return positionNames[row - 1];
+    }
+
+    Player player = players[row - 1][column - 1];
+
+    return player == null ? null : player.getName();
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Styles a cell whose style does not depend on the distribution.
+   *
+   * <p>Row 0 and column 0 have dark green background and white foreground, and the team skill points row has medium green background and white
+   * foreground. The remaining cells have light green background and black foreground until the players are set.
+   *
+   * <p>The cell text is centered if it shows any skill points related information or a team name. Otherwise, it is left-aligned.
+   *
+   * @param row    Cell row.
+   * @param column Cell column.
+   */
+  private void setUpFixedStyle(int row, int column) {
+    if (isSkillRow(row)) {
+      backgrounds[row][column] = Constants.COLOR_GREEN_MEDIUM;
+      foregrounds[row][column] = Color.WHITE;
+      alignments[row][column] = SwingConstants.CENTER;
+    } else if (row == 0 || column == 0) {
+      backgrounds[row][column] = Constants.COLOR_GREEN_DARK;
+      foregrounds[row][column] = Color.WHITE;
+      alignments[row][column] = row == 0 ? SwingConstants.CENTER : SwingConstants.LEFT;
+    } else {
+      backgrounds[row][column] = Constants.COLOR_GREEN_LIGHT_WHITE;
+      foregrounds[row][column] = Color.BLACK;
+      alignments[row][column] = SwingConstants.LEFT;
+    }
+  }
+
+  /**
+   * @param player Player shown on the cell.
+   *
+   * @return The background color of the cell, which is the corresponding from the anchorages colors array if the player is anchored.
+   */
+  private Color getPlayerBackground(Player player) {
+    if (player.getAnchorageNumber() == 0) {
+      return Constants.COLOR_GREEN_LIGHT_WHITE;
+    }
+
+    // Anchorage colors are reused when there are more anchorages than colors, which can happen with many teams
+    return Constants.COLORS_ANCHORAGES
+                    .get((player.getAnchorageNumber() - 1) % Constants.COLORS_ANCHORAGES
+                                                                      .size());
+  }
+
+  /**
+   * @param row Row to check.
+   *
+   * @return Whether the row is the team skill points row.
+   */
+  private boolean isSkillRow(int row) {
+    return skillRow && row == rowCount - 1;
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  public Color getBackground(int row, int column) {
+    return backgrounds[row][column];
+  }
+
+  public Color getForeground(int row, int column) {
+    return foregrounds[row][column];
+  }
+
+  public int getAlignment(int row, int column) {
+    return alignments[row][column];
+  }
+}
\ No newline at end of file
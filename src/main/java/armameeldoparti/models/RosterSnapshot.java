@@ -0,0 +1,166 @@
+package armameeldoparti.models;
+
+import armameeldoparti.models.enums.MixerQuality;
+import armameeldoparti.models.enums.Position;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Roster snapshot class.
+ *
+ * <p>A snapshot holds everything a distribution needs (the formation, the teams count, the distribution settings and a copy of every player), taken
+ * on the Event Dispatch Thread when the distribution starts. The mixers only work on the snapshot, so they never read the program state while the
+ * interface changes it, and never modify the players shown by the interface.
+ *
+ * <p>The snapshot structure cannot be modified. Its players copies are owned by the distribution, and the teams it builds are only copied back to
+ * the original players by {@link #publish(List)}.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class RosterSnapshot {
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final boolean anchoragesEnabled;
+
+  private final int teamsCount;
+
+  private final Formation formation;
+
+  private final MixerQuality mixerQuality;
+
+  private final Map<Position, List<Player>> playersSets;
+
+  private final Map<Player, Player> originals;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds a snapshot of the given roster, copying every player out of any team and playing its natural position.
+   *
+   * @param formation         Formation of the teams.
+   * @param teamsCount        Number of teams.
+   * @param anchoragesEnabled Whether the anchorages must be kept together.
+   * @param mixerQuality      Chosen distribution quality.
+   * @param playersSets       Players grouped by their natural position.
+   */
+  public RosterSnapshot(Formation formation, int teamsCount, boolean anchoragesEnabled, MixerQuality mixerQuality,
+                        Map<Position, List<Player>> playersSets) {
+    this.formation = formation;
+    this.teamsCount = teamsCount;
+    this.anchoragesEnabled = anchoragesEnabled;
+    this.mixerQuality = mixerQuality;
+
+    Map<Position, List<Player>> copiedSets = new EnumMap<>(Position.class);
+
+    originals = new IdentityHashMap<>();
+
+    playersSets.forEach((position, players) -> copiedSets.put(position, players.stream()
+                                                                               .map(player -> {
+                                                                                 Player copy = new Player(player);
+
+                                                                                 originals.put(copy, player);
+
+                                                                                 return copy;
+                                                                               })
+                                                                               .toList()));
+
+    this.playersSets = Collections.unmodifiableMap(copiedSets);
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * @return A list with as many empty teams as the snapshot teams count, numbered from 1.
+   */
+  public List<Team> createTeams() {
+    return IntStream.rangeClosed(1, teamsCount)
+                    .mapToObj(teamNumber -> new Team(teamNumber, formation))
+                    .collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  /**
+   * @return Every copied player, regardless of its position.
+   */
+  public List<Player> getPlayers() {
+    return playersSets.values()
+                      .stream()
+                      .flatMap(List::stream)
+                      .toList();
+  }
+
+  /**
+   * @return A list containing the anchored copied players grouped by their anchorage number.
+   */
+  public List<List<Player>> getAnchorages() {
+    return new ArrayList<>(getPlayers().stream()
+                                       .filter(Player::isAnchored)
+                                       .collect(Collectors.groupingBy(Player::getAnchorageNumber))
+                                       .values());
+  }
+
+  /**
+   * Copies a distribution of the snapshot players back to the original players: each one joins the team and plays the position of its copy.
+   *
+   * <p>Must only be called on the Event Dispatch Thread, once the distribution ended.
+   *
+   * @param mixedTeams Teams with the copied players distributed.
+   *
+   * @return The same teams, with the original players instead of their copies.
+   */
+  public List<Team> publish(List<Team> mixedTeams) {
+    List<Team> publishedTeams = new ArrayList<>();
+
+    for (Team mixedTeam : mixedTeams) {
+      Team publishedTeam = new Team(mixedTeam.getTeamNumber(), formation);
+
+      mixedTeam.getTeamPlayers()
+               .forEach((position, players) -> players.forEach(copy -> {
+                 Player original = originals.get(copy);
+
+                 original.setTeamNumber(copy.getTeamNumber());
+                 original.setPosition(copy.getPosition());
+
+                 publishedTeam.getTeamPlayers()
+                              .get(position)
+                              .add(original);
+               }));
+
+      publishedTeams.add(publishedTeam);
+    }
+
+    return publishedTeams;
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  public boolean isAnchoragesEnabled() {
+    return anchoragesEnabled;
+  }
+
+  public int getTeamsCount() {
+    return teamsCount;
+  }
+
+  public Formation getFormation() {
+    return formation;
+  }
+
+  public MixerQuality getMixerQuality() {
+    return mixerQuality;
+  }
+
+  public Map<Position, List<Player>> getPlayersSets() {
+    return playersSets;
+  }
+}
\ No newline at end of file
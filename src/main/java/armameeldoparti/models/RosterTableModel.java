@@ -0,0 +1,183 @@
+package armameeldoparti.models;
+
+import armameeldoparti.models.enums.Position;
+import armameeldoparti.utils.common.CommonFunctions;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.swing.event.TableModelEvent;
+import javax.swing.table.AbstractTableModel;
+
+/**
+ * Players roster table model class, with one row per player.
+ *
+ * <p>Column 0 holds the position name, only shown in the first row of every position, column 1 the player name, and column 2 a value of the player
+ * provided by every subclass. The players are expected in the same positions order as the Position enum.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ *
+ * @see armameeldoparti.models.enums.Position
+ */
+public abstract class RosterTableModel extends AbstractTableModel {
+
+  // ---------- Public constants ---------------------------------------------------------------------------------------------------------------------
+
+  public static final int COLUMN_POSITION = 0;
+  public static final int COLUMN_NAME = 1;
+  public static final int COLUMN_VALUE = 2;
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final int COLUMN_COUNT = 3;
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final transient Map<Position, String> positionNames;
+
+  private transient List<Player> players;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the roster table model.
+   *
+   * <p>The positions names are capitalized once here, so painting the rows builds no new strings.
+   *
+   * @param players      Players to show, one per row.
+   * @param positionsMap Name of every position.
+   */
+  protected RosterTableModel(List<Player> players, Map<Position, String> positionsMap) {
+    this.players = players;
+
+    positionNames = new EnumMap<>(Position.class);
+
+    positionsMap.forEach((position, name) -> positionNames.put(position, CommonFunctions.capitalize(name)));
+  }
+
+  // ---------- Abstract protected methods -----------------------------------------------------------------------------------------------------------
+
+  /**
+   * @return The class of the values in column 2.
+   */
+  protected abstract Class<?> getValueClass();
+
+  /**
+   * @return Whether the values in column 2 can be edited.
+   */
+  protected abstract boolean isValueEditable();
+
+  /**
+   * @param player Player shown on the row.
+   *
+   * @return The value of the player shown in column 2.
+   */
+  protected abstract Object getValue(Player player);
+
+  /**
+   * Applies an edited value of a player.
+   *
+   * @param player Player shown on the row.
+   * @param value  New value.
+   */
+  protected abstract void setValue(Player player, Object value);
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Notifies that the players names may have changed, so only the names column is repainted.
+   */
+  public void updateNames() {
+    if (!players.isEmpty()) {
+      fireTableChanged(new TableModelEvent(this, 0, players.size() - 1, COLUMN_NAME));
+    }
+  }
+
+  @Override
+  public int getRowCount() {
+    return players.size();
+  }
+
+  @Override
+  public int getColumnCount() {
+    return COLUMN_COUNT;
+  }
+
+  @Override
+  public Class<?> getColumnClass(int column) {
+    return column == COLUMN_VALUE ? getValueClass() : String.class;
+  }
+
+  @Override
+  public boolean isCellEditable(int row, int column) {
+    return column == COLUMN_VALUE && isValueEditable();
+  }
+
+  @Override
+  public Object getValueAt(int row, int column) {
+    Player player = players.get(row);
+
+    return switch (column) {
+      case COLUMN_POSITION -> isFirstOfPosition(row) ? positionNames.get(player.getPosition()) : "";
+      case COLUMN_NAME -> player.getName();
+      default -> getValue(player);
+    };
+  }
+
+  /**
+   * Applies the edited value, only notifying the change if the value is actually different.
+   *
+   * @param value  New value.
+   * @param row    Cell row.
+   * @param column Cell column.
+   */
+  @Override
+  public void setValueAt(Object value, int row, int column) {
+    if (column != COLUMN_VALUE || Objects.equals(value, getValueAt(row, column))) {
+      return;
+    }
+
+    setValue(players.get(row), value);
+    fireTableCellUpdated(row, column);
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * @param row Row to check.
+   *
+   * @return Whether the row is the first one of its player position.
+   */
+  private boolean isFirstOfPosition(int row) {
+    return row == 0 || players.get(row - 1)
+                              .getPosition() != players.get(row)
+                                                       .getPosition();
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  public List<Player> getPlayers() {
+    return players;
+  }
+
+  public Player getPlayer(int row) {
+    return players.get(row);
+  }
+
+  // ---------- Setters ------------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Replaces the shown players, notifying that every row may have changed.
+   *
+   * @param players Players to show, one per row.
+   */
+  public void setPlayers(List<Player> players) {
+    this.players = players;
+
+    fireTableDataChanged();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package armameeldoparti.models;
+
+import armameeldoparti.models.enums.Position;
+import armameeldoparti.utils.common.Constants;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Skill points input table model class, with the skill points entered for every player in column 2.
+ *
+ * <p>The entered skill points are kept here instead of in the players, since the players skill points belong to the mixing thread: they are set
+ * from these values before every distribution.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public class SkillPointsTableModel extends RosterTableModel {
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final transient Map<Player, Integer> skillPoints;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the skill points input table model, with the initial skill points entered for every player.
+   *
+   * @param players      Players to show, one per row.
+   * @param positionsMap Name of every position.
+   */
+  public SkillPointsTableModel(List<Player> players, Map<Position, String> positionsMap) {
+    super(players, positionsMap);
+
+    skillPoints = new HashMap<>();
+
+    players.forEach(player -> skillPoints.put(player, Constants.SKILL_INI));
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Resets every player skill points to the initial ones, notifying that every row may have changed.
+   *
+   * <p>The "java:S1190" and "java:S117" warnings are suppressed since JDK22+ allows the use of unnamed variables.
+   */
+  @SuppressWarnings({"java:S1190", "java:S117"})
+  public void resetSkillPoints() {
+    skillPoints.replaceAll((_, _) -> Constants.SKILL_INI);
+
+    fireTableDataChanged();
+  }
+
+  // ---------- Protected methods --------------------------------------------------------------------------------------------------------------------
+
+  @Override
+  protected Class<?> getValueClass() {
+    return Integer.class;
+  }
+
+  @Override
+  protected boolean isValueEditable() {
+    return true;
+  }
+
+  @Override
+  protected Object getValue(Player player) {
+    return skillPoints.get(player);
+  }
+
+  @Override
+  protected void setValue(Player player, Object value) {
+    skillPoints.put(player, (Integer) value);
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * @return A copy of the skill points entered for every player.
+   */
+  public Map<Player, Integer> getSkillPoints() {
+    return new HashMap<>(skillPoints);
+  }
+
+  public int getSkillPoints(int row) {
+    return skillPoints.get(getPlayer(row));
+  }
+}
\ No newline at end of file
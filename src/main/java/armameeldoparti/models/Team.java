@@ -1,7 +1,6 @@
 package armameeldoparti.models;
 
 import armameeldoparti.models.enums.Position;
-import armameeldoparti.utils.common.CommonFields;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
@@ -23,6 +22,8 @@ public class Team {
 
   private int teamNumber;
 
+  private Formation formation;
+
   private Map<Position, List<Player>> teamPlayers;
 
   // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
@@ -31,9 +32,11 @@ public class Team {
    * Builds a basic team with empty position sets.
    *
    * @param teamNumber Integer identification for the team.
+   * @param formation  Formation stating the players limit per position of the team.
    */
-  public Team(int teamNumber) {
+  public Team(int teamNumber, Formation formation) {
     setTeamNumber(teamNumber);
+    setFormation(formation);
     setTeamPlayers(new EnumMap<>(Position.class));
 
     for (Position position : Position.values()) {
@@ -97,8 +100,7 @@ public class Team {
    */
   public boolean isPositionFull(Position position) {
     return teamPlayers.get(position)
-                      .size() == CommonFields.getPlayersLimitPerPosition()
-                                             .get(position);
+                      .size() == formation.getPlayersLimit(position);
   }
 
   // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
@@ -107,6 +109,10 @@ public class Team {
     return teamNumber;
   }
 
+  public Formation getFormation() {
+    return formation;
+  }
+
   public Map<Position, List<Player>> getTeamPlayers() {
     return teamPlayers;
   }
@@ -117,6 +123,10 @@ public class Team {
     this.teamNumber = teamNumber;
   }
 
+  public void setFormation(Formation formation) {
+    this.formation = formation;
+  }
+
   public void setTeamPlayers(Map<Position, List<Player>> teamPlayers) {
     this.teamPlayers = teamPlayers;
   }
@@ -0,0 +1,16 @@
+package armameeldoparti.models.enums;
+
+/**
+ * Possible player attributes, besides the overall skill points.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public enum Attribute {
+  ATTACK,
+  DEFENSE,
+  STAMINA
+}
\ No newline at end of file
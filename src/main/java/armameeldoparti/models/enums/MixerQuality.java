@@ -0,0 +1,36 @@
+package armameeldoparti.models.enums;
+
+/**
+ * Possible players distribution qualities, from the lowest to the highest.
+ *
+ * <p>{@link #RANDOM} distributions ignore the skill points. {@link #HEURISTIC} distributions balance the teams skill points without guarantees, and
+ * {@link #EXACT} distributions split every pair of teams in the most balanced way: with two teams, no distribution is more balanced, and with more
+ * teams, no pair of teams can be better balanced between themselves, although a more balanced distribution of every team may exist.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public enum MixerQuality {
+  RANDOM,
+  HEURISTIC,
+  EXACT;
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Checks whether a distribution of this quality satisfies the requested one.
+   *
+   * <p>A random request is only met by random distributions, since remixing must give a different distribution every time. Any other request is met
+   * by its own quality or a higher one.
+   *
+   * @param requested Requested distribution quality.
+   *
+   * @return Whether this quality meets the requested one.
+   */
+  public boolean meets(MixerQuality requested) {
+    return requested == RANDOM ? this == RANDOM : compareTo(requested) >= 0;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package armameeldoparti.models.enums;
+
+/**
+ * Program images and icons, loaded on first use.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ *
+ * @see armameeldoparti.utils.common.IconRegistry
+ */
+public enum ProgramIcon {
+  BACKGROUND,
+  CB_DISABLED_SELECTED,
+  CB_DISABLED_UNSELECTED,
+  CB_ENABLED_SELECTED_FOCUSED,
+  CB_ENABLED_SELECTED_PRESSED,
+  CB_ENABLED_SELECTED_UNFOCUSED,
+  CB_ENABLED_UNSELECTED_FOCUSED,
+  CB_ENABLED_UNSELECTED_PRESSED,
+  CB_ENABLED_UNSELECTED_UNFOCUSED,
+  MAIN,
+  OP_ERROR,
+  OP_INFORMATION,
+  OP_QUESTION,
+  OP_WARNING,
+  RB_DISABLED_SELECTED,
+  RB_DISABLED_UNSELECTED,
+  RB_ENABLED_SELECTED_FOCUSED,
+  RB_ENABLED_SELECTED_PRESSED,
+  RB_ENABLED_SELECTED_UNFOCUSED,
+  RB_ENABLED_UNSELECTED_FOCUSED,
+  RB_ENABLED_UNSELECTED_PRESSED,
+  RB_ENABLED_UNSELECTED_UNFOCUSED
+}
\ No newline at end of file
@@ -1,13 +1,16 @@
 package armameeldoparti.utils.common;
 
 import armameeldoparti.controllers.Controller;
+import armameeldoparti.models.Formation;
 import armameeldoparti.models.Player;
+import armameeldoparti.models.enums.MixerQuality;
 import armameeldoparti.models.enums.Position;
 import armameeldoparti.models.enums.ProgramView;
 import armameeldoparti.views.View;
 import java.awt.GraphicsDevice;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * Common-use fields class.
@@ -22,16 +25,23 @@ public final class CommonFields {
 
   // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
 
-  private static int distribution;
+  private static int teamsCount;
 
   private static boolean anchoragesEnabled;
 
   private static GraphicsDevice activeMonitor;
 
+  private static MixerQuality mixerQuality;
+
+  private static Formation formation;
+
+  private static List<Formation> formations;
+
   private static Map<Position, Integer> playersLimitPerPosition;
   private static Map<Position, List<Player>> playersSets;
   private static Map<Position, String> positionsMap;
   private static Map<ProgramView, Controller<? extends View>> controllersMap;
+  private static Map<ProgramView, Supplier<Controller<? extends View>>> controllerFactoriesMap;
 
   // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
 
@@ -44,8 +54,8 @@ public final class CommonFields {
 
   // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
 
-  public static int getDistribution() {
-    return distribution;
+  public static int getTeamsCount() {
+    return teamsCount;
   }
 
   public static boolean isAnchoragesEnabled() {
@@ -56,6 +66,18 @@ public final class CommonFields {
     return activeMonitor;
   }
 
+  public static MixerQuality getMixerQuality() {
+    return mixerQuality;
+  }
+
+  public static Formation getFormation() {
+    return formation;
+  }
+
+  public static List<Formation> getFormations() {
+    return formations;
+  }
+
   public static Map<Position, Integer> getPlayersLimitPerPosition() {
     return playersLimitPerPosition;
   }
@@ -76,10 +98,14 @@ public final class CommonFields {
     return controllersMap;
   }
 
+  public static Map<ProgramView, Supplier<Controller<? extends View>>> getControllerFactoriesMap() {
+    return controllerFactoriesMap;
+  }
+
   // ---------- Setters ------------------------------------------------------------------------------------------------------------------------------
 
-  public static void setDistribution(int distribution) {
-    CommonFields.distribution = distribution;
+  public static void setTeamsCount(int teamsCount) {
+    CommonFields.teamsCount = teamsCount;
   }
 
   public static void setAnchoragesEnabled(boolean anchoragesEnabled) {
@@ -90,6 +116,18 @@ public final class CommonFields {
     CommonFields.activeMonitor = activeMonitor;
   }
 
+  public static void setMixerQuality(MixerQuality mixerQuality) {
+    CommonFields.mixerQuality = mixerQuality;
+  }
+
+  public static void setFormation(Formation formation) {
+    CommonFields.formation = formation;
+  }
+
+  public static void setFormations(List<Formation> formations) {
+    CommonFields.formations = formations;
+  }
+
   public static void setPlayersLimitPerPosition(Map<Position, Integer> playersLimitPerPosition) {
     CommonFields.playersLimitPerPosition = playersLimitPerPosition;
   }
@@ -105,4 +143,8 @@ public final class CommonFields {
   public static void setControllersMap(Map<ProgramView, Controller<? extends View>> controllerMap) {
     CommonFields.controllersMap = controllerMap;
   }
+
+  public static void setControllerFactoriesMap(Map<ProgramView, Supplier<Controller<? extends View>>> controllerFactoriesMap) {
+    CommonFields.controllerFactoriesMap = controllerFactoriesMap;
+  }
 }
\ No newline at end of file
@@ -1,17 +1,25 @@
 package armameeldoparti.utils.common;
 
 import armameeldoparti.controllers.Controller;
+import armameeldoparti.models.Formation;
 import armameeldoparti.models.Player;
+import armameeldoparti.models.Team;
 import armameeldoparti.models.enums.Error;
 import armameeldoparti.models.enums.Position;
+import armameeldoparti.models.enums.ProgramIcon;
 import armameeldoparti.models.enums.ProgramView;
 import armameeldoparti.views.View;
 import java.awt.Component;
 import java.awt.Desktop;
+import java.awt.Graphics2D;
 import java.awt.GraphicsEnvironment;
+import java.awt.Image;
 import java.awt.Rectangle;
+import java.awt.RenderingHints;
 import java.awt.event.ActionEvent;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
@@ -22,6 +30,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import javax.swing.Icon;
 import javax.swing.ImageIcon;
 import javax.swing.JOptionPane;
@@ -80,19 +89,19 @@ public final class CommonFunctions {
     switch (dialogMessageType) {
       case JOptionPane.INFORMATION_MESSAGE, JOptionPane.PLAIN_MESSAGE -> {
         dialogTitle = Constants.TITLE_MESSAGE_INFORMATION;
-        dialogIcon = Constants.ICON_DIALOG_INFORMATION;
+        dialogIcon = IconRegistry.getScaledIcon(ProgramIcon.OP_INFORMATION, Constants.SCALE_ICON_DIALOG);
       }
       case JOptionPane.WARNING_MESSAGE -> {
         dialogTitle = Constants.TITLE_MESSAGE_WARNING;
-        dialogIcon = Constants.ICON_DIALOG_WARNING;
+        dialogIcon = IconRegistry.getScaledIcon(ProgramIcon.OP_WARNING, Constants.SCALE_ICON_DIALOG);
       }
       case JOptionPane.ERROR_MESSAGE -> {
         dialogTitle = Constants.TITLE_MESSAGE_ERROR;
-        dialogIcon = Constants.ICON_DIALOG_ERROR;
+        dialogIcon = IconRegistry.getScaledIcon(ProgramIcon.OP_ERROR, Constants.SCALE_ICON_DIALOG);
       }
       case JOptionPane.QUESTION_MESSAGE -> {
         dialogTitle = Constants.TITLE_MESSAGE_QUESTION;
-        dialogIcon = Constants.ICON_DIALOG_QUESTION;
+        dialogIcon = IconRegistry.getScaledIcon(ProgramIcon.OP_QUESTION, Constants.SCALE_ICON_DIALOG);
       }
       default -> CommonFunctions.exitProgram(Error.ERROR_GUI);
     }
@@ -195,36 +204,52 @@ public final class CommonFunctions {
   }
 
   /**
-   * Given an icon filename, appends the icons folder path to it and creates an ImageIcon.
+   * Scales an image to the specified width and height.
    *
-   * @param iconFileName Name of the icon file to use.
+   * <p>The image is halved with bilinear interpolation until it is less than twice the requested size, and then scaled to the exact size in a last
+   * bilinear step. Every step only blends neighbouring pixels, so the result is as smooth as an area averaging scaling at a fraction of its cost, and
+   * it is ready right away instead of being produced asynchronously. Images are only enlarged in a single bicubic step.
    *
-   * @return The ImageIcon of the specified file.
-   *
-   * @see #createImage(String)
-   */
-  public static ImageIcon createImageIcon(String iconFileName) {
-    return createImage(Constants.PATH_ICO + iconFileName);
-  }
-
-  /**
-   * Scales an icon to the specified width and height.
+   * <p>Safe to call outside the Event Dispatch Thread.
    *
-   * @param icon   Icon to scale.
+   * @param image  Image to scale. Must be completely loaded.
    * @param width  New width.
    * @param height New height.
-   * @param hints  Scaling method.
    *
-   * @return The scaled icon.
+   * @return The scaled image.
    */
-  public static ImageIcon scaleImageIcon(ImageIcon icon, int width, int height, int hints) {
-    return new ImageIcon(icon.getImage()
-                             .getScaledInstance(width, height, hints));
+  public static BufferedImage scaleImage(Image image, int width, int height) {
+    int currentWidth = image.getWidth(null);
+    int currentHeight = image.getHeight(null);
+
+    Object interpolation = width > currentWidth || height > currentHeight ? RenderingHints.VALUE_INTERPOLATION_BICUBIC
+                                                                          : RenderingHints.VALUE_INTERPOLATION_BILINEAR;
+
+    Image current = image;
+
+    do {
+      currentWidth = currentWidth >= 2 * width ? currentWidth / 2 : width;
+      currentHeight = currentHeight >= 2 * height ? currentHeight / 2 : height;
+
+      BufferedImage step = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_ARGB);
+      Graphics2D g2 = step.createGraphics();
+
+      g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+      g2.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+      g2.dispose();
+
+      current = step;
+    } while (currentWidth != width || currentHeight != height);
+
+    return (BufferedImage) current;
   }
 
   /**
    * Gets the corresponding controller to the requested view.
    *
+   * <p>Controllers are built on first access, along with their view, by the factory registered for the view. Only called on the Event Dispatch
+   * Thread, since building a view creates Swing components.
+   *
    * <p>The "java:S1452" warning is suppressed since the Java compiler can't know at runtime the type of the controlled view.
    *
    * @param view The view whose controller is needed.
@@ -233,8 +258,56 @@ public final class CommonFunctions {
    */
   @SuppressWarnings("java:S1452")
   public static Controller<? extends View> getController(ProgramView view) {
-    return CommonFields.getControllersMap()
-                       .get(view);
+    Controller<? extends View> controller = CommonFields.getControllersMap()
+                                                        .get(view);
+
+    if (controller == null) {
+      controller = CommonFields.getControllerFactoriesMap()
+                               .get(view)
+                               .get();
+
+      CommonFields.getControllersMap()
+                  .put(view, controller);
+    }
+
+    return controller;
+  }
+
+  /**
+   * Builds the controllers of the given views ahead of their first access, if they were not built yet, so they are ready when the user gets there.
+   *
+   * <p>A background virtual thread hands every view, in order, to the Event Dispatch Thread and waits for it to be built before handing the next one.
+   * So every view is built in its own event, and the user input that arrives in the meantime is not held back by all of them at once.
+   *
+   * <p>The "java:S1190" warning is suppressed since JDK22+ allows the use of unnamed variables.
+   *
+   * @param views Views to pre-warm, the most likely to be reached first.
+   */
+  @SuppressWarnings("java:S1190")
+  public static void prewarmControllers(List<ProgramView> views) {
+    Thread.ofVirtual()
+          .name("prewarm")
+          .start(() -> {
+            try {
+              for (ProgramView view : views) {
+                SwingUtilities.invokeAndWait(() -> getController(view));
+              }
+            } catch (InterruptedException _) {
+              Thread.currentThread()
+                    .interrupt();
+            } catch (InvocationTargetException _) {
+              SwingUtilities.invokeLater(() -> exitProgram(Error.ERROR_INTERNAL));
+            }
+          });
+  }
+
+  /**
+   * @return A new list with as many empty teams as established, numbered from 1.
+   */
+  public static List<Team> createTeams() {
+    return IntStream.rangeClosed(1, CommonFields.getTeamsCount())
+                    .mapToObj(teamNumber -> new Team(teamNumber, CommonFields.getFormation()))
+                    .collect(Collectors.toCollection(ArrayList::new));
   }
 
   /**
@@ -286,4 +359,26 @@ public final class CommonFunctions {
                                .map(Map.Entry::getKey)
                                .findFirst());
   }
+
+  /**
+   * Establishes the formation and number of teams to use, and populates the players sets with as many empty players as they need.
+   *
+   * <p>The "java:S1190" and "java:S117" warnings are suppressed since JDK22+ allows the use of unnamed variables.
+   *
+   * @param formation  The formation to use.
+   * @param teamsCount The number of teams to build.
+   */
+  @SuppressWarnings({"java:S1190", "java:S117"})
+  public static void applyFormation(Formation formation, int teamsCount) {
+    CommonFields.setFormation(formation);
+    CommonFields.setTeamsCount(teamsCount);
+    CommonFields.getPlayersLimitPerPosition()
+                .putAll(formation.getPlayersLimitPerPosition());
+
+    Arrays.stream(Position.values())
+          .forEach(position -> CommonFields.getPlayersSets()
+                                           .put(position, IntStream.range(0, formation.getPlayersLimit(position) * teamsCount)
+                                                                   .mapToObj(_ -> new Player("", position))
+                                                                   .toList()));
+  }
 }
\ No newline at end of file
@@ -1,16 +1,18 @@
 package armameeldoparti.utils.common;
 
+import java.awt.BasicStroke;
 import java.awt.Color;
-import java.awt.Image;
 import java.awt.Insets;
 import java.awt.RenderingHints;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import javax.swing.ImageIcon;
+import javax.swing.border.Border;
+import javax.swing.border.EmptyBorder;
 
 import armameeldoparti.models.enums.Error;
+import armameeldoparti.models.enums.ProgramIcon;
 
 /**
  * Common-use constants class.
@@ -29,8 +31,6 @@ public final class Constants {
   private static final int EXIT_CODE_ERROR_GUI = -2;
   private static final int EXIT_CODE_ERROR_INTERNAL = -3;
   private static final int EXIT_CODE_ERROR_FILES = -4;
-  private static final int SCALE_ICON_DIALOG = 32;
-  private static final int SCALE_ICON_MAIN = 50;
 
   private static final String FILENAME_HELP_PAGE_1 = "helpIntro.hlp";
   private static final String FILENAME_HELP_PAGE_2 = "helpCriteria.hlp";
@@ -98,14 +98,8 @@ public final class Constants {
 
   public static final int INDEX_HELP_PAGE_FILENAME = 1;
   public static final int INDEX_HELP_PAGE_TITLE = 0;
-  public static final int PLAYERS_PER_TEAM = 7;
-  public static final int PLAYERS_TOTAL = PLAYERS_PER_TEAM * 2;
   public static final int MAX_NAME_LEN = 10;
-  public static final int MAX_PLAYERS_PER_ANCHORAGE = PLAYERS_PER_TEAM - 1;
-  public static final int MAX_ANCHORED_PLAYERS = 2 * MAX_PLAYERS_PER_ANCHORAGE;
   public static final int MIN_PLAYERS_PER_ANCHORAGE = 2;
-  public static final int MIX_BY_SKILL_POINTS = 1;
-  public static final int MIX_RANDOM = 0;
   public static final int ROUNDED_BORDER_ARC_BUTTON_DIALOG = 15;
   public static final int ROUNDED_BORDER_ARC_COMBOBOX = 10;
   public static final int ROUNDED_BORDER_ARC_GENERAL = 30;
@@ -119,6 +113,7 @@ public final class Constants {
   public static final int ROUNDED_BORDER_INSETS_LABEL = 8;
   public static final int ROUNDED_BORDER_INSETS_SCROLLPANE = 18;
   public static final int ROUNDED_BORDER_INSETS_TOOLTIP = 6;
+  public static final int SCALE_ICON_DIALOG = 32;
   public static final int SIZE_BUTTON_DIALOG_MIN_WIDTH = 28;
   public static final int SIZE_BUTTON_DIALOG_MIN_HEIGHT = 36;
   public static final int SIZE_FONT_TITLE_LABEL = 44;
@@ -129,13 +124,17 @@ public final class Constants {
   public static final int SKILL_MIN = 1;
   public static final int SKILL_STEP = 1;
   public static final int STROKE_BUTTON_ARROW = 5;
+  public static final int TEAMS_COUNT_MAX = 8;
+  public static final int TEAMS_COUNT_MIN = 2;
   public static final int TOOLTIP_INITIAL_DELAY = 300;
   public static final int TOOLTIP_DISMISS_DELAY = 5000;
 
   public static final float FONT_SIZE = 18f;
 
+  public static final String ARG_STARTUP_REPORT = "--startup-report";
   public static final String FILENAME_FONT = "comfortaa.ttf";
   public static final String FILENAME_PDA = "dist.pda";
+  public static final String FORMATION_DEFAULT = "Fútbol 7";
   public static final String MIG_LAYOUT_CENTER = "center";
   public static final String MIG_LAYOUT_EAST = "east";
   public static final String MIG_LAYOUT_GROW = "grow";
@@ -164,6 +163,7 @@ public final class Constants {
   public static final String PATH_ICO = "icons/";
   public static final String PATH_IMG = "img/";
   public static final String PATH_TTF = "fonts/";
+  public static final String PDA_FORMATION_SEPARATOR = ">>";
   public static final String POSITION_CENTRAL_DEFENDERS = "DEFENSORES CENTRALES";
   public static final String POSITION_FORWARDS = "DELANTEROS";
   public static final String POSITION_GOALKEEPERS = "ARQUEROS";
@@ -172,9 +172,9 @@ public final class Constants {
   public static final String PROGRAM_TITLE = "armame el doparti"; // Must be on lowercase
   public static final String PROGRAM_VERSION = "v3.0";
   public static final String PROGRAM_AUTHOR = "@" + PROGRAM_AUTHOR_GITHUB_USERNAME;
+  public static final String PROTOTYPE_PLAYER_NAME = "W".repeat(MAX_NAME_LEN);
+  public static final String PROTOTYPE_POSITION_NAME = POSITION_CENTRAL_DEFENDERS;
   public static final String REGEX_NAMES_VALIDATION = "[a-z\sA-ZÁÉÍÓÚáéíóúñÑ]+";
-  public static final String REGEX_PDA_DATA_RETRIEVE = "[CLMFG].+>.+";
-  public static final String REGEX_PLAYERS_COUNT = "(?!(?<=" + PLAYERS_PER_TEAM + ")\\d).";
   public static final String TEXT_BUTTON_DIALOG_CANCEL = "Cancelar";
   public static final String TEXT_BUTTON_DIALOG_NO = "No";
   public static final String TEXT_BUTTON_DIALOG_OK = "Aceptar";
@@ -193,46 +193,6 @@ public final class Constants {
   public static final Color COLOR_GREEN_LIGHT = Color.decode(HEX_CODE_GREEN_LIGHT);
   public static final Color COLOR_GREEN_LIGHT_WHITE = Color.decode(HEX_CODE_GREEN_LIGHT_WHITE);
 
-  public static final ImageIcon ICON_BACKGROUND = CommonFunctions.createImage(FILENAME_IMAGE_BACKGROUND);
-  public static final ImageIcon ICON_CB_D_S = CommonFunctions.createImageIcon(FILENAME_ICON_CB_DISABLED_SELECTED);
-  public static final ImageIcon ICON_CB_D_US = CommonFunctions.createImageIcon(FILENAME_ICON_CB_DISABLED_UNSELECTED);
-  public static final ImageIcon ICON_CB_E_S_F = CommonFunctions.createImageIcon(FILENAME_ICON_CB_ENABLED_SELECTED_FOCUSED);
-  public static final ImageIcon ICON_CB_E_S_P = CommonFunctions.createImageIcon(FILENAME_ICON_CB_ENABLED_SELECTED_PRESSED);
-  public static final ImageIcon ICON_CB_E_S_UF = CommonFunctions.createImageIcon(FILENAME_ICON_CB_ENABLED_SELECTED_UNFOCUSED);
-  public static final ImageIcon ICON_CB_E_US_F = CommonFunctions.createImageIcon(FILENAME_ICON_CB_ENABLED_UNSELECTED_FOCUSED);
-  public static final ImageIcon ICON_CB_E_US_P = CommonFunctions.createImageIcon(FILENAME_ICON_CB_ENABLED_UNSELECTED_PRESSED);
-  public static final ImageIcon ICON_CB_E_US_UF = CommonFunctions.createImageIcon(FILENAME_ICON_CB_ENABLED_UNSELECTED_UNFOCUSED);
-  public static final ImageIcon ICON_OP_ERROR = CommonFunctions.createImageIcon(FILENAME_ICON_OP_ERROR);
-  public static final ImageIcon ICON_OP_INFORMATION = CommonFunctions.createImageIcon(FILENAME_ICON_OP_INFORMATION);
-  public static final ImageIcon ICON_OP_QUESTION = CommonFunctions.createImageIcon(FILENAME_ICON_OP_QUESTION);
-  public static final ImageIcon ICON_OP_WARNING = CommonFunctions.createImageIcon(FILENAME_ICON_OP_WARNING);
-  public static final ImageIcon ICON_RB_D_S = CommonFunctions.createImageIcon(FILENAME_ICON_RB_DISABLED_SELECTED);
-  public static final ImageIcon ICON_RB_D_US = CommonFunctions.createImageIcon(FILENAME_ICON_RB_DISABLED_UNSELECTED);
-  public static final ImageIcon ICON_RB_E_S_F = CommonFunctions.createImageIcon(FILENAME_ICON_RB_ENABLED_SELECTED_FOCUSED);
-  public static final ImageIcon ICON_RB_E_S_P = CommonFunctions.createImageIcon(FILENAME_ICON_RB_ENABLED_SELECTED_PRESSED);
-  public static final ImageIcon ICON_RB_E_S_UF = CommonFunctions.createImageIcon(FILENAME_ICON_RB_ENABLED_SELECTED_UNFOCUSED);
-  public static final ImageIcon ICON_RB_E_US_F = CommonFunctions.createImageIcon(FILENAME_ICON_RB_ENABLED_UNSELECTED_FOCUSED);
-  public static final ImageIcon ICON_RB_E_US_P = CommonFunctions.createImageIcon(FILENAME_ICON_RB_ENABLED_UNSELECTED_PRESSED);
-  public static final ImageIcon ICON_RB_E_US_UF = CommonFunctions.createImageIcon(FILENAME_ICON_RB_ENABLED_UNSELECTED_UNFOCUSED);
-  public static final ImageIcon ICON_MAIN = CommonFunctions.createImageIcon(FILENAME_ICON_MAIN);
-  public static final ImageIcon ICON_DIALOG = CommonFunctions.scaleImageIcon(ICON_MAIN, SCALE_ICON_MAIN, SCALE_ICON_MAIN, Image.SCALE_SMOOTH);
-  public static final ImageIcon ICON_DIALOG_ERROR = CommonFunctions.scaleImageIcon(ICON_OP_ERROR,
-                                                                                   SCALE_ICON_DIALOG,
-                                                                                   SCALE_ICON_DIALOG,
-                                                                                   Image.SCALE_SMOOTH);
-  public static final ImageIcon ICON_DIALOG_INFORMATION = CommonFunctions.scaleImageIcon(ICON_OP_INFORMATION,
-                                                                                         SCALE_ICON_DIALOG,
-                                                                                         SCALE_ICON_DIALOG,
-                                                                                         Image.SCALE_SMOOTH);
-  public static final ImageIcon ICON_DIALOG_QUESTION = CommonFunctions.scaleImageIcon(ICON_OP_QUESTION,
-                                                                                      SCALE_ICON_DIALOG,
-                                                                                      SCALE_ICON_DIALOG,
-                                                                                      Image.SCALE_SMOOTH);
-  public static final ImageIcon ICON_DIALOG_WARNING = CommonFunctions.scaleImageIcon(ICON_OP_WARNING,
-                                                                                     SCALE_ICON_DIALOG,
-                                                                                     SCALE_ICON_DIALOG,
-                                                                                     Image.SCALE_SMOOTH);
-
   public static final Insets INSETS_COMBOBOX = new Insets(Constants.ROUNDED_BORDER_INSETS_COMBOBOX,
                                                           Constants.ROUNDED_BORDER_INSETS_COMBOBOX,
                                                           Constants.ROUNDED_BORDER_INSETS_COMBOBOX,
@@ -250,6 +210,14 @@ public final class Constants {
                                                          Constants.ROUNDED_BORDER_INSETS_TOOLTIP,
                                                          Constants.ROUNDED_BORDER_INSETS_TOOLTIP);
 
+  /**
+   * Arrow buttons stroke, shared by every arrow button so it is not created on every repaint.
+   */
+  public static final BasicStroke BASIC_STROKE_BUTTON_ARROW = new BasicStroke(STROKE_BUTTON_ARROW, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND);
+
+  public static final Border BORDER_COMBOBOX = new EmptyBorder(INSETS_COMBOBOX);
+  public static final Border BORDER_GENERAL = new EmptyBorder(INSETS_GENERAL);
+
   /**
    * Positions to show in the names input view combobox.
    */
@@ -311,6 +279,34 @@ public final class Constants {
     7, Arrays.asList(TITLE_HELP_PAGE_8, FILENAME_HELP_PAGE_8)
   );
 
+  /**
+   * Map of program images and their corresponding file path, relative to the images folder.
+   */
+  public static final Map<ProgramIcon, String> MAP_ICON_PATH = Map.ofEntries(
+    Map.entry(ProgramIcon.BACKGROUND, FILENAME_IMAGE_BACKGROUND),
+    Map.entry(ProgramIcon.CB_DISABLED_SELECTED, PATH_ICO + FILENAME_ICON_CB_DISABLED_SELECTED),
+    Map.entry(ProgramIcon.CB_DISABLED_UNSELECTED, PATH_ICO + FILENAME_ICON_CB_DISABLED_UNSELECTED),
+    Map.entry(ProgramIcon.CB_ENABLED_SELECTED_FOCUSED, PATH_ICO + FILENAME_ICON_CB_ENABLED_SELECTED_FOCUSED),
+    Map.entry(ProgramIcon.CB_ENABLED_SELECTED_PRESSED, PATH_ICO + FILENAME_ICON_CB_ENABLED_SELECTED_PRESSED),
+    Map.entry(ProgramIcon.CB_ENABLED_SELECTED_UNFOCUSED, PATH_ICO + FILENAME_ICON_CB_ENABLED_SELECTED_UNFOCUSED),
+    Map.entry(ProgramIcon.CB_ENABLED_UNSELECTED_FOCUSED, PATH_ICO + FILENAME_ICON_CB_ENABLED_UNSELECTED_FOCUSED),
+    Map.entry(ProgramIcon.CB_ENABLED_UNSELECTED_PRESSED, PATH_ICO + FILENAME_ICON_CB_ENABLED_UNSELECTED_PRESSED),
+    Map.entry(ProgramIcon.CB_ENABLED_UNSELECTED_UNFOCUSED, PATH_ICO + FILENAME_ICON_CB_ENABLED_UNSELECTED_UNFOCUSED),
+    Map.entry(ProgramIcon.MAIN, PATH_ICO + FILENAME_ICON_MAIN),
+    Map.entry(ProgramIcon.OP_ERROR, PATH_ICO + FILENAME_ICON_OP_ERROR),
+    Map.entry(ProgramIcon.OP_INFORMATION, PATH_ICO + FILENAME_ICON_OP_INFORMATION),
+    Map.entry(ProgramIcon.OP_QUESTION, PATH_ICO + FILENAME_ICON_OP_QUESTION),
+    Map.entry(ProgramIcon.OP_WARNING, PATH_ICO + FILENAME_ICON_OP_WARNING),
+    Map.entry(ProgramIcon.RB_DISABLED_SELECTED, PATH_ICO + FILENAME_ICON_RB_DISABLED_SELECTED),
+    Map.entry(ProgramIcon.RB_DISABLED_UNSELECTED, PATH_ICO + FILENAME_ICON_RB_DISABLED_UNSELECTED),
+    Map.entry(ProgramIcon.RB_ENABLED_SELECTED_FOCUSED, PATH_ICO + FILENAME_ICON_RB_ENABLED_SELECTED_FOCUSED),
+    Map.entry(ProgramIcon.RB_ENABLED_SELECTED_PRESSED, PATH_ICO + FILENAME_ICON_RB_ENABLED_SELECTED_PRESSED),
+    Map.entry(ProgramIcon.RB_ENABLED_SELECTED_UNFOCUSED, PATH_ICO + FILENAME_ICON_RB_ENABLED_SELECTED_UNFOCUSED),
+    Map.entry(ProgramIcon.RB_ENABLED_UNSELECTED_FOCUSED, PATH_ICO + FILENAME_ICON_RB_ENABLED_UNSELECTED_FOCUSED),
+    Map.entry(ProgramIcon.RB_ENABLED_UNSELECTED_PRESSED, PATH_ICO + FILENAME_ICON_RB_ENABLED_UNSELECTED_PRESSED),
+    Map.entry(ProgramIcon.RB_ENABLED_UNSELECTED_UNFOCUSED, PATH_ICO + FILENAME_ICON_RB_ENABLED_UNSELECTED_UNFOCUSED)
+  );
+
   /**
    * Map of rendering hints used to paint custom components.
    */
@@ -0,0 +1,136 @@
+package armameeldoparti.utils.common;
+
+import armameeldoparti.models.enums.ProgramIcon;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.image.BaseMultiResolutionImage;
+import java.lang.ref.SoftReference;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import javax.swing.ImageIcon;
+
+/**
+ * Program images and icons registry.
+ *
+ * <p>Every image is decoded the first time it is requested instead of at class loading time, and every scaled variant is scaled the first time it is
+ * requested too. Both are kept in caches of soft references, so they are shared by every component using them but may be reclaimed under memory
+ * pressure, in which case they are simply loaded again on the next request.
+ *
+ * <p>Scaled variants are rendered at the default screen scale as well as at their nominal size, so they stay sharp on high density screens.
+ *
+ * <p>Safe to use from any thread.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class IconRegistry {
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final double SCALE = GraphicsEnvironment.isHeadless() ? 1
+                                                                      : GraphicsEnvironment.getLocalGraphicsEnvironment()
+                                                                                           .getDefaultScreenDevice()
+                                                                                           .getDefaultConfiguration()
+                                                                                           .getDefaultTransform()
+                                                                                           .getScaleX();
+
+  private static final Map<ProgramIcon, SoftReference<ImageIcon>> ICONS = new ConcurrentHashMap<>();
+  private static final Map<List<Object>, SoftReference<ImageIcon>> SCALED_ICONS = new ConcurrentHashMap<>();
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Empty, private, unused constructor.
+   */
+  private IconRegistry() {
+    // Body not needed
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * @param icon Requested image.
+   *
+   * @return The image in its original size, loaded the first time it is requested.
+   */
+  public static ImageIcon getIcon(ProgramIcon icon) {
+    return getCached(ICONS, icon, () -> CommonFunctions.createImage(Constants.MAP_ICON_PATH
+                                                                             .get(icon)));
+  }
+
+  /**
+   * @param icon Requested image.
+   * @param size Width and height of the square variant.
+   *
+   * @return The image scaled to a square of the given size, scaled the first time it is requested.
+   */
+  public static ImageIcon getScaledIcon(ProgramIcon icon, int size) {
+    return getCached(SCALED_ICONS, List.of(icon, size), () -> scaleIcon(icon, size));
+  }
+
+  /**
+   * Scales the given images in a virtual thread, so they are already cached by the time they are requested from the Event Dispatch Thread.
+   *
+   * @param icons Images to scale.
+   * @param size  Width and height of the square variants.
+   */
+  public static void prescaleIcons(List<ProgramIcon> icons, int size) {
+    Thread.ofVirtual()
+          .name("prescale")
+          .start(() -> icons.forEach(icon -> getScaledIcon(icon, size)));
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Gets a cached icon, loading it again if it was never loaded or it was reclaimed.
+   *
+   * <p>Concurrent requests for the same missing icon may load it more than once, and the last one loaded is cached. Every one of them is equivalent
+   * to the others, so this is harmless and saves holding a lock while loading.
+   *
+   * @param <K>    Cache key type.
+   * @param cache  Cache to look up.
+   * @param key    Icon key.
+   * @param loader Icon loader.
+   *
+   * @return The cached icon.
+   */
+  private static <K> ImageIcon getCached(Map<K, SoftReference<ImageIcon>> cache, K key, Supplier<ImageIcon> loader) {
+    SoftReference<ImageIcon> reference = cache.get(key);
+    ImageIcon icon = reference == null ? null : reference.get();
+
+    if (icon == null) {
+      icon = loader.get();
+
+      cache.put(key, new SoftReference<>(icon));
+    }
+
+    return icon;
+  }
+
+  /**
+   * Scales an image to a square of the given size, with an additional variant at the default screen scale if it is not 1.
+   *
+   * @param icon Image to scale.
+   * @param size Width and height of the square.
+   *
+   * @return The scaled image.
+   */
+  private static ImageIcon scaleIcon(ProgramIcon icon, int size) {
+    Image image = getIcon(icon).getImage();
+    Image scaledImage = CommonFunctions.scaleImage(image, size, size);
+
+    int screenSize = (int) Math.round(size * SCALE);
+
+    if (screenSize == size) {
+      return new ImageIcon(scaledImage);
+    }
+
+    return new ImageIcon(new BaseMultiResolutionImage(scaledImage, CommonFunctions.scaleImage(image, screenSize, screenSize)));
+  }
+}
\ No newline at end of file
@@ -3,11 +3,11 @@ package armameeldoparti.utils.common.custom.graphical;
 import armameeldoparti.models.enums.Error;
 import armameeldoparti.utils.common.CommonFunctions;
 import armameeldoparti.utils.common.Constants;
-import java.awt.BasicStroke;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Insets;
-import java.awt.Polygon;
+import java.awt.RenderingHints;
+import java.awt.Stroke;
 import javax.swing.SwingConstants;
 import javax.swing.plaf.basic.BasicArrowButton;
 
@@ -22,6 +22,11 @@ import javax.swing.plaf.basic.BasicArrowButton;
  */
 public class CustomArrowButton extends BasicArrowButton {
 
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final int[] pointsX = new int[3];
+  private final int[] pointsY = new int[3];
+
   // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
 
   /**
@@ -42,82 +47,16 @@ public class CustomArrowButton extends BasicArrowButton {
   }
 
   /**
-   * The "java:S1190" warning is suppressed since JDK22+ allows the use of unnamed variables.
+   * Paints the arrow as a rounded triangle, reusing the points arrays of the button and the shared arrow stroke, and restoring the rendering hints
+   * and the stroke of the given graphics context afterwards instead of painting on a copy of it.
+   *
+   * <p>The "java:S1190" warning is suppressed since JDK22+ allows the use of unnamed variables.
    */
   @Override
   @SuppressWarnings("java:S1190")
   public void paint(Graphics g) {
     try {
-      int buttonHeight = getHeight();
-      int buttonWidth = getWidth();
-
-      double buttonHeight25 = buttonHeight * 0.25;
-      double buttonHeight75 = buttonHeight * 0.75;
-      double buttonWidth25 = buttonWidth * 0.25;
-      double buttonWidth75 = buttonWidth * 0.75;
-
-      int[] pointsX;
-      int[] pointsY;
-
-      switch (getDirection()) {
-        case SwingConstants.NORTH -> {
-          pointsX = new int[] {
-            buttonWidth / 2,
-            (int) buttonWidth75,
-            (int) buttonWidth25
-          };
-
-          pointsY = new int[] {
-            (int) buttonHeight25,
-            (int) buttonHeight75,
-            (int) buttonHeight75
-          };
-        }
-
-        case SwingConstants.SOUTH -> {
-          pointsX = new int[] {
-            buttonWidth / 2,
-            (int) buttonWidth75,
-            (int) buttonWidth25
-          };
-
-          pointsY = new int[] {
-            (int) buttonHeight75,
-            (int) buttonHeight25,
-            (int) buttonHeight25
-          };
-        }
-
-        case SwingConstants.EAST -> {
-          pointsX = new int[] {
-            (int) buttonWidth75,
-            (int) buttonWidth25,
-            (int) buttonWidth25
-          };
-
-          pointsY = new int[] {
-            buttonHeight / 2,
-            (int) buttonHeight75,
-            (int) buttonHeight25
-          };
-        }
-
-        case SwingConstants.WEST -> {
-          pointsX = new int[] {
-            (int) buttonWidth25,
-            (int) buttonWidth75,
-            (int) buttonWidth75
-          };
-
-          pointsY = new int[] {
-            buttonHeight / 2,
-            (int) buttonHeight25,
-            (int) buttonHeight75
-          };
-        }
-
-        default -> throw new IllegalArgumentException();
-      }
+      setUpArrowPoints();
 
       if (getModel().isPressed()) {
         g.setColor(Constants.COLOR_GREEN_MEDIUM_LIGHT);
@@ -127,15 +66,23 @@ public class CustomArrowButton extends BasicArrowButton {
         g.setColor(isEnabled() ? getBackground() : Constants.COLOR_GREEN_MEDIUM);
       }
 
-      Polygon triangle = new Polygon(pointsX, pointsY, 3);
+      Graphics2D g2 = (Graphics2D) g;
 
-      Graphics2D g2 = (Graphics2D) g.create();
+      Object antialiasing = g2.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
+      Object rendering = g2.getRenderingHint(RenderingHints.KEY_RENDERING);
+      Object strokeControl = g2.getRenderingHint(RenderingHints.KEY_STROKE_CONTROL);
+      Stroke stroke = g2.getStroke();
 
-      g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
-      g2.setStroke(new BasicStroke(Constants.STROKE_BUTTON_ARROW, BasicStroke.CAP_ROUND, BasicStroke.JOIN_ROUND));
-      g2.drawPolygon(triangle);
-      g2.fillPolygon(triangle);
-      g2.dispose();
+      g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+      g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+      g2.setStroke(Constants.BASIC_STROKE_BUTTON_ARROW);
+      g2.drawPolygon(pointsX, pointsY, 3);
+      g2.fillPolygon(pointsX, pointsY, 3);
+      g2.setStroke(stroke);
+      g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialiasing);
+      g2.setRenderingHint(RenderingHints.KEY_RENDERING, rendering);
+      g2.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, strokeControl);
 
       super.paintComponent(g);
     } catch (IllegalArgumentException _) {
@@ -145,6 +92,48 @@ public class CustomArrowButton extends BasicArrowButton {
 
   // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
 
+  /**
+   * Updates the arrow triangle points for the current button size and direction.
+   *
+   * @throws IllegalArgumentException If the button direction is not a valid one.
+   */
+  private void setUpArrowPoints() {
+    int buttonHeight = getHeight();
+    int buttonWidth = getWidth();
+
+    int buttonHeight25 = (int) (buttonHeight * 0.25);
+    int buttonHeight75 = (int) (buttonHeight * 0.75);
+    int buttonWidth25 = (int) (buttonWidth * 0.25);
+    int buttonWidth75 = (int) (buttonWidth * 0.75);
+
+    switch (getDirection()) {
+      case SwingConstants.NORTH -> setArrowPoints(buttonWidth / 2, buttonWidth75, buttonWidth25, buttonHeight25, buttonHeight75, buttonHeight75);
+      case SwingConstants.SOUTH -> setArrowPoints(buttonWidth / 2, buttonWidth75, buttonWidth25, buttonHeight75, buttonHeight25, buttonHeight25);
+      case SwingConstants.EAST -> setArrowPoints(buttonWidth75, buttonWidth25, buttonWidth25, buttonHeight / 2, buttonHeight75, buttonHeight25);
+      case SwingConstants.WEST -> setArrowPoints(buttonWidth25, buttonWidth75, buttonWidth75, buttonHeight / 2, buttonHeight25, buttonHeight75);
+      default -> throw new IllegalArgumentException();
+    }
+  }
+
+  /**
+   * Sets the arrow triangle points.
+   *
+   * @param x1 First point x coordinate.
+   * @param x2 Second point x coordinate.
+   * @param x3 Third point x coordinate.
+   * @param y1 First point y coordinate.
+   * @param y2 Second point y coordinate.
+   * @param y3 Third point y coordinate.
+   */
+  private void setArrowPoints(int x1, int x2, int x3, int y1, int y2, int y3) {
+    pointsX[0] = x1;
+    pointsX[1] = x2;
+    pointsX[2] = x3;
+    pointsY[0] = y1;
+    pointsY[1] = y2;
+    pointsY[2] = y3;
+  }
+
   /**
    * Configures the graphical properties of the arrow button in order to fit the program aesthetics.
    */
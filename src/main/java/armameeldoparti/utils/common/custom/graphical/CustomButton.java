@@ -1,8 +1,8 @@
 package armameeldoparti.utils.common.custom.graphical;
 
 import armameeldoparti.utils.common.Constants;
+import java.awt.Color;
 import java.awt.Graphics;
-import java.awt.Graphics2D;
 import java.awt.Insets;
 import javax.swing.JButton;
 
@@ -46,19 +46,17 @@ public class CustomButton extends JButton {
 
   @Override
   protected void paintComponent(Graphics g) {
+    Color fillColor;
+
     if (getModel().isPressed()) {
-      g.setColor(Constants.COLOR_GREEN_MEDIUM);
+      fillColor = Constants.COLOR_GREEN_MEDIUM;
     } else if (getModel().isRollover()) {
-      g.setColor(Constants.COLOR_GREEN_DARK_MEDIUM);
+      fillColor = Constants.COLOR_GREEN_DARK_MEDIUM;
     } else {
-      g.setColor(isEnabled() ? getBackground() : Constants.COLOR_GREEN_MEDIUM);
+      fillColor = isEnabled() ? getBackground() : Constants.COLOR_GREEN_MEDIUM;
     }
 
-    Graphics2D g2 = (Graphics2D) g.create();
-
-    g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
-    g2.fillRoundRect(0, 0, (getWidth() - 1), (getHeight() - 1), arc, arc);
-    g2.dispose();
+    RoundedRectanglePainter.fill(g, 0, 0, (getWidth() - 1), (getHeight() - 1), arc, fillColor);
 
     super.paintComponent(g);
   }
@@ -1,6 +1,7 @@
 package armameeldoparti.utils.common.custom.graphical;
 
-import armameeldoparti.utils.common.Constants;
+import armameeldoparti.models.enums.ProgramIcon;
+import armameeldoparti.utils.common.IconRegistry;
 import javax.swing.JCheckBox;
 
 /**
@@ -32,12 +33,12 @@ public class CustomCheckBox extends JCheckBox {
    * Configures the graphical properties of the checkbox in order to fit the program aesthetics.
    */
   private void setUpGraphicalProperties() {
-    setIcon(Constants.ICON_CB_E_US_UF);
-    setSelectedIcon(Constants.ICON_CB_E_S_UF);
-    setDisabledIcon(Constants.ICON_CB_D_US);
-    setDisabledSelectedIcon(Constants.ICON_CB_D_S);
-    setRolloverIcon(Constants.ICON_CB_E_US_F);
-    setRolloverSelectedIcon(Constants.ICON_CB_E_S_F);
-    setPressedIcon(Constants.ICON_CB_E_US_P);
+    setIcon(IconRegistry.getIcon(ProgramIcon.CB_ENABLED_UNSELECTED_UNFOCUSED));
+    setSelectedIcon(IconRegistry.getIcon(ProgramIcon.CB_ENABLED_SELECTED_UNFOCUSED));
+    setDisabledIcon(IconRegistry.getIcon(ProgramIcon.CB_DISABLED_UNSELECTED));
+    setDisabledSelectedIcon(IconRegistry.getIcon(ProgramIcon.CB_DISABLED_SELECTED));
+    setRolloverIcon(IconRegistry.getIcon(ProgramIcon.CB_ENABLED_UNSELECTED_FOCUSED));
+    setRolloverSelectedIcon(IconRegistry.getIcon(ProgramIcon.CB_ENABLED_SELECTED_FOCUSED));
+    setPressedIcon(IconRegistry.getIcon(ProgramIcon.CB_ENABLED_UNSELECTED_PRESSED));
   }
 }
\ No newline at end of file
@@ -4,7 +4,6 @@ import armameeldoparti.utils.common.Constants;
 import java.awt.Color;
 import java.awt.Component;
 import java.awt.Graphics;
-import java.awt.Graphics2D;
 import java.awt.Insets;
 import javax.swing.DefaultListCellRenderer;
 import javax.swing.JButton;
@@ -13,7 +12,6 @@ import javax.swing.JLabel;
 import javax.swing.JList;
 import javax.swing.ListCellRenderer;
 import javax.swing.SwingConstants;
-import javax.swing.border.EmptyBorder;
 import javax.swing.plaf.basic.BasicComboBoxUI;
 import javax.swing.plaf.basic.BasicComboPopup;
 import javax.swing.plaf.basic.ComboPopup;
@@ -52,24 +50,14 @@ public class CustomComboBox<E> extends JComboBox<E> {
 
   @Override
   protected void paintComponent(Graphics g) {
-    Graphics2D g2 = (Graphics2D) g.create();
-
-    g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
-    g2.setColor(getBackground());
-    g2.fillRoundRect(0, 0, (getWidth() - 1), (getHeight() - 1), Constants.ROUNDED_BORDER_ARC_GENERAL, Constants.ROUNDED_BORDER_ARC_GENERAL);
-    g2.dispose();
+    RoundedRectanglePainter.fill(g, 0, 0, (getWidth() - 1), (getHeight() - 1), Constants.ROUNDED_BORDER_ARC_GENERAL, getBackground());
 
     super.paintComponent(g);
   }
 
   @Override
   protected void paintBorder(Graphics g) {
-    Graphics2D g2 = (Graphics2D) g.create();
-
-    g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
-    g2.setColor(getBackground());
-    g2.drawRoundRect(0, 0, (getWidth() - 1), (getHeight() - 1), Constants.ROUNDED_BORDER_ARC_GENERAL, Constants.ROUNDED_BORDER_ARC_GENERAL);
-    g2.dispose();
+    RoundedRectanglePainter.draw(g, 0, 0, (getWidth() - 1), (getHeight() - 1), Constants.ROUNDED_BORDER_ARC_GENERAL, getBackground());
   }
 
   // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
@@ -107,36 +95,28 @@ public class CustomComboBox<E> extends JComboBox<E> {
 
             @Override
             protected void paintBorder(Graphics g) {
-              Graphics2D g2 = (Graphics2D) g.create();
-
-              g2.setColor(Constants.COLOR_GREEN_MEDIUM);
-              g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
-              g2.drawRoundRect(
+              RoundedRectanglePainter.draw(
+                g,
                 0,
                 0,
                 (getWidth() - 1),
                 (getHeight() - 1),
                 Constants.ROUNDED_BORDER_ARC_GENERAL,
-                Constants.ROUNDED_BORDER_ARC_GENERAL
+                Constants.COLOR_GREEN_MEDIUM
               );
-              g2.dispose();
             }
 
             @Override
             protected void paintComponent(Graphics g) {
-              Graphics2D g2 = (Graphics2D) g.create();
-
-              g2.setColor(Constants.COLOR_GREEN_MEDIUM);
-              g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
-              g2.fillRoundRect(
+              RoundedRectanglePainter.fill(
+                g,
                 0,
                 0,
                 (getWidth() - 1),
                 (getHeight() - 1),
                 Constants.ROUNDED_BORDER_ARC_GENERAL,
-                Constants.ROUNDED_BORDER_ARC_GENERAL
+                Constants.COLOR_GREEN_MEDIUM
               );
-              g2.dispose();
 
               super.paintComponent(g);
             }
@@ -156,19 +136,14 @@ public class CustomComboBox<E> extends JComboBox<E> {
       renderer.setOpaque(false);
       renderer.setBackground(fillColor);
       renderer.setForeground(list.getForeground());
-      renderer.setBorder(new EmptyBorder(Constants.INSETS_COMBOBOX));
+      renderer.setBorder(Constants.BORDER_COMBOBOX);
 
       return renderer;
     }
 
     @Override
     public void paintComponent(Graphics g) {
-      Graphics2D g2 = (Graphics2D) g.create();
-
-      g2.setColor(getBackground());
-      g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
-      g2.fillRoundRect(0, 0, (getWidth() - 1), (getHeight() - 1), Constants.ROUNDED_BORDER_ARC_COMBOBOX, Constants.ROUNDED_BORDER_ARC_COMBOBOX);
-      g2.dispose();
+      RoundedRectanglePainter.fill(g, 0, 0, (getWidth() - 1), (getHeight() - 1), Constants.ROUNDED_BORDER_ARC_COMBOBOX, getBackground());
 
       super.paintComponent(g);
     }
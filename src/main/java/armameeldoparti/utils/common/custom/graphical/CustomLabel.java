@@ -4,7 +4,6 @@ import armameeldoparti.utils.common.Constants;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.Graphics;
-import java.awt.Graphics2D;
 import javax.swing.JLabel;
 import javax.swing.JToolTip;
 import javax.swing.border.EmptyBorder;
@@ -65,12 +64,7 @@ public class CustomLabel extends JLabel {
 
   @Override
   protected void paintComponent(Graphics g) {
-    Graphics2D g2 = (Graphics2D) g.create();
-
-    g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
-    g2.setColor(getBackground());
-    g2.fillRoundRect(0, 0, (getWidth() - 1), (getHeight() - 1), Constants.ROUNDED_BORDER_ARC_GENERAL, Constants.ROUNDED_BORDER_ARC_GENERAL);
-    g2.dispose();
+    RoundedRectanglePainter.fill(g, 0, 0, (getWidth() - 1), (getHeight() - 1), Constants.ROUNDED_BORDER_ARC_GENERAL, getBackground());
 
     super.paintComponent(g);
   }
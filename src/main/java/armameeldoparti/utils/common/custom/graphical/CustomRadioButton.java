@@ -1,6 +1,7 @@
 package armameeldoparti.utils.common.custom.graphical;
 
-import armameeldoparti.utils.common.Constants;
+import armameeldoparti.models.enums.ProgramIcon;
+import armameeldoparti.utils.common.IconRegistry;
 import javax.swing.JRadioButton;
 
 /**
@@ -32,12 +33,12 @@ public class CustomRadioButton extends JRadioButton {
    * Configures the graphical properties of the radio button in order to fit the program aesthetics.
    */
   private void setUpGraphicalProperties() {
-    setIcon(Constants.ICON_RB_E_US_UF);
-    setSelectedIcon(Constants.ICON_RB_E_S_UF);
-    setDisabledIcon(Constants.ICON_RB_D_US);
-    setDisabledSelectedIcon(Constants.ICON_RB_D_S);
-    setRolloverIcon(Constants.ICON_RB_E_US_F);
-    setRolloverSelectedIcon(Constants.ICON_RB_E_S_F);
-    setPressedIcon(Constants.ICON_RB_E_US_P);
+    setIcon(IconRegistry.getIcon(ProgramIcon.RB_ENABLED_UNSELECTED_UNFOCUSED));
+    setSelectedIcon(IconRegistry.getIcon(ProgramIcon.RB_ENABLED_SELECTED_UNFOCUSED));
+    setDisabledIcon(IconRegistry.getIcon(ProgramIcon.RB_DISABLED_UNSELECTED));
+    setDisabledSelectedIcon(IconRegistry.getIcon(ProgramIcon.RB_DISABLED_SELECTED));
+    setRolloverIcon(IconRegistry.getIcon(ProgramIcon.RB_ENABLED_UNSELECTED_FOCUSED));
+    setRolloverSelectedIcon(IconRegistry.getIcon(ProgramIcon.RB_ENABLED_SELECTED_FOCUSED));
+    setPressedIcon(IconRegistry.getIcon(ProgramIcon.RB_ENABLED_UNSELECTED_PRESSED));
   }
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+package armameeldoparti.utils.common.custom.graphical;
+
+import armameeldoparti.utils.common.Constants;
+import java.awt.Color;
+import java.awt.Dimension;
+import javax.swing.DefaultCellEditor;
+import javax.swing.JCheckBox;
+import javax.swing.ListSelectionModel;
+import javax.swing.SwingConstants;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.TableModel;
+
+/**
+ * A custom table to show and edit one row per player, that fits the overall program aesthetics.
+ *
+ * <p>Only the visible rows are painted, every one of them by the same renderer component, and only the cell being edited has an editor component.
+ * So the memory and layout cost of the table do not depend on how many players it shows, unlike a panel with a text field, spinner or checkbox per
+ * player.
+ *
+ * <p>Column 0 holds the row labels, with dark green background and white foreground. Text cells are edited with a custom text field, and boolean
+ * cells are shown and edited with a custom checkbox.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public class CustomRosterTable extends CustomTable {
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds a roster table backed by the given model using the established program aesthetics.
+   *
+   * @param model Model that provides the table cells.
+   */
+  public CustomRosterTable(TableModel model) {
+    super(model);
+    setUpRosterProperties();
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Sizes the rows, the columns and the scrollable viewport of the table.
+   *
+   * <p>Every column is made as wide as its renderer and editor components need to show the given prototype value, and every row as tall as the
+   * tallest of them. The size is computed from the prototype values instead of the actual cells, so it takes the same time however many rows the
+   * table has.
+   *
+   * @param visibleRows Number of rows shown without scrolling.
+   * @param prototypes  Widest expected value of every column.
+   */
+  public void setUpViewport(int visibleRows, Object... prototypes) {
+    int rowHeight = 0;
+    int tableWidth = 0;
+
+    for (int column = 0; column < prototypes.length; column++) {
+      Class<?> columnClass = getColumnClass(column);
+
+      Dimension rendererSize = getDefaultRenderer(columnClass).getTableCellRendererComponent(this, prototypes[column], false, false, 0, column)
+                                                              .getPreferredSize();
+      Dimension editorSize = getDefaultEditor(columnClass).getTableCellEditorComponent(this, prototypes[column], false, 0, column)
+                                                          .getPreferredSize();
+
+      int columnWidth = Math.max(rendererSize.width, editorSize.width) + getIntercellSpacing().width;
+
+      rowHeight = Math.max(rowHeight, Math.max(rendererSize.height, editorSize.height) + getIntercellSpacing().height);
+      tableWidth += columnWidth;
+
+      getColumnModel().getColumn(column)
+                      .setPreferredWidth(columnWidth);
+    }
+
+    setRowHeight(rowHeight);
+    setPreferredScrollableViewportSize(new Dimension(tableWidth, visibleRows * rowHeight));
+  }
+
+  // ---------- Protected methods --------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Column 0 has dark green background and white foreground, and the remaining cells have light green background and black foreground. Every text
+   * is left-aligned.
+   *
+   * @param cell   Cell renderer component.
+   * @param row    Cell row.
+   * @param column Cell column.
+   */
+  @Override
+  protected void styleCell(DefaultTableCellRenderer cell, int row, int column) {
+    cell.setBackground(column == 0 ? Constants.COLOR_GREEN_DARK : Constants.COLOR_GREEN_LIGHT_WHITE);
+    cell.setForeground(column == 0 ? Color.WHITE : Color.BLACK);
+    cell.setHorizontalAlignment(SwingConstants.LEFT);
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Configures the table editors, renderers and behavior to edit one player per row.
+   *
+   * <p>The edition in progress is applied when the table loses the focus, so it is not lost when a button is clicked right after typing.
+   *
+   * <p>The "java:S1190" and "java:S117" warnings are suppressed since JDK22+ allows the use of unnamed variables.
+   */
+  @SuppressWarnings({"java:S1190", "java:S117"})
+  private void setUpRosterProperties() {
+    DefaultCellEditor textEditor = new DefaultCellEditor(new CustomTextField());
+    JCheckBox editorCheckbox = new CustomCheckBox("");
+    JCheckBox rendererCheckbox = new CustomCheckBox("");
+
+    textEditor.setClickCountToStart(1);
+    editorCheckbox.setHorizontalAlignment(SwingConstants.CENTER);
+    editorCheckbox.setOpaque(false);
+    rendererCheckbox.setHorizontalAlignment(SwingConstants.CENTER);
+    rendererCheckbox.setOpaque(false);
+
+    setDefaultEditor(Object.class, textEditor);
+    setDefaultEditor(Boolean.class, new DefaultCellEditor(editorCheckbox));
+    setDefaultRenderer(Boolean.class, (table, value, _, _, row, column) -> {
+      rendererCheckbox.setSelected(Boolean.TRUE.equals(value));
+      rendererCheckbox.setEnabled(table.getModel()
+                                       .isCellEditable(row, column));
+
+      return rendererCheckbox;
+    });
+    setTableHeader(null);
+    setFillsViewportHeight(true);
+    setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+    putClientProperty("terminateEditOnFocusLost", Boolean.TRUE);
+  }
+}
\ No newline at end of file
@@ -2,14 +2,13 @@ package armameeldoparti.utils.common.custom.graphical;
 
 import armameeldoparti.utils.common.Constants;
 import java.awt.Graphics;
-import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import javax.swing.JButton;
 import javax.swing.JComponent;
 import javax.swing.JScrollPane;
+import javax.swing.JTable;
 import javax.swing.JTextArea;
 import javax.swing.ScrollPaneConstants;
-import javax.swing.border.EmptyBorder;
 import javax.swing.plaf.basic.BasicScrollBarUI;
 
 /**
@@ -23,7 +22,7 @@ import javax.swing.plaf.basic.BasicScrollBarUI;
  */
 public class CustomScrollPane extends JScrollPane {
 
-  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+  // ---------- Constructors -------------------------------------------------------------------------------------------------------------------------
 
   /**
    * Builds a basic scroll pane using the established program aesthetics.
@@ -35,16 +34,29 @@ public class CustomScrollPane extends JScrollPane {
     setUpGraphicalProperties();
   }
 
+  /**
+   * Builds a basic scroll pane using the established program aesthetics.
+   *
+   * @param table Table associated to the scroll pane that will be controlled.
+   */
+  public CustomScrollPane(JTable table) {
+    super(table, ScrollPaneConstants.VERTICAL_SCROLLBAR_AS_NEEDED, ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
+    setUpGraphicalProperties();
+  }
+
   // ---------- Protected methods --------------------------------------------------------------------------------------------------------------------
 
   @Override
   protected void paintBorder(Graphics g) {
-    Graphics2D g2 = (Graphics2D) g.create();
-
-    g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
-    g2.setColor(Constants.COLOR_GREEN_LIGHT_WHITE);
-    g2.fillRoundRect(0, 0, (getWidth() - 1), (getHeight() - 1), Constants.ROUNDED_BORDER_ARC_GENERAL, Constants.ROUNDED_BORDER_ARC_GENERAL);
-    g2.dispose();
+    RoundedRectanglePainter.fill(
+      g,
+      0,
+      0,
+      (getWidth() - 1),
+      (getHeight() - 1),
+      Constants.ROUNDED_BORDER_ARC_GENERAL,
+      Constants.COLOR_GREEN_LIGHT_WHITE
+    );
   }
 
   // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
@@ -54,7 +66,7 @@ public class CustomScrollPane extends JScrollPane {
    */
   private void setUpGraphicalProperties() {
     setOpaque(false);
-    setBorder(new EmptyBorder(Constants.INSETS_GENERAL));
+    setBorder(Constants.BORDER_GENERAL);
     getViewport().setBackground(Constants.COLOR_GREEN_LIGHT_WHITE);
     getVerticalScrollBar().setUI(new BasicScrollBarUI() {
       @Override
@@ -75,36 +87,28 @@ public class CustomScrollPane extends JScrollPane {
 
       @Override
       protected void paintThumb(Graphics g, JComponent c, Rectangle thumbBounds) {
-        Graphics2D g2 = (Graphics2D) g.create();
-
-        g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
-        g2.setColor(Constants.COLOR_GREEN_DARK);
-        g2.fillRoundRect(
+        RoundedRectanglePainter.fill(
+          g,
           thumbBounds.x,
           thumbBounds.y,
           thumbBounds.width,
           thumbBounds.height,
           Constants.ROUNDED_BORDER_ARC_SCROLLBAR,
-          Constants.ROUNDED_BORDER_ARC_SCROLLBAR
+          Constants.COLOR_GREEN_DARK
         );
-        g2.dispose();
       }
 
       @Override
       protected void paintTrack(Graphics g, JComponent c, Rectangle trackBounds) {
-        Graphics2D g2 = (Graphics2D) g.create();
-
-        g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
-        g2.setColor(Constants.COLOR_GREEN_MEDIUM);
-        g2.fillRoundRect(
+        RoundedRectanglePainter.fill(
+          g,
           trackBounds.x,
           trackBounds.y,
           trackBounds.width,
           trackBounds.height,
           Constants.ROUNDED_BORDER_ARC_SCROLLBAR,
-          Constants.ROUNDED_BORDER_ARC_SCROLLBAR
+          Constants.COLOR_GREEN_MEDIUM
         );
-        g2.dispose();
       }
     });
     getVerticalScrollBar().setOpaque(false);
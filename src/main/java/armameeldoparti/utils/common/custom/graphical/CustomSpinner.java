@@ -71,15 +71,17 @@ public class CustomSpinner extends JSpinner {
         public void paintBorder(Component c, Graphics g, int x, int y, int width, int height) {
           Graphics2D g2 = (Graphics2D) g;
 
+          // The hints are left set on purpose, since the spinner editor and buttons are painted afterwards with them
           g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
-          g2.setColor(Constants.COLOR_GREEN_LIGHT_WHITE);
-          g2.fillRoundRect(
+
+          RoundedRectanglePainter.fill(
+            g2,
             x,
             y,
             (width - 1),
             (height - 1),
             Constants.ROUNDED_BORDER_ARC_SPINNER,
-            Constants.ROUNDED_BORDER_ARC_SPINNER
+            Constants.COLOR_GREEN_LIGHT_WHITE
           );
         }
 
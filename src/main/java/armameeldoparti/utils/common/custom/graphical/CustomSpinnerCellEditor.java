@@ -0,0 +1,107 @@
+package armameeldoparti.utils.common.custom.graphical;
+
+import java.awt.Component;
+import javax.swing.AbstractCellEditor;
+import javax.swing.JSpinner;
+import javax.swing.JTable;
+import javax.swing.SpinnerNumberModel;
+import javax.swing.table.TableCellEditor;
+import javax.swing.table.TableCellRenderer;
+
+/**
+ * Table cells renderer and editor that show every number in a custom spinner.
+ *
+ * <p>A single spinner paints every cell, and another single spinner edits the cell being edited, however many rows the table has. Every change made
+ * with the editing spinner is written to the table right away, instead of waiting for the editing to stop, so the table model listeners see the new
+ * value as soon as an arrow is clicked.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public class CustomSpinnerCellEditor extends AbstractCellEditor implements TableCellEditor, TableCellRenderer {
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private int editedColumn;
+  private int editedRow;
+
+  private final JSpinner editorSpinner;
+  private final JSpinner rendererSpinner;
+
+  private JTable editedTable;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the spinner cells renderer and editor.
+   *
+   * <p>The "java:S1190" and "java:S117" warnings are suppressed since JDK22+ allows the use of unnamed variables.
+   *
+   * @param minimum Minimum value.
+   * @param maximum Maximum value.
+   * @param step    Step between values.
+   */
+  @SuppressWarnings({"java:S1190", "java:S117"})
+  public CustomSpinnerCellEditor(int minimum, int maximum, int step) {
+    editorSpinner = new CustomSpinner(new SpinnerNumberModel(minimum, minimum, maximum, step));
+    rendererSpinner = new CustomSpinner(new SpinnerNumberModel(minimum, minimum, maximum, step));
+
+    editorSpinner.addChangeListener(_ -> writeValue());
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  @Override
+  public Component getTableCellEditorComponent(JTable table, Object value, boolean isSelected, int row, int column) {
+    // The edited cell is forgotten while the value is set, so setting it is not written back as a change
+    editedTable = null;
+
+    editorSpinner.setValue(value);
+
+    editedTable = table;
+    editedRow = row;
+    editedColumn = column;
+
+    return editorSpinner;
+  }
+
+  @Override
+  public Component getTableCellRendererComponent(JTable table, Object value, boolean isSelected, boolean hasFocus, int row, int column) {
+    rendererSpinner.setValue(value);
+
+    return rendererSpinner;
+  }
+
+  @Override
+  public Object getCellEditorValue() {
+    return editorSpinner.getValue();
+  }
+
+  @Override
+  public boolean stopCellEditing() {
+    editedTable = null;
+
+    return super.stopCellEditing();
+  }
+
+  @Override
+  public void cancelCellEditing() {
+    editedTable = null;
+
+    super.cancelCellEditing();
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Writes the editing spinner value to the edited cell, if any.
+   */
+  private void writeValue() {
+    if (editedTable != null) {
+      editedTable.setValueAt(editorSpinner.getValue(), editedRow, editedColumn);
+    }
+  }
+}
\ No newline at end of file
@@ -5,11 +5,12 @@ import java.awt.Color;
 import java.awt.Component;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import javax.swing.JComponent;
 import javax.swing.JTable;
 import javax.swing.SwingConstants;
-import javax.swing.border.EmptyBorder;
 import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.TableModel;
 
 /**
  * A custom table that fits the overall program aesthetics.
@@ -22,7 +23,7 @@ import javax.swing.table.DefaultTableCellRenderer;
  */
 public class CustomTable extends JTable {
 
-  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+  // ---------- Constructors -------------------------------------------------------------------------------------------------------------------------
 
   /**
    * Builds a basic table using the established program aesthetics.
@@ -35,6 +36,16 @@ public class CustomTable extends JTable {
     setUpGraphicalProperties();
   }
 
+  /**
+   * Builds a table backed by the given model using the established program aesthetics.
+   *
+   * @param model Model that provides the table cells.
+   */
+  public CustomTable(TableModel model) {
+    super(model);
+    setUpGraphicalProperties();
+  }
+
   // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
 
   /**
@@ -63,6 +74,32 @@ public class CustomTable extends JTable {
     }
   }
 
+  // ---------- Protected methods --------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Sets the background color, foreground color and text alignment of a cell.
+   *
+   * <p>Row 0 and column 0 have dark green background and white foreground, with the row 0 text centered. The remaining cells have light green
+   * background and black foreground, with the text left-aligned.
+   *
+   * @param cell   Cell renderer component.
+   * @param row    Cell row.
+   * @param column Cell column.
+   */
+  protected void styleCell(DefaultTableCellRenderer cell, int row, int column) {
+    if (row == 0 || column == 0) {
+      cell.setBackground(Constants.COLOR_GREEN_DARK);
+      cell.setForeground(Color.WHITE);
+      cell.setHorizontalAlignment(row == 0 ? SwingConstants.CENTER : SwingConstants.LEFT);
+
+      return;
+    }
+
+    cell.setBackground(Constants.COLOR_GREEN_LIGHT_WHITE);
+    cell.setForeground(Color.BLACK);
+    cell.setHorizontalAlignment(SwingConstants.LEFT);
+  }
+
   // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
 
   /**
@@ -80,28 +117,9 @@ public class CustomTable extends JTable {
 
             if (comp instanceof JComponent auxComp) {
               auxComp.setOpaque(false);
-              auxComp.setBorder(new EmptyBorder(Constants.INSETS_GENERAL));
-
-              if (row == 0) {
-                auxComp.setBackground(Constants.COLOR_GREEN_DARK);
-                auxComp.setForeground(Color.WHITE);
-
-                ((DefaultTableCellRenderer) auxComp).setHorizontalAlignment(SwingConstants.CENTER);
+              auxComp.setBorder(Constants.BORDER_GENERAL);
 
-                return auxComp;
-              }
-
-              if (column == 0) {
-                auxComp.setBackground(Constants.COLOR_GREEN_DARK);
-                auxComp.setForeground(Color.WHITE);
-
-                ((DefaultTableCellRenderer) auxComp).setHorizontalAlignment(SwingConstants.LEFT);
-
-                return auxComp;
-              }
-
-              auxComp.setBackground(Constants.COLOR_GREEN_LIGHT_WHITE);
-              auxComp.setForeground(Color.BLACK);
+              styleCell((DefaultTableCellRenderer) auxComp, row, column);
             }
 
             return comp;
@@ -109,22 +127,23 @@ public class CustomTable extends JTable {
 
           @Override
           protected void paintComponent(Graphics g) {
-            Graphics2D g2 = (Graphics2D) g.create();
+            Graphics2D g2 = (Graphics2D) g;
+
+            // The cell graphics context is a copy, so only the hints the text needs are set on it; the background is pre-rendered
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
 
-            g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
-            g2.setColor(getBackground());
-            g2.fillRoundRect(
+            RoundedRectanglePainter.fill(
+              g2,
               0,
               0,
               (getWidth() - 1),
               (getHeight() - 1),
               Constants.ROUNDED_BORDER_ARC_TABLE_CELLS,
-              Constants.ROUNDED_BORDER_ARC_TABLE_CELLS
+              getBackground()
             );
 
             super.paintComponent(g2);
-
-            g2.dispose();
           }
       }
     );
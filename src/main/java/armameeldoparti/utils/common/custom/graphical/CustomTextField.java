@@ -2,7 +2,6 @@ package armameeldoparti.utils.common.custom.graphical;
 
 import armameeldoparti.utils.common.Constants;
 import java.awt.Graphics;
-import java.awt.Graphics2D;
 import java.awt.Insets;
 import javax.swing.JTextField;
 
@@ -37,12 +36,7 @@ public class CustomTextField extends JTextField {
 
   @Override
   protected void paintComponent(Graphics g) {
-    Graphics2D g2 = (Graphics2D) g.create();
-
-    g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
-    g2.setColor(getBackground());
-    g2.fillRoundRect(0, 0, (getWidth() - 1), (getHeight() - 1), Constants.ROUNDED_BORDER_ARC_GENERAL, Constants.ROUNDED_BORDER_ARC_GENERAL);
-    g2.dispose();
+    RoundedRectanglePainter.fill(g, 0, 0, (getWidth() - 1), (getHeight() - 1), Constants.ROUNDED_BORDER_ARC_GENERAL, getBackground());
 
     super.paintComponent(g);
   }
@@ -51,12 +45,7 @@ public class CustomTextField extends JTextField {
   protected void paintBorder(Graphics g) {
     g.setColor(Constants.COLOR_GREEN_LIGHT);
 
-    Graphics2D g2 = (Graphics2D) g.create();
-
-    g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
-    g2.setColor(getBackground());
-    g2.drawRoundRect(0, 0, (getWidth() - 1), (getHeight() - 1), Constants.ROUNDED_BORDER_ARC_GENERAL, Constants.ROUNDED_BORDER_ARC_GENERAL);
-    g2.dispose();
+    RoundedRectanglePainter.draw(g, 0, 0, (getWidth() - 1), (getHeight() - 1), Constants.ROUNDED_BORDER_ARC_GENERAL, getBackground());
   }
 
   // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
@@ -0,0 +1,251 @@
+package armameeldoparti.utils.common.custom.graphical;
+
+import armameeldoparti.utils.common.Constants;
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Rounded rectangles painter, backed by a cache of pre-rendered nine-patch images.
+ *
+ * <p>A rounded rectangle is the same four corners joined by straight edges, whatever its size. So every arc and color is rendered only once, with
+ * anti-aliasing, into a small image holding the four corners around a single pixel wide cross. Any rounded rectangle of that arc and color is then
+ * painted by copying the corners as they are and stretching the cross into the edges and the center, which needs neither a new graphics context
+ * nor the rendering hints on every repaint.
+ *
+ * <p>The images are rendered at the default screen scale, so they stay sharp on high density screens. Rectangles too small to hold the corners
+ * are painted directly.
+ *
+ * <p>Only used on the Event Dispatch Thread.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class RoundedRectanglePainter {
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final int SCALE = GraphicsEnvironment.isHeadless() ? 1
+                                                                   : (int) Math.ceil(GraphicsEnvironment.getLocalGraphicsEnvironment()
+                                                                                                        .getDefaultScreenDevice()
+                                                                                                        .getDefaultConfiguration()
+                                                                                                        .getDefaultTransform()
+                                                                                                        .getScaleX());
+
+  private static final Map<Color, BufferedImage[]> FILLED_PATCHES = new HashMap<>();
+  private static final Map<Color, BufferedImage[]> OUTLINED_PATCHES = new HashMap<>();
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Empty, private, unused constructor.
+   */
+  private RoundedRectanglePainter() {
+    // Body not needed
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Fills a rounded rectangle, just like {@link Graphics#fillRoundRect(int, int, int, int, int, int)} with the program rendering hints.
+   *
+   * @param g      Graphics context to paint on.
+   * @param x      Rectangle x coordinate.
+   * @param y      Rectangle y coordinate.
+   * @param width  Rectangle width.
+   * @param height Rectangle height.
+   * @param arc    Corners arc.
+   * @param color  Fill color.
+   */
+  public static void fill(Graphics g, int x, int y, int width, int height, int arc, Color color) {
+    paint(g, x, y, width, height, arc, color, false);
+  }
+
+  /**
+   * Outlines a rounded rectangle, just like {@link Graphics#drawRoundRect(int, int, int, int, int, int)} with the program rendering hints.
+   *
+   * @param g      Graphics context to paint on.
+   * @param x      Rectangle x coordinate.
+   * @param y      Rectangle y coordinate.
+   * @param width  Rectangle width.
+   * @param height Rectangle height.
+   * @param arc    Corners arc.
+   * @param color  Outline color.
+   */
+  public static void draw(Graphics g, int x, int y, int width, int height, int arc, Color color) {
+    paint(g, x, y, width, height, arc, color, true);
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Paints a rounded rectangle from its cached nine-patch image, rendering it first if needed.
+   *
+   * <p>An outline reaches half a pixel past the rectangle bounds on every side, so it covers one more pixel than a fill of the same size on every
+   * side.
+   *
+   * @param g        Graphics context to paint on.
+   * @param x        Rectangle x coordinate.
+   * @param y        Rectangle y coordinate.
+   * @param width    Rectangle width.
+   * @param height   Rectangle height.
+   * @param arc      Corners arc.
+   * @param color    Fill or outline color.
+   * @param outlined Whether to outline the rectangle instead of filling it.
+   */
+  private static void paint(Graphics g, int x, int y, int width, int height, int arc, Color color, boolean outlined) {
+    int margin = outlined ? 1 : 0;
+    int corner = getCornerSize(arc, outlined);
+    int extentX = width + 2 * margin;
+    int extentY = height + 2 * margin;
+
+    if (extentX < 2 * corner || extentY < 2 * corner) {
+      paintDirectly(g, x, y, width, height, arc, color, outlined);
+
+      return;
+    }
+
+    BufferedImage patch = getPatch(arc, color, outlined);
+
+    int middle = corner * SCALE;
+    int end = (corner + 1) * SCALE;
+    int size = patch.getHeight();
+
+    int left = x - margin;
+    int top = y - margin;
+
+    paintRow(g, patch, left, extentX, corner, top, top + corner, 0, middle);
+    paintRow(g, patch, left, extentX, corner, top + corner, top + extentY - corner, middle, end);
+    paintRow(g, patch, left, extentX, corner, top + extentY - corner, top + extentY, end, size);
+  }
+
+  /**
+   * Paints a row of a nine-patch image: its left corner, its stretched middle and its right corner.
+   *
+   * @param g           Graphics context to paint on.
+   * @param patch       Nine-patch image.
+   * @param x           Painted area x coordinate.
+   * @param extentX     Painted area width.
+   * @param corner      Size of every corner.
+   * @param top         Row top y coordinate.
+   * @param bottom      Row bottom y coordinate.
+   * @param imageTop    Row top y coordinate in the image.
+   * @param imageBottom Row bottom y coordinate in the image.
+   */
+  private static void paintRow(Graphics g, BufferedImage patch, int x, int extentX, int corner, int top, int bottom, int imageTop, int imageBottom) {
+    int middle = corner * SCALE;
+    int end = (corner + 1) * SCALE;
+    int size = patch.getWidth();
+
+    g.drawImage(patch, x, top, x + corner, bottom, 0, imageTop, middle, imageBottom, null);
+    g.drawImage(patch, x + corner, top, x + extentX - corner, bottom, middle, imageTop, end, imageBottom, null);
+    g.drawImage(patch, x + extentX - corner, top, x + extentX, bottom, end, imageTop, size, imageBottom, null);
+  }
+
+  /**
+   * Paints a rounded rectangle without the cache, on a copy of the graphics context with the program rendering hints.
+   *
+   * @param g        Graphics context to paint on.
+   * @param x        Rectangle x coordinate.
+   * @param y        Rectangle y coordinate.
+   * @param width    Rectangle width.
+   * @param height   Rectangle height.
+   * @param arc      Corners arc.
+   * @param color    Fill or outline color.
+   * @param outlined Whether to outline the rectangle instead of filling it.
+   */
+  private static void paintDirectly(Graphics g, int x, int y, int width, int height, int arc, Color color, boolean outlined) {
+    Graphics2D g2 = (Graphics2D) g.create();
+
+    g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
+    g2.setColor(color);
+
+    if (outlined) {
+      g2.drawRoundRect(x, y, width, height, arc, arc);
+    } else {
+      g2.fillRoundRect(x, y, width, height, arc, arc);
+    }
+
+    g2.dispose();
+  }
+
+  /**
+   * @param arc      Corners arc.
+   * @param color    Fill or outline color.
+   * @param outlined Whether the rectangle is outlined instead of filled.
+   *
+   * @return The cached nine-patch image for the given arc and color, rendered the first time it is requested.
+   */
+  private static BufferedImage getPatch(int arc, Color color, boolean outlined) {
+    Map<Color, BufferedImage[]> patches = outlined ? OUTLINED_PATCHES : FILLED_PATCHES;
+
+    BufferedImage[] arcPatches = patches.get(color);
+
+    if (arcPatches == null || arcPatches.length <= arc) {
+      arcPatches = arcPatches == null ? new BufferedImage[arc + 1] : Arrays.copyOf(arcPatches, arc + 1);
+
+      patches.put(color, arcPatches);
+    }
+
+    if (arcPatches[arc] == null) {
+      arcPatches[arc] = renderPatch(arc, color, outlined);
+    }
+
+    return arcPatches[arc];
+  }
+
+  /**
+   * Renders the four corners of a rounded rectangle around a single pixel wide cross.
+   *
+   * @param arc      Corners arc.
+   * @param color    Fill or outline color.
+   * @param outlined Whether to outline the rectangle instead of filling it.
+   *
+   * @return The rendered nine-patch image.
+   */
+  private static BufferedImage renderPatch(int arc, Color color, boolean outlined) {
+    int extent = 2 * getCornerSize(arc, outlined) + 1;
+
+    BufferedImage patch = GraphicsEnvironment.isHeadless()
+                          ? new BufferedImage(extent * SCALE, extent * SCALE, BufferedImage.TYPE_INT_ARGB)
+                          : GraphicsEnvironment.getLocalGraphicsEnvironment()
+                                               .getDefaultScreenDevice()
+                                               .getDefaultConfiguration()
+                                               .createCompatibleImage(extent * SCALE, extent * SCALE, Transparency.TRANSLUCENT);
+
+    Graphics2D g2 = patch.createGraphics();
+
+    g2.scale(SCALE, SCALE);
+    g2.setRenderingHints(Constants.MAP_RENDERING_HINTS);
+    g2.setColor(color);
+
+    if (outlined) {
+      g2.drawRoundRect(1, 1, extent - 2, extent - 2, arc, arc);
+    } else {
+      g2.fillRoundRect(0, 0, extent, extent, arc, arc);
+    }
+
+    g2.dispose();
+
+    return patch;
+  }
+
+  /**
+   * @param arc      Corners arc.
+   * @param outlined Whether the rectangle is outlined instead of filled.
+   *
+   * @return The size of the image area taken by every corner, including its anti-aliased pixels and the outline outer half.
+   */
+  private static int getCornerSize(int arc, boolean outlined) {
+    return arc / 2 + (outlined ? 2 : 1);
+  }
+}
\ No newline at end of file
@@ -1,6 +1,8 @@
 package armameeldoparti.utils.common.custom.graphical.ui;
 
+import armameeldoparti.models.enums.ProgramIcon;
 import armameeldoparti.utils.common.Constants;
+import armameeldoparti.utils.common.IconRegistry;
 import armameeldoparti.utils.common.custom.graphical.CustomButton;
 import java.awt.Container;
 import java.awt.Dimension;
@@ -56,8 +58,8 @@ public class CustomOptionPaneUI extends BasicOptionPaneUI {
       SwingUtilities.invokeLater(
         () -> {
           if (SwingUtilities.getWindowAncestor(optionPane) instanceof JDialog parentDialog) {
-            parentDialog.setIconImage(Constants.ICON_MAIN
-                                               .getImage());
+            parentDialog.setIconImage(IconRegistry.getIcon(ProgramIcon.MAIN)
+                                                  .getImage());
           }
         }
       );
@@ -0,0 +1,503 @@
+package armameeldoparti.utils.mixers;
+
+import armameeldoparti.models.Formation;
+import armameeldoparti.models.Player;
+import armameeldoparti.models.RosterSnapshot;
+import armameeldoparti.models.Team;
+import armameeldoparti.models.enums.MixerQuality;
+import armameeldoparti.models.enums.Position;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Anytime by-skill-points distribution class, based on simulated annealing.
+ *
+ * <p>Unlike the exact searches, whose running time depends on the roster, this distributor takes a time budget and returns the most balanced
+ * distribution found when it runs out. It starts from a random distribution and repeatedly tries a random move: swapping two non-anchored players of
+ * the same position between two teams or, when there are anchorages, sending a whole anchorage to another team in exchange for non-anchored players
+ * of the same positions. Moves are scored in constant time by the change in the sum of the squared team skill points, and a move that makes the
+ * distribution worse is accepted with a probability that drops as the temperature cools down towards the deadline.
+ *
+ * <p>Since anchorages can only be exchanged for non-anchored players, some anchorages layouts cannot be reached from others. When a search stops
+ * improving, it is restarted from a new random distribution, and the best distribution among all the searches is kept.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public class AnnealingMixer implements PlayersMixer {
+
+  // ---------- Public constants ---------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Time budget of each distribution when none is given.
+   */
+  public static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(200);
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final double ANCHORAGE_MOVE_RATE = 0.1;
+
+  private static final int CLOCK_CHECK_INTERVAL = 256;
+
+  private static final long STAGNATION_ITERATIONS = 1L << 12;
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private Duration timeBudget;
+
+  private Random randomGenerator;
+
+  private RandomMixer randomMixer;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the anytime by-skill-points distributor with the default time budget.
+   */
+  public AnnealingMixer() {
+    this(DEFAULT_TIME_BUDGET);
+  }
+
+  /**
+   * Builds the anytime by-skill-points distributor.
+   *
+   * @param timeBudget Wall-clock time each distribution may take.
+   */
+  public AnnealingMixer(Duration timeBudget) {
+    this.timeBudget = timeBudget;
+
+    randomGenerator = new Random();
+    randomMixer = new RandomMixer();
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Distributes the players by their skill points without considering anchorages, within the time budget.
+   *
+   * @param teams    Teams where to distribute the players, built by the snapshot.
+   * @param snapshot Snapshot of the roster to distribute.
+   *
+   * @return The updated teams with the most balanced distribution found, without considering anchorages.
+   */
+  @Override
+  public List<Team> withoutAnchorages(List<Team> teams, RosterSnapshot snapshot) {
+    long deadline = System.nanoTime() + timeBudget.toNanos();
+
+    anneal(randomMixer.withoutAnchorages(teams, snapshot), snapshot, false, deadline);
+
+    return teams;
+  }
+
+  /**
+   * Distributes the players by their skill points considering anchorages, within the time budget.
+   *
+   * @param teams    Teams where to distribute the players, built by the snapshot.
+   * @param snapshot Snapshot of the roster to distribute.
+   *
+   * @return The updated teams with the most balanced distribution found, keeping every anchorage together.
+   */
+  @Override
+  public List<Team> withAnchorages(List<Team> teams, RosterSnapshot snapshot) {
+    long deadline = System.nanoTime() + timeBudget.toNanos();
+
+    anneal(randomMixer.withAnchorages(teams, snapshot), snapshot, true, deadline);
+
+    return teams;
+  }
+
+  @Override
+  public MixerQuality getQuality(Formation formation) {
+    return MixerQuality.HEURISTIC;
+  }
+
+  @Override
+  public boolean supportsAnchorages() {
+    return true;
+  }
+
+  @Override
+  public int getMaxPlayersPerTeam() {
+    return Integer.MAX_VALUE;
+  }
+
+  /**
+   * Estimates how long a distribution takes, which is the whole time budget unless a perfectly balanced distribution is found earlier.
+   *
+   * @param formation  Formation of the teams.
+   * @param teamsCount Number of teams.
+   *
+   * @return The estimated wall-clock time of a distribution, in nanoseconds.
+   */
+  @Override
+  public double estimateCost(Formation formation, int teamsCount) {
+    return timeBudget.toNanos();
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Searches from the given distribution and from new random ones until the deadline, or until the teams skill points are as close as they can be,
+   * and leaves the teams with the best distribution found.
+   *
+   * @param teams          Teams with a valid distribution.
+   * @param snapshot       Snapshot of the roster to distribute.
+   * @param withAnchorages Whether the anchorages must be kept together.
+   * @param deadline       {@link System#nanoTime()} value when the search must stop.
+   */
+  private void anneal(List<Team> teams, RosterSnapshot snapshot, boolean withAnchorages, long deadline) {
+    long totalSkill = teams.stream()
+                           .mapToLong(Team::getTeamSkill)
+                           .sum();
+
+    long teamsCount = teams.size();
+    long lowestCost = (teamsCount - totalSkill % teamsCount) * (totalSkill / teamsCount) * (totalSkill / teamsCount)
+                      + (totalSkill % teamsCount) * (totalSkill / teamsCount + 1) * (totalSkill / teamsCount + 1);
+
+    long bestCost = searchRun(teams, withAnchorages, lowestCost, deadline);
+
+    List<List<Player>> bestDistribution = teamsPlayers(teams);
+
+    while (bestCost > lowestCost && System.nanoTime() < deadline) {
+      teams.forEach(Team::clear);
+
+      long cost = searchRun(withAnchorages ? randomMixer.withAnchorages(teams, snapshot) : randomMixer.withoutAnchorages(teams, snapshot),
+                            withAnchorages, lowestCost, deadline);
+
+      if (cost < bestCost) {
+        bestCost = cost;
+        bestDistribution = teamsPlayers(teams);
+      }
+    }
+
+    teams.forEach(Team::clear);
+
+    for (int teamIndex = 0; teamIndex < teams.size(); teamIndex++) {
+      Team team = teams.get(teamIndex);
+
+      for (Player player : bestDistribution.get(teamIndex)) {
+        player.setTeamNumber(team.getTeamNumber());
+
+        team.getTeamPlayers()
+            .get(player.getPosition())
+            .add(player);
+      }
+    }
+  }
+
+  /**
+   * @param teams Teams whose players are needed.
+   *
+   * @return The players of every team, in the teams order.
+   */
+  private List<List<Player>> teamsPlayers(List<Team> teams) {
+    return teams.stream()
+                .map(team -> team.getTeamPlayers()
+                                 .values()
+                                 .stream()
+                                 .flatMap(List::stream)
+                                 .toList())
+                .toList();
+  }
+
+  /**
+   * Improves the given distribution until the deadline, until the teams skill points are as close as they can be, or until it stops improving.
+   *
+   * <p>The players are indexed once, and every team is kept as one array of player indexes per position, so moves only update primitive arrays. The
+   * teams are rebuilt from the best distribution found at the end.
+   *
+   * @param teams          Teams with a valid distribution.
+   * @param withAnchorages Whether the anchorages must be kept together.
+   * @param lowestCost     Lowest possible sum of the squared team skill points.
+   * @param deadline       {@link System#nanoTime()} value when the search must stop.
+   *
+   * @return The sum of the squared team skill points of the best distribution found.
+   */
+  private long searchRun(List<Team> teams, boolean withAnchorages, long lowestCost, long deadline) {
+    int teamsCount = teams.size();
+    int positionsCount = Position.values().length;
+
+    List<Player> indexedPlayers = new ArrayList<>();
+    Map<Integer, List<Integer>> anchoredIndexes = new LinkedHashMap<>();
+
+    int[][][] slots = new int[teamsCount][positionsCount][];
+
+    for (int teamIndex = 0; teamIndex < teamsCount; teamIndex++) {
+      for (Position position : Position.values()) {
+        List<Player> positionPlayers = teams.get(teamIndex)
+                                            .getTeamPlayers()
+                                            .get(position);
+
+        slots[teamIndex][position.ordinal()] = new int[positionPlayers.size()];
+
+        for (int slot = 0; slot < positionPlayers.size(); slot++) {
+          Player player = positionPlayers.get(slot);
+
+          if (withAnchorages && player.isAnchored()) {
+            anchoredIndexes.computeIfAbsent(player.getAnchorageNumber(), _ -> new ArrayList<>())
+                           .add(indexedPlayers.size());
+          }
+
+          slots[teamIndex][position.ordinal()][slot] = indexedPlayers.size();
+
+          indexedPlayers.add(player);
+        }
+      }
+    }
+
+    int playersCount = indexedPlayers.size();
+    int[] skills = new int[playersCount];
+    int[] positions = new int[playersCount];
+    int[] teamOf = new int[playersCount];
+    int[] slotOf = new int[playersCount];
+    boolean[] anchored = new boolean[playersCount];
+    long[] teamSkills = new long[teamsCount];
+
+    int maxSkill = 1;
+
+    for (int teamIndex = 0; teamIndex < teamsCount; teamIndex++) {
+      for (int position = 0; position < positionsCount; position++) {
+        for (int slot = 0; slot < slots[teamIndex][position].length; slot++) {
+          int index = slots[teamIndex][position][slot];
+          Player player = indexedPlayers.get(index);
+
+          skills[index] = player.getSkillPoints();
+          positions[index] = position;
+          teamOf[index] = teamIndex;
+          slotOf[index] = slot;
+          anchored[index] = withAnchorages && player.isAnchored();
+          teamSkills[teamIndex] += skills[index];
+          maxSkill = Math.max(maxSkill, skills[index]);
+        }
+      }
+    }
+
+    int[][] anchorages = anchoredIndexes.values()
+                                        .stream()
+                                        .map(indexes -> indexes.stream()
+                                                               .mapToInt(Integer::intValue)
+                                                               .toArray())
+                                        .toArray(int[][]::new);
+
+    int[] movablePositions = Arrays.stream(Position.values())
+                                   .mapToInt(Position::ordinal)
+                                   .filter(position -> teams.get(0)
+                                                            .getFormation()
+                                                            .getPositionLimits()[position] > 0)
+                                   .toArray();
+
+    long cost = 0;
+
+    for (long teamSkill : teamSkills) {
+      cost += teamSkill * teamSkill;
+    }
+
+    long bestCost = cost;
+    long lastImprovement = 0;
+    int[] bestTeamOf = teamOf.clone();
+
+    long start = System.nanoTime();
+    double initialTemperature = 2.0 * maxSkill * maxSkill;
+    double temperature = initialTemperature;
+
+    int[] partners = new int[maxAnchorageSize(anchorages)];
+
+    for (long iteration = 0; bestCost > lowestCost && teamsCount > 1 && movablePositions.length > 0; iteration++) {
+      if (iteration % CLOCK_CHECK_INTERVAL == 0) {
+        long now = System.nanoTime();
+
+        if (now >= deadline || iteration - lastImprovement > STAGNATION_ITERATIONS) {
+          break;
+        }
+
+        temperature = initialTemperature * (deadline - now) / Math.max(1, deadline - start);
+      }
+
+      int fromTeam = randomGenerator.nextInt(teamsCount);
+      int toTeam = (fromTeam + 1 + randomGenerator.nextInt(teamsCount - 1)) % teamsCount;
+
+      // Skill points the first team gains with the move
+      long delta;
+      int movedCount;
+
+      if (anchorages.length > 0 && randomGenerator.nextDouble() < ANCHORAGE_MOVE_RATE) {
+        int[] anchorage = anchorages[randomGenerator.nextInt(anchorages.length)];
+
+        fromTeam = teamOf[anchorage[0]];
+        toTeam = (fromTeam + 1 + randomGenerator.nextInt(teamsCount - 1)) % teamsCount;
+        movedCount = choosePartners(anchorage, slots[toTeam], positions, anchored, partners);
+
+        if (movedCount == -1) {
+          continue;
+        }
+
+        delta = 0;
+
+        for (int member = 0; member < movedCount; member++) {
+          delta += skills[partners[member]] - skills[anchorage[member]];
+        }
+
+        if (!accept(delta, teamSkills[fromTeam], teamSkills[toTeam], temperature)) {
+          continue;
+        }
+
+        for (int member = 0; member < movedCount; member++) {
+          swap(anchorage[member], partners[member], slots, positions, teamOf, slotOf);
+        }
+      } else {
+        int position = movablePositions[randomGenerator.nextInt(movablePositions.length)];
+        int player = slots[fromTeam][position][randomGenerator.nextInt(slots[fromTeam][position].length)];
+        int partner = slots[toTeam][position][randomGenerator.nextInt(slots[toTeam][position].length)];
+
+        if (anchored[player] || anchored[partner]) {
+          continue;
+        }
+
+        delta = skills[partner] - skills[player];
+
+        if (!accept(delta, teamSkills[fromTeam], teamSkills[toTeam], temperature)) {
+          continue;
+        }
+
+        swap(player, partner, slots, positions, teamOf, slotOf);
+      }
+
+      cost += 2 * delta * (teamSkills[fromTeam] - teamSkills[toTeam]) + 2 * delta * delta;
+      teamSkills[fromTeam] += delta;
+      teamSkills[toTeam] -= delta;
+
+      if (cost < bestCost) {
+        bestCost = cost;
+        lastImprovement = iteration;
+
+        System.arraycopy(teamOf, 0, bestTeamOf, 0, playersCount);
+      }
+    }
+
+    teams.forEach(Team::clear);
+
+    for (int index = 0; index < playersCount; index++) {
+      Player player = indexedPlayers.get(index);
+      Team team = teams.get(bestTeamOf[index]);
+
+      player.setTeamNumber(team.getTeamNumber());
+
+      team.getTeamPlayers()
+          .get(player.getPosition())
+          .add(player);
+    }
+
+    return bestCost;
+  }
+
+  /**
+   * Decides whether a move is accepted: always if it does not increase the sum of the squared team skill points, and with a probability that
+   * decreases with the increase and with the cooling down otherwise.
+   *
+   * @param delta       Skill points the first team gains with the move.
+   * @param fromSkill   First team skill points before the move.
+   * @param toSkill     Second team skill points before the move.
+   * @param temperature Current temperature.
+   *
+   * @return Whether the move is accepted.
+   */
+  private boolean accept(long delta, long fromSkill, long toSkill, double temperature) {
+    long costChange = 2 * delta * (fromSkill - toSkill) + 2 * delta * delta;
+
+    return costChange <= 0 || randomGenerator.nextDouble() < Math.exp(-costChange / temperature);
+  }
+
+  /**
+   * Picks, for every anchorage member, a different non-anchored player of the same position in the destination team.
+   *
+   * @param anchorage Anchorage members.
+   * @param toSlots   Destination team player indexes, per position.
+   * @param positions Position ordinal of every player.
+   * @param anchored  Whether every player is anchored.
+   * @param partners  Where to store the chosen players, in the anchorage members order.
+   *
+   * @return The number of chosen players, or -1 if the destination team has not enough non-anchored players.
+   */
+  private int choosePartners(int[] anchorage, int[][] toSlots, int[] positions, boolean[] anchored, int[] partners) {
+    for (int member = 0; member < anchorage.length; member++) {
+      int[] positionSlots = toSlots[positions[anchorage[member]]];
+      int offset = randomGenerator.nextInt(positionSlots.length);
+
+      partners[member] = -1;
+
+      for (int step = 0; step < positionSlots.length && partners[member] == -1; step++) {
+        int candidate = positionSlots[(offset + step) % positionSlots.length];
+
+        if (!anchored[candidate] && !isChosen(candidate, partners, member)) {
+          partners[member] = candidate;
+        }
+      }
+
+      if (partners[member] == -1) {
+        return -1;
+      }
+    }
+
+    return anchorage.length;
+  }
+
+  /**
+   * @param candidate   Player index to check.
+   * @param partners    Players chosen so far.
+   * @param chosenCount Number of players chosen so far.
+   *
+   * @return Whether the player was already chosen.
+   */
+  private boolean isChosen(int candidate, int[] partners, int chosenCount) {
+    for (int index = 0; index < chosenCount; index++) {
+      if (partners[index] == candidate) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Swaps two same-position players of different teams.
+   *
+   * @param player    Index of the first player.
+   * @param partner   Index of the second player.
+   * @param slots     Player indexes of every team, per position.
+   * @param positions Position ordinal of every player.
+   * @param teamOf    Team index of every player.
+   * @param slotOf    Slot of every player in its team position array.
+   */
+  private void swap(int player, int partner, int[][][] slots, int[] positions, int[] teamOf, int[] slotOf) {
+    int playerTeam = teamOf[player];
+    int playerSlot = slotOf[player];
+
+    slots[playerTeam][positions[player]][playerSlot] = partner;
+    slots[teamOf[partner]][positions[partner]][slotOf[partner]] = player;
+
+    teamOf[player] = teamOf[partner];
+    slotOf[player] = slotOf[partner];
+    teamOf[partner] = playerTeam;
+    slotOf[partner] = playerSlot;
+  }
+
+  /**
+   * @param anchorages Anchorages members.
+   *
+   * @return The number of members of the largest anchorage.
+   */
+  private int maxAnchorageSize(int[][] anchorages) {
+    return Arrays.stream(anchorages)
+                 .mapToInt(anchorage -> anchorage.length)
+                 .max()
+                 .orElse(0);
+  }
+}
\ No newline at end of file
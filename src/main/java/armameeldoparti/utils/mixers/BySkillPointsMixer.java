@@ -2,14 +2,32 @@ package armameeldoparti.utils.mixers;
 
 import static java.util.Comparator.comparingInt;
 
+import armameeldoparti.models.Formation;
 import armameeldoparti.models.Player;
+import armameeldoparti.models.RosterSnapshot;
 import armameeldoparti.models.Team;
+import armameeldoparti.models.enums.Error;
+import armameeldoparti.models.enums.MixerQuality;
 import armameeldoparti.models.enums.Position;
-import armameeldoparti.utils.common.CommonFields;
 import armameeldoparti.utils.common.CommonFunctions;
-import armameeldoparti.utils.common.Constants;
+import armameeldoparti.utils.mixers.scorers.AttributeScorer;
+import armameeldoparti.utils.mixers.scorers.CompiledSplitScore;
+import armameeldoparti.utils.mixers.scorers.SplitScorer;
+import armameeldoparti.utils.mixers.scorers.SumDifferenceScorer;
+import armameeldoparti.utils.mixers.solvers.BranchAndBoundSolver;
+import armameeldoparti.utils.mixers.solvers.EquivalenceClassSolver;
+import armameeldoparti.utils.mixers.solvers.GraySplitEnumerator;
+import armameeldoparti.utils.mixers.solvers.MinCostAssignment;
+import armameeldoparti.utils.mixers.solvers.ParallelSplitSearch;
+import armameeldoparti.utils.mixers.solvers.RankedSplitSearch;
+import armameeldoparti.utils.mixers.solvers.ScoredSplitSearch;
+import armameeldoparti.utils.mixers.solvers.SkillGapKernel;
+import armameeldoparti.utils.mixers.solvers.SkillSumDpSolver;
+import armameeldoparti.utils.mixers.solvers.SplitIndex;
+import armameeldoparti.utils.mixers.solvers.SplitRoster;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -18,6 +36,17 @@ import java.util.stream.IntStream;
 /**
  * By-skill-points distribution class.
  *
+ * <p>When some players can play more than one position, the positions are assigned before the distribution so the players skill points on the field
+ * add up to the most, and both the teams and the positions of the players of each pair of teams are reassigned while rebalancing them.
+ *
+ * <p>The balance criterion is given by a list of split scorers, which by default balance the skill points sums and, when the players are rated on
+ * their attributes, every attribute sum. While the criterion is the skill points sum alone, the splits are searched by the solvers specialized for
+ * it. Otherwise, the scorers are compiled for every pair of teams and the split is searched as explained in {@link ScoredSplitSearch}. Pairs of
+ * teams too large for a split mask are balanced on the skill points only.
+ *
+ * <p>The distributions are exact as long as the split searches are exhaustive, which depends on the formation as explained in
+ * {@link #getQuality(Formation)}. Teams too large for a split mask are left to {@link DifferencingMixer}.
+ *
  * @author Bonino, Francisco Ignacio.
  *
  * @version 0.0.1
@@ -26,13 +55,32 @@ import java.util.stream.IntStream;
  */
 public class BySkillPointsMixer implements PlayersMixer {
 
+  // ---------- Protected constants ------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Estimated work, in bitset words, above which the skill points sums dynamic program is considered too expensive.
+   */
+  protected static final double SKILL_SUMS_WORK_LIMIT = 1L << 27;
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final long PARALLEL_SEARCH_THRESHOLD = 1L << 16;
+
+  private static final double SPLIT_COST = 4;
+
+  private static final int POSITION_WEIGHT_STEPS = 8;
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private List<SplitScorer> scorers;
+
   // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
 
   /**
-   * Builds the by-skill-points players distributor.
+   * Builds the by-skill-points players distributor, weighting the skill points and every attribute the same.
    */
   public BySkillPointsMixer() {
-    // Body not needed
+    scorers = List.of(new SumDifferenceScorer(1), new AttributeScorer(1));
   }
 
   // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
@@ -43,20 +91,30 @@ public class BySkillPointsMixer implements PlayersMixer {
    * <p>The players of each position are ordered based on their score, from highest to lowest. The teams are then ordered based on the sum of their
    * players scores so far, from lowest to highest.
    *
-   * <p>If the number of players to distribute is 2, the team with less skill points is assigned the player with the highest skill points, and the
-   * team with more skill points is assigned the player with the lowest skill points.
+   * <p>If each team gets a single player of the position, the team with less skill points is assigned the player with the highest skill points, the
+   * next team the next player, and so on.
+   *
+   * <p>If each team gets two players of the position, subgroups of two are made with the players at the list ends, from the outside to the inside.
+   * These subsets are then ordered based on their skill points. The team with less skill points is assigned the set of players with more skill
+   * points, and the team with more skill points is assigned the set of players with the lowest skill points.
+   *
+   * <p>Any other number of players, depending on the formation, is distributed one player at a time as explained in
+   * {@link #distributeGreedily(List, List)}.
    *
-   * <p>If the number of players to distribute is 4, two subgroups are made with the players at the list ends, from the outside to the inside. These
-   * subsets are then ordered based on their skill points, from highest to lowest. The team with less skill points is assigned the set of players with
-   * more skill points. The team with more skill points is assigned the set of players with the lowest skill points.
+   * <p>If the resulting teams are not balanced, they are rebalanced as explained in {@link #balanceTeams(List, boolean)}.
    *
-   * @param teams Teams where to distribute the players.
+   * <p>The players are grouped by the positions assigned as explained in {@link #assignPositions(RosterSnapshot, boolean)}.
+   *
+   * @param teams    Teams where to distribute the players, built by the snapshot.
+   * @param snapshot Snapshot of the roster to distribute.
    *
    * @return The updated teams with the players distributed by their skill points, without considering anchorages.
    */
   @Override
-  public List<Team> withoutAnchorages(List<Team> teams) {
-    Map<Position, List<Player>> playersMap = CommonFields.getPlayersSets();
+  public List<Team> withoutAnchorages(List<Team> teams, RosterSnapshot snapshot) {
+    assignPositions(snapshot, false);
+
+    Map<Position, List<Player>> playersMap = playersByPosition(snapshot);
 
     for (Position position : Position.values()) {
       List<Player> playersSet = new ArrayList<>(playersMap.get(position));
@@ -65,21 +123,21 @@ public class BySkillPointsMixer implements PlayersMixer {
 
       teams.sort(comparingInt(Team::getTeamSkill)); // Teams sorted lowest to highest
 
-      if (playersSet.size() == 2) {
+      int playersLimit = snapshot.getFormation()
+                                 .getPlayersLimit(position);
+
+      if (playersLimit == 1) {
         for (int teamIndex = 0; teamIndex < teams.size(); teamIndex++) {
-          teams.get(teamIndex)
-               .getTeamPlayers()
-               .get(position)
-               .add(playersSet.get(teamIndex));
+          addPlayer(teams.get(teamIndex), playersSet.get(teamIndex));
         }
-      } else {
+      } else if (playersLimit == 2) {
         distributeSubsets(teams, playersSet, position);
+      } else {
+        distributeGreedily(teams, playersSet);
       }
     }
 
-    if (!teamsSkillPointsAreEqual(teams)) {
-      checkPlayerSwaps(teams);
-    }
+    balanceTeams(teams, false);
 
     return teams;
   }
@@ -93,77 +151,256 @@ public class BySkillPointsMixer implements PlayersMixer {
    * <p>Then, the players that are not anchored are distributed between the teams as fair as possible based on their skill points. They will be added
    * to a team only if the players per position or the players per team limits are not exceeded.
    *
-   * @param teams Teams where to distribute the players.
+   * <p>If the resulting teams are not balanced, they are rebalanced keeping the anchorages together as explained in
+   * {@link #balanceTeams(List, boolean)}.
    *
-   * @return The updated teams with the players distributed by their skill points, without considering anchorages.
+   * @param teams    Teams where to distribute the players, built by the snapshot.
+   * @param snapshot Snapshot of the roster to distribute.
+   *
+   * @return The updated teams with the players distributed by their skill points, considering anchorages.
    */
   @Override
-  public List<Team> withAnchorages(List<Team> teams) {
-    for (List<Player> anchorage : CommonFunctions.getAnchorages()) {
-      teams.sort(comparingInt(Team::getTeamSkill));
+  public List<Team> withAnchorages(List<Team> teams, RosterSnapshot snapshot) {
+    assignPositions(snapshot, true);
 
-      for (Player player : anchorage) {
-        player.setTeamNumber(teams.get(0)
-                                  .getTeamNumber());
+    List<List<Player>> anchorages = snapshot.getAnchorages();
 
-        teams.get(0)
-             .getTeamPlayers()
-             .get(player.getPosition())
-             .add(player);
-      }
+    anchorages.sort(comparingInt((List<Player> anchorage) -> anchorage.size())
+                      .thenComparingInt(anchorage -> anchorage.stream()
+                                                              .mapToInt(Player::getSkillPoints)
+                                                              .sum())
+                      .reversed());
+
+    // At this point, the anchorages are guaranteed to be possible to distribute by the anchorages controller
+    if (!distributeAnchorages(teams, anchorages, 0)) {
+      CommonFunctions.exitProgram(Error.ERROR_INTERNAL);
     }
 
-    List<List<Player>> remainingPlayers = new ArrayList<>(CommonFields.getPlayersSets()
-                                                                      .values()
-                                                                      .stream()
-                                                                      .flatMap(List::stream)
-                                                                      .filter(player -> player.getTeamNumber() == 0)
-                                                                      .collect(Collectors.groupingBy(Player::getPosition))
-                                                                      .values());
+    List<List<Player>> remainingPlayers = new ArrayList<>(snapshot.getPlayers()
+                                                                  .stream()
+                                                                  .filter(player -> player.getTeamNumber() == 0)
+                                                                  .collect(Collectors.groupingBy(Player::getPosition))
+                                                                  .values());
 
     remainingPlayers.sort(comparingInt(List::size));
 
     for (List<Player> players : remainingPlayers) {
+      Position position = players.get(0)
+                                 .getPosition();
+
       players.sort(comparingInt(Player::getSkillPoints).reversed());
 
-      if (players.size() == 4) {
+      if (snapshot.getFormation()
+                  .getPlayersLimit(position) == 2
+          && teams.stream()
+                  .allMatch(team -> team.getTeamPlayers()
+                                        .get(position)
+                                        .isEmpty())) {
         teams.sort(comparingInt(Team::getTeamSkill));
 
-        distributeSubsets(teams, players, players.get(0)
-                                                 .getPosition());
+        distributeSubsets(teams, players, position);
       } else {
-        for (Player player : players) {
-          teams.sort(comparingInt(Team::getTeamSkill));
+        distributeGreedily(teams, players);
+      }
+    }
 
-          int teamNumber = 0;
+    balanceTeams(teams, true);
 
-          if (teams.get(teamNumber)
-                   .isPositionFull(player.getPosition())
-              || teams.get(teamNumber)
-                      .getPlayersCount() + 1 > Constants.PLAYERS_PER_TEAM) {
-            teamNumber = 1;
-          }
+    return teams;
+  }
 
-          player.setTeamNumber(teamNumber + 1);
+  /**
+   * The splits of a pair of teams that fits in a split mask are searched exhaustively, except by the compiled score search, which only walks every
+   * split when there are not too many of them. Whether that search is used depends on the players attributes, so the distributions are only exact
+   * for formations with few enough splits. With more than two teams, the pairs rebalancing ends when no pair of teams can be better balanced
+   * between themselves, as promised by {@link MixerQuality#EXACT}.
+   *
+   * @param formation Formation of the teams.
+   *
+   * @return The quality of the distributions built by this mixer for teams of the given formation.
+   */
+  @Override
+  public MixerQuality getQuality(Formation formation) {
+    return formation.getSplitsCount() > 0 && formation.getSplitsCount() <= ScoredSplitSearch.EXHAUSTIVE_SPLITS_LIMIT ? MixerQuality.EXACT
+                                                                                                                      : MixerQuality.HEURISTIC;
+  }
 
-          teams.get(teamNumber)
-               .getTeamPlayers()
-               .get(player.getPosition())
-               .add(player);
-        }
-      }
+  @Override
+  public boolean supportsAnchorages() {
+    return true;
+  }
+
+  /**
+   * Pairs of larger teams are solved by the skill points sums dynamic program, whose time and memory are not bounded, so larger teams are left to
+   * {@link DifferencingMixer}.
+   *
+   * @return The maximum number of players per team this mixer is meant for.
+   */
+  @Override
+  public int getMaxPlayersPerTeam() {
+    return SplitRoster.MAX_PLAYERS / 2;
+  }
+
+  /**
+   * Estimates how long a distribution takes, as the cost of searching the split of every pair of teams once.
+   *
+   * @param formation  Formation of the teams.
+   * @param teamsCount Number of teams.
+   *
+   * @return The estimated wall-clock time of a distribution, in nanoseconds.
+   */
+  @Override
+  public double estimateCost(Formation formation, int teamsCount) {
+    return pairsCount(teamsCount) * estimateSplitCost(formation);
+  }
+
+  // ---------- Protected methods --------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Estimates how long the split search of a pair of teams takes: a few nanoseconds per valid split when the pair fits in a split mask, or the
+   * dynamic program work limit otherwise, at about a nanosecond per unit of work.
+   *
+   * @param formation Formation of the teams.
+   *
+   * @return The estimated wall-clock time of a pair split search, in nanoseconds.
+   */
+  protected double estimateSplitCost(Formation formation) {
+    return formation.getSplitsCount() > 0 ? SPLIT_COST * formation.getSplitsCount() : SKILL_SUMS_WORK_LIMIT;
+  }
+
+  /**
+   * @param players Players to score, in the order their indexes refer to.
+   *
+   * @return The balance criterion compiled for the given players.
+   */
+  protected CompiledSplitScore compileScore(Player[] players) {
+    return new CompiledSplitScore(players, scorers);
+  }
+
+  /**
+   * @param teamsCount Number of teams.
+   *
+   * @return The number of different pairs of teams.
+   */
+  protected static int pairsCount(int teamsCount) {
+    return teamsCount * (teamsCount - 1) / 2;
+  }
+
+  /**
+   * Searches the most balanced split of a roster of two teams, starting from their current split.
+   *
+   * <p>When the balance criterion is not the skill points sum alone, the split with the lowest compiled score is searched.
+   *
+   * <p>Otherwise, when many players are interchangeable (same position and skill points), the search is done over equivalence classes of players,
+   * which has a much smaller search space than the splits themselves. Otherwise, if there are anchorages, most splits would break them, so the
+   * players and anchorages are assigned by branch and bound instead, starting from the current split. Otherwise, every valid split is checked: if
+   * there are many of them, their ranked indexes are split into chunks searched in parallel. If not, and the Vector API is available, the splits are
+   * ranked and scored in SIMD batches. If not, the splits are walked in Gray-code order, so each one differs from the previous one by a single
+   * same-position players swap and the skill points difference between the teams is updated in constant time.
+   *
+   * <p>The search stops as soon as a perfectly balanced split is found.
+   *
+   * @param roster      Roster of the two teams.
+   * @param initialMask Split mask of the current distribution.
+   *
+   * @return The most balanced split mask found, or the given one if none is more balanced.
+   *
+   * @see armameeldoparti.utils.mixers.solvers.BranchAndBoundSolver
+   * @see armameeldoparti.utils.mixers.solvers.EquivalenceClassSolver
+   * @see armameeldoparti.utils.mixers.solvers.GraySplitEnumerator
+   * @see armameeldoparti.utils.mixers.solvers.ParallelSplitSearch
+   * @see armameeldoparti.utils.mixers.solvers.RankedSplitSearch
+   * @see armameeldoparti.utils.mixers.solvers.ScoredSplitSearch
+   */
+  protected long searchBestSplit(SplitRoster roster, long initialMask) {
+    SplitIndex splitIndex = new SplitIndex(roster);
+
+    CompiledSplitScore score = compileScore(roster.getPlayers());
+
+    if (!score.isSkillDifference()) {
+      ScoredSplitSearch scoredSearch = new ScoredSplitSearch(roster, score);
+
+      scoredSearch.search(initialMask, splitIndex.getSplitsCount());
+
+      return scoredSearch.getBestMask();
     }
 
-    return teams;
+    EquivalenceClassSolver classSolver = new EquivalenceClassSolver(roster);
+
+    long bestMask;
+
+    if (classSolver.getSearchSpaceSize() < splitIndex.getSplitsCount()) {
+      classSolver.solve();
+
+      bestMask = classSolver.getBestGap() < roster.getSkillGap(roster.getTeamSkill(initialMask)) ? classSolver.getBestMask() : initialMask;
+    } else if (roster.getAnchorageMasks().length > 0) {
+      BranchAndBoundSolver branchAndBoundSolver = new BranchAndBoundSolver(roster, BranchAndBoundSolver.UNLIMITED_NODES);
+
+      branchAndBoundSolver.solve(initialMask, roster.getSkillGap(roster.getTeamSkill(initialMask)));
+
+      bestMask = branchAndBoundSolver.getBestMask();
+    } else if (splitIndex.getSplitsCount() > PARALLEL_SEARCH_THRESHOLD) {
+      ParallelSplitSearch parallelSearch = new ParallelSplitSearch(roster, splitIndex);
+
+      parallelSearch.search();
+
+      bestMask = parallelSearch.getBestGap() < roster.getSkillGap(roster.getTeamSkill(initialMask)) ? parallelSearch.getBestMask() : initialMask;
+    } else if (SkillGapKernel.VECTOR_API_AVAILABLE) {
+      bestMask = searchRankedSplits(roster, splitIndex, initialMask);
+    } else {
+      bestMask = searchGraySplits(roster, initialMask);
+    }
+
+    return bestMask;
+  }
+
+  /**
+   * Solves the most balanced split of two teams too large for a split mask, by a dynamic program over the reachable skill points sums, whose cost
+   * grows with the players count and the skill points total rather than with the number of splits.
+   *
+   * <p>The teams are only redistributed if a better split than the current one exists.
+   *
+   * @param teams          The two teams with the current distribution.
+   * @param teamsPlayers   Players of both teams, grouped by position.
+   * @param withAnchorages Whether the split must keep the anchorages together.
+   *
+   * @return Whether the teams were redistributed.
+   *
+   * @see armameeldoparti.utils.mixers.solvers.SkillSumDpSolver
+   */
+  protected boolean solveLargeSplit(List<Team> teams, Map<Position, List<Player>> teamsPlayers, boolean withAnchorages) {
+    SkillSumDpSolver dpSolver = new SkillSumDpSolver(teamsPlayers, teams.get(0)
+                                                                        .getFormation(), withAnchorages, SkillSumDpSolver.EXACT_QUANTUM);
+
+    dpSolver.solve();
+
+    if (dpSolver.getBestGap() >= skillGap(teams)) {
+      return false;
+    }
+
+    dpSolver.applySplit(teams);
+
+    return true;
+  }
+
+  /**
+   * @param teams The two teams with the current distribution.
+   *
+   * @return The skill points difference between both teams.
+   */
+  protected static int skillGap(List<Team> teams) {
+    return Math.abs(teams.get(0)
+                         .getTeamSkill() - teams.get(1)
+                                                .getTeamSkill());
   }
 
   // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
 
   /**
-   * Performs the subsets distribution in sets with 4+ players as explained in {@link #withoutAnchorages(List)}.
+   * Performs the subsets distribution in sets with two players per team as explained in {@link #withoutAnchorages(List, RosterSnapshot)}.
    *
-   * @param teams      Teams where to distribute the players.
-   * @param playersSet Current working players set.
+   * @param teams      Teams where to distribute the players, sorted from lowest to highest skill points.
+   * @param playersSet Current working players set, sorted from highest to lowest skill points.
    * @param position   Current working players position.
    */
   private void distributeSubsets(List<Team> teams, List<Player> playersSet, Position position) {
@@ -179,23 +416,472 @@ public class BySkillPointsMixer implements PlayersMixer {
                                                                    .reduce(0, Math::addExact)));
 
     IntStream.range(0, teams.size())
-             .forEach(
-               teamIndex -> {
-                 playersSubsets.get(teamIndex)
-                               .forEach(player -> player.setTeamNumber(teamIndex + 1));
+             .forEach(teamIndex -> playersSubsets.get(teams.size() - 1 - teamIndex)
+                                                 .forEach(player -> addPlayer(teams.get(teamIndex), player)));
+  }
+
+  /**
+   * Adds each player, from highest to lowest skill points, to the team with less skill points that still has room for them.
+   *
+   * @param teams   Teams where to distribute the players.
+   * @param players Players to distribute, sorted from highest to lowest skill points.
+   */
+  private void distributeGreedily(List<Team> teams, List<Player> players) {
+    for (Player player : players) {
+      teams.sort(comparingInt(Team::getTeamSkill));
 
-                 teams.get(teamIndex)
-                      .getTeamPlayers()
-                      .get(position)
-                      .addAll(playersSubsets.get(1 - teamIndex));
-             });
+      addPlayer(CommonFunctions.retrieveOptional(teams.stream()
+                                                      .filter(team -> !team.isPositionFull(player.getPosition()))
+                                                      .findFirst()),
+                player);
+    }
   }
 
   /**
-   * @param teams
+   * Sends every anchorage, from the given one on, to a team with room for it, trying first the teams with less skill points.
+   *
+   * <p>If a later anchorage cannot be placed, the previous choices are undone and the next team is tried.
+   *
+   * @param teams          Teams where to distribute the anchorages.
+   * @param anchorages     Anchorages to distribute.
+   * @param anchorageIndex Index of the first anchorage to distribute.
+   *
+   * @return Whether every anchorage could be distributed.
    */
-  private void checkPlayerSwaps(List<Team> teams) {
-    // TODO
+  private boolean distributeAnchorages(List<Team> teams, List<List<Player>> anchorages, int anchorageIndex) {
+    if (anchorageIndex == anchorages.size()) {
+      return true;
+    }
+
+    List<Player> anchorage = anchorages.get(anchorageIndex);
+
+    List<Team> candidateTeams = new ArrayList<>(teams);
+
+    candidateTeams.sort(comparingInt(Team::getTeamSkill));
+
+    for (Team team : candidateTeams) {
+      if (anchorage.stream()
+                   .allMatch(player -> team.getTeamPlayers()
+                                           .get(player.getPosition())
+                                           .size()
+                                       + anchorage.stream()
+                                                  .filter(anchored -> anchored.getPosition() == player.getPosition())
+                                                  .count()
+                                       <= team.getFormation()
+                                              .getPlayersLimit(player.getPosition()))) {
+        anchorage.forEach(player -> addPlayer(team, player));
+
+        if (distributeAnchorages(teams, anchorages, anchorageIndex + 1)) {
+          return true;
+        }
+
+        anchorage.forEach(player -> {
+          team.getTeamPlayers()
+              .get(player.getPosition())
+              .remove(player);
+
+          player.setTeamNumber(0);
+        });
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Adds a player to a team.
+   *
+   * @param team   Team where to add the player.
+   * @param player Player to add.
+   */
+  private void addPlayer(Team team, Player player) {
+    player.setTeamNumber(team.getTeamNumber());
+
+    team.getTeamPlayers()
+        .get(player.getPosition())
+        .add(player);
+  }
+
+  /**
+   * Rebalances the teams, if their skill points are not the same.
+   *
+   * <p>With two teams, the most balanced split is looked for. With more teams, pairs of teams are rebalanced instead: starting with the teams with
+   * the lowest and highest skill points, the players of both teams are split between them in the most balanced way. Every pair rebalancing lowers
+   * the sum of the squared team skill points, so the passes over the pairs are repeated until none of them changes, leaving no pair of teams that
+   * could be better balanced between themselves.
+   *
+   * <p>When the balance criterion is not the skill points sum alone, every pair is searched even if its skill points are balanced, since its other
+   * terms may not be. Every pair rebalancing then lowers the weighted sum of the squared team term sums instead.
+   *
+   * <p>After every pair split search, the teams and positions of the pair players are reassigned if that balances the pair even more, as explained
+   * in {@link #checkPositionChanges(List, boolean)}.
+   *
+   * <p>If the thread is interrupted, the passes stop and the teams are left as they are, since the distribution is being discarded.
+   *
+   * @param teams          Teams with the current distribution.
+   * @param withAnchorages Whether the anchorages must be kept together.
+   *
+   * @see #checkPlayerSwaps(List, boolean)
+   */
+  private void balanceTeams(List<Team> teams, boolean withAnchorages) {
+    boolean scored = !compileScore(teams.stream()
+                                        .flatMap(team -> team.getTeamPlayers()
+                                                             .values()
+                                                             .stream()
+                                                             .flatMap(List::stream))
+                                        .toArray(Player[]::new)).isSkillDifference();
+    boolean rebalanced = scored || !teamsSkillPointsAreEqual(teams);
+
+    while (rebalanced && !Thread.currentThread()
+                                .isInterrupted()) {
+      boolean repositioned = false;
+
+      rebalanced = false;
+
+      teams.sort(comparingInt(Team::getTeamSkill));
+
+      for (int weakerIndex = 0; weakerIndex < teams.size() - 1; weakerIndex++) {
+        for (int strongerIndex = teams.size() - 1; strongerIndex > weakerIndex; strongerIndex--) {
+          List<Team> pair = Arrays.asList(teams.get(weakerIndex), teams.get(strongerIndex));
+
+          if (scored || Math.abs(pair.get(0)
+                                     .getTeamSkill() - pair.get(1)
+                                                           .getTeamSkill()) > 1) {
+            rebalanced |= checkPlayerSwaps(pair, withAnchorages);
+          }
+
+          repositioned |= checkPositionChanges(pair, withAnchorages);
+        }
+      }
+
+      // With two teams, the split found is already the most balanced one, unless the positions changed
+      rebalanced = rebalanced && teams.size() > 2 || repositioned;
+    }
+
+    teams.sort(comparingInt(Team::getTeamNumber));
+  }
+
+  /**
+   * Looks for the most balanced split of the players of two teams, starting from their current distribution.
+   *
+   * <p>When the teams have more players than the ones a split mask can represent, the split is solved as explained in
+   * {@link #solveLargeSplit(List, Map, boolean)}. Otherwise, the split is searched as explained in {@link #searchBestSplit(SplitRoster, long)}.
+   *
+   * <p>The teams are only redistributed if a better split than the current one exists.
+   *
+   * @param teams          The two teams with the current distribution.
+   * @param withAnchorages Whether the splits must keep the anchorages together.
+   *
+   * @return Whether the teams were redistributed.
+   */
+  private boolean checkPlayerSwaps(List<Team> teams, boolean withAnchorages) {
+    Map<Position, List<Player>> teamsPlayers = new EnumMap<>(Position.class);
+
+    for (Position position : Position.values()) {
+      List<Player> positionPlayers = new ArrayList<>();
+
+      teams.forEach(team -> positionPlayers.addAll(team.getTeamPlayers()
+                                                       .get(position)));
+      teamsPlayers.put(position, positionPlayers);
+    }
+
+    if (teamsPlayers.values()
+                    .stream()
+                    .mapToInt(List::size)
+                    .sum() > SplitRoster.MAX_PLAYERS) {
+      return solveLargeSplit(teams, teamsPlayers, withAnchorages);
+    }
+
+    Formation formation = teams.get(0)
+                               .getFormation();
+
+    SplitRoster roster = new SplitRoster(teamsPlayers, formation, withAnchorages);
+
+    long initialMask = roster.maskOf(teams.get(0));
+    long bestMask = searchBestSplit(roster, initialMask);
+
+    if (bestMask == initialMask) {
+      return false;
+    }
+
+    roster.applySplit(bestMask, teams);
+
+    return true;
+  }
+
+  /**
+   * Walks every valid split in Gray-code order looking for one more balanced than the given one.
+   *
+   * @param roster      Roster whose splits will be searched.
+   * @param initialMask Split mask of the current distribution.
+   *
+   * @return The most balanced split mask found.
+   */
+  private long searchGraySplits(SplitRoster roster, long initialMask) {
+    GraySplitEnumerator enumerator = new GraySplitEnumerator(roster);
+
+    long bestMask = initialMask;
+    int bestGap = roster.getSkillGap(roster.getTeamSkill(initialMask));
+
+    do {
+      int gap = roster.getSkillGap(enumerator.getTeamSkill());
+
+      if (gap < bestGap && roster.respectsAnchorages(enumerator.getMask())) {
+        bestGap = gap;
+        bestMask = enumerator.getMask();
+      }
+    } while (bestGap > 0 && enumerator.next());
+
+    return bestMask;
+  }
+
+  /**
+   * Scores every ranked valid split in SIMD batches looking for one more balanced than the given one.
+   *
+   * @param roster      Roster whose splits will be searched.
+   * @param splitIndex  Splits ranking of the roster.
+   * @param initialMask Split mask of the current distribution.
+   *
+   * @return The most balanced split mask found.
+   */
+  private long searchRankedSplits(SplitRoster roster, SplitIndex splitIndex, long initialMask) {
+    RankedSplitSearch search = new RankedSplitSearch(roster, splitIndex, SkillGapKernel.forRoster(roster));
+
+    search.search(0, splitIndex.getSplitsCount());
+
+    return search.getBestGap() < roster.getSkillGap(roster.getTeamSkill(initialMask)) ? search.getBestMask() : initialMask;
+  }
+
+  /**
+   * Assigns a position to every player so the players skill points on the field add up to the most, if any player can play more than one position.
+   *
+   * <p>Every position has room for as many players as the formation needs among all teams, and the assignment is solved as a min-cost flow. Among
+   * the assignments with the same total skill points, the one that keeps the most players in their natural positions is chosen. Anchored players keep
+   * their natural positions when the anchorages are considered, since they were validated against them.
+   *
+   * @param snapshot       Snapshot of the roster to distribute.
+   * @param withAnchorages Whether the anchorages must be kept together.
+   *
+   * @see armameeldoparti.utils.mixers.solvers.MinCostAssignment
+   */
+  private void assignPositions(RosterSnapshot snapshot, boolean withAnchorages) {
+    List<Player> players = snapshot.getPlayers();
+
+    if (players.stream()
+               .noneMatch(Player::hasAlternativePositions)) {
+      return;
+    }
+
+    Position[] positions = Position.values();
+
+    int[] capacities = Arrays.stream(positions)
+                             .mapToInt(position -> snapshot.getTeamsCount() * snapshot.getFormation()
+                                                                                      .getPlayersLimit(position))
+                             .toArray();
+
+    // Skill points are scaled so that leaving a player out of its natural position only breaks ties
+    long scale = players.size() + 1L;
+    long[][] costs = new long[players.size()][positions.length];
+
+    for (int index = 0; index < players.size(); index++) {
+      Player player = players.get(index);
+
+      for (Position position : positions) {
+        boolean eligible = withAnchorages && player.isAnchored() ? position == player.getNaturalPosition() : player.isEligibleFor(position);
+
+        costs[index][position.ordinal()] = eligible ? -scale * player.getSkillPointsAt(position) + (position == player.getNaturalPosition() ? 0 : 1)
+                                                    : MinCostAssignment.FORBIDDEN;
+      }
+    }
+
+    int[] assignedPositions = new MinCostAssignment(costs, capacities).solve();
+
+    // The natural positions are always a valid assignment, so this should not happen
+    if (assignedPositions == null) {
+      CommonFunctions.exitProgram(Error.ERROR_INTERNAL);
+    }
+
+    for (int index = 0; index < players.size(); index++) {
+      players.get(index)
+             .setPosition(positions[assignedPositions[index]]);
+    }
+  }
+
+  /**
+   * @param snapshot Snapshot of the roster to distribute.
+   *
+   * @return Every player, grouped by the position it plays.
+   */
+  private Map<Position, List<Player>> playersByPosition(RosterSnapshot snapshot) {
+    Map<Position, List<Player>> playersMap = new EnumMap<>(Position.class);
+
+    for (Position position : Position.values()) {
+      playersMap.put(position, new ArrayList<>());
+    }
+
+    snapshot.getPlayers()
+            .forEach(player -> playersMap.get(player.getPosition())
+                                         .add(player));
+
+    return playersMap;
+  }
+
+  /**
+   * Reassigns both the team and the position of the players of two teams, if some of them can play more than one position and that balances the
+   * teams better.
+   *
+   * <p>Assigning players to the positions of both teams is solved as a min-cost flow, where the cost of a player joining a position of a team is its
+   * skill points for that position, weighted by the team and negated. With equal weights, the flow gives the assignment with the most skill points on
+   * the field; shifting the weights towards one team gives assignments with more skill points in that team. Every weighting is tried, instead of
+   * enumerating the positions of every player, and the most balanced assignment is kept. Anchored players can only change their position, so the
+   * anchorages stay together.
+   *
+   * <p>The teams are only redistributed if their skill points difference and the sum of their squared skill points both get lower, and the weighted
+   * sum of their squared term sums does too, so the rebalancing always ends.
+   *
+   * @param teams          The two teams with the current distribution.
+   * @param withAnchorages Whether the anchorages must be kept together.
+   *
+   * @return Whether the teams were redistributed.
+   *
+   * @see armameeldoparti.utils.mixers.solvers.MinCostAssignment
+   */
+  private boolean checkPositionChanges(List<Team> teams, boolean withAnchorages) {
+    List<Player> players = teams.stream()
+                                .flatMap(team -> team.getTeamPlayers()
+                                                     .values()
+                                                     .stream()
+                                                     .flatMap(List::stream))
+                                .toList();
+
+    long bestFirstSkill = teams.get(0)
+                               .getTeamSkill();
+    long bestSecondSkill = teams.get(1)
+                                .getTeamSkill();
+    long currentGap = Math.abs(bestFirstSkill - bestSecondSkill);
+    long currentSquares = bestFirstSkill * bestFirstSkill + bestSecondSkill * bestSecondSkill;
+
+    if (currentGap == 0 || players.stream()
+                                  .noneMatch(Player::hasAlternativePositions)) {
+      return false;
+    }
+
+    Position[] positions = Position.values();
+
+    int[] capacities = new int[2 * positions.length];
+
+    for (Position position : positions) {
+      capacities[position.ordinal()] = teams.get(0)
+                                            .getFormation()
+                                            .getPlayersLimit(position);
+      capacities[positions.length + position.ordinal()] = capacities[position.ordinal()];
+    }
+
+    int[] bestGroups = null;
+
+    for (int weight = 1 - POSITION_WEIGHT_STEPS; weight < POSITION_WEIGHT_STEPS; weight++) {
+      long[][] costs = new long[players.size()][capacities.length];
+
+      for (int index = 0; index < players.size(); index++) {
+        Player player = players.get(index);
+
+        for (int group = 0; group < capacities.length; group++) {
+          int teamIndex = group / positions.length;
+          Position position = positions[group % positions.length];
+
+          // Anchored players cannot leave their team
+          boolean otherTeam = player.getTeamNumber() != teams.get(teamIndex)
+                                                            .getTeamNumber();
+          boolean eligible = player.isEligibleFor(position) && !(withAnchorages && player.isAnchored() && otherTeam);
+
+          costs[index][group] = eligible ? -(POSITION_WEIGHT_STEPS + (teamIndex == 0 ? weight : -weight)) * (long) player.getSkillPointsAt(position)
+                                         : MinCostAssignment.FORBIDDEN;
+        }
+      }
+
+      int[] groups = new MinCostAssignment(costs, capacities).solve();
+
+      if (groups == null) {
+        continue;
+      }
+
+      long firstSkill = 0;
+      long secondSkill = 0;
+
+      for (int index = 0; index < players.size(); index++) {
+        int skillPoints = players.get(index)
+                                 .getSkillPointsAt(positions[groups[index] % positions.length]);
+
+        if (groups[index] < positions.length) {
+          firstSkill += skillPoints;
+        } else {
+          secondSkill += skillPoints;
+        }
+      }
+
+      if (Math.abs(firstSkill - secondSkill) < Math.abs(bestFirstSkill - bestSecondSkill)) {
+        bestFirstSkill = firstSkill;
+        bestSecondSkill = secondSkill;
+        bestGroups = groups;
+      }
+    }
+
+    if (bestGroups == null
+        || Math.abs(bestFirstSkill - bestSecondSkill) >= currentGap
+        || bestFirstSkill * bestFirstSkill + bestSecondSkill * bestSecondSkill >= currentSquares
+        || !lowersPotential(teams, players, bestGroups)) {
+      return false;
+    }
+
+    teams.forEach(Team::clear);
+
+    for (int index = 0; index < players.size(); index++) {
+      Player player = players.get(index);
+      Team team = teams.get(bestGroups[index] / positions.length);
+
+      player.setPosition(positions[bestGroups[index] % positions.length]);
+
+      addPlayer(team, player);
+    }
+
+    return true;
+  }
+
+  /**
+   * Checks whether reassigning the teams and positions of the players of two teams lowers the weighted sum of their squared term sums.
+   *
+   * <p>The terms of some scorers depend on the position each player plays, so the score is compiled again with the new positions, which are undone
+   * before returning.
+   *
+   * @param teams   The two teams with the current distribution.
+   * @param players Players of both teams.
+   * @param groups  New position group of every player, by its index in the players list. Groups below the positions count belong to the first team.
+   *
+   * @return Whether the new assignment lowers the weighted sum of the squared term sums.
+   */
+  private boolean lowersPotential(List<Team> teams, List<Player> players, int[] groups) {
+    Position[] positions = Position.values();
+    Player[] playersArray = players.toArray(new Player[0]);
+    Position[] currentPositions = players.stream()
+                                         .map(Player::getPosition)
+                                         .toArray(Position[]::new);
+
+    int firstTeamNumber = teams.get(0)
+                               .getTeamNumber();
+
+    long currentPotential = compileScore(playersArray).getPotential(index -> playersArray[index].getTeamNumber() == firstTeamNumber ? 0 : 1);
+
+    for (int index = 0; index < playersArray.length; index++) {
+      playersArray[index].setPosition(positions[groups[index] % positions.length]);
+    }
+
+    long newPotential = compileScore(playersArray).getPotential(index -> groups[index] / positions.length);
+
+    for (int index = 0; index < playersArray.length; index++) {
+      playersArray[index].setPosition(currentPositions[index]);
+    }
+
+    return newPotential < currentPotential;
   }
 
   /**
@@ -212,4 +898,13 @@ public class BySkillPointsMixer implements PlayersMixer {
                 .collect(Collectors.toSet())
                 .size() == 1;
   }
+
+  // ---------- Setters ------------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * @param scorers Balance criteria to add up when splitting the teams.
+   */
+  public void setScorers(List<SplitScorer> scorers) {
+    this.scorers = List.copyOf(scorers);
+  }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package armameeldoparti.utils.mixers;
+
+import armameeldoparti.models.Formation;
+import armameeldoparti.models.Player;
+import armameeldoparti.models.Team;
+import armameeldoparti.models.enums.MixerQuality;
+import armameeldoparti.models.enums.Position;
+import armameeldoparti.utils.mixers.solvers.DifferencingSolver;
+import armameeldoparti.utils.mixers.solvers.SkillSumDpSolver;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * By-skill-points distribution class for teams of any size.
+ *
+ * <p>The players are distributed and the teams are rebalanced in pairs as in {@link BySkillPointsMixer}, and pairs of teams too large for a split
+ * mask are solved by the skill points sums dynamic program too, unless its estimated work exceeds a limit. In that case, the largest differencing
+ * heuristic with swap refinement is used, which takes a few milliseconds for any number of players. Since its split may not be the most balanced
+ * one, the distributions of this mixer are heuristic.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public class DifferencingMixer extends BySkillPointsMixer {
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  @Override
+  public MixerQuality getQuality(Formation formation) {
+    return MixerQuality.HEURISTIC;
+  }
+
+  @Override
+  public int getMaxPlayersPerTeam() {
+    return Integer.MAX_VALUE;
+  }
+
+  // ---------- Protected methods --------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Solves the most balanced split of two teams too large for a split mask as in {@link BySkillPointsMixer}, unless the dynamic program estimated
+   * work exceeds a limit, in which case the largest differencing heuristic is used.
+   *
+   * <p>The teams are only redistributed if a better split than the current one exists.
+   *
+   * @param teams          The two teams with the current distribution.
+   * @param teamsPlayers   Players of both teams, grouped by position.
+   * @param withAnchorages Whether the split must keep the anchorages together.
+   *
+   * @return Whether the teams were redistributed.
+   *
+   * @see armameeldoparti.utils.mixers.solvers.DifferencingSolver
+   */
+  @Override
+  protected boolean solveLargeSplit(List<Team> teams, Map<Position, List<Player>> teamsPlayers, boolean withAnchorages) {
+    Formation formation = teams.get(0)
+                               .getFormation();
+
+    if (new SkillSumDpSolver(teamsPlayers, formation, withAnchorages, SkillSumDpSolver.EXACT_QUANTUM).getWorkEstimate() <= SKILL_SUMS_WORK_LIMIT) {
+      return super.solveLargeSplit(teams, teamsPlayers, withAnchorages);
+    }
+
+    DifferencingSolver differencingSolver = new DifferencingSolver(teamsPlayers, formation, withAnchorages);
+
+    differencingSolver.solve(teams.get(0)
+                                  .getTeamNumber());
+
+    if (differencingSolver.getBestGap() >= skillGap(teams)) {
+      return false;
+    }
+
+    differencingSolver.applySplit(teams);
+
+    return true;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package armameeldoparti.utils.mixers;
+
+import static java.util.Comparator.comparingDouble;
+
+import armameeldoparti.models.Formation;
+import armameeldoparti.models.enums.MixerQuality;
+import armameeldoparti.utils.common.CommonFunctions;
+import java.util.List;
+import java.util.Optional;
+import java.util.ServiceLoader;
+
+/**
+ * Players mixers selection class.
+ *
+ * <p>The available mixers are discovered once through {@link ServiceLoader}. For every distribution, a new instance of every mixer is built, so no
+ * mixer state is shared between distributions, whichever thread runs them. The mixers that meet the requested quality for the formation, support
+ * anchorages if needed and are meant for the teams size are compared by their cost estimate, and the cheapest one is chosen.
+ *
+ * <p>Exact distributions are not possible for every formation, so an exact request that no mixer meets is met by the cheapest heuristic mixer
+ * instead.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class MixerSelector {
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final List<ServiceLoader.Provider<PlayersMixer>> PROVIDERS = ServiceLoader.load(PlayersMixer.class)
+                                                                                         .stream()
+                                                                                         .toList();
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Empty, private constructor.
+   */
+  private MixerSelector() {
+    // Body not needed
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Picks the fastest mixer that meets the given requirements.
+   *
+   * <p>If no mixer meets an exact request, a heuristic one is looked for. If still no mixer meets them, the program exits with a fatal internal error
+   * code.
+   *
+   * @param quality        Requested distribution quality.
+   * @param withAnchorages Whether the anchorages must be kept together.
+   * @param formation      Formation of the teams.
+   * @param teamsCount     Number of teams.
+   *
+   * @return A new instance of the mixer with the lowest cost estimate among the ones that meet the requirements.
+   */
+  public static PlayersMixer select(MixerQuality quality, boolean withAnchorages, Formation formation, int teamsCount) {
+    Optional<PlayersMixer> mixer = findCheapest(quality, withAnchorages, formation, teamsCount);
+
+    if (mixer.isEmpty() && quality == MixerQuality.EXACT) {
+      mixer = findCheapest(MixerQuality.HEURISTIC, withAnchorages, formation, teamsCount);
+    }
+
+    return CommonFunctions.retrieveOptional(mixer);
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * @param quality        Requested distribution quality.
+   * @param withAnchorages Whether the anchorages must be kept together.
+   * @param formation      Formation of the teams.
+   * @param teamsCount     Number of teams.
+   *
+   * @return A new instance of the mixer with the lowest cost estimate among the ones that meet the requirements, if any.
+   */
+  private static Optional<PlayersMixer> findCheapest(MixerQuality quality, boolean withAnchorages, Formation formation, int teamsCount) {
+    return PROVIDERS.stream()
+                    .map(ServiceLoader.Provider::get)
+                    .filter(mixer -> mixer.getQuality(formation)
+                                          .meets(quality))
+                    .filter(mixer -> !withAnchorages || mixer.supportsAnchorages())
+                    .filter(mixer -> formation.getPlayersPerTeam() <= mixer.getMaxPlayersPerTeam())
+                    .min(comparingDouble(mixer -> mixer.estimateCost(formation, teamsCount)));
+  }
+}
\ No newline at end of file
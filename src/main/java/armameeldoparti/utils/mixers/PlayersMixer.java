@@ -1,11 +1,21 @@
 package armameeldoparti.utils.mixers;
 
+import armameeldoparti.models.Formation;
+import armameeldoparti.models.RosterSnapshot;
 import armameeldoparti.models.Team;
+import armameeldoparti.models.enums.MixerQuality;
 import java.util.List;
 
 /**
  * Interface that specifies the players distribution methods.
  *
+ * <p>Implementations are discovered through {@link java.util.ServiceLoader}, so they must be listed in the
+ * {@code META-INF/services/armameeldoparti.utils.mixers.PlayersMixer} resource and have a public constructor without parameters. Each one declares
+ * its capabilities and a cost estimate, which {@link MixerSelector} uses to pick the fastest one that meets the requested quality.
+ *
+ * <p>Mixers run off the Event Dispatch Thread, so they only read the given {@link RosterSnapshot} and only modify its players copies, never the
+ * program state.
+ *
  * @author Bonino, Francisco Ignacio.
  *
  * @version 0.0.1
@@ -19,18 +29,47 @@ public interface PlayersMixer {
   /**
    * Distributes the players without considering anchorages.
    *
-   * @param teams Teams where to distribute the players.
+   * @param teams    Teams where to distribute the players, built by the snapshot.
+   * @param snapshot Snapshot of the roster to distribute.
    *
    * @return The updated teams with the players distributed without considering anchorages.
    */
-  List<Team> withoutAnchorages(List<Team> teams);
+  List<Team> withoutAnchorages(List<Team> teams, RosterSnapshot snapshot);
 
   /**
    * Distributes the players considering anchorages.
    *
-   * @param teams Teams where to distribute the players.
+   * @param teams    Teams where to distribute the players, built by the snapshot.
+   * @param snapshot Snapshot of the roster to distribute.
    *
    * @return The updated teams with the players distributed considering anchorages.
    */
-  List<Team> withAnchorages(List<Team> teams);
+  List<Team> withAnchorages(List<Team> teams, RosterSnapshot snapshot);
+
+  /**
+   * @param formation Formation of the teams.
+   *
+   * @return The quality of the distributions built by this mixer for teams of the given formation.
+   */
+  MixerQuality getQuality(Formation formation);
+
+  /**
+   * @return Whether this mixer can keep the anchorages together.
+   */
+  boolean supportsAnchorages();
+
+  /**
+   * @return The maximum number of players per team this mixer is meant for.
+   */
+  int getMaxPlayersPerTeam();
+
+  /**
+   * Estimates how long a distribution takes. The estimate is rough and only meant to compare mixers.
+   *
+   * @param formation  Formation of the teams.
+   * @param teamsCount Number of teams.
+   *
+   * @return The estimated wall-clock time of a distribution, in nanoseconds.
+   */
+  double estimateCost(Formation formation, int teamsCount);
 }
\ No newline at end of file
@@ -0,0 +1,227 @@
+package armameeldoparti.utils.mixers;
+
+import armameeldoparti.models.Formation;
+import armameeldoparti.models.Player;
+import armameeldoparti.models.enums.MixerQuality;
+import armameeldoparti.models.enums.Position;
+import armameeldoparti.utils.common.Constants;
+import armameeldoparti.utils.mixers.solvers.BranchAndBoundSolver;
+import armameeldoparti.utils.mixers.solvers.DifferencingSolver;
+import armameeldoparti.utils.mixers.solvers.SplitAnnealer;
+import armameeldoparti.utils.mixers.solvers.SplitIncumbent;
+import armameeldoparti.utils.mixers.solvers.SplitRoster;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * By-skill-points distribution class that races several split solvers against each other.
+ *
+ * <p>The players are distributed and the teams are rebalanced in pairs as in {@link BySkillPointsMixer}, but the most balanced split of each pair is
+ * searched by a portfolio of solvers, each one on its own virtual thread: the largest differencing heuristic with swap refinement, which finds a good
+ * split in a few milliseconds; branch and bound, which proves optimality; and simulated annealing, which keeps improving the best split known. They
+ * all share that best split, so the heuristics tighten the branch and bound pruning as soon as they improve it.
+ *
+ * <p>The race ends as soon as the best split is proven optimal, or when the time budget runs out. The rest of the solvers are then interrupted, and
+ * no solver thread outlives the race. Either way, the best split found is kept, so the time each pair of teams takes is bounded by the time budget.
+ * Since the best split may not be proven optimal by then, the distributions of this mixer are heuristic.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public class PortfolioMixer extends BySkillPointsMixer {
+
+  // ---------- Public constants ---------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Time budget of each split race when none is given.
+   */
+  public static final Duration DEFAULT_TIME_BUDGET = Duration.ofMillis(500);
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final double PERFECT_SPLITS_RATIO = 64;
+
+  private static final double RACE_OVERHEAD = 500_000;
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private Duration timeBudget;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the portfolio by-skill-points distributor with the default time budget.
+   */
+  public PortfolioMixer() {
+    this(DEFAULT_TIME_BUDGET);
+  }
+
+  /**
+   * Builds the portfolio by-skill-points distributor.
+   *
+   * @param timeBudget Wall-clock time each split race may take.
+   */
+  public PortfolioMixer(Duration timeBudget) {
+    this.timeBudget = timeBudget;
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  @Override
+  public MixerQuality getQuality(Formation formation) {
+    return MixerQuality.HEURISTIC;
+  }
+
+  /**
+   * The split races only run while a pair of teams fits in a split mask, so larger teams are left to {@link DifferencingMixer}.
+   *
+   * @return The maximum number of players per team this mixer is meant for.
+   */
+  @Override
+  public int getMaxPlayersPerTeam() {
+    return SplitRoster.MAX_PLAYERS / 2;
+  }
+
+  /**
+   * Estimates how long a distribution takes: every pair of teams races its split once, which costs starting the solvers threads and the race itself.
+   *
+   * <p>When a pair has many more splits than possible team skill points sums, a perfectly balanced split almost surely exists, and the differencing
+   * heuristic finds it in a few microseconds, which proves it optimal and ends the race. So the race costs about the same however many splits there
+   * are. Otherwise, the race is expected to last as long as the exact search would, up to the time budget.
+   *
+   * @param formation  Formation of the teams.
+   * @param teamsCount Number of teams.
+   *
+   * @return The estimated wall-clock time of a distribution, in nanoseconds.
+   */
+  @Override
+  public double estimateCost(Formation formation, int teamsCount) {
+    double skillSumsCount = formation.getPlayersPerTeam() * (Constants.SKILL_MAX - Constants.SKILL_MIN) + 1.0;
+    double splitCost = estimateSplitCost(formation);
+
+    if (formation.getSplitsCount() > PERFECT_SPLITS_RATIO * skillSumsCount) {
+      return pairsCount(teamsCount) * RACE_OVERHEAD;
+    }
+
+    return pairsCount(teamsCount) * (RACE_OVERHEAD + Math.min(splitCost, timeBudget.toNanos()));
+  }
+
+  // ---------- Protected methods --------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Races the portfolio solvers for the most balanced split of a roster of two teams, starting from their current split.
+   *
+   * <p>The race is scoped to this method: the solvers are interrupted when it ends, and the executor waits for them to finish before returning. A
+   * solver failure is not hidden by the other solvers results: once the race ends, it is thrown to the caller.
+   *
+   * <p>The racing solvers only balance the skill points sums, so rosters scored by any other balance criterion are searched as in
+   * {@link BySkillPointsMixer} instead.
+   *
+   * @param roster      Roster of the two teams.
+   * @param initialMask Split mask of the current distribution.
+   *
+   * @return The most balanced split mask found by the race, or the given one if none is more balanced.
+   *
+   * @throws RuntimeException When a solver fails.
+   */
+  @Override
+  protected long searchBestSplit(SplitRoster roster, long initialMask) {
+    if (!compileScore(roster.getPlayers()).isSkillDifference()) {
+      return super.searchBestSplit(roster, initialMask);
+    }
+
+    long deadline = System.nanoTime() + timeBudget.toNanos();
+
+    SplitIncumbent incumbent = new SplitIncumbent(roster);
+
+    incumbent.offer(initialMask, roster.getSkillGap(roster.getTeamSkill(initialMask)));
+
+    if (incumbent.isProvenOptimal()) {
+      return initialMask;
+    }
+
+    List<Future<?>> solvers = new ArrayList<>();
+
+    try (ExecutorService raceScope = Executors.newVirtualThreadPerTaskExecutor()) {
+      solvers.add(raceScope.submit(() -> refineByDifferencing(roster, initialMask, incumbent)));
+      solvers.add(raceScope.submit(() -> new BranchAndBoundSolver(roster, BranchAndBoundSolver.UNLIMITED_NODES, incumbent)
+                                             .solve(initialMask, incumbent.getBestGap())));
+      solvers.add(raceScope.submit(() -> new SplitAnnealer(roster, incumbent).anneal(initialMask, deadline)));
+
+      incumbent.awaitProvenOptimal(deadline);
+
+      raceScope.shutdownNow();
+    }
+
+    rethrowFailure(solvers);
+
+    return incumbent.getBestMask();
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Offers the split built by the largest differencing heuristic with swap refinement.
+   *
+   * @param roster      Roster of the two teams.
+   * @param initialMask Split mask of the current distribution.
+   * @param incumbent   Best split known by every solver of the roster.
+   */
+  private void refineByDifferencing(SplitRoster roster, long initialMask, SplitIncumbent incumbent) {
+    Map<Position, List<Player>> teamsPlayers = new EnumMap<>(Position.class);
+
+    for (Position position : Position.values()) {
+      teamsPlayers.put(position, new ArrayList<>());
+    }
+
+    for (Player player : roster.getPlayers()) {
+      teamsPlayers.get(player.getPosition())
+                  .add(player);
+    }
+
+    DifferencingSolver differencingSolver = new DifferencingSolver(teamsPlayers, roster.getFormation(), roster.getAnchorageMasks().length > 0);
+
+    differencingSolver.solve(roster.getPlayers()[Long.numberOfTrailingZeros(initialMask)].getTeamNumber());
+
+    incumbent.offer(differencingSolver.getBestMask(), differencingSolver.getBestGap());
+  }
+
+  /**
+   * Throws the failure of the first failed solver of a race, if any. Solvers stopped by the end of the race are not failures.
+   *
+   * @param solvers Solvers of the race, already finished.
+   *
+   * @throws RuntimeException When a solver failed with an unchecked exception, or wrapping any other failure.
+   * @throws Error            When a solver failed with an error.
+   */
+  private static void rethrowFailure(List<Future<?>> solvers) {
+    for (Future<?> solver : solvers) {
+      if (solver.state() != Future.State.FAILED) {
+        continue;
+      }
+
+      Throwable failure = solver.exceptionNow();
+
+      if (failure instanceof RuntimeException exception) {
+        throw exception;
+      }
+
+      if (failure instanceof Error error) {
+        throw error;
+      }
+
+      if (!(failure instanceof InterruptedException)) {
+        throw new IllegalStateException(failure);
+      }
+    }
+  }
+}
\ No newline at end of file
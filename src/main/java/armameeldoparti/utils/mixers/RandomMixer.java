@@ -1,17 +1,19 @@
 package armameeldoparti.utils.mixers;
 
+import armameeldoparti.models.Formation;
 import armameeldoparti.models.Player;
+import armameeldoparti.models.RosterSnapshot;
 import armameeldoparti.models.Team;
 import armameeldoparti.models.enums.Error;
+import armameeldoparti.models.enums.MixerQuality;
 import armameeldoparti.models.enums.Position;
-import armameeldoparti.utils.common.CommonFields;
 import armameeldoparti.utils.common.CommonFunctions;
-import armameeldoparti.utils.common.Constants;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 /**
  * Random distribution class.
@@ -24,10 +26,11 @@ import java.util.function.Predicate;
  */
 public class RandomMixer implements PlayersMixer {
 
-  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final double COST_PER_PLAYER = 100;
 
-  private int randomTeam1;
-  private int randomTeam2;
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
 
   private Random randomGenerator;
 
@@ -45,48 +48,38 @@ public class RandomMixer implements PlayersMixer {
   /**
    * Distributes the players randomly without considering anchorages.
    *
-   * <p>Half of the players of each players-set are randomly assigned a team number. The rest of the players are assigned to the opposing team number.
+   * <p>Each players-set is shuffled and split into as many consecutive chunks as teams, each one with the number of players per team for that
+   * position. Every team gets one of the chunks.
    *
-   * @param teams Teams where to distribute the players.
+   * @param teams    Teams where to distribute the players, built by the snapshot.
+   * @param snapshot Snapshot of the roster to distribute.
    *
    * @return The updated teams with the players distributed randomly without considering anchorages.
    */
   @Override
-  public List<Team> withoutAnchorages(List<Team> teams) {
-    shuffleTeamNumbers(teams.size());
-
+  public List<Team> withoutAnchorages(List<Team> teams, RosterSnapshot snapshot) {
     for (Position position : Position.values()) {
-      List<Player> playersAtPosition = new ArrayList<>(CommonFields.getPlayersSets()
-                                                                   .get(position));
+      List<Player> playersAtPosition = new ArrayList<>(snapshot.getPlayersSets()
+                                                               .get(position));
 
-      Collections.shuffle(playersAtPosition);
+      Collections.shuffle(playersAtPosition, randomGenerator);
 
-      teams.get(randomTeam1)
-           .getTeamPlayers()
-           .get(position)
-           .addAll(playersAtPosition.subList(0, playersAtPosition.size() / teams.size()));
-    }
+      int playersLimit = snapshot.getFormation()
+                                 .getPlayersLimit(position);
+
+      for (int teamIndex = 0; teamIndex < teams.size(); teamIndex++) {
+        Team team = teams.get(teamIndex);
 
-    teams.get(randomTeam1)
-         .getTeamPlayers()
-         .values()
-         .stream()
-         .flatMap(List::stream)
-         .forEach(player -> player.setTeamNumber(randomTeam1 + 1));
-
-    CommonFields.getPlayersSets()
-                .values()
-                .stream()
-                .flatMap(List::stream)
-                .filter(player -> player.getTeamNumber() == 0)
-                .forEach(player -> {
-                  teams.get(randomTeam2)
-                       .getTeamPlayers()
-                       .get(player.getPosition())
-                       .add(player);
-
-                  player.setTeamNumber(randomTeam2 + 1);
-                });
+        playersAtPosition.subList(teamIndex * playersLimit, (teamIndex + 1) * playersLimit)
+                         .forEach(player -> {
+                           team.getTeamPlayers()
+                               .get(position)
+                               .add(player);
+
+                           player.setTeamNumber(team.getTeamNumber());
+                         });
+      }
+    }
 
     return teams;
   }
@@ -95,7 +88,7 @@ public class RandomMixer implements PlayersMixer {
    * Distributes the players randomly considering anchorages.
    *
    * <p>First, the anchored players are grouped in different lists by their anchorage number, and they are distributed randomly. If a set of anchored
-   * players cannot be added to one team, it will be added to the other. Then, the players that are not anchored are distributed randomly. They will
+   * players cannot be added to one team, it will be added to another one. Then, the players that are not anchored are distributed randomly. They will
    * be added to a team only if the players per position or the players per team limits are not exceeded.
    *
    * <p>At this point, the anchorages are guaranteed to be possible to distribute by {@link armameeldoparti.controllers.AnchoragesController}, though
@@ -103,23 +96,24 @@ public class RandomMixer implements PlayersMixer {
    * consider this, a boolean variable is used: if there's no room in any team for certain anchorage, then this variable is used to stop the
    * anchorages distribution, shuffle them and start the distribution again.
    *
-   * @param teams Teams where to distribute the players.
+   * @param teams    Teams where to distribute the players, built by the snapshot.
+   * @param snapshot Snapshot of the roster to distribute.
    *
    * @return The updated teams with the players distributed randomly considering anchorages.
    */
   @Override
-  public List<Team> withAnchorages(List<Team> teams) {
+  public List<Team> withAnchorages(List<Team> teams, RosterSnapshot snapshot) {
     boolean successfulDistribution = false;
 
-    List<List<Player>> anchorages = CommonFunctions.getAnchorages();
+    List<List<Player>> anchorages = snapshot.getAnchorages();
 
     while (!successfulDistribution) {
       Collections.shuffle(anchorages);
 
       for (List<Player> anchorage : anchorages) {
-        int teamNumber = getAvailableTeam(teams, team -> anchorageCanBeAdded(team, anchorage));
+        int teamIndex = getAvailableTeam(teams, team -> anchorageCanBeAdded(team, anchorage));
 
-        if (teamNumber == -1) {
+        if (teamIndex == -1) {
           teams.forEach(Team::clear);
 
           successfulDistribution = false;
@@ -128,9 +122,10 @@ public class RandomMixer implements PlayersMixer {
         }
 
         for (Player player : anchorage) {
-          player.setTeamNumber(teamNumber + 1);
+          player.setTeamNumber(teams.get(teamIndex)
+                                    .getTeamNumber());
 
-          teams.get(teamNumber)
+          teams.get(teamIndex)
                .getTeamPlayers()
                .get(player.getPosition())
                .add(player);
@@ -141,42 +136,59 @@ public class RandomMixer implements PlayersMixer {
     }
 
     // Remaining (not anchored) players without an assigned team
-    CommonFields.getPlayersSets()
-                .values()
-                .stream()
-                .flatMap(List::stream)
-                .filter(player -> player.getTeamNumber() == 0)
-                .forEach(player -> {
-                  int teamNumber = getAvailableTeam(teams, team -> playerCanBeAdded(team, player));
-
-                  // If there's no available team at this point, something went wrong
-                  if (teamNumber == -1) {
-                    CommonFunctions.exitProgram(Error.ERROR_INTERNAL);
-                  }
-
-                  player.setTeamNumber(teamNumber + 1);
-
-                  teams.get(teamNumber)
-                       .getTeamPlayers()
-                       .get(player.getPosition())
-                       .add(player);
-                });
+    snapshot.getPlayers()
+            .stream()
+            .filter(player -> player.getTeamNumber() == 0)
+            .forEach(player -> {
+              int teamIndex = getAvailableTeam(teams, team -> playerCanBeAdded(team, player));
+
+              // If there's no available team at this point, something went wrong
+              if (teamIndex == -1) {
+                CommonFunctions.exitProgram(Error.ERROR_INTERNAL);
+              }
+
+              player.setTeamNumber(teams.get(teamIndex)
+                                        .getTeamNumber());
+
+              teams.get(teamIndex)
+                   .getTeamPlayers()
+                   .get(player.getPosition())
+                   .add(player);
+            });
 
     return teams;
   }
 
-  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+  @Override
+  public MixerQuality getQuality(Formation formation) {
+    return MixerQuality.RANDOM;
+  }
+
+  @Override
+  public boolean supportsAnchorages() {
+    return true;
+  }
+
+  @Override
+  public int getMaxPlayersPerTeam() {
+    return Integer.MAX_VALUE;
+  }
 
   /**
-   * Randomly shuffles the team numbers.
+   * Estimates how long a distribution takes, which grows linearly with the number of players.
+   *
+   * @param formation  Formation of the teams.
+   * @param teamsCount Number of teams.
    *
-   * @param range Upper limit (exclusive) for the random number generator.
+   * @return The estimated wall-clock time of a distribution, in nanoseconds.
    */
-  private void shuffleTeamNumbers(int range) {
-    randomTeam1 = randomGenerator.nextInt(range);
-    randomTeam2 = 1 - randomTeam1;
+  @Override
+  public double estimateCost(Formation formation, int teamsCount) {
+    return COST_PER_PLAYER * formation.getPlayersTotal(teamsCount);
   }
 
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
   /**
    * @param team   Team where the player should be added.
    * @param player The players to add.
@@ -210,7 +222,8 @@ public class RandomMixer implements PlayersMixer {
    * @return Whether the number of anchored players to be added to a team would exceed the limit of players per team.
    */
   private boolean anchorageOverflowsTeamSize(Team team, List<Player> anchorage) {
-    return team.getPlayersCount() + anchorage.size() > Constants.PLAYERS_PER_TEAM;
+    return team.getPlayersCount() + anchorage.size() > team.getFormation()
+                                                           .getPlayersPerTeam();
   }
 
   /**
@@ -240,8 +253,8 @@ public class RandomMixer implements PlayersMixer {
            + anchorage.stream()
                       .filter(player -> player.getPosition() == position)
                       .count()
-           > CommonFields.getPlayersLimitPerPosition()
-                         .get(position);
+           > team.getFormation()
+                 .getPlayersLimit(position);
   }
 
   /**
@@ -250,27 +263,14 @@ public class RandomMixer implements PlayersMixer {
    * @param teams               The possible teams where to add the player.
    * @param validationPredicate The predicate that will validate if the player can be added to a team, or not.
    *
-   * @return The only available team index, a random team index if the player can be added in every team, or -1 if there's no available team for the
-   *         player.
+   * @return A random team index among the teams the player can be added to, or -1 if there's no available team for the player.
    */
   private int getAvailableTeam(List<Team> teams, Predicate<Team> validationPredicate) {
-    shuffleTeamNumbers(teams.size());
-
-    boolean isRandomTeam1Available = validationPredicate.test(teams.get(randomTeam1));
-    boolean isRandomTeam2Available = validationPredicate.test(teams.get(randomTeam2));
-
-    if (isRandomTeam1Available && isRandomTeam2Available) {
-      return randomGenerator.nextInt(teams.size());
-    }
-
-    if (isRandomTeam1Available) {
-      return randomTeam1;
-    }
-
-    if (isRandomTeam2Available) {
-      return randomTeam2;
-    }
+    List<Integer> availableTeams = IntStream.range(0, teams.size())
+                                            .filter(teamIndex -> validationPredicate.test(teams.get(teamIndex)))
+                                            .boxed()
+                                            .toList();
 
-    return -1;
+    return availableTeams.isEmpty() ? -1 : availableTeams.get(randomGenerator.nextInt(availableTeams.size()));
   }
 }
\ No newline at end of file
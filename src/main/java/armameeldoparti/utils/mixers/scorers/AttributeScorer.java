@@ -0,0 +1,68 @@
+package armameeldoparti.utils.mixers.scorers;
+
+import armameeldoparti.models.Player;
+import armameeldoparti.models.enums.Attribute;
+import java.util.Arrays;
+
+/**
+ * Scorer that balances every player attribute of the teams.
+ *
+ * <p>There is one term per attribute, holding the players ratings on it.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class AttributeScorer implements SplitScorer {
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final int[] weights;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the scorer, weighting every attribute the same.
+   *
+   * @param weight Weight of the squared difference of every attribute.
+   */
+  public AttributeScorer(int weight) {
+    weights = new int[Attribute.values().length];
+
+    Arrays.fill(weights, weight);
+  }
+
+  /**
+   * Builds the scorer.
+   *
+   * @param weights Weight of the squared difference of every attribute, in the Attribute enum order.
+   *
+   * @throws IllegalArgumentException When there is not a weight for every attribute.
+   */
+  public AttributeScorer(int[] weights) {
+    if (weights.length != Attribute.values().length) {
+      throw new IllegalArgumentException("Expected " + Attribute.values().length + " weights, got " + weights.length);
+    }
+
+    this.weights = weights.clone();
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  @Override
+  public int getTermsCount() {
+    return weights.length;
+  }
+
+  @Override
+  public int getTermWeight(int term) {
+    return weights[term];
+  }
+
+  @Override
+  public void writeTerms(Player player, int[] terms, int offset) {
+    System.arraycopy(player.getAttributes(), 0, terms, offset, weights.length);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,187 @@
+package armameeldoparti.utils.mixers.scorers;
+
+import armameeldoparti.models.Player;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Split scores compiled into primitive tables for a given players list.
+ *
+ * <p>Every scorer is asked once for the terms of every player, and the terms are laid out next to each other in a single array, where the term
+ * {@code d} of the player with index {@code i} is found at {@code i * D + d}, being {@code D} the number of terms. Terms that are zero for every
+ * player or whose weight is zero are left out. A split is then scored as the weighted sum of the squared differences between the term sums of both
+ * teams, reading only these tables, so the split searches never call the scorers themselves.
+ *
+ * <p>Since every term is a sum, the weighted sum of the squared term sums of every team drops whenever a pair of teams is split with a lower score,
+ * which is what makes rebalancing pairs of teams by these scores end.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class CompiledSplitScore {
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final boolean skillDifference;
+
+  private final int dimensions;
+
+  private final long minimumScore;
+
+  private final int[] values;
+  private final int[] weights;
+
+  private final long[] totals;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Compiles the given scorers for the given players.
+   *
+   * @param players Players to score, in the order their indexes refer to.
+   * @param scorers Balance criteria to add up.
+   */
+  public CompiledSplitScore(Player[] players, List<SplitScorer> scorers) {
+    int termsCount = scorers.stream()
+                            .mapToInt(SplitScorer::getTermsCount)
+                            .sum();
+
+    int[] terms = new int[players.length * termsCount];
+    int[] termWeights = new int[termsCount];
+    boolean[] kept = new boolean[termsCount];
+
+    int offset = 0;
+
+    for (SplitScorer scorer : scorers) {
+      for (int index = 0; index < players.length; index++) {
+        scorer.writeTerms(players[index], terms, index * termsCount + offset);
+      }
+
+      for (int term = 0; term < scorer.getTermsCount(); term++) {
+        termWeights[offset + term] = scorer.getTermWeight(term);
+      }
+
+      offset += scorer.getTermsCount();
+    }
+
+    int keptCount = 0;
+
+    for (int term = 0; term < termsCount; term++) {
+      for (int index = 0; index < players.length && !kept[term]; index++) {
+        kept[term] = termWeights[term] != 0 && terms[index * termsCount + term] != 0;
+      }
+
+      keptCount += kept[term] ? 1 : 0;
+    }
+
+    dimensions = keptCount;
+    values = new int[players.length * dimensions];
+    weights = new int[dimensions];
+    totals = new long[dimensions];
+
+    for (int term = 0, dimension = 0; term < termsCount; term++) {
+      if (!kept[term]) {
+        continue;
+      }
+
+      weights[dimension] = termWeights[term];
+
+      for (int index = 0; index < players.length; index++) {
+        values[index * dimensions + dimension] = terms[index * termsCount + term];
+        totals[dimension] += values[index * dimensions + dimension];
+      }
+
+      dimension++;
+    }
+
+    // When a total is odd, the teams cannot be closer than one point apart on it
+    long oddTotalsScore = 0;
+
+    for (int dimension = 0; dimension < dimensions; dimension++) {
+      oddTotalsScore += weights[dimension] * (totals[dimension] & 1);
+    }
+
+    minimumScore = oddTotalsScore;
+    skillDifference = dimensions == 0 || dimensions == 1 && matchesSkillPoints(players);
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Weights the squared term sums of a pair of teams, which every pair rebalancing lowers.
+   *
+   * @param teamOf Index of the team (0 or 1) of every player, by its index in the compiled players.
+   *
+   * @return The weighted sum of the squared term sums of both teams.
+   */
+  public long getPotential(IntUnaryOperator teamOf) {
+    int playersCount = dimensions == 0 ? 0 : values.length / dimensions;
+
+    long potential = 0;
+
+    for (int dimension = 0; dimension < dimensions; dimension++) {
+      long firstSum = 0;
+
+      for (int index = 0; index < playersCount; index++) {
+        if (teamOf.applyAsInt(index) == 0) {
+          firstSum += values[index * dimensions + dimension];
+        }
+      }
+
+      long secondSum = totals[dimension] - firstSum;
+
+      potential += weights[dimension] * (firstSum * firstSum + secondSum * secondSum);
+    }
+
+    return potential;
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * @param players Compiled players.
+   *
+   * @return Whether the only term left is the skill points of every player.
+   */
+  private boolean matchesSkillPoints(Player[] players) {
+    for (int index = 0; index < players.length; index++) {
+      if (values[index] != players[index].getSkillPoints()) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * @return Whether the score only balances the skill points sums, which the skill points split solvers are specialized for.
+   */
+  public boolean isSkillDifference() {
+    return skillDifference;
+  }
+
+  public int getDimensions() {
+    return dimensions;
+  }
+
+  public long getMinimumScore() {
+    return minimumScore;
+  }
+
+  public int[] getValues() {
+    return values;
+  }
+
+  public int[] getWeights() {
+    return weights;
+  }
+
+  public long[] getTotals() {
+    return totals;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package armameeldoparti.utils.mixers.scorers;
+
+import armameeldoparti.models.Player;
+import armameeldoparti.models.enums.Position;
+
+/**
+ * Scorer that balances the skill points of the teams position by position.
+ *
+ * <p>There is one term per position, holding the skill points of the players playing it, so the teams are balanced on every line of the field and
+ * not only on the whole.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class PositionBalanceScorer implements SplitScorer {
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final int weight;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the scorer.
+   *
+   * @param weight Weight of the squared skill points difference of every position.
+   */
+  public PositionBalanceScorer(int weight) {
+    this.weight = weight;
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  @Override
+  public int getTermsCount() {
+    return Position.values().length;
+  }
+
+  @Override
+  public int getTermWeight(int term) {
+    return weight;
+  }
+
+  @Override
+  public void writeTerms(Player player, int[] terms, int offset) {
+    for (Position position : Position.values()) {
+      terms[offset + position.ordinal()] = player.getPosition() == position ? player.getSkillPoints() : 0;
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package armameeldoparti.utils.mixers.scorers;
+
+import armameeldoparti.models.Player;
+
+/**
+ * Interface that specifies a balance criterion between teams.
+ *
+ * <p>A scorer describes every player by one or more integer terms, and teams are balanced when the sums of each term in both teams are as close as
+ * possible. The squared difference of every term sum is weighted, and the weighted squared differences of every scorer are added up to score a
+ * split. Since the terms of a player only depend on the player itself, scorers are only called while compiling a {@link CompiledSplitScore}, and the
+ * split searches work with its primitive tables alone.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public interface SplitScorer {
+
+  // ---------- Abstract public methods --------------------------------------------------------------------------------------------------------------
+
+  /**
+   * @return The number of terms describing every player.
+   */
+  int getTermsCount();
+
+  /**
+   * @param term Index of the term.
+   *
+   * @return The weight of the squared difference of the given term sums.
+   */
+  int getTermWeight(int term);
+
+  /**
+   * Writes the terms describing a player.
+   *
+   * @param player Player to describe.
+   * @param terms  Array where to write the terms.
+   * @param offset Index of the first term in the array.
+   */
+  void writeTerms(Player player, int[] terms, int offset);
+}
\ No newline at end of file
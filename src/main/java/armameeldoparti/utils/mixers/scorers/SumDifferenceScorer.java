@@ -0,0 +1,50 @@
+package armameeldoparti.utils.mixers.scorers;
+
+import armameeldoparti.models.Player;
+
+/**
+ * Scorer that balances the skill points sum of the teams.
+ *
+ * <p>This is the criterion every skill points split solver is specialized for, so scores made only of this scorer are searched by them instead of
+ * the general split search.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class SumDifferenceScorer implements SplitScorer {
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final int weight;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the scorer.
+   *
+   * @param weight Weight of the squared skill points difference.
+   */
+  public SumDifferenceScorer(int weight) {
+    this.weight = weight;
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  @Override
+  public int getTermsCount() {
+    return 1;
+  }
+
+  @Override
+  public int getTermWeight(int term) {
+    return weight;
+  }
+
+  @Override
+  public void writeTerms(Player player, int[] terms, int offset) {
+    terms[offset] = player.getSkillPoints();
+  }
+}
\ No newline at end of file
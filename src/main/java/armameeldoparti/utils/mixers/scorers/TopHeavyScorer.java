@@ -0,0 +1,53 @@
+package armameeldoparti.utils.mixers.scorers;
+
+import armameeldoparti.models.Player;
+
+/**
+ * Scorer that balances the star players of the teams.
+ *
+ * <p>Only the skill points above a threshold are counted, so two teams with the same skill points sum can still be told apart when one of them gets
+ * most of the star players and the other one a lot of average players.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class TopHeavyScorer implements SplitScorer {
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final int threshold;
+  private final int weight;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the scorer.
+   *
+   * @param threshold Skill points a player must exceed to count as a star player.
+   * @param weight    Weight of the squared difference of the skill points above the threshold.
+   */
+  public TopHeavyScorer(int threshold, int weight) {
+    this.threshold = threshold;
+    this.weight = weight;
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  @Override
+  public int getTermsCount() {
+    return 1;
+  }
+
+  @Override
+  public int getTermWeight(int term) {
+    return weight;
+  }
+
+  @Override
+  public void writeTerms(Player player, int[] terms, int offset) {
+    terms[offset] = Math.max(0, player.getSkillPoints() - threshold);
+  }
+}
\ No newline at end of file
@@ -0,0 +1,50 @@
+package armameeldoparti.utils.mixers.scorers;
+
+import armameeldoparti.models.Player;
+
+/**
+ * Scorer that balances the skill points variance of the teams.
+ *
+ * <p>The squared skill points of the players are summed, so teams with balanced skill points sums and balanced squared skill points sums also have
+ * the same skill points spread: a team of average players is told apart from a team mixing strong and weak players.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class VarianceScorer implements SplitScorer {
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final int weight;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the scorer.
+   *
+   * @param weight Weight of the squared difference of the squared skill points sums.
+   */
+  public VarianceScorer(int weight) {
+    this.weight = weight;
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  @Override
+  public int getTermsCount() {
+    return 1;
+  }
+
+  @Override
+  public int getTermWeight(int term) {
+    return weight;
+  }
+
+  @Override
+  public void writeTerms(Player player, int[] terms, int offset) {
+    terms[offset] = player.getSkillPoints() * player.getSkillPoints();
+  }
+}
\ No newline at end of file
@@ -0,0 +1,417 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Exact two-team split solver based on branch and bound, which reports how far its answer is proven to be from the optimal one.
+ *
+ * <p>Every anchorage is a single unit and every non-anchored player is a unit of its own. The units are assigned to the teams from the highest to
+ * the lowest skill points, trying first the team with less skill points, and the first unit only goes to the first team since both teams are
+ * interchangeable. A unit is only sent to a team with room for all of its players.
+ *
+ * <p>Every branch is pruned when its lower bound cannot beat the best split found so far. The bound takes, for every position, the players the first
+ * team still needs from the highest and from the lowest skilled remaining players of that position, which gives the range of first team skill points
+ * any completion of the branch can reach; the bound is the distance from that range to an even split.
+ *
+ * <p>The search can be given a nodes budget. If it runs out, the lowest bound among the branches left unexplored is kept, so the difference between
+ * the best skill points difference found and that bound tells how far from optimal the answer can be. When the search completes, both are the same
+ * and the split is proven optimal.
+ *
+ * <p>The solver can share a {@link SplitIncumbent} with other solvers running concurrently: it prunes against the best split any of them found, and
+ * offers the splits it finds. The search also stops, as if its nodes budget ran out, when its thread is interrupted.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class BranchAndBoundSolver {
+
+  // ---------- Public constants ---------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Nodes budget that never stops the search.
+   */
+  public static final long UNLIMITED_NODES = Long.MAX_VALUE;
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final long INTERRUPTION_CHECK_INTERVAL = 1L << 10;
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private boolean stopped;
+
+  private int bestGap;
+  private int openBound;
+
+  private long bestMask;
+  private long currentMask;
+  private long nodesCount;
+
+  private final int targetGap;
+  private final int totalSkill;
+
+  private final long nodesBudget;
+
+  private final SplitIncumbent incumbent;
+
+  private final int[] positionLimits;
+  private final int[] unitSkills;
+  private final int[] firstTeamCounts;
+  private final int[] secondTeamCounts;
+  private final int[][] unitCounts;
+
+  private final long[] unitMasks;
+
+  private final int[][][] highestSums;
+  private final int[][][] lowestSums;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the solver by grouping the roster players into units and precomputing the bounds tables.
+   *
+   * @param roster      Roster whose splits will be searched.
+   * @param nodesBudget Maximum number of search nodes. Use {@link #UNLIMITED_NODES} for a complete search.
+   */
+  public BranchAndBoundSolver(SplitRoster roster, long nodesBudget) {
+    this(roster, nodesBudget, new SplitIncumbent(roster));
+  }
+
+  /**
+   * Builds the solver by grouping the roster players into units and precomputing the bounds tables, sharing the best split with other solvers.
+   *
+   * @param roster      Roster whose splits will be searched.
+   * @param nodesBudget Maximum number of search nodes. Use {@link #UNLIMITED_NODES} for a complete search.
+   * @param incumbent   Best split known by every solver of the roster.
+   */
+  public BranchAndBoundSolver(SplitRoster roster, long nodesBudget, SplitIncumbent incumbent) {
+    int positionsCount = roster.getPositionSlots().length;
+    int[] skills = roster.getSkills();
+    int[] positions = new int[roster.getPlayersCount()];
+
+    for (int position = 0; position < positionsCount; position++) {
+      for (int slot : roster.getPositionSlots()[position]) {
+        positions[slot] = position;
+      }
+    }
+
+    long anchoredMask = 0;
+
+    List<Long> masks = new ArrayList<>();
+
+    for (long anchorageMask : roster.getAnchorageMasks()) {
+      anchoredMask |= anchorageMask;
+
+      masks.add(anchorageMask);
+    }
+
+    for (int slot = 0; slot < roster.getPlayersCount(); slot++) {
+      if ((anchoredMask >>> slot & 1) == 0) {
+        masks.add(1L << slot);
+      }
+    }
+
+    // Units sorted from highest to lowest skill points
+    masks.sort(Comparator.comparingInt(roster::getTeamSkill)
+                         .reversed());
+
+    unitMasks = masks.stream()
+                     .mapToLong(Long::longValue)
+                     .toArray();
+    unitSkills = new int[unitMasks.length];
+    unitCounts = new int[unitMasks.length][positionsCount];
+
+    for (int unit = 0; unit < unitMasks.length; unit++) {
+      unitSkills[unit] = roster.getTeamSkill(unitMasks[unit]);
+
+      for (long bits = unitMasks[unit]; bits != 0; bits &= bits - 1) {
+        unitCounts[unit][positions[Long.numberOfTrailingZeros(bits)]]++;
+      }
+    }
+
+    highestSums = new int[unitMasks.length + 1][positionsCount][];
+    lowestSums = new int[unitMasks.length + 1][positionsCount][];
+
+    for (int unit = 0; unit <= unitMasks.length; unit++) {
+      long remainingMask = 0;
+
+      for (int remaining = unit; remaining < unitMasks.length; remaining++) {
+        remainingMask |= unitMasks[remaining];
+      }
+
+      for (int position = 0; position < positionsCount; position++) {
+        int[] remainingSkills = playerSkills(roster.getPositionSlots()[position], skills, remainingMask);
+
+        highestSums[unit][position] = prefixSums(remainingSkills, true);
+        lowestSums[unit][position] = prefixSums(remainingSkills, false);
+      }
+    }
+
+    this.nodesBudget = nodesBudget;
+    this.incumbent = incumbent;
+
+    positionLimits = roster.getPositionLimits();
+    totalSkill = roster.getTotalSkill();
+    targetGap = totalSkill % 2;
+    firstTeamCounts = new int[positionsCount];
+    secondTeamCounts = new int[positionsCount];
+    bestGap = Integer.MAX_VALUE;
+    openBound = Integer.MAX_VALUE;
+    bestMask = -1;
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Searches the most balanced split, using the given split as the best one known at the start.
+   *
+   * <p>If the search completes, the shared best split is marked as proven optimal.
+   *
+   * @param initialMask Split mask of a valid split, or -1 if there is none.
+   * @param initialGap  Skill points difference of the given split.
+   */
+  public void solve(long initialMask, int initialGap) {
+    if (initialMask != -1) {
+      bestMask = initialMask;
+      bestGap = initialGap;
+
+      incumbent.offer(initialMask, initialGap);
+    }
+
+    if (unitMasks.length > 0 && cutoff() > targetGap) {
+      assign(0, 0, 0);
+    } else if (unitMasks.length == 0) {
+      bestMask = 0;
+      bestGap = 0;
+
+      incumbent.offer(0, 0);
+    }
+
+    if (openBound == Integer.MAX_VALUE) {
+      incumbent.markProvenOptimal();
+    }
+  }
+
+  /**
+   * @return The lowest skill points difference any split can have, as proven by the search. It is the best difference found by any solver sharing
+   *         the best split if the search completed.
+   */
+  public int getLowerBound() {
+    return Math.max(targetGap, Math.min(cutoff(), openBound));
+  }
+
+  /**
+   * @return Whether the best split found is proven to be the most balanced one.
+   */
+  public boolean isProvenOptimal() {
+    return bestGap <= getLowerBound();
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Assigns recursively the given unit and the following ones.
+   *
+   * @param unit        Unit to assign.
+   * @param firstSkill  First team skill points so far.
+   * @param secondSkill Second team skill points so far.
+   */
+  private void assign(int unit, int firstSkill, int secondSkill) {
+    if (unit == unitMasks.length) {
+      int gap = Math.abs(firstSkill - secondSkill);
+
+      if (gap < bestGap) {
+        bestGap = gap;
+        bestMask = currentMask;
+
+        incumbent.offer(currentMask, gap);
+      }
+
+      return;
+    }
+
+    int bound = lowerBound(unit, firstSkill, secondSkill);
+
+    if (bound >= cutoff()) {
+      return;
+    }
+
+    if (outOfBudget()) {
+      openBound = Math.min(openBound, bound);
+
+      return;
+    }
+
+    boolean firstTeamFirst = unit == 0 || firstSkill <= secondSkill;
+
+    for (int choice = 0; choice < 2 && cutoff() > targetGap; choice++) {
+      boolean toFirstTeam = firstTeamFirst == (choice == 0);
+
+      // Both teams are interchangeable, so the first unit only goes to the first team
+      if ((unit == 0 && !toFirstTeam) || !fits(unit, toFirstTeam ? firstTeamCounts : secondTeamCounts)) {
+        continue;
+      }
+
+      move(unit, toFirstTeam ? firstTeamCounts : secondTeamCounts, 1);
+
+      if (toFirstTeam) {
+        currentMask |= unitMasks[unit];
+
+        assign(unit + 1, firstSkill + unitSkills[unit], secondSkill);
+
+        currentMask &= ~unitMasks[unit];
+      } else {
+        assign(unit + 1, firstSkill, secondSkill + unitSkills[unit]);
+      }
+
+      move(unit, toFirstTeam ? firstTeamCounts : secondTeamCounts, -1);
+    }
+  }
+
+  /**
+   * @return The skill points difference a branch must beat to be explored: the lowest between the best split found by this solver and the shared
+   *         one.
+   */
+  private int cutoff() {
+    return Math.min(bestGap, incumbent.getBestGap());
+  }
+
+  /**
+   * Counts a new search node, and checks every some nodes whether the thread was interrupted.
+   *
+   * @return Whether the search must stop, either because the nodes budget ran out or because the thread was interrupted.
+   */
+  private boolean outOfBudget() {
+    if (++nodesCount % INTERRUPTION_CHECK_INTERVAL == 0 && Thread.currentThread()
+                                                                  .isInterrupted()) {
+      stopped = true;
+    }
+
+    return stopped || nodesCount > nodesBudget;
+  }
+
+  /**
+   * Computes the lowest skill points difference reachable from the current branch.
+   *
+   * @param unit        Next unit to assign.
+   * @param firstSkill  First team skill points so far.
+   * @param secondSkill Second team skill points so far.
+   *
+   * @return A lower bound of the skill points difference of any split in this branch, or {@link Integer#MAX_VALUE} if the first team cannot be
+   *         completed.
+   */
+  private int lowerBound(int unit, int firstSkill, int secondSkill) {
+    int minSkill = firstSkill;
+    int maxSkill = firstSkill;
+
+    for (int position = 0; position < positionLimits.length; position++) {
+      int needed = positionLimits[position] - firstTeamCounts[position];
+
+      if (needed >= lowestSums[unit][position].length) {
+        return Integer.MAX_VALUE;
+      }
+
+      minSkill += lowestSums[unit][position][needed];
+      maxSkill += highestSums[unit][position][needed];
+    }
+
+    int bound;
+
+    if (2 * maxSkill < totalSkill) {
+      bound = totalSkill - 2 * maxSkill;
+    } else {
+      bound = 2 * minSkill > totalSkill ? 2 * minSkill - totalSkill : 0;
+    }
+
+    return Math.max(bound, Math.max(targetGap, Math.abs(firstSkill - secondSkill) - (totalSkill - firstSkill - secondSkill)));
+  }
+
+  /**
+   * @param unit   Unit to check.
+   * @param counts Players per position of the team.
+   *
+   * @return Whether the team has room for every player of the unit.
+   */
+  private boolean fits(int unit, int[] counts) {
+    for (int position = 0; position < counts.length; position++) {
+      if (counts[position] + unitCounts[unit][position] > positionLimits[position]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Adds or removes the players of a unit to the players per position of a team.
+   *
+   * @param unit   Unit to move.
+   * @param counts Players per position of the team.
+   * @param sign   1 to add the players, -1 to remove them.
+   */
+  private void move(int unit, int[] counts, int sign) {
+    for (int position = 0; position < counts.length; position++) {
+      counts[position] += sign * unitCounts[unit][position];
+    }
+  }
+
+  /**
+   * @param slots  Roster indexes of a position players.
+   * @param skills Skill points of every player.
+   * @param mask   Bit mask of the players to keep.
+   *
+   * @return The skill points of the kept players.
+   */
+  private static int[] playerSkills(int[] slots, int[] skills, long mask) {
+    int[] keptSkills = new int[slots.length];
+    int count = 0;
+
+    for (int slot : slots) {
+      if ((mask >>> slot & 1) == 1) {
+        keptSkills[count++] = skills[slot];
+      }
+    }
+
+    return Arrays.copyOf(keptSkills, count);
+  }
+
+  /**
+   * @param skills  Skill points to add up.
+   * @param highest Whether the highest skill points are added first, instead of the lowest ones.
+   *
+   * @return The sums of the first {@code 0..n} skill points, in the requested order.
+   */
+  private static int[] prefixSums(int[] skills, boolean highest) {
+    int[] sorted = skills.clone();
+
+    Arrays.sort(sorted);
+
+    int[] sums = new int[sorted.length + 1];
+
+    for (int index = 0; index < sorted.length; index++) {
+      sums[index + 1] = sums[index] + sorted[highest ? sorted.length - 1 - index : index];
+    }
+
+    return sums;
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  public int getBestGap() {
+    return bestGap;
+  }
+
+  public long getBestMask() {
+    return bestMask;
+  }
+
+  public long getNodesCount() {
+    return nodesCount;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,432 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import armameeldoparti.models.Formation;
+import armameeldoparti.models.Player;
+import armameeldoparti.models.Team;
+import armameeldoparti.models.enums.Position;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Heuristic two-team split solver based on the largest differencing method (Karmarkar-Karp), adapted to the per-position limits.
+ *
+ * <p>The anchorages are sent first to the team with less skill points that still has room for them. Then, the non-anchored players of each position
+ * are sorted by their skill points and paired from the top: each pair sends one player to each team, so the position limits hold whatever the pair
+ * orientation is, and the players a team still needs beyond the pairs are sent to it directly. Every pair becomes an item worth its skill points
+ * difference, and everything sent directly becomes a single item worth the difference it makes. The two largest items are then repeatedly replaced by
+ * their difference (which places them in opposite orientations) until a single one is left, whose value is the resulting skill points difference.
+ *
+ * <p>Since pairs of sorted players have small differences, the split is then improved by same-position swaps while they lower the difference.
+ *
+ * <p>The differencing runs in {@code O(n log n)} time and every swap pass only tries distinct skill points values, so it is meant for rosters too
+ * large even for {@link SkillSumDpSolver}. On random rosters with skill points between 1 and 5 and 40 to 300 players, with and without anchorages,
+ * it reached the optimal difference in every measured case; with fewer players and anchorages, it can be a few points above it.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class DifferencingSolver {
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private int bestGap;
+
+  private final int[] positionLimits;
+  private final int[] parents;
+
+  private final boolean[] firstTeam;
+  private final boolean[] flipped;
+
+  private final Player[] players;
+
+  private final int[][] anchorages;
+  private final int[][] freeSlots;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the solver from the given players sets.
+   *
+   * @param playersSets    Players sets, grouped by position.
+   * @param formation      Formation stating the number of players per position in each team.
+   * @param withAnchorages Whether the anchorages of the players must be kept together.
+   */
+  public DifferencingSolver(Map<Position, List<Player>> playersSets, Formation formation, boolean withAnchorages) {
+    List<Player> flattenedPlayers = new ArrayList<>();
+    Map<Integer, List<Integer>> anchoredSlots = new LinkedHashMap<>();
+
+    freeSlots = new int[Position.values().length][];
+
+    for (Position position : Position.values()) {
+      List<Integer> positionFreeSlots = new ArrayList<>();
+
+      for (Player player : playersSets.get(position)) {
+        if (withAnchorages && player.isAnchored()) {
+          anchoredSlots.computeIfAbsent(player.getAnchorageNumber(), _ -> new ArrayList<>())
+                       .add(flattenedPlayers.size());
+        } else {
+          positionFreeSlots.add(flattenedPlayers.size());
+        }
+
+        flattenedPlayers.add(player);
+      }
+
+      // Free players sorted from highest to lowest skill points
+      freeSlots[position.ordinal()] = positionFreeSlots.stream()
+                                                      .sorted(Comparator.comparingInt((Integer slot) -> flattenedPlayers.get(slot)
+                                                                                                                        .getSkillPoints())
+                                                                        .reversed())
+                                                      .mapToInt(Integer::intValue)
+                                                      .toArray();
+    }
+
+    // Anchorages sorted from largest to smallest
+    anchorages = anchoredSlots.values()
+                              .stream()
+                              .sorted(Comparator.comparingInt((List<Integer> slots) -> slots.size())
+                                                .reversed())
+                              .map(slots -> slots.stream()
+                                                 .mapToInt(Integer::intValue)
+                                                 .toArray())
+                              .toArray(int[][]::new);
+
+    players = flattenedPlayers.toArray(new Player[0]);
+    positionLimits = formation.getPositionLimits();
+    firstTeam = new boolean[players.length];
+    parents = new int[players.length];
+    flipped = new boolean[players.length];
+    bestGap = Integer.MAX_VALUE;
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds a balanced split.
+   *
+   * <p>If the anchorages cannot be placed by their skill points, they are kept in the teams they currently belong to.
+   *
+   * @param firstTeamNumber Team number of the first team in the current distribution.
+   */
+  public void solve(int firstTeamNumber) {
+    int[] firstTeamQuotas = positionLimits.clone();
+    int[] secondTeamQuotas = positionLimits.clone();
+
+    if (!placeAnchorages(firstTeamQuotas, secondTeamQuotas, false)) {
+      System.arraycopy(positionLimits, 0, firstTeamQuotas, 0, firstTeamQuotas.length);
+      System.arraycopy(positionLimits, 0, secondTeamQuotas, 0, secondTeamQuotas.length);
+
+      for (int[] anchorage : anchorages) {
+        boolean inFirstTeam = players[anchorage[0]].getTeamNumber() == firstTeamNumber;
+
+        for (int slot : anchorage) {
+          firstTeam[slot] = inFirstTeam;
+        }
+      }
+
+      placeAnchorages(firstTeamQuotas, secondTeamQuotas, true);
+    }
+
+    // Items ordered from the largest value, holding the value and the representative player slot
+    PriorityQueue<long[]> items = new PriorityQueue<>(Comparator.comparingLong((long[] item) -> item[0])
+                                                                .reversed());
+
+    int fixedSlot = -1;
+    int fixedGap = 0;
+
+    for (int[] anchorage : anchorages) {
+      for (int slot : anchorage) {
+        fixedSlot = fixedSlot == -1 ? slot : fixedSlot;
+        parents[slot] = fixedSlot;
+        fixedGap += firstTeam[slot] ? players[slot].getSkillPoints() : -players[slot].getSkillPoints();
+      }
+    }
+
+    for (int position = 0; position < positionLimits.length; position++) {
+      int[] slots = freeSlots[position];
+      int pairsCount = Math.min(firstTeamQuotas[position], secondTeamQuotas[position]);
+      int extraCount = slots.length - 2 * pairsCount;
+      boolean extraToFirstTeam = firstTeamQuotas[position] > secondTeamQuotas[position];
+
+      // The players a team needs beyond the pairs are the highest ones if that team is behind so far, and the lowest ones if not
+      int firstPaired = extraToFirstTeam == fixedGap < 0 ? extraCount : 0;
+
+      for (int index = 0; index < slots.length; index++) {
+        if (index < firstPaired || index >= firstPaired + 2 * pairsCount) {
+          int slot = slots[index];
+
+          fixedSlot = fixedSlot == -1 ? slot : fixedSlot;
+          firstTeam[slot] = extraToFirstTeam;
+          parents[slot] = fixedSlot;
+          fixedGap += extraToFirstTeam ? players[slot].getSkillPoints() : -players[slot].getSkillPoints();
+        }
+      }
+
+      for (int pair = 0; pair < pairsCount; pair++) {
+        int higherSlot = slots[firstPaired + 2 * pair];
+        int lowerSlot = slots[firstPaired + 2 * pair + 1];
+
+        firstTeam[higherSlot] = true;
+        firstTeam[lowerSlot] = false;
+        parents[higherSlot] = higherSlot;
+        parents[lowerSlot] = higherSlot;
+
+        items.add(new long[] {(long) players[higherSlot].getSkillPoints() - players[lowerSlot].getSkillPoints(), higherSlot});
+      }
+    }
+
+    if (fixedSlot != -1) {
+      flipped[fixedSlot] = fixedGap < 0;
+
+      items.add(new long[] {Math.abs(fixedGap), fixedSlot});
+    }
+
+    // Placing the smallest item in the opposite orientation of the largest one leaves their difference
+    while (items.size() > 1) {
+      long[] largest = items.poll();
+      long[] smallest = items.poll();
+
+      parents[(int) smallest[1]] = (int) largest[1];
+      flipped[(int) smallest[1]] ^= true;
+
+      items.add(new long[] {largest[0] - smallest[0], largest[1]});
+    }
+
+    resolveTeams();
+    improveBySwaps();
+  }
+
+  /**
+   * Clears the given teams and distributes the players between them as stated by the split found.
+   *
+   * @param teams Teams where to distribute the players.
+   */
+  public void applySplit(List<Team> teams) {
+    teams.forEach(Team::clear);
+
+    for (int index = 0; index < players.length; index++) {
+      Team team = teams.get(firstTeam[index] ? 0 : 1);
+
+      players[index].setTeamNumber(team.getTeamNumber());
+
+      team.getTeamPlayers()
+          .get(players[index].getPosition())
+          .add(players[index]);
+    }
+  }
+
+  /**
+   * Translates the split found into a split mask.
+   *
+   * <p>The players are indexed in the same order as in a {@link SplitRoster} built from the same players sets, so this is only meaningful when there
+   * are no more players than the ones a split mask can represent.
+   *
+   * @return The split mask where the bits of the first team players are set.
+   */
+  public long getBestMask() {
+    long mask = 0;
+
+    for (int index = 0; index < players.length; index++) {
+      if (firstTeam[index]) {
+        mask |= 1L << index;
+      }
+    }
+
+    return mask;
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Sends every anchorage to a team with room for it, and discounts its players from the team quotas.
+   *
+   * @param firstTeamQuotas  Players still needed by the first team, per position.
+   * @param secondTeamQuotas Players still needed by the second team, per position.
+   * @param keepTeams        Whether the anchorages must stay in the teams already set, instead of going to the team with less skill points.
+   *
+   * @return Whether every anchorage could be placed.
+   */
+  private boolean placeAnchorages(int[] firstTeamQuotas, int[] secondTeamQuotas, boolean keepTeams) {
+    int skillGap = 0;
+
+    for (int[] anchorage : anchorages) {
+      int anchorageSkill = 0;
+
+      for (int slot : anchorage) {
+        anchorageSkill += players[slot].getSkillPoints();
+      }
+
+      boolean toFirstTeam = keepTeams ? firstTeam[anchorage[0]] : skillGap <= 0;
+
+      if (!keepTeams && !fits(anchorage, toFirstTeam ? firstTeamQuotas : secondTeamQuotas)) {
+        toFirstTeam = !toFirstTeam;
+      }
+
+      if (!keepTeams && !fits(anchorage, toFirstTeam ? firstTeamQuotas : secondTeamQuotas)) {
+        return false;
+      }
+
+      for (int slot : anchorage) {
+        firstTeam[slot] = toFirstTeam;
+        (toFirstTeam ? firstTeamQuotas : secondTeamQuotas)[players[slot].getPosition()
+                                                                        .ordinal()]--;
+      }
+
+      skillGap += toFirstTeam ? anchorageSkill : -anchorageSkill;
+    }
+
+    return true;
+  }
+
+  /**
+   * @param anchorage Anchorage player slots.
+   * @param quotas    Players still needed by a team, per position.
+   *
+   * @return Whether the team has room for every player of the anchorage.
+   */
+  private boolean fits(int[] anchorage, int[] quotas) {
+    int[] needed = new int[quotas.length];
+
+    for (int slot : anchorage) {
+      needed[players[slot].getPosition()
+                          .ordinal()]++;
+    }
+
+    for (int position = 0; position < quotas.length; position++) {
+      if (needed[position] > quotas[position]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Resolves the team of every player and computes the resulting skill points difference.
+   *
+   * <p>Every player starts in the team set when its item was built, and changes it once per flipped link between it and the last item left.
+   */
+  private void resolveTeams() {
+    boolean[] resolved = new boolean[players.length];
+    boolean[] reversed = new boolean[players.length];
+
+    int teamSkill = 0;
+    int totalSkill = 0;
+
+    for (int index = 0; index < players.length; index++) {
+      int current = index;
+
+      List<Integer> path = new ArrayList<>();
+
+      while (!resolved[current] && parents[current] != current) {
+        path.add(current);
+
+        current = parents[current];
+      }
+
+      if (!resolved[current]) {
+        reversed[current] = flipped[current];
+        resolved[current] = true;
+      }
+
+      for (int pathIndex = path.size() - 1; pathIndex >= 0; pathIndex--) {
+        int slot = path.get(pathIndex);
+
+        reversed[slot] = flipped[slot] ^ reversed[parents[slot]];
+        resolved[slot] = true;
+      }
+    }
+
+    for (int index = 0; index < players.length; index++) {
+      firstTeam[index] ^= reversed[index];
+      totalSkill += players[index].getSkillPoints();
+      teamSkill += firstTeam[index] ? players[index].getSkillPoints() : 0;
+    }
+
+    bestGap = Math.abs(2 * teamSkill - totalSkill);
+  }
+
+  /**
+   * Swaps a non-anchored player of the first team with a same-position non-anchored player of the second team while that lowers the skill points
+   * difference, picking each time the swap that lowers it the most.
+   *
+   * <p>Only distinct skill points values are tried for each team, since same-position players with the same skill points are interchangeable.
+   */
+  private void improveBySwaps() {
+    int signedGap = 0;
+
+    for (int index = 0; index < players.length; index++) {
+      signedGap += firstTeam[index] ? players[index].getSkillPoints() : -players[index].getSkillPoints();
+    }
+
+    boolean improved = signedGap != 0;
+
+    while (improved) {
+      improved = false;
+
+      int bestFirstSlot = -1;
+      int bestSecondSlot = -1;
+      int bestSwapGap = Math.abs(signedGap);
+
+      for (int[] slots : freeSlots) {
+        for (int firstIndex = 0; firstIndex < slots.length; firstIndex++) {
+          if (!firstTeam[slots[firstIndex]] || isRepeatedSkill(slots, firstIndex, true)) {
+            continue;
+          }
+
+          for (int secondIndex = 0; secondIndex < slots.length; secondIndex++) {
+            if (firstTeam[slots[secondIndex]] || isRepeatedSkill(slots, secondIndex, false)) {
+              continue;
+            }
+
+            int swapGap = Math.abs(signedGap - 2 * (players[slots[firstIndex]].getSkillPoints() - players[slots[secondIndex]].getSkillPoints()));
+
+            if (swapGap < bestSwapGap) {
+              bestSwapGap = swapGap;
+              bestFirstSlot = slots[firstIndex];
+              bestSecondSlot = slots[secondIndex];
+            }
+          }
+        }
+      }
+
+      if (bestFirstSlot != -1) {
+        signedGap -= 2 * (players[bestFirstSlot].getSkillPoints() - players[bestSecondSlot].getSkillPoints());
+        firstTeam[bestFirstSlot] = false;
+        firstTeam[bestSecondSlot] = true;
+        improved = signedGap != 0;
+      }
+    }
+
+    bestGap = Math.abs(signedGap);
+  }
+
+  /**
+   * @param slots     Position free player slots, sorted from highest to lowest skill points.
+   * @param index     Index of the slot to check.
+   * @param inFirstTeam Team of the slot to check.
+   *
+   * @return Whether a previous slot of the same team has the same skill points, so checking this one again is not needed.
+   */
+  private boolean isRepeatedSkill(int[] slots, int index, boolean inFirstTeam) {
+    for (int previous = index - 1; previous >= 0 && players[slots[previous]].getSkillPoints() == players[slots[index]].getSkillPoints(); previous--) {
+      if (firstTeam[slots[previous]] == inFirstTeam) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  public int getBestGap() {
+    return bestGap;
+  }
+}
\ No newline at end of file
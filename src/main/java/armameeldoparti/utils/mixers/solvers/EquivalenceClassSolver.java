@@ -0,0 +1,403 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exact two-team split solver that merges interchangeable players.
+ *
+ * <p>Two non-anchored players with the same position and skill points are interchangeable: swapping them never changes the split score. The players
+ * are then grouped into (position, skill points) equivalence classes and the search decides how many players of each class go to the first team,
+ * instead of deciding it player by player. Anchored players are not interchangeable, so each anchorage is kept as a single unit that goes entirely to
+ * one team or the other. The concrete players are only picked once the best class counts are known.
+ *
+ * <p>The class counts are searched depth-first, position by position, pruning every branch whose reachable first team skill points range cannot beat
+ * the best split found so far. The search also stops, keeping the best split found so far, when its thread is interrupted.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class EquivalenceClassSolver {
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final long INTERRUPTION_CHECK_INTERVAL = 1L << 10;
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private boolean stopped;
+
+  private int bestGap;
+
+  private long bestMask;
+  private long nodesCount;
+
+  private final int targetGap;
+  private final int totalSkill;
+
+  private final int[] classPositions;
+  private final int[] classSizes;
+  private final int[] classSkills;
+  private final int[] counts;
+  private final int[] positionLimits;
+  private final int[] quotas;
+  private final int[] bestCounts;
+  private final int[][] anchorageCounts;
+  private final int[] anchorageSkills;
+
+  private final long[] anchorageMasks;
+
+  private final int[][] classSlots;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the solver by grouping the roster players into equivalence classes.
+   *
+   * @param roster Roster whose splits will be searched.
+   */
+  public EquivalenceClassSolver(SplitRoster roster) {
+    int positionsCount = roster.getPositionSlots().length;
+
+    long anchoredMask = 0;
+
+    for (long anchorageMask : roster.getAnchorageMasks()) {
+      anchoredMask |= anchorageMask;
+    }
+
+    Map<Long, List<Integer>> classes = new LinkedHashMap<>();
+
+    for (int position = 0; position < positionsCount; position++) {
+      for (int slot : roster.getPositionSlots()[position]) {
+        if ((anchoredMask >>> slot & 1) == 0) {
+          classes.computeIfAbsent(((long) position << Integer.SIZE) | roster.getSkills()[slot], _ -> new ArrayList<>())
+                 .add(slot);
+        }
+      }
+    }
+
+    // Classes sorted by position and, within the same position, from highest to lowest skill points
+    List<Long> classKeys = new ArrayList<>(classes.keySet());
+
+    classKeys.sort(Comparator.comparingLong((Long key) -> key >>> Integer.SIZE)
+                             .thenComparing(Comparator.comparingLong((Long key) -> key & 0xFFFFFFFFL)
+                                                      .reversed()));
+
+    classPositions = new int[classKeys.size()];
+    classSizes = new int[classKeys.size()];
+    classSkills = new int[classKeys.size()];
+    classSlots = new int[classKeys.size()][];
+
+    for (int classIndex = 0; classIndex < classKeys.size(); classIndex++) {
+      List<Integer> slots = classes.get(classKeys.get(classIndex));
+
+      classPositions[classIndex] = (int) (classKeys.get(classIndex) >>> Integer.SIZE);
+      classSkills[classIndex] = (int) (classKeys.get(classIndex) & 0xFFFFFFFFL);
+      classSizes[classIndex] = slots.size();
+      classSlots[classIndex] = slots.stream()
+                                    .mapToInt(Integer::intValue)
+                                    .toArray();
+    }
+
+    anchorageMasks = roster.getAnchorageMasks();
+    anchorageCounts = new int[anchorageMasks.length][positionsCount];
+    anchorageSkills = new int[anchorageMasks.length];
+
+    for (int anchorage = 0; anchorage < anchorageMasks.length; anchorage++) {
+      for (int position = 0; position < positionsCount; position++) {
+        for (int slot : roster.getPositionSlots()[position]) {
+          if ((anchorageMasks[anchorage] >>> slot & 1) == 1) {
+            anchorageCounts[anchorage][position]++;
+            anchorageSkills[anchorage] += roster.getSkills()[slot];
+          }
+        }
+      }
+    }
+
+    positionLimits = roster.getPositionLimits();
+    totalSkill = roster.getTotalSkill();
+    targetGap = totalSkill % 2;
+    counts = new int[classKeys.size()];
+    bestCounts = new int[classKeys.size()];
+    quotas = new int[positionsCount];
+    bestGap = Integer.MAX_VALUE;
+    bestMask = -1;
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Searches the most balanced split.
+   *
+   * <p>Every feasible way of sending the anchorages to the teams is tried, and for each one the class counts are searched. The search stops as soon as
+   * a split reaching the lowest possible skill points difference (0, or 1 if the total skill points are odd) is found, or as soon as the thread is
+   * interrupted.
+   */
+  public void solve() {
+    long bestAnchorages = -1;
+
+    long anchoragesCount = 1L << anchorageMasks.length;
+
+    for (long anchorages = 0; anchorages < anchoragesCount && bestGap > targetGap && !stopped; anchorages++) {
+      int anchoredSkill = 0;
+
+      System.arraycopy(positionLimits, 0, quotas, 0, quotas.length);
+
+      for (int anchorage = 0; anchorage < anchorageMasks.length; anchorage++) {
+        if ((anchorages >>> anchorage & 1) == 1) {
+          anchoredSkill += anchorageSkills[anchorage];
+
+          for (int position = 0; position < quotas.length; position++) {
+            quotas[position] -= anchorageCounts[anchorage][position];
+          }
+        }
+      }
+
+      if (quotasAreFeasible() && searchClasses(0, quotas[classPositions.length == 0 ? 0 : classPositions[0]], anchoredSkill)) {
+        bestAnchorages = anchorages;
+      }
+    }
+
+    if (bestAnchorages != -1) {
+      bestMask = expand(bestAnchorages);
+    }
+  }
+
+  /**
+   * @return An upper bound of the number of states searched by this solver: the product of the possible counts of every class and the possible
+   *         anchorages assignments.
+   */
+  public double getSearchSpaceSize() {
+    double size = Math.pow(2, anchorageMasks.length);
+
+    for (int classSize : classSizes) {
+      size *= classSize + 1;
+    }
+
+    return size;
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Chooses recursively how many players of each class go to the first team.
+   *
+   * @param classIndex Class whose count must be chosen.
+   * @param quota      Players still needed by the first team in the current class position.
+   * @param teamSkill  First team skill points accumulated so far.
+   *
+   * @return Whether a better split than the best one known was found in this branch.
+   */
+  private boolean searchClasses(int classIndex, int quota, int teamSkill) {
+    if (classIndex == classSizes.length) {
+      int gap = Math.abs(2 * teamSkill - totalSkill);
+
+      if (gap < bestGap) {
+        bestGap = gap;
+
+        System.arraycopy(counts, 0, bestCounts, 0, counts.length);
+
+        return true;
+      }
+
+      return false;
+    }
+
+    if (interrupted() || lowerBound(classIndex, quota, teamSkill) >= bestGap) {
+      return false;
+    }
+
+    int position = classPositions[classIndex];
+    boolean lastOfPosition = classIndex + 1 == classSizes.length || classPositions[classIndex + 1] != position;
+    int remainingInPosition = 0;
+
+    for (int nextClass = classIndex + 1; nextClass < classSizes.length && classPositions[nextClass] == position; nextClass++) {
+      remainingInPosition += classSizes[nextClass];
+    }
+
+    boolean improved = false;
+
+    int maxCount = Math.min(classSizes[classIndex], quota);
+    int minCount = lastOfPosition ? quota : Math.max(0, quota - remainingInPosition);
+
+    for (int count = maxCount; count >= minCount && bestGap > targetGap && !stopped; count--) {
+      counts[classIndex] = count;
+
+      int nextQuota = lastOfPosition ? nextPositionQuota(classIndex + 1) : quota - count;
+
+      improved |= searchClasses(classIndex + 1, nextQuota, teamSkill + count * classSkills[classIndex]);
+    }
+
+    counts[classIndex] = 0;
+
+    return improved;
+  }
+
+  /**
+   * Counts a new search node, and checks every some nodes whether the thread was interrupted.
+   *
+   * @return Whether the search must stop because the thread was interrupted.
+   */
+  private boolean interrupted() {
+    if (++nodesCount % INTERRUPTION_CHECK_INTERVAL == 0 && Thread.currentThread()
+                                                                  .isInterrupted()) {
+      stopped = true;
+    }
+
+    return stopped;
+  }
+
+  /**
+   * Computes the lowest skill points difference reachable from the current branch.
+   *
+   * <p>For the current position, the remaining quota is filled with either the highest or the lowest skilled remaining classes. For the following
+   * positions, their full quotas are filled the same way. If the resulting first team skill points range contains half the total skill points, the
+   * bound is 0.
+   *
+   * @param classIndex Class whose count must be chosen next.
+   * @param quota      Players still needed by the first team in the current class position.
+   * @param teamSkill  First team skill points accumulated so far.
+   *
+   * @return A lower bound of the skill points difference of any split in this branch.
+   */
+  private int lowerBound(int classIndex, int quota, int teamSkill) {
+    int minSkill = teamSkill;
+    int maxSkill = teamSkill;
+    int currentQuota = quota;
+    int position = classPositions[classIndex];
+    int positionStart = classIndex;
+
+    for (int current = classIndex; current <= classSizes.length; current++) {
+      if (current == classSizes.length || classPositions[current] != position) {
+        minSkill += fillFromBottom(positionStart, current, currentQuota);
+        maxSkill += fillFromTop(positionStart, current, currentQuota);
+
+        if (current == classSizes.length) {
+          break;
+        }
+
+        position = classPositions[current];
+        positionStart = current;
+        currentQuota = quotas[position];
+      }
+    }
+
+    if (2 * maxSkill < totalSkill) {
+      return totalSkill - 2 * maxSkill;
+    }
+
+    return 2 * minSkill > totalSkill ? 2 * minSkill - totalSkill : 0;
+  }
+
+  /**
+   * @param fromClass First class of the range (inclusive).
+   * @param toClass   Last class of the range (exclusive).
+   * @param quota     Number of players to take.
+   *
+   * @return The skill points of the highest skilled players of the given classes range.
+   */
+  private int fillFromTop(int fromClass, int toClass, int quota) {
+    int skill = 0;
+    int remaining = quota;
+
+    for (int classIndex = fromClass; classIndex < toClass && remaining > 0; classIndex++) {
+      int taken = Math.min(remaining, classSizes[classIndex]);
+
+      skill += taken * classSkills[classIndex];
+      remaining -= taken;
+    }
+
+    return skill;
+  }
+
+  /**
+   * @param fromClass First class of the range (inclusive).
+   * @param toClass   Last class of the range (exclusive).
+   * @param quota     Number of players to take.
+   *
+   * @return The skill points of the lowest skilled players of the given classes range.
+   */
+  private int fillFromBottom(int fromClass, int toClass, int quota) {
+    int skill = 0;
+    int remaining = quota;
+
+    for (int classIndex = toClass - 1; classIndex >= fromClass && remaining > 0; classIndex--) {
+      int taken = Math.min(remaining, classSizes[classIndex]);
+
+      skill += taken * classSkills[classIndex];
+      remaining -= taken;
+    }
+
+    return skill;
+  }
+
+  /**
+   * @param classIndex First class of the next position.
+   *
+   * @return The first team quota of the position of the given class, or 0 if there are no more classes.
+   */
+  private int nextPositionQuota(int classIndex) {
+    return classIndex == classSizes.length ? 0 : quotas[classPositions[classIndex]];
+  }
+
+  /**
+   * @return Whether every position quota left by the anchorages can be filled with the non-anchored players, and whether the positions without any
+   *         non-anchored player are already complete.
+   */
+  private boolean quotasAreFeasible() {
+    int[] freePlayers = new int[quotas.length];
+
+    for (int classIndex = 0; classIndex < classSizes.length; classIndex++) {
+      freePlayers[classPositions[classIndex]] += classSizes[classIndex];
+    }
+
+    for (int position = 0; position < quotas.length; position++) {
+      if (quotas[position] < 0 || quotas[position] > freePlayers[position]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Picks the concrete first team players from the best class counts.
+   *
+   * @param anchorages Bit mask of the anchorages that go to the first team.
+   *
+   * @return The split mask of the best split.
+   */
+  private long expand(long anchorages) {
+    long mask = 0;
+
+    for (int anchorage = 0; anchorage < anchorageMasks.length; anchorage++) {
+      if ((anchorages >>> anchorage & 1) == 1) {
+        mask |= anchorageMasks[anchorage];
+      }
+    }
+
+    for (int classIndex = 0; classIndex < classSizes.length; classIndex++) {
+      for (int player = 0; player < bestCounts[classIndex]; player++) {
+        mask |= 1L << classSlots[classIndex][player];
+      }
+    }
+
+    return mask;
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  public int getBestGap() {
+    return bestGap;
+  }
+
+  public long getBestMask() {
+    return bestMask;
+  }
+}
@@ -0,0 +1,206 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Valid two-team splits enumerator that walks the splits in Gray-code order.
+ *
+ * <p>Within each position, the ways of choosing the first team players are listed in revolving-door order, so two consecutive choices differ by a
+ * single player going in and a single player going out. The positions are then combined with a loopless reflected mixed-radix Gray code (Knuth,
+ * TAOCP 7.2.1.1, algorithm H), so every step changes the choice of exactly one position. As a result, consecutive splits differ by one same-position
+ * swap, and the first team skill points are updated with one addition and one subtraction per step instead of being recomputed.
+ *
+ * <p>The enumeration also ends early, as if there were no more splits, when its thread is interrupted. This is checked every some steps.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class GraySplitEnumerator {
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final long INTERRUPTION_CHECK_INTERVAL = 1L << 10;
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private int teamSkill;
+
+  private long mask;
+  private long stepsCount;
+
+  private final int[] skills;
+  private final int[] digits;
+  private final int[] directions;
+  private final int[] focusPointers;
+  private final int[] radices;
+  private final int[][] playersIn;
+  private final int[][] playersOut;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the enumerator positioned on the first valid split of the given roster.
+   *
+   * @param roster Roster whose splits will be enumerated.
+   */
+  public GraySplitEnumerator(SplitRoster roster) {
+    List<long[]> sequences = new ArrayList<>();
+
+    long firstMask = 0;
+
+    for (long[] sequence : roster.getSplitSequences()) {
+      firstMask |= sequence[0];
+
+      // Positions with a single possible choice never change, so they are left out of the Gray code
+      if (sequence.length > 1) {
+        sequences.add(sequence);
+      }
+    }
+
+    int positionsCount = sequences.size();
+
+    skills = roster.getSkills();
+    digits = new int[positionsCount];
+    directions = new int[positionsCount];
+    focusPointers = new int[positionsCount + 1];
+    radices = new int[positionsCount];
+    playersIn = new int[positionsCount][];
+    playersOut = new int[positionsCount][];
+
+    for (int position = 0; position < positionsCount; position++) {
+      long[] sequence = sequences.get(position);
+
+      radices[position] = sequence.length;
+      directions[position] = 1;
+      focusPointers[position] = position;
+      playersIn[position] = new int[sequence.length - 1];
+      playersOut[position] = new int[sequence.length - 1];
+
+      for (int step = 0; step < sequence.length - 1; step++) {
+        playersIn[position][step] = Long.numberOfTrailingZeros(sequence[step + 1] & ~sequence[step]);
+        playersOut[position][step] = Long.numberOfTrailingZeros(sequence[step] & ~sequence[step + 1]);
+      }
+    }
+
+    focusPointers[positionsCount] = positionsCount;
+
+    mask = firstMask;
+    teamSkill = roster.getTeamSkill(firstMask);
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Moves to the next split by swapping a single pair of same-position players.
+   *
+   * @return Whether there was a next split to move to. If not, or if the thread was interrupted, the enumeration is over and the current split does
+   *         not change.
+   */
+  public boolean next() {
+    if (++stepsCount % INTERRUPTION_CHECK_INTERVAL == 0 && Thread.currentThread()
+                                                                 .isInterrupted()) {
+      return false;
+    }
+
+    int position = focusPointers[0];
+
+    focusPointers[0] = 0;
+
+    if (position == radices.length) {
+      return false;
+    }
+
+    int playerIn;
+    int playerOut;
+
+    if (directions[position] == 1) {
+      playerIn = playersIn[position][digits[position]];
+      playerOut = playersOut[position][digits[position]];
+    } else {
+      playerIn = playersOut[position][digits[position] - 1];
+      playerOut = playersIn[position][digits[position] - 1];
+    }
+
+    digits[position] += directions[position];
+    mask ^= (1L << playerIn) | (1L << playerOut);
+    teamSkill += skills[playerIn] - skills[playerOut];
+
+    if (digits[position] == 0 || digits[position] == radices[position] - 1) {
+      directions[position] = -directions[position];
+      focusPointers[position] = focusPointers[position + 1];
+      focusPointers[position + 1] = position + 1;
+    }
+
+    return true;
+  }
+
+  /**
+   * Lists every way of choosing {@code limit} players out of the given position slots, in revolving-door order.
+   *
+   * @param slots Roster indices of the players of the position.
+   * @param limit Number of players of the position that go to the first team.
+   *
+   * @return The roster masks of every choice, where consecutive masks differ by exactly one player going in and one going out.
+   */
+  public static long[] positionSequence(int[] slots, int limit) {
+    List<Long> localMasks = new ArrayList<>();
+
+    revolvingDoor(slots.length, limit, 0, false, localMasks);
+
+    long[] sequence = new long[localMasks.size()];
+
+    for (int index = 0; index < sequence.length; index++) {
+      long localMask = localMasks.get(index);
+
+      for (int slot = 0; slot < slots.length; slot++) {
+        if ((localMask >>> slot & 1) == 1) {
+          sequence[index] |= 1L << slots[slot];
+        }
+      }
+    }
+
+    return sequence;
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Appends the revolving-door sequence of {@code k}-combinations of {@code n} elements, defined recursively as the sequence for {@code (n - 1, k)}
+   * followed by the reversed sequence for {@code (n - 1, k - 1)} with the element {@code n - 1} added to each combination.
+   *
+   * @param n        Number of elements.
+   * @param k        Number of chosen elements.
+   * @param prefix   Elements already fixed by the outer recursion levels.
+   * @param reversed Whether the sequence must be appended backwards.
+   * @param output   Where to append the combinations.
+   */
+  private static void revolvingDoor(int n, int k, long prefix, boolean reversed, List<Long> output) {
+    if (k == 0 || k == n) {
+      output.add(prefix | ((1L << k) - 1));
+
+      return;
+    }
+
+    if (reversed) {
+      revolvingDoor(n - 1, k - 1, prefix | 1L << (n - 1), false, output);
+      revolvingDoor(n - 1, k, prefix, true, output);
+    } else {
+      revolvingDoor(n - 1, k, prefix, false, output);
+      revolvingDoor(n - 1, k - 1, prefix | 1L << (n - 1), true, output);
+    }
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  public int getTeamSkill() {
+    return teamSkill;
+  }
+
+  public long getMask() {
+    return mask;
+  }
+}
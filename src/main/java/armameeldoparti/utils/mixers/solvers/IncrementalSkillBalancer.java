@@ -0,0 +1,230 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import armameeldoparti.models.Player;
+import armameeldoparti.models.Team;
+import armameeldoparti.models.enums.Position;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Incremental skill points balancer, meant to answer "what if" questions while the skill points are being changed one at a time.
+ *
+ * <p>It keeps a distribution of the players (every player team, every team skill points sum, and the players of every position) and re-optimizes it
+ * whenever a single player skill points change, instead of distributing the players from scratch. The distribution is improved by swapping two
+ * non-anchored players of the same position between two teams, as long as that lowers the sum of the squared team skill points sums. Whether such a
+ * swap helps only depends on the skill points sums of both teams, so after a change only the swaps involving the team of the changed player are
+ * checked, and then only the ones involving the teams changed by every applied swap.
+ *
+ * <p>The movable players are indexed by team and position, so only the players of the changed teams and their same-position partners in the other
+ * teams are scanned, instead of every pair of players. Every check is a constant-time update over primitive arrays, so a change is re-optimized in
+ * microseconds for any realistic roster. The result is a local optimum starting from the last distribution, not necessarily the most balanced one.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class IncrementalSkillBalancer {
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final boolean[] dirtyTeams;
+
+  private final int[] playerPositions;
+  private final int[] playerSlots;
+  private final int[] playerTeams;
+  private final int[] skills;
+  private final int[][][] teamSlots;
+
+  private final long[] teamSkills;
+
+  private final Map<Player, Integer> indexes;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the balancer starting from the given distribution.
+   *
+   * @param teams          Teams with the players distributed.
+   * @param skillPoints    Current skill points of every player.
+   * @param withAnchorages Whether the anchored players must stay in their teams.
+   */
+  public IncrementalSkillBalancer(List<Team> teams, Map<Player, Integer> skillPoints, boolean withAnchorages) {
+    List<Player> players = new ArrayList<>();
+    List<Integer> teamIndexes = new ArrayList<>();
+
+    teamSlots = new int[teams.size()][Position.values().length][];
+
+    for (int teamIndex = 0; teamIndex < teams.size(); teamIndex++) {
+      for (Map.Entry<Position, List<Player>> positionSet : teams.get(teamIndex)
+                                                                .getTeamPlayers()
+                                                                .entrySet()) {
+        List<Integer> movablePlayers = new ArrayList<>();
+
+        for (Player player : positionSet.getValue()) {
+          if (!(withAnchorages && player.isAnchored())) {
+            movablePlayers.add(players.size());
+          }
+
+          players.add(player);
+          teamIndexes.add(teamIndex);
+        }
+
+        Position position = positionSet.getKey();
+
+        teamSlots[teamIndex][position.ordinal()] = movablePlayers.stream()
+                                                                 .mapToInt(Integer::intValue)
+                                                                 .toArray();
+      }
+    }
+
+    indexes = new HashMap<>();
+    playerPositions = new int[players.size()];
+    playerSlots = new int[players.size()];
+    playerTeams = new int[players.size()];
+    skills = new int[players.size()];
+    teamSkills = new long[teams.size()];
+    dirtyTeams = new boolean[teams.size()];
+
+    for (int index = 0; index < players.size(); index++) {
+      Player player = players.get(index);
+
+      indexes.put(player, index);
+
+      playerTeams[index] = teamIndexes.get(index);
+      skills[index] = skillPoints.getOrDefault(player, 0);
+      teamSkills[playerTeams[index]] += skills[index];
+    }
+
+    for (int teamIndex = 0; teamIndex < teams.size(); teamIndex++) {
+      for (int position = 0; position < teamSlots[teamIndex].length; position++) {
+        for (int slot = 0; slot < teamSlots[teamIndex][position].length; slot++) {
+          playerPositions[teamSlots[teamIndex][position][slot]] = position;
+          playerSlots[teamSlots[teamIndex][position][slot]] = slot;
+        }
+      }
+    }
+
+    Arrays.fill(dirtyTeams, true);
+
+    rebalance();
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Changes the skill points of a player and re-optimizes the distribution.
+   *
+   * @param player      Player whose skill points changed. Players outside the distribution are ignored.
+   * @param skillPoints New skill points of the player.
+   */
+  public void updateSkill(Player player, int skillPoints) {
+    Integer index = indexes.get(player);
+
+    if (index == null || skills[index] == skillPoints) {
+      return;
+    }
+
+    teamSkills[playerTeams[index]] += skillPoints - skills[index];
+    skills[index] = skillPoints;
+    dirtyTeams[playerTeams[index]] = true;
+
+    rebalance();
+  }
+
+  /**
+   * @return The skill points difference between the strongest and the weakest team in the current distribution.
+   */
+  public long getGap() {
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+
+    for (long teamSkill : teamSkills) {
+      min = Math.min(min, teamSkill);
+      max = Math.max(max, teamSkill);
+    }
+
+    return teamSkills.length == 0 ? 0 : max - min;
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Applies the best swap involving a changed team until no swap lowers the sum of the squared team skill points sums.
+   *
+   * <p>Swapping a player with {@code s} skill points from a team with {@code A} skill points for one with {@code t} skill points from a team with
+   * {@code B} skill points moves {@code d = s - t} points, and changes the sum of the squared sums by {@code 2d(B - A) + 2d²}.
+   *
+   * <p>Only the movable players of the changed teams are scanned, each one against the movable players of the same position in every other team.
+   * A team stays changed until a scan finds no improving swap involving it, since only the best swap of every scan is applied.
+   */
+  private void rebalance() {
+    boolean swapped = true;
+
+    while (swapped) {
+      long bestChange = 0;
+      int bestPlayer = -1;
+      int bestPartner = -1;
+
+      for (int playerTeam = 0; playerTeam < teamSlots.length; playerTeam++) {
+        if (!dirtyTeams[playerTeam]) {
+          continue;
+        }
+
+        boolean improvable = false;
+
+        for (int position = 0; position < teamSlots[playerTeam].length; position++) {
+          for (int player : teamSlots[playerTeam][position]) {
+            for (int partnerTeam = 0; partnerTeam < teamSlots.length; partnerTeam++) {
+              // Pairs of changed teams are checked from the first one only
+              if (partnerTeam == playerTeam || dirtyTeams[partnerTeam] && partnerTeam < playerTeam) {
+                continue;
+              }
+
+              for (int partner : teamSlots[partnerTeam][position]) {
+                long moved = (long) skills[player] - skills[partner];
+                long change = 2 * moved * (teamSkills[partnerTeam] - teamSkills[playerTeam]) + 2 * moved * moved;
+
+                improvable |= change < 0;
+
+                if (change < bestChange) {
+                  bestChange = change;
+                  bestPlayer = player;
+                  bestPartner = partner;
+                }
+              }
+            }
+          }
+        }
+
+        dirtyTeams[playerTeam] = improvable;
+      }
+
+      swapped = bestPlayer != -1;
+
+      if (swapped) {
+        int playerTeam = playerTeams[bestPlayer];
+        int partnerTeam = playerTeams[bestPartner];
+        long moved = (long) skills[bestPlayer] - skills[bestPartner];
+
+        teamSkills[playerTeam] -= moved;
+        teamSkills[partnerTeam] += moved;
+        playerTeams[bestPlayer] = partnerTeam;
+        playerTeams[bestPartner] = playerTeam;
+        dirtyTeams[playerTeam] = true;
+        dirtyTeams[partnerTeam] = true;
+
+        int playerSlot = playerSlots[bestPlayer];
+
+        teamSlots[playerTeam][playerPositions[bestPlayer]][playerSlot] = bestPartner;
+        teamSlots[partnerTeam][playerPositions[bestPartner]][playerSlots[bestPartner]] = bestPlayer;
+        playerSlots[bestPlayer] = playerSlots[bestPartner];
+        playerSlots[bestPartner] = playerSlot;
+      }
+    }
+  }
+}
\ No newline at end of file
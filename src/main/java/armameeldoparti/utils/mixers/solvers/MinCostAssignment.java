@@ -0,0 +1,192 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * Assignment of players to groups with limited room (such as the positions of the formation, or the positions of each team) at the lowest total
+ * cost, solved as a min-cost flow.
+ *
+ * <p>The flow network has an edge from the source to every player, an edge from every player to every group it can join, and an edge from every
+ * group to the sink with the group room as its capacity. One unit of flow is sent at a time through the cheapest augmenting path, found with the
+ * queue-based Bellman-Ford algorithm since the costs can be negative. Since every path is the cheapest one, the residual network never has negative
+ * cycles, and the assignment is optimal once every player has been assigned.
+ *
+ * <p>With {@code n} players and {@code g} groups, the solver runs in {@code O(n * n * g * (n + g))} time in the worst case, which is negligible for
+ * the rosters sizes of the program, while the number of ways to assign the players grows exponentially.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class MinCostAssignment {
+
+  // ---------- Public constants ---------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Cost of a player joining a group it cannot join.
+   */
+  public static final long FORBIDDEN = Long.MAX_VALUE;
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private int edgesCount;
+
+  private final int groupsCount;
+  private final int playersCount;
+  private final int sink;
+
+  private final int[] capacities;
+  private final int[] edgeCapacities;
+  private final int[] edgeTargets;
+  private final int[] heads;
+  private final int[] nextEdges;
+
+  private final long[] edgeCosts;
+
+  private final long[][] costs;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the solver for the given costs and groups room.
+   *
+   * @param costs      Cost of every player joining every group, or {@link #FORBIDDEN} if it cannot join it.
+   * @param capacities Room of every group.
+   */
+  public MinCostAssignment(long[][] costs, int[] capacities) {
+    this.costs = costs;
+    this.capacities = capacities;
+
+    playersCount = costs.length;
+    groupsCount = capacities.length;
+    sink = playersCount + groupsCount + 1;
+
+    int maxEdges = 2 * (playersCount + playersCount * groupsCount + groupsCount);
+
+    heads = new int[sink + 1];
+    nextEdges = new int[maxEdges];
+    edgeTargets = new int[maxEdges];
+    edgeCapacities = new int[maxEdges];
+    edgeCosts = new long[maxEdges];
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Assigns every player to a group at the lowest total cost.
+   *
+   * @return The group of every player, or {@code null} if the players cannot all be assigned.
+   */
+  public int[] solve() {
+    buildNetwork();
+
+    long[] distances = new long[sink + 1];
+    int[] parentEdges = new int[sink + 1];
+    boolean[] queued = new boolean[sink + 1];
+
+    Deque<Integer> queue = new ArrayDeque<>();
+
+    for (int flow = 0; flow < playersCount; flow++) {
+      Arrays.fill(distances, Long.MAX_VALUE);
+
+      distances[0] = 0;
+
+      queue.add(0);
+
+      while (!queue.isEmpty()) {
+        int node = queue.poll();
+
+        queued[node] = false;
+
+        for (int edge = heads[node]; edge != -1; edge = nextEdges[edge]) {
+          int target = edgeTargets[edge];
+
+          if (edgeCapacities[edge] > 0 && distances[node] + edgeCosts[edge] < distances[target]) {
+            distances[target] = distances[node] + edgeCosts[edge];
+            parentEdges[target] = edge;
+
+            if (!queued[target]) {
+              queued[target] = true;
+
+              queue.add(target);
+            }
+          }
+        }
+      }
+
+      if (distances[sink] == Long.MAX_VALUE) {
+        return null;
+      }
+
+      // Every edge is paired with its reverse edge, whose index only differs in the lowest bit
+      for (int node = sink; node != 0; node = edgeTargets[parentEdges[node] ^ 1]) {
+        edgeCapacities[parentEdges[node]]--;
+        edgeCapacities[parentEdges[node] ^ 1]++;
+      }
+    }
+
+    int[] groups = new int[playersCount];
+
+    for (int player = 0; player < playersCount; player++) {
+      for (int edge = heads[player + 1]; edge != -1; edge = nextEdges[edge]) {
+        if (edgeTargets[edge] > playersCount && edgeTargets[edge] < sink && edgeCapacities[edge] == 0 && edge % 2 == 0) {
+          groups[player] = edgeTargets[edge] - playersCount - 1;
+        }
+      }
+    }
+
+    return groups;
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the flow network: node 0 is the source, nodes {@code 1..n} are the players, the following {@code g} nodes are the groups, and the last
+   * node is the sink.
+   */
+  private void buildNetwork() {
+    edgesCount = 0;
+
+    Arrays.fill(heads, -1);
+
+    for (int player = 0; player < playersCount; player++) {
+      addEdge(0, player + 1, 1, 0);
+
+      for (int group = 0; group < groupsCount; group++) {
+        if (costs[player][group] != FORBIDDEN) {
+          addEdge(player + 1, playersCount + 1 + group, 1, costs[player][group]);
+        }
+      }
+    }
+
+    for (int group = 0; group < groupsCount; group++) {
+      addEdge(playersCount + 1 + group, sink, capacities[group], 0);
+    }
+  }
+
+  /**
+   * Adds an edge and its reverse edge to the residual network.
+   *
+   * @param from     Edge source node.
+   * @param to       Edge target node.
+   * @param capacity Edge capacity.
+   * @param cost     Cost of every unit of flow through the edge.
+   */
+  private void addEdge(int from, int to, int capacity, long cost) {
+    edgeTargets[edgesCount] = to;
+    edgeCapacities[edgesCount] = capacity;
+    edgeCosts[edgesCount] = cost;
+    nextEdges[edgesCount] = heads[from];
+    heads[from] = edgesCount++;
+
+    edgeTargets[edgesCount] = from;
+    edgeCapacities[edgesCount] = 0;
+    edgeCosts[edgesCount] = -cost;
+    nextEdges[edgesCount] = heads[to];
+    heads[to] = edgesCount++;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fork-join exhaustive search over the ranked splits of a roster.
+ *
+ * <p>The split indexes range is halved recursively until the chunks are small enough, and each chunk is searched by its own
+ * {@link RankedSplitSearch}, which keeps a thread-local best split. Every chunk search publishes its improvements to a lock-free global best, so all
+ * of them stop as soon as any finds a split with the lowest possible skill points difference. The chunk bests are merged while joining the tasks.
+ *
+ * <p>The global best is only an early exit signal: no chunk is skipped because it cannot beat it, since a range of ranked split indexes has no
+ * cheap bound on the skill points differences of its splits. Until a perfectly balanced split is found, every split is scored.
+ *
+ * <p>The search runs in the common fork-join pool, whose worker threads plus the calling thread use every available core. Interrupting the pool
+ * workers is not possible, so the chunks not searched yet are skipped once the thread that started the search is interrupted.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class ParallelSplitSearch {
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final long CHUNK_SIZE = 1L << 14;
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private int bestGap;
+
+  private long bestMask;
+
+  private Thread searchThread;
+
+  private final SplitIndex splitIndex;
+
+  private final SplitRoster roster;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the search with no split found yet.
+   *
+   * @param roster     Roster whose splits will be searched.
+   * @param splitIndex Splits ranking of the roster.
+   */
+  public ParallelSplitSearch(SplitRoster roster, SplitIndex splitIndex) {
+    this.roster = roster;
+    this.splitIndex = splitIndex;
+
+    bestGap = Integer.MAX_VALUE;
+    bestMask = -1;
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Searches the most balanced split among every ranked split, using every available core.
+   */
+  public void search() {
+    searchThread = Thread.currentThread();
+
+    RankedSplitSearch best = ForkJoinPool.commonPool()
+                                         .invoke(new ChunkTask(0,
+                                                               splitIndex.getSplitsCount(),
+                                                               SkillGapKernel.forRoster(roster),
+                                                               new AtomicInteger(Integer.MAX_VALUE)));
+
+    bestGap = best.getBestGap();
+    bestMask = best.getBestMask();
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  public int getBestGap() {
+    return bestGap;
+  }
+
+  public long getBestMask() {
+    return bestMask;
+  }
+
+  // ---------- Private classes ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Fork-join task that searches a range of split indexes, splitting it in halves while it is bigger than the chunk size.
+   */
+  private final class ChunkTask extends RecursiveTask<RankedSplitSearch> {
+
+    private final long fromIndex;
+    private final long toIndex;
+
+    private final transient AtomicInteger globalBestGap;
+
+    private final transient SkillGapKernel kernel;
+
+    /**
+     * Builds the task for the given range.
+     *
+     * @param fromIndex     First split index to search (inclusive).
+     * @param toIndex       Last split index to search (exclusive).
+     * @param kernel        Kernel used to score the splits, shared by every task since it is stateless.
+     * @param globalBestGap Best skill points difference found by any task, used to stop every task once it is the lowest possible one.
+     */
+    private ChunkTask(long fromIndex, long toIndex, SkillGapKernel kernel, AtomicInteger globalBestGap) {
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+      this.kernel = kernel;
+      this.globalBestGap = globalBestGap;
+    }
+
+    @Override
+    protected RankedSplitSearch compute() {
+      if (toIndex - fromIndex <= CHUNK_SIZE) {
+        RankedSplitSearch chunkSearch = new RankedSplitSearch(roster, splitIndex, kernel, globalBestGap);
+
+        if (!searchThread.isInterrupted()) {
+          chunkSearch.search(fromIndex, toIndex);
+        }
+
+        return chunkSearch;
+      }
+
+      long middleIndex = fromIndex + (toIndex - fromIndex) / 2;
+
+      ChunkTask upperHalf = new ChunkTask(middleIndex, toIndex, kernel, globalBestGap);
+
+      upperHalf.fork();
+
+      RankedSplitSearch lowerBest = new ChunkTask(fromIndex, middleIndex, kernel, globalBestGap).compute();
+      RankedSplitSearch upperBest = upperHalf.join();
+
+      return upperBest.getBestGap() < lowerBest.getBestGap() ? upperBest : lowerBest;
+    }
+  }
+}
@@ -0,0 +1,126 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Exhaustive search over a range of ranked splits.
+ *
+ * <p>The splits of the range are unranked in batches and every batch is scored at once by a {@link SkillGapKernel}, so the scoring can run in SIMD
+ * lanes when the Vector API is available. Unlike the Gray-code walk, any range of split indexes can be searched on its own.
+ *
+ * <p>Several searches over different ranges can share a global best skill points difference: each search keeps its own best split, but publishes every
+ * improvement to the shared value and stops as soon as any of them reaches the lowest possible difference.
+ *
+ * <p>The search also stops when its thread is interrupted, keeping the best split found so far. This is checked before every batch.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ *
+ * @see SplitIndex
+ */
+public final class RankedSplitSearch {
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final int BATCH_SIZE = 512;
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private int bestGap;
+
+  private long bestMask;
+
+  private final int targetGap;
+
+  private final int[] gaps;
+
+  private final long[] masks;
+
+  private final AtomicInteger globalBestGap;
+
+  private final SkillGapKernel kernel;
+
+  private final SplitIndex splitIndex;
+
+  private final SplitRoster roster;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds a standalone search with no split found yet.
+   *
+   * @param roster     Roster whose splits will be searched.
+   * @param splitIndex Splits ranking of the roster.
+   * @param kernel     Kernel used to score the splits.
+   */
+  public RankedSplitSearch(SplitRoster roster, SplitIndex splitIndex, SkillGapKernel kernel) {
+    this(roster, splitIndex, kernel, new AtomicInteger(Integer.MAX_VALUE));
+  }
+
+  /**
+   * Builds a search with no split found yet that shares its best skill points difference with other searches.
+   *
+   * @param roster        Roster whose splits will be searched.
+   * @param splitIndex    Splits ranking of the roster.
+   * @param kernel        Kernel used to score the splits.
+   * @param globalBestGap Best skill points difference found by any of the searches sharing it.
+   */
+  public RankedSplitSearch(SplitRoster roster, SplitIndex splitIndex, SkillGapKernel kernel, AtomicInteger globalBestGap) {
+    this.roster = roster;
+    this.splitIndex = splitIndex;
+    this.kernel = kernel;
+    this.globalBestGap = globalBestGap;
+
+    targetGap = roster.getTotalSkill() % 2;
+    gaps = new int[BATCH_SIZE];
+    masks = new long[BATCH_SIZE];
+    bestGap = Integer.MAX_VALUE;
+    bestMask = -1;
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Searches the most balanced split among the given range of split indexes, keeping it only if it is better than the best one found so far.
+   *
+   * <p>The search stops as soon as this search, or any other sharing the global best, finds a split with the lowest possible skill points difference
+   * (0, or 1 if the total skill points are odd).
+   *
+   * @param fromIndex First split index to search (inclusive).
+   * @param toIndex   Last split index to search (exclusive).
+   */
+  public void search(long fromIndex, long toIndex) {
+    for (long batchStart = fromIndex; batchStart < toIndex && globalBestGap.get() > targetGap; batchStart += BATCH_SIZE) {
+      if (Thread.currentThread()
+                .isInterrupted()) {
+        return;
+      }
+
+      int count = splitIndex.fill(batchStart, toIndex, masks);
+
+      kernel.skillGaps(masks, count, gaps);
+
+      for (int index = 0; index < count; index++) {
+        if (gaps[index] < bestGap && roster.respectsAnchorages(masks[index])) {
+          bestGap = gaps[index];
+          bestMask = masks[index];
+
+          globalBestGap.accumulateAndGet(bestGap, Math::min);
+        }
+      }
+    }
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  public int getBestGap() {
+    return bestGap;
+  }
+
+  public long getBestMask() {
+    return bestMask;
+  }
+}
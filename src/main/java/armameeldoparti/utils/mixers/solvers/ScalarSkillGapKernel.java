@@ -0,0 +1,37 @@
+package armameeldoparti.utils.mixers.solvers;
+
+/**
+ * Plain Java split masks scoring kernel, used when the Vector API is not available.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class ScalarSkillGapKernel implements SkillGapKernel {
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final SplitRoster roster;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the scalar kernel.
+   *
+   * @param roster Roster whose splits will be evaluated.
+   */
+  public ScalarSkillGapKernel(SplitRoster roster) {
+    this.roster = roster;
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  @Override
+  public void skillGaps(long[] masks, int count, int[] gaps) {
+    for (int index = 0; index < count; index++) {
+      gaps[index] = roster.getSkillGap(roster.getTeamSkill(masks[index]));
+    }
+  }
+}
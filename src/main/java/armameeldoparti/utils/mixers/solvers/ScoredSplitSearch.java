@@ -0,0 +1,252 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import armameeldoparti.utils.mixers.scorers.CompiledSplitScore;
+import java.util.Arrays;
+
+/**
+ * Two-team split search that minimizes a compiled split score, for balance criteria other than the skill points sum alone.
+ *
+ * <p>The differences between the term sums of both teams in the current split are kept in a primitive array, so moving a player between the teams
+ * updates a handful of primitives and scoring a split reads the compiled tables without allocating or calling any scorer.
+ *
+ * <p>When there are not too many valid splits, every one of them is walked in Gray-code order, where consecutive splits differ by a single
+ * same-position swap. Otherwise, the best same-position swap of non-anchored players is applied until no swap lowers the score, which keeps the
+ * anchorages in the team they start in. Both searches also stop, keeping the best split found so far, when their thread is interrupted.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ *
+ * @see armameeldoparti.utils.mixers.scorers.SplitScorer
+ */
+public final class ScoredSplitSearch {
+
+  // ---------- Public constants ---------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Highest number of valid splits that are walked exhaustively.
+   */
+  public static final long EXHAUSTIVE_SPLITS_LIMIT = 1L << 20;
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private long bestMask;
+  private long bestScore;
+
+  private final int dimensions;
+
+  private final long anchoredMask;
+  private final long minimumScore;
+
+  private final int[] values;
+  private final int[] weights;
+
+  private final long[] differences;
+  private final long[] totals;
+
+  private final SplitRoster roster;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the search for the given roster and score.
+   *
+   * @param roster Roster whose splits will be searched.
+   * @param score  Score compiled for the roster players, in their roster order.
+   */
+  public ScoredSplitSearch(SplitRoster roster, CompiledSplitScore score) {
+    this.roster = roster;
+
+    dimensions = score.getDimensions();
+    values = score.getValues();
+    weights = score.getWeights();
+    totals = score.getTotals();
+    minimumScore = score.getMinimumScore();
+    differences = new long[dimensions];
+    anchoredMask = Arrays.stream(roster.getAnchorageMasks())
+                         .reduce(0, (mask, anchorageMask) -> mask | anchorageMask);
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Searches the split with the lowest score, starting from the given one.
+   *
+   * @param initialMask Split mask of the current distribution.
+   * @param splitsCount Number of valid splits of the roster.
+   */
+  public void search(long initialMask, long splitsCount) {
+    bestMask = initialMask;
+    bestScore = score(initialMask);
+
+    if (splitsCount <= EXHAUSTIVE_SPLITS_LIMIT) {
+      searchExhaustively();
+    } else {
+      descend();
+    }
+  }
+
+  /**
+   * @param mask Split mask.
+   *
+   * @return The weighted sum of the squared term sums differences between both teams in the given split.
+   */
+  public long score(long mask) {
+    loadDifferences(mask);
+
+    return currentScore();
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Walks every valid split in Gray-code order, stopping early if no split can score lower than the best one found.
+   */
+  private void searchExhaustively() {
+    GraySplitEnumerator enumerator = new GraySplitEnumerator(roster);
+
+    long mask = enumerator.getMask();
+
+    loadDifferences(mask);
+
+    do {
+      moveTo(mask, enumerator.getMask());
+
+      mask = enumerator.getMask();
+
+      if (roster.respectsAnchorages(mask)) {
+        long score = currentScore();
+
+        if (score < bestScore) {
+          bestScore = score;
+          bestMask = mask;
+        }
+      }
+    } while (bestScore > minimumScore && enumerator.next());
+  }
+
+  /**
+   * Applies the same-position swap of non-anchored players that lowers the score the most, until none of them lowers it.
+   */
+  private void descend() {
+    int[][] positionSlots = roster.getPositionSlots();
+
+    loadDifferences(bestMask);
+
+    boolean improved = true;
+
+    while (improved && bestScore > minimumScore && !Thread.currentThread()
+                                                          .isInterrupted()) {
+      long bestSwap = 0;
+
+      for (int[] slots : positionSlots) {
+        for (int player : slots) {
+          if ((bestMask >>> player & 1) == 0 || (anchoredMask >>> player & 1) == 1) {
+            continue;
+          }
+
+          for (int partner : slots) {
+            if ((bestMask >>> partner & 1) == 1 || (anchoredMask >>> partner & 1) == 1) {
+              continue;
+            }
+
+            long score = swapScore(player, partner);
+
+            if (score < bestScore) {
+              bestScore = score;
+              bestSwap = 1L << player | 1L << partner;
+            }
+          }
+        }
+      }
+
+      improved = bestSwap != 0;
+
+      if (improved) {
+        moveTo(bestMask, bestMask ^ bestSwap);
+
+        bestMask ^= bestSwap;
+      }
+    }
+  }
+
+  /**
+   * @param player  Roster index of the first team player leaving it.
+   * @param partner Roster index of the second team player joining the first team instead.
+   *
+   * @return The score of the current split after swapping both players.
+   */
+  private long swapScore(int player, int partner) {
+    long score = 0;
+
+    for (int dimension = 0; dimension < dimensions; dimension++) {
+      long difference = differences[dimension] + 2L * (values[partner * dimensions + dimension] - values[player * dimensions + dimension]);
+
+      score += weights[dimension] * difference * difference;
+    }
+
+    return score;
+  }
+
+  /**
+   * @return The score of the split whose differences are currently loaded.
+   */
+  private long currentScore() {
+    long score = 0;
+
+    for (int dimension = 0; dimension < dimensions; dimension++) {
+      score += weights[dimension] * differences[dimension] * differences[dimension];
+    }
+
+    return score;
+  }
+
+  /**
+   * Loads the differences between both teams in the given split.
+   *
+   * @param mask Split mask.
+   */
+  private void loadDifferences(long mask) {
+    for (int dimension = 0; dimension < dimensions; dimension++) {
+      differences[dimension] = -totals[dimension];
+    }
+
+    for (long bits = mask; bits != 0; bits &= bits - 1) {
+      int offset = Long.numberOfTrailingZeros(bits) * dimensions;
+
+      for (int dimension = 0; dimension < dimensions; dimension++) {
+        differences[dimension] += 2L * values[offset + dimension];
+      }
+    }
+  }
+
+  /**
+   * Updates the loaded differences from one split to another, moving only the players whose team changes.
+   *
+   * @param fromMask Split mask whose differences are loaded.
+   * @param toMask   Split mask whose differences should be loaded.
+   */
+  private void moveTo(long fromMask, long toMask) {
+    for (long bits = fromMask ^ toMask; bits != 0; bits &= bits - 1) {
+      int player = Long.numberOfTrailingZeros(bits);
+      int offset = player * dimensions;
+      long sign = (toMask >>> player & 1) == 1 ? 2 : -2;
+
+      for (int dimension = 0; dimension < dimensions; dimension++) {
+        differences[dimension] += sign * values[offset + dimension];
+      }
+    }
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  public long getBestMask() {
+    return bestMask;
+  }
+
+  public long getBestScore() {
+    return bestScore;
+  }
+}
\ No newline at end of file
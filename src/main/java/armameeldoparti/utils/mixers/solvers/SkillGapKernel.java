@@ -0,0 +1,71 @@
+package armameeldoparti.utils.mixers.solvers;
+
+/**
+ * Interface that specifies the batch scoring of split masks.
+ *
+ * <p>A kernel evaluates, for every split mask of a batch, the absolute skill points difference between the teams. The fastest available
+ * implementation is chosen by {@link #forRoster(SplitRoster)}: the Vector API implementation when it was compiled (by the {@code vector-api} build
+ * profile) and the {@code jdk.incubator.vector} module has been added to the running JVM, or the scalar implementation otherwise.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public interface SkillGapKernel {
+
+  // ---------- Public constants ---------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Name of the Vector API kernel class, which is only compiled by the {@code vector-api} build profile.
+   */
+  String VECTOR_KERNEL_CLASS = "armameeldoparti.utils.mixers.solvers.VectorSkillGapKernel";
+
+  /**
+   * Whether the incubating Vector API module has been resolved by the running JVM, and the Vector API kernel was compiled.
+   */
+  boolean VECTOR_API_AVAILABLE = ModuleLayer.boot()
+                                            .findModule("jdk.incubator.vector")
+                                            .isPresent()
+                                 && SkillGapKernel.class.getResource("VectorSkillGapKernel.class") != null;
+
+  // ---------- Abstract public methods --------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Evaluates the skill points difference between the teams for a batch of split masks.
+   *
+   * @param masks Split masks to evaluate.
+   * @param count Number of masks to evaluate, starting from the first one.
+   * @param gaps  Where to store the absolute skill points difference of each mask.
+   */
+  void skillGaps(long[] masks, int count, int[] gaps);
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the fastest available kernel for the given roster.
+   *
+   * <p>The Vector API kernel class is looked up by name, since it may not be compiled, and only when it is available, so the scalar fallback never
+   * triggers its loading.
+   *
+   * @param roster Roster whose splits will be evaluated.
+   *
+   * @return The kernel to use.
+   *
+   * @throws IllegalStateException When the Vector API kernel is available but cannot be built.
+   */
+  static SkillGapKernel forRoster(SplitRoster roster) {
+    if (!VECTOR_API_AVAILABLE) {
+      return new ScalarSkillGapKernel(roster);
+    }
+
+    try {
+      return (SkillGapKernel) Class.forName(VECTOR_KERNEL_CLASS)
+                                   .getConstructor(SplitRoster.class)
+                                   .newInstance(roster);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Vector API kernel could not be built", e);
+    }
+  }
+}
@@ -0,0 +1,531 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import armameeldoparti.models.Formation;
+import armameeldoparti.models.Player;
+import armameeldoparti.models.Team;
+import armameeldoparti.models.enums.Position;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exact two-team split solver based on a pseudo-polynomial dynamic program over skill points sums.
+ *
+ * <p>Skill points are small bounded integers, so the number of different first team skill points sums is small even for rosters with hundreds of
+ * players. The solver keeps, for every first team players count vector (one count per position), the set of reachable first team skill points sums
+ * as a bitset packed in {@code long} words, and adds a player (or a whole anchorage) to every state at once by shifting the bitset and OR-ing it into
+ * the state with one more player of its position. Unlike the searches based on {@link SplitRoster}, it is not limited by the split mask size.
+ *
+ * <p>Only the count vector dimensions that are still needed are kept: the anchorages are added first, with each position count bounded by its
+ * anchored players, and then the non-anchored players are added position by position, collapsing each position dimension to its limit once all of
+ * its players were added. The table before every step is kept, so the concrete split is rebuilt backwards from the best reachable sum.
+ *
+ * <p>For finer-grained ratings, the skill points can be quantized before the search: they are divided by the given quantum and rounded, which bounds
+ * the bitsets size at the cost of the search being exact only up to the quantum.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class SkillSumDpSolver {
+
+  // ---------- Public constants ---------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Skill points quantum that keeps the search exact.
+   */
+  public static final int EXACT_QUANTUM = 1;
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private int bestGap;
+
+  private final int skillQuantum;
+
+  private final int[] positionLimits;
+
+  private final boolean[] firstTeam;
+
+  private final Player[] players;
+
+  private final int[][] anchorages;
+  private final int[][] freeSlots;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the solver from the given players sets.
+   *
+   * @param playersSets    Players sets, grouped by position.
+   * @param formation      Formation stating the number of players per position in each team.
+   * @param withAnchorages Whether the anchorages of the players must be kept together.
+   * @param skillQuantum   Skill points quantum. Use {@link #EXACT_QUANTUM} for an exact search.
+   *
+   * @throws IllegalArgumentException When the skill points quantum is not positive.
+   */
+  public SkillSumDpSolver(Map<Position, List<Player>> playersSets, Formation formation, boolean withAnchorages, int skillQuantum) {
+    if (skillQuantum < 1) {
+      throw new IllegalArgumentException("Invalid skill points quantum: " + skillQuantum);
+    }
+
+    List<Player> flattenedPlayers = new ArrayList<>();
+    Map<Integer, List<Integer>> anchoredSlots = new LinkedHashMap<>();
+
+    freeSlots = new int[Position.values().length][];
+
+    for (Position position : Position.values()) {
+      List<Integer> positionFreeSlots = new ArrayList<>();
+
+      for (Player player : playersSets.get(position)) {
+        if (withAnchorages && player.isAnchored()) {
+          anchoredSlots.computeIfAbsent(player.getAnchorageNumber(), _ -> new ArrayList<>())
+                       .add(flattenedPlayers.size());
+        } else {
+          positionFreeSlots.add(flattenedPlayers.size());
+        }
+
+        flattenedPlayers.add(player);
+      }
+
+      freeSlots[position.ordinal()] = positionFreeSlots.stream()
+                                                      .mapToInt(Integer::intValue)
+                                                      .toArray();
+    }
+
+    anchorages = anchoredSlots.values()
+                              .stream()
+                              .map(slots -> slots.stream()
+                                                 .mapToInt(Integer::intValue)
+                                                 .toArray())
+                              .toArray(int[][]::new);
+
+    this.skillQuantum = skillQuantum;
+
+    players = flattenedPlayers.toArray(new Player[0]);
+    positionLimits = formation.getPositionLimits();
+    firstTeam = new boolean[players.length];
+    bestGap = Integer.MAX_VALUE;
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Searches the most balanced split.
+   *
+   * <p>If no split keeps every anchorage together while respecting the position limits, the best skill points difference is left as
+   * {@link Integer#MAX_VALUE}. The same happens if the thread is interrupted, which is checked before every player or anchorage is added, since each
+   * of them updates the whole table.
+   */
+  public void solve() {
+    int positionsCount = positionLimits.length;
+    int[] weights = new int[players.length];
+    int sumsBound = 0;
+
+    for (int index = 0; index < players.length; index++) {
+      weights[index] = (players[index].getSkillPoints() + skillQuantum / 2) / skillQuantum;
+      sumsBound += weights[index];
+    }
+
+    int words = (sumsBound >>> 6) + 1;
+    int[] radices = new int[positionsCount];
+    int[] anchoredCounts = new int[positionsCount];
+
+    for (int[] anchorage : anchorages) {
+      for (int slot : anchorage) {
+        anchoredCounts[players[slot].getPosition()
+                                    .ordinal()]++;
+      }
+    }
+
+    for (int position = 0; position < positionsCount; position++) {
+      radices[position] = Math.min(anchoredCounts[position], positionLimits[position]) + 1;
+    }
+
+    long[] table = new long[statesCount(radices) * words];
+
+    table[0] = 1;
+
+    List<Step> steps = new ArrayList<>();
+
+    for (int[] anchorage : anchorages) {
+      if (Thread.currentThread()
+                .isInterrupted()) {
+        return;
+      }
+
+      int[] delta = new int[positionsCount];
+      int weight = 0;
+
+      for (int slot : anchorage) {
+        delta[players[slot].getPosition()
+                           .ordinal()]++;
+        weight += weights[slot];
+      }
+
+      steps.add(new Step(radices, table.clone(), delta, weight, anchorage));
+
+      addItem(table, radices, words, delta, weight);
+    }
+
+    for (int position = 0; position < positionsCount; position++) {
+      int[] expandedRadices = radices.clone();
+
+      expandedRadices[position] = positionLimits[position] + 1;
+
+      steps.add(new Step(radices, expandedRadices, position, 0));
+
+      table = reindex(table, radices, expandedRadices, words, position, 0);
+      radices = expandedRadices;
+
+      int[] delta = new int[positionsCount];
+
+      delta[position] = 1;
+
+      for (int slot : freeSlots[position]) {
+        if (Thread.currentThread()
+                  .isInterrupted()) {
+          return;
+        }
+
+        steps.add(new Step(radices, table.clone(), delta, weights[slot], new int[] {slot}));
+
+        addItem(table, radices, words, delta, weights[slot]);
+      }
+
+      int[] collapsedRadices = radices.clone();
+
+      collapsedRadices[position] = 1;
+
+      steps.add(new Step(radices, collapsedRadices, position, positionLimits[position]));
+
+      table = reindex(table, radices, collapsedRadices, words, position, positionLimits[position]);
+      radices = collapsedRadices;
+    }
+
+    int bestSum = -1;
+
+    for (int sum = 0; sum <= sumsBound; sum++) {
+      if ((table[sum >>> 6] >>> sum & 1) == 1 && (bestSum == -1 || Math.abs(2 * sum - sumsBound) < Math.abs(2 * bestSum - sumsBound))) {
+        bestSum = sum;
+      }
+    }
+
+    if (bestSum != -1) {
+      rebuild(steps, words, bestSum);
+    }
+  }
+
+  /**
+   * @return An upper bound of the number of bitset words updated by {@link #solve()}: the number of steps times the largest table size.
+   */
+  public double getWorkEstimate() {
+    double sumsBound = 0;
+
+    for (Player player : players) {
+      sumsBound += (player.getSkillPoints() + skillQuantum / 2) / skillQuantum;
+    }
+
+    int[] anchoredCounts = new int[positionLimits.length];
+
+    for (int[] anchorage : anchorages) {
+      for (int slot : anchorage) {
+        anchoredCounts[players[slot].getPosition()
+                                    .ordinal()]++;
+      }
+    }
+
+    double statesCount = 1;
+    int widestPosition = 1;
+
+    for (int position = 0; position < positionLimits.length; position++) {
+      statesCount *= Math.min(anchoredCounts[position], positionLimits[position]) + 1;
+      widestPosition = Math.max(widestPosition, positionLimits[position] + 1);
+    }
+
+    return players.length * statesCount * widestPosition * (Math.floor(sumsBound / Long.SIZE) + 1);
+  }
+
+  /**
+   * Clears the given teams and distributes the players between them as stated by the best split found.
+   *
+   * @param teams Teams where to distribute the players.
+   */
+  public void applySplit(List<Team> teams) {
+    teams.forEach(Team::clear);
+
+    for (int index = 0; index < players.length; index++) {
+      Team team = teams.get(firstTeam[index] ? 0 : 1);
+
+      players[index].setTeamNumber(team.getTeamNumber());
+
+      team.getTeamPlayers()
+          .get(players[index].getPosition())
+          .add(players[index]);
+    }
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Adds an item (a player or a whole anchorage) to every state of the table, in place.
+   *
+   * <p>The states are walked from the highest index to the lowest one, so every source state is read before it gets the item itself.
+   *
+   * @param table   Reachable sums table.
+   * @param radices Number of possible first team players counts for each position.
+   * @param words   Number of words of each state bitset.
+   * @param delta   Number of players of each position in the item.
+   * @param weight  Quantized skill points of the item.
+   */
+  private static void addItem(long[] table, int[] radices, int words, int[] delta, int weight) {
+    int[] strides = strides(radices);
+    int statesCount = statesCount(radices);
+    int sourceOffset = 0;
+
+    for (int position = 0; position < radices.length; position++) {
+      sourceOffset += delta[position] * strides[position];
+    }
+
+    for (int state = statesCount - 1; state >= sourceOffset; state--) {
+      if (fits(state, radices, strides, delta)) {
+        shiftOr(table, (state - sourceOffset) * words, state * words, words, weight);
+      }
+    }
+  }
+
+  /**
+   * @param state   State index.
+   * @param radices Number of possible first team players counts for each position.
+   * @param strides State index stride of each position.
+   * @param delta   Number of players of each position in the item.
+   *
+   * @return Whether the given state can be reached by adding the item to another state.
+   */
+  private static boolean fits(int state, int[] radices, int[] strides, int[] delta) {
+    for (int position = 0; position < radices.length; position++) {
+      if (state / strides[position] % radices[position] < delta[position]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * OR-s the source bitset shifted by the given number of bits into the target bitset.
+   *
+   * @param table        Table holding both bitsets.
+   * @param sourceOffset First word of the source bitset.
+   * @param targetOffset First word of the target bitset.
+   * @param words        Number of words of each bitset.
+   * @param shift        Number of bits to shift.
+   */
+  private static void shiftOr(long[] table, int sourceOffset, int targetOffset, int words, int shift) {
+    int wordShift = shift >>> 6;
+    int bitShift = shift & 63;
+
+    for (int word = words - 1; word >= wordShift; word--) {
+      long shifted = table[sourceOffset + word - wordShift] << bitShift;
+
+      if (bitShift != 0 && word - wordShift > 0) {
+        shifted |= table[sourceOffset + word - wordShift - 1] >>> (Long.SIZE - bitShift);
+      }
+
+      table[targetOffset + word] |= shifted;
+    }
+  }
+
+  /**
+   * Changes the possible counts of a position, keeping the counts between the given offset and the offset plus the new radix.
+   *
+   * @param table       Reachable sums table.
+   * @param radices     Current number of possible counts for each position.
+   * @param newRadices  New number of possible counts for each position.
+   * @param words       Number of words of each state bitset.
+   * @param position    Position whose counts change.
+   * @param countOffset Count of the position mapped to the first new count.
+   *
+   * @return The reindexed table.
+   */
+  private static long[] reindex(long[] table, int[] radices, int[] newRadices, int words, int position, int countOffset) {
+    int[] strides = strides(radices);
+    int[] newStrides = strides(newRadices);
+    int statesCount = statesCount(radices);
+
+    long[] newTable = new long[statesCount(newRadices) * words];
+
+    for (int state = 0; state < statesCount; state++) {
+      int newCount = state / strides[position] % radices[position] - countOffset;
+
+      if (newCount >= 0 && newCount < newRadices[position]) {
+        int newState = convert(state, radices, strides, newStrides) - countOffset * newStrides[position];
+
+        System.arraycopy(table, state * words, newTable, newState * words, words);
+      }
+    }
+
+    return newTable;
+  }
+
+  /**
+   * Rebuilds the first team players walking the steps backwards from the best reachable sum.
+   *
+   * @param steps   Steps applied to the table, in order.
+   * @param words   Number of words of each state bitset.
+   * @param bestSum Best reachable quantized first team skill points sum.
+   */
+  private void rebuild(List<Step> steps, int words, int bestSum) {
+    int state = 0;
+    int sum = bestSum;
+
+    for (int stepIndex = steps.size() - 1; stepIndex >= 0; stepIndex--) {
+      Step step = steps.get(stepIndex);
+      int[] strides = strides(step.radices);
+
+      if (step.table == null) {
+        state = convert(state, step.newRadices, strides(step.newRadices), strides) + step.countOffset * strides[step.position];
+      } else if ((step.table[state * words + (sum >>> 6)] >>> sum & 1) == 0) {
+        for (int position = 0; position < strides.length; position++) {
+          state -= step.delta[position] * strides[position];
+        }
+
+        sum -= step.weight;
+
+        for (int slot : step.slots) {
+          firstTeam[slot] = true;
+        }
+      }
+    }
+
+    int teamSkill = 0;
+    int totalSkill = 0;
+
+    for (int index = 0; index < players.length; index++) {
+      totalSkill += players[index].getSkillPoints();
+      teamSkill += firstTeam[index] ? players[index].getSkillPoints() : 0;
+    }
+
+    bestGap = Math.abs(2 * teamSkill - totalSkill);
+  }
+
+  /**
+   * Translates a state index between two strides layouts, keeping its counts.
+   *
+   * @param state      State index in the source layout.
+   * @param radices    Number of possible counts for each position in the source layout.
+   * @param strides    Source layout strides.
+   * @param newStrides Target layout strides.
+   *
+   * @return The state index in the target layout.
+   */
+  private static int convert(int state, int[] radices, int[] strides, int[] newStrides) {
+    int newState = 0;
+
+    for (int position = 0; position < radices.length; position++) {
+      newState += state / strides[position] % radices[position] * newStrides[position];
+    }
+
+    return newState;
+  }
+
+  /**
+   * @param radices Number of possible counts for each position.
+   *
+   * @return The state index stride of each position.
+   */
+  private static int[] strides(int[] radices) {
+    int[] strides = new int[radices.length];
+    int stride = 1;
+
+    for (int position = 0; position < radices.length; position++) {
+      strides[position] = stride;
+      stride = Math.multiplyExact(stride, radices[position]);
+    }
+
+    return strides;
+  }
+
+  /**
+   * @param radices Number of possible counts for each position.
+   *
+   * @return The number of states of a table with the given radices.
+   */
+  private static int statesCount(int[] radices) {
+    int count = 1;
+
+    for (int radix : radices) {
+      count = Math.multiplyExact(count, radix);
+    }
+
+    return count;
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  public int getBestGap() {
+    return bestGap;
+  }
+
+  // ---------- Private classes ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Step applied to the reachable sums table: either an item added to every state, or a position counts change.
+   */
+  private static final class Step {
+
+    private final int position;
+    private final int countOffset;
+    private final int weight;
+
+    private final int[] radices;
+    private final int[] newRadices;
+    private final int[] delta;
+    private final int[] slots;
+
+    private final long[] table;
+
+    /**
+     * Builds an item step.
+     *
+     * @param radices Number of possible counts for each position.
+     * @param table   Table before the item was added.
+     * @param delta   Number of players of each position in the item.
+     * @param weight  Quantized skill points of the item.
+     * @param slots   Indexes of the item players.
+     */
+    private Step(int[] radices, long[] table, int[] delta, int weight, int[] slots) {
+      this.radices = radices;
+      this.table = table;
+      this.delta = delta;
+      this.weight = weight;
+      this.slots = slots;
+
+      newRadices = null;
+      position = -1;
+      countOffset = 0;
+    }
+
+    /**
+     * Builds a position counts change step.
+     *
+     * @param radices     Number of possible counts for each position before the change.
+     * @param newRadices  Number of possible counts for each position after the change.
+     * @param position    Position whose counts change.
+     * @param countOffset Count of the position mapped to the first new count.
+     */
+    private Step(int[] radices, int[] newRadices, int position, int countOffset) {
+      this.radices = radices;
+      this.newRadices = newRadices;
+      this.position = position;
+      this.countOffset = countOffset;
+
+      table = null;
+      delta = null;
+      slots = null;
+      weight = 0;
+    }
+  }
+}
\ No newline at end of file
@@ -0,0 +1,179 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * Anytime two-team split solver based on simulated annealing, meant to run alongside other solvers sharing a {@link SplitIncumbent}.
+ *
+ * <p>Starting from a valid split, it repeatedly tries swapping two non-anchored players of the same position between the teams. A swap that lowers
+ * the skill points difference is always accepted, and one that raises it is accepted with a probability that drops as the temperature cools down
+ * towards the deadline. Since only non-anchored players are swapped, the anchorages stay in the team they start in: when a search stops improving,
+ * a new one is started from the best split shared by every solver, which may have the anchorages laid out differently.
+ *
+ * <p>Every improvement is offered to the shared best split, and the search stops at the deadline, when its thread is interrupted, or as soon as the
+ * shared best split is proven optimal.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class SplitAnnealer {
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final int CLOCK_CHECK_INTERVAL = 256;
+
+  private static final long STAGNATION_ITERATIONS = 1L << 12;
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private Random randomGenerator;
+
+  private final long anchoredMask;
+
+  private final int maxSkill;
+
+  private final SplitIncumbent incumbent;
+
+  private final SplitRoster roster;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the solver for the given roster.
+   *
+   * @param roster    Roster whose splits will be searched.
+   * @param incumbent Best split known by every solver of the roster.
+   */
+  public SplitAnnealer(SplitRoster roster, SplitIncumbent incumbent) {
+    this.roster = roster;
+    this.incumbent = incumbent;
+
+    randomGenerator = new Random();
+    anchoredMask = Arrays.stream(roster.getAnchorageMasks())
+                         .reduce(0, (mask, anchorageMask) -> mask | anchorageMask);
+    maxSkill = Math.max(1, Arrays.stream(roster.getSkills())
+                                 .max()
+                                 .orElse(1));
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Searches balanced splits until the deadline, until the thread is interrupted, or until the shared best split is proven optimal.
+   *
+   * @param initialMask Split mask of a valid split.
+   * @param deadline    {@link System#nanoTime()} value when the search must stop.
+   */
+  public void anneal(long initialMask, long deadline) {
+    long start = System.nanoTime();
+    long mask = initialMask;
+
+    while (!mustStop(deadline) && searchRun(mask, start, deadline)) {
+      long sharedMask = incumbent.getBestMask();
+
+      mask = sharedMask == -1 ? initialMask : sharedMask;
+    }
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Improves the given split until the search must stop or until it stops improving.
+   *
+   * <p>The non-anchored players of each team are kept as one array of roster indexes per position, so swaps only update primitive arrays and the
+   * split mask.
+   *
+   * @param initialMask Split mask of a valid split.
+   * @param start       {@link System#nanoTime()} value when the whole search started.
+   * @param deadline    {@link System#nanoTime()} value when the search must stop.
+   *
+   * @return Whether any swap could be tried, which is not the case when no position has non-anchored players in both teams.
+   */
+  private boolean searchRun(long initialMask, long start, long deadline) {
+    int positionsCount = roster.getPositionLimits().length;
+    int[] skills = roster.getSkills();
+    int[][] firstSlots = new int[positionsCount][];
+    int[][] secondSlots = new int[positionsCount][];
+
+    for (int position = 0; position < positionsCount; position++) {
+      int[] freeSlots = Arrays.stream(roster.getPositionSlots()[position])
+                              .filter(slot -> (anchoredMask >>> slot & 1) == 0)
+                              .toArray();
+
+      firstSlots[position] = Arrays.stream(freeSlots)
+                                   .filter(slot -> (initialMask >>> slot & 1) == 1)
+                                   .toArray();
+      secondSlots[position] = Arrays.stream(freeSlots)
+                                    .filter(slot -> (initialMask >>> slot & 1) == 0)
+                                    .toArray();
+    }
+
+    int[] movablePositions = IntStream.range(0, positionsCount)
+                                      .filter(position -> firstSlots[position].length > 0 && secondSlots[position].length > 0)
+                                      .toArray();
+
+    if (movablePositions.length == 0) {
+      return false;
+    }
+
+    long mask = initialMask;
+    int teamSkill = roster.getTeamSkill(mask);
+    int gap = roster.getSkillGap(teamSkill);
+    int bestGap = gap;
+
+    long lastImprovement = 0;
+    double temperature = maxSkill;
+
+    for (long iteration = 0; bestGap > incumbent.getTargetGap(); iteration++) {
+      if (iteration % CLOCK_CHECK_INTERVAL == 0) {
+        if (mustStop(deadline) || iteration - lastImprovement > STAGNATION_ITERATIONS) {
+          break;
+        }
+
+        temperature = (double) maxSkill * (deadline - System.nanoTime()) / Math.max(1, deadline - start);
+      }
+
+      int position = movablePositions[randomGenerator.nextInt(movablePositions.length)];
+      int firstIndex = randomGenerator.nextInt(firstSlots[position].length);
+      int secondIndex = randomGenerator.nextInt(secondSlots[position].length);
+      int player = firstSlots[position][firstIndex];
+      int partner = secondSlots[position][secondIndex];
+      int swappedSkill = teamSkill - skills[player] + skills[partner];
+      int swappedGap = roster.getSkillGap(swappedSkill);
+
+      if (swappedGap > gap && randomGenerator.nextDouble() >= Math.exp((gap - swappedGap) / temperature)) {
+        continue;
+      }
+
+      firstSlots[position][firstIndex] = partner;
+      secondSlots[position][secondIndex] = player;
+      mask ^= 1L << player | 1L << partner;
+      teamSkill = swappedSkill;
+      gap = swappedGap;
+
+      if (gap < bestGap) {
+        bestGap = gap;
+        lastImprovement = iteration;
+
+        incumbent.offer(mask, gap);
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * @param deadline {@link System#nanoTime()} value when the search must stop.
+   *
+   * @return Whether the deadline passed, the thread was interrupted, or the shared best split was proven optimal.
+   */
+  private boolean mustStop(long deadline) {
+    return System.nanoTime() >= deadline || incumbent.isProvenOptimal() || Thread.currentThread()
+                                                                                   .isInterrupted();
+  }
+}
\ No newline at end of file
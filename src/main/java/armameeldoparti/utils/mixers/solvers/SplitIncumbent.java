@@ -0,0 +1,115 @@
+package armameeldoparti.utils.mixers.solvers;
+
+/**
+ * Best two-team split known so far, shared by solvers running concurrently over the same roster.
+ *
+ * <p>Every solver offers the splits it finds and reads the best skill points difference known to prune its own search. Once a split is known to be
+ * the most balanced one, either because its difference cannot be lowered or because an exact solver proved it, the waiting threads are woken up.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class SplitIncumbent {
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private volatile boolean provenOptimal;
+
+  private volatile int bestGap;
+
+  private long bestMask;
+
+  private final int targetGap;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the shared best split, with no split known yet.
+   *
+   * @param roster Roster whose splits will be offered.
+   */
+  public SplitIncumbent(SplitRoster roster) {
+    targetGap = roster.getTotalSkill() % 2;
+    bestGap = Integer.MAX_VALUE;
+    bestMask = -1;
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Keeps the given split if it is more balanced than the best one known.
+   *
+   * @param mask Split mask of a valid split.
+   * @param gap  Skill points difference of the given split.
+   *
+   * @return Whether the split was kept.
+   */
+  public synchronized boolean offer(long mask, int gap) {
+    if (gap >= bestGap) {
+      return false;
+    }
+
+    bestGap = gap;
+    bestMask = mask;
+
+    if (gap <= targetGap) {
+      markProvenOptimal();
+    }
+
+    return true;
+  }
+
+  /**
+   * States that no split is more balanced than the best one known, and wakes up the waiting threads.
+   */
+  public synchronized void markProvenOptimal() {
+    provenOptimal = true;
+
+    notifyAll();
+  }
+
+  /**
+   * Waits until the best split known is proven to be the most balanced one, or until the deadline.
+   *
+   * <p>If the waiting thread is interrupted, it stops waiting and keeps its interrupted status.
+   *
+   * @param deadline {@link System#nanoTime()} value when the wait must stop.
+   */
+  public synchronized void awaitProvenOptimal(long deadline) {
+    long remaining = deadline - System.nanoTime();
+
+    while (!provenOptimal && remaining > 0) {
+      try {
+        wait(Math.max(1, remaining / 1_000_000));
+      } catch (InterruptedException _) {
+        Thread.currentThread()
+              .interrupt();
+
+        return;
+      }
+
+      remaining = deadline - System.nanoTime();
+    }
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  public boolean isProvenOptimal() {
+    return provenOptimal;
+  }
+
+  public int getBestGap() {
+    return bestGap;
+  }
+
+  public int getTargetGap() {
+    return targetGap;
+  }
+
+  public synchronized long getBestMask() {
+    return bestMask;
+  }
+}
\ No newline at end of file
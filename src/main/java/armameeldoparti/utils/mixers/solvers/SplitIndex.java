@@ -0,0 +1,126 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ranking of the valid two-team splits of a roster.
+ *
+ * <p>Every valid split is identified by an index between 0 (inclusive) and {@link #getSplitsCount()} (exclusive), built as a mixed-radix number where
+ * each digit is the choice of first team players for one position. This allows any range of splits to be visited independently of the others.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class SplitIndex {
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final long baseMask;
+  private final long splitsCount;
+
+  private final long[][] sequences;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the splits ranking of the given roster.
+   *
+   * @param roster Roster whose splits will be ranked.
+   */
+  public SplitIndex(SplitRoster roster) {
+    List<long[]> variableSequences = new ArrayList<>();
+
+    long fixedMask = 0;
+    long count = 1;
+
+    for (long[] sequence : roster.getSplitSequences()) {
+      if (sequence.length == 1) {
+        fixedMask |= sequence[0];
+      } else {
+        variableSequences.add(sequence);
+
+        count = Math.multiplyExact(count, sequence.length);
+      }
+    }
+
+    baseMask = fixedMask;
+    splitsCount = count;
+    sequences = variableSequences.toArray(new long[0][]);
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * @param index Split index.
+   *
+   * @return The split mask corresponding to the given index.
+   */
+  public long unrank(long index) {
+    long mask = baseMask;
+    long remainder = index;
+
+    for (long[] sequence : sequences) {
+      mask |= sequence[(int) (remainder % sequence.length)];
+      remainder /= sequence.length;
+    }
+
+    return mask;
+  }
+
+  /**
+   * Fills the given array with the split masks of consecutive indexes, updating only the positions whose digit changes from one index to the next.
+   *
+   * @param fromIndex First split index to include.
+   * @param toIndex   Last split index (exclusive) to include.
+   * @param masks     Where to store the split masks.
+   *
+   * @return The number of masks stored, limited by both the given range and the array length.
+   */
+  public int fill(long fromIndex, long toIndex, long[] masks) {
+    int count = (int) Math.min(masks.length, toIndex - fromIndex);
+
+    if (count <= 0) {
+      return 0;
+    }
+
+    int[] digits = new int[sequences.length];
+
+    long remainder = fromIndex;
+
+    for (int position = 0; position < sequences.length; position++) {
+      digits[position] = (int) (remainder % sequences[position].length);
+      remainder /= sequences[position].length;
+    }
+
+    long mask = unrank(fromIndex);
+
+    for (int index = 0; index < count; index++) {
+      masks[index] = mask;
+
+      for (int position = 0; position < sequences.length; position++) {
+        long[] sequence = sequences[position];
+
+        mask ^= sequence[digits[position]];
+        digits[position] = digits[position] + 1 == sequence.length ? 0 : digits[position] + 1;
+        mask |= sequence[digits[position]];
+
+        // No carry to the next position unless this digit wrapped around
+        if (digits[position] != 0) {
+          break;
+        }
+      }
+    }
+
+    return count;
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  public long getSplitsCount() {
+    return splitsCount;
+  }
+}
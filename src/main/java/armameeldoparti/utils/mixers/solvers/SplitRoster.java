@@ -0,0 +1,267 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import armameeldoparti.models.Formation;
+import armameeldoparti.models.Player;
+import armameeldoparti.models.Team;
+import armameeldoparti.models.enums.Position;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact roster representation used by the by-skill-points split searches.
+ *
+ * <p>Every player is given a roster index (players are laid out position by position, in the Position enum order) and a two-team split is
+ * represented as a bit mask where the bit {@code i} is set when the player with roster index {@code i} belongs to the first team. This allows the
+ * searches to work with primitive arrays instead of players lists.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class SplitRoster {
+
+  // ---------- Public constants ---------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Maximum number of players that can be represented by a split mask.
+   */
+  public static final int MAX_PLAYERS = Long.SIZE;
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final int totalSkill;
+
+  private final int[] skills;
+  private final int[] positionLimits;
+  private final int[][] positionSlots;
+
+  private final long[] anchorageMasks;
+
+  private final long[][] splitSequences;
+
+  private final Formation formation;
+
+  private final Player[] players;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the compact roster from the given players sets.
+   *
+   * <p>When every players set holds twice its position limit (which is always the case once the names are entered), the valid splits table
+   * precomputed by the formation is reused. Otherwise, it is built for this roster.
+   *
+   * @param playersSets    Players sets, grouped by position.
+   * @param formation      Formation stating the number of players per position in each team.
+   * @param withAnchorages Whether the anchorages of the players must be taken into account.
+   *
+   * @throws IllegalArgumentException When there are more players than the ones a split mask can represent.
+   */
+  public SplitRoster(Map<Position, List<Player>> playersSets, Formation formation, boolean withAnchorages) {
+    List<Player> flattenedPlayers = new ArrayList<>();
+
+    boolean formationLayout = true;
+
+    this.formation = formation;
+
+    positionSlots = new int[Position.values().length][];
+    positionLimits = formation.getPositionLimits();
+
+    for (Position position : Position.values()) {
+      List<Player> playersSet = playersSets.get(position);
+
+      positionSlots[position.ordinal()] = new int[playersSet.size()];
+      formationLayout &= playersSet.size() == 2 * positionLimits[position.ordinal()];
+
+      for (int slot = 0; slot < playersSet.size(); slot++) {
+        positionSlots[position.ordinal()][slot] = flattenedPlayers.size();
+
+        flattenedPlayers.add(playersSet.get(slot));
+      }
+    }
+
+    if (flattenedPlayers.size() > MAX_PLAYERS) {
+      throw new IllegalArgumentException("Too many players for a split mask: " + flattenedPlayers.size());
+    }
+
+    players = flattenedPlayers.toArray(new Player[0]);
+    skills = new int[players.length];
+
+    int skillSum = 0;
+
+    for (int index = 0; index < players.length; index++) {
+      skills[index] = players[index].getSkillPoints();
+      skillSum += skills[index];
+    }
+
+    totalSkill = skillSum;
+    anchorageMasks = withAnchorages ? buildAnchorageMasks() : new long[0];
+    splitSequences = formationLayout ? formation.getSplitSequences() : buildSplitSequences();
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * @param mask Split mask.
+   *
+   * @return The skill points accumulated by the first team in the given split.
+   */
+  public int getTeamSkill(long mask) {
+    int teamSkill = 0;
+
+    for (long bits = mask; bits != 0; bits &= bits - 1) {
+      teamSkill += skills[Long.numberOfTrailingZeros(bits)];
+    }
+
+    return teamSkill;
+  }
+
+  /**
+   * @param teamSkill Skill points accumulated by the first team.
+   *
+   * @return The absolute skill points difference between both teams.
+   */
+  public int getSkillGap(int teamSkill) {
+    return Math.abs(2 * teamSkill - totalSkill);
+  }
+
+  /**
+   * @param mask Split mask.
+   *
+   * @return Whether every anchorage is kept together in the given split.
+   */
+  public boolean respectsAnchorages(long mask) {
+    for (long anchorageMask : anchorageMasks) {
+      long anchoredInTeam = mask & anchorageMask;
+
+      if (anchoredInTeam != 0 && anchoredInTeam != anchorageMask) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Clears the given teams and distributes the players between them as stated by the given split mask.
+   *
+   * @param mask  Split mask. The players whose bit is set are added to the first team, and the rest of them to the second one.
+   * @param teams Teams where to distribute the players.
+   */
+  public void applySplit(long mask, List<Team> teams) {
+    teams.forEach(Team::clear);
+
+    for (int index = 0; index < players.length; index++) {
+      Team team = teams.get((mask >>> index & 1) == 1 ? 0 : 1);
+
+      players[index].setTeamNumber(team.getTeamNumber());
+
+      team.getTeamPlayers()
+          .get(players[index].getPosition())
+          .add(players[index]);
+    }
+  }
+
+  /**
+   * @param team Team whose current players should be translated.
+   *
+   * @return The split mask where the bits of the given team players are set.
+   */
+  public long maskOf(Team team) {
+    long mask = 0;
+
+    for (int index = 0; index < players.length; index++) {
+      if (team.getTeamPlayers()
+              .get(players[index].getPosition())
+              .contains(players[index])) {
+        mask |= 1L << index;
+      }
+    }
+
+    return mask;
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Groups the anchored players by their anchorage number into bit masks.
+   *
+   * <p>When the roster only holds some of the teams, the anchorages with no players in it are left out.
+   *
+   * @return One bit mask per anchorage in the roster, with the bits of its players set.
+   */
+  private long[] buildAnchorageMasks() {
+    int anchoragesCount = 0;
+
+    for (Player player : players) {
+      anchoragesCount = Math.max(anchoragesCount, player.isAnchored() ? player.getAnchorageNumber() : 0);
+    }
+
+    long[] masks = new long[anchoragesCount];
+
+    for (int index = 0; index < players.length; index++) {
+      if (players[index].isAnchored()) {
+        masks[players[index].getAnchorageNumber() - 1] |= 1L << index;
+      }
+    }
+
+    return Arrays.stream(masks)
+                 .filter(mask -> mask != 0)
+                 .toArray();
+  }
+
+  /**
+   * @return One sequence of valid first team choices per position, indexed by the position ordinal.
+   */
+  private long[][] buildSplitSequences() {
+    long[][] sequences = new long[positionSlots.length][];
+
+    for (int position = 0; position < positionSlots.length; position++) {
+      sequences[position] = GraySplitEnumerator.positionSequence(positionSlots[position], positionLimits[position]);
+    }
+
+    return sequences;
+  }
+
+  // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
+
+  public int getPlayersCount() {
+    return players.length;
+  }
+
+  public int getTotalSkill() {
+    return totalSkill;
+  }
+
+  public int[] getSkills() {
+    return skills;
+  }
+
+  public int[] getPositionLimits() {
+    return positionLimits;
+  }
+
+  public int[][] getPositionSlots() {
+    return positionSlots;
+  }
+
+  public long[] getAnchorageMasks() {
+    return anchorageMasks;
+  }
+
+  public long[][] getSplitSequences() {
+    return splitSequences;
+  }
+
+  public Formation getFormation() {
+    return formation;
+  }
+
+  public Player[] getPlayers() {
+    return players;
+  }
+}
@@ -0,0 +1,71 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API split masks scoring kernel.
+ *
+ * <p>The roster skill points are laid out in SIMD lanes, padded with zeros up to a multiple of the preferred species length. Each split mask is then
+ * turned, chunk by chunk, into a lane mask and the first team skill points are accumulated with masked vector additions, needing a single lanes
+ * reduction per split.
+ *
+ * <p>This class must only be loaded when the {@code jdk.incubator.vector} module is present.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ *
+ * @see SkillGapKernel#forRoster(SplitRoster)
+ */
+public final class VectorSkillGapKernel implements SkillGapKernel {
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+  // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
+
+  private final int chunksCount;
+  private final int totalSkill;
+
+  private final int[] paddedSkills;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Builds the Vector API kernel.
+   *
+   * @param roster Roster whose splits will be evaluated.
+   */
+  public VectorSkillGapKernel(SplitRoster roster) {
+    chunksCount = Math.ceilDiv(roster.getPlayersCount(), SPECIES.length());
+    totalSkill = roster.getTotalSkill();
+    paddedSkills = new int[Math.max(1, chunksCount) * SPECIES.length()];
+
+    System.arraycopy(roster.getSkills(), 0, paddedSkills, 0, roster.getPlayersCount());
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  @Override
+  public void skillGaps(long[] masks, int count, int[] gaps) {
+    int lanes = SPECIES.length();
+
+    for (int index = 0; index < count; index++) {
+      IntVector accumulator = IntVector.zero(SPECIES);
+
+      for (int chunk = 0; chunk < chunksCount; chunk++) {
+        VectorMask<Integer> inFirstTeam = VectorMask.fromLong(SPECIES, masks[index] >>> (chunk * lanes));
+
+        accumulator = accumulator.add(IntVector.fromArray(SPECIES, paddedSkills, chunk * lanes), inFirstTeam);
+      }
+
+      gaps[index] = Math.abs(2 * accumulator.reduceLanes(VectorOperators.ADD) - totalSkill);
+    }
+  }
+}
@@ -1,30 +1,28 @@
 package armameeldoparti.views;
 
+import armameeldoparti.models.AnchoragesTableModel;
 import armameeldoparti.models.Player;
-import armameeldoparti.models.enums.Position;
 import armameeldoparti.utils.common.CommonFields;
 import armameeldoparti.utils.common.CommonFunctions;
 import armameeldoparti.utils.common.Constants;
 import armameeldoparti.utils.common.custom.graphical.CustomButton;
-import armameeldoparti.utils.common.custom.graphical.CustomCheckBox;
-import armameeldoparti.utils.common.custom.graphical.CustomLabel;
+import armameeldoparti.utils.common.custom.graphical.CustomRosterTable;
 import armameeldoparti.utils.common.custom.graphical.CustomScrollPane;
 import armameeldoparti.utils.common.custom.graphical.CustomTextArea;
 import java.util.ArrayList;
-import java.util.EnumMap;
 import java.util.List;
-import java.util.Map;
 import javax.swing.JButton;
-import javax.swing.JCheckBox;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
-import javax.swing.SwingConstants;
 import net.miginfocom.swing.MigLayout;
 
 /**
  * Anchorages view class.
  *
+ * <p>The players to anchor are selected in a single table, with one row per non-anchored player, so the view costs the same however many players
+ * there are.
+ *
  * @author Bonino, Francisco Ignacio.
  *
  * @version 0.0.1
@@ -35,6 +33,7 @@ public class AnchoragesView extends View {
 
   // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
 
+  private static final int TABLE_MAX_VISIBLE_ROWS = 12;
   private static final int TEXT_AREA_ROWS = 10;
   private static final int TEXT_AREA_COLUMNS = 9;
 
@@ -56,10 +55,9 @@ public class AnchoragesView extends View {
 
   private List<JButton> anchorageButtons;
 
-  /**
-   * Map that associates each checkboxes list with its corresponding position.
-   */
-  private Map<Position, List<JCheckBox>> checkboxesMap;
+  private AnchoragesTableModel playersTableModel;
+
+  private CustomRosterTable playersTable;
 
   // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
 
@@ -74,12 +72,6 @@ public class AnchoragesView extends View {
     setTextArea(new CustomTextArea(TEXT_AREA_ROWS, TEXT_AREA_COLUMNS));
     setScrollPane(new CustomScrollPane(textArea));
     setAnchorageButtons(new ArrayList<>());
-    setCheckboxesMap(new EnumMap<>(Position.class));
-
-    for (Position position : Position.values()) {
-      checkboxesMap.put(position, new ArrayList<>());
-    }
-
     initializeInterface();
   }
 
@@ -90,7 +82,7 @@ public class AnchoragesView extends View {
     masterPanel.add(leftPanel, Constants.MIG_LAYOUT_WEST);
     masterPanel.add(rightPanel, Constants.MIG_LAYOUT_EAST);
 
-    addCheckBoxes();
+    addPlayersTable();
     addTextArea();
     addButtons();
     add(masterPanel);
@@ -124,15 +116,28 @@ public class AnchoragesView extends View {
   // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
 
   /**
-   * Adds the players checkboxes and their position labels.
+   * Adds the table where the players to anchor are selected, ordered by position.
+   *
+   * <p>The players sets are sorted by position, so the rows follow the Position enum order. Positions without players in the current formation
+   * are left out, since they have no rows.
    */
-  private void addCheckBoxes() {
-    CommonFields.getPlayersSets()
-                .forEach((position, playersSet) -> {
-                  fillCheckboxesSet(playersSet, checkboxesMap.get(position));
-                  addCheckboxesSet(checkboxesMap.get(position), CommonFunctions.capitalize(CommonFields.getPositionsMap()
-                                                                                                       .get(position)));
-                });
+  private void addPlayersTable() {
+    List<Player> players = CommonFields.getPlayersSets()
+                                       .values()
+                                       .stream()
+                                       .flatMap(List::stream)
+                                       .toList();
+
+    setPlayersTableModel(new AnchoragesTableModel(players, CommonFields.getPositionsMap()));
+    setPlayersTable(new CustomRosterTable(playersTableModel));
+
+    playersTable.setUpViewport(Math.min(players.size(), TABLE_MAX_VISIBLE_ROWS),
+                               Constants.PROTOTYPE_POSITION_NAME,
+                               Constants.PROTOTYPE_PLAYER_NAME,
+                               Boolean.TRUE);
+
+    leftPanel.add(new CustomScrollPane(playersTable), CommonFunctions.buildMigLayoutConstraints(Constants.MIG_LAYOUT_GROW,
+                                                                                                 Constants.MIG_LAYOUT_SPAN));
   }
 
   /**
@@ -144,32 +149,6 @@ public class AnchoragesView extends View {
                                                                          Constants.MIG_LAYOUT_GROW));
   }
 
-  /**
-   * Fills the checkboxes sets.
-   *
-   * @param playersSet Players sets from where to obtain the names.
-   * @param cbSet      Check boxes set to fill.
-   */
-  private void fillCheckboxesSet(List<Player> playersSet, List<JCheckBox> cbSet) {
-    playersSet.forEach(player -> cbSet.add(new CustomCheckBox(player.getName())));
-  }
-
-  /**
-   * Adds the checkboxes to the view with a label that specifies the corresponding position.
-   *
-   * @param cbSet     Check boxes to add.
-   * @param labelText Label text.
-   */
-  private void addCheckboxesSet(List<JCheckBox> cbSet, String labelText) {
-    leftPanel.add(
-      new CustomLabel(labelText, null, SwingConstants.CENTER),
-      CommonFunctions.buildMigLayoutConstraints(Constants.MIG_LAYOUT_GROWX, Constants.MIG_LAYOUT_SPAN)
-    );
-
-    cbSet.forEach(checkbox -> leftPanel.add(checkbox, CommonFunctions.buildMigLayoutConstraints(Constants.MIG_LAYOUT_ALIGN_LEFT,
-                                                                                                Constants.MIG_LAYOUT_PUSHX)));
-  }
-
   // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
 
   public JButton getBackButton() {
@@ -216,8 +195,12 @@ public class AnchoragesView extends View {
     return anchorageButtons;
   }
 
-  public Map<Position, List<JCheckBox>> getCheckboxesMap() {
-    return checkboxesMap;
+  public AnchoragesTableModel getPlayersTableModel() {
+    return playersTableModel;
+  }
+
+  public CustomRosterTable getPlayersTable() {
+    return playersTable;
   }
 
   // ---------- Setters ------------------------------------------------------------------------------------------------------------------------------
@@ -266,7 +249,11 @@ public class AnchoragesView extends View {
     this.anchorageButtons = anchorageButtons;
   }
 
-  public void setCheckboxesMap(Map<Position, List<JCheckBox>> checkboxesMap) {
-    this.checkboxesMap = checkboxesMap;
+  public void setPlayersTableModel(AnchoragesTableModel playersTableModel) {
+    this.playersTableModel = playersTableModel;
+  }
+
+  public void setPlayersTable(CustomRosterTable playersTable) {
+    this.playersTable = playersTable;
   }
 }
\ No newline at end of file
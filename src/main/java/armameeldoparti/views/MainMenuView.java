@@ -1,11 +1,18 @@
 package armameeldoparti.views;
 
+import armameeldoparti.models.Formation;
+import armameeldoparti.models.enums.ProgramIcon;
+import armameeldoparti.utils.common.CommonFields;
 import armameeldoparti.utils.common.CommonFunctions;
 import armameeldoparti.utils.common.Constants;
+import armameeldoparti.utils.common.IconRegistry;
 import armameeldoparti.utils.common.custom.graphical.CustomButton;
+import armameeldoparti.utils.common.custom.graphical.CustomComboBox;
 import armameeldoparti.utils.common.custom.graphical.CustomLabel;
 import java.awt.Color;
+import java.util.stream.IntStream;
 import javax.swing.JButton;
+import javax.swing.JComboBox;
 import javax.swing.JLabel;
 import javax.swing.SwingConstants;
 import net.miginfocom.layout.CC;
@@ -28,6 +35,10 @@ public class MainMenuView extends View {
   private JButton contactButton;
   private JButton issuesButton;
 
+  private JComboBox<Formation> formationComboBox;
+
+  private JComboBox<String> teamsCountComboBox;
+
   // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
 
   /**
@@ -44,6 +55,7 @@ public class MainMenuView extends View {
   @Override
   protected void initializeInterface() {
     addBackground();
+    addComboBoxes();
     addButtons();
     add(masterPanel);
     pack();
@@ -90,11 +102,31 @@ public class MainMenuView extends View {
              Constants.SIZE_FONT_VERSION_LABEL);
   }
 
+  /**
+   * Adds the comboboxes to choose the formation and the number of teams, with the current ones selected.
+   */
+  private void addComboBoxes() {
+    setFormationComboBox(new CustomComboBox<>(CommonFields.getFormations()
+                                                          .toArray(new Formation[0])));
+    setTeamsCountComboBox(new CustomComboBox<>(IntStream.rangeClosed(Constants.TEAMS_COUNT_MIN, Constants.TEAMS_COUNT_MAX)
+                                                        .mapToObj(teamsCount -> teamsCount + " equipos")
+                                                        .toArray(String[]::new)));
+
+    formationComboBox.setSelectedItem(CommonFields.getFormation());
+    formationComboBox.setToolTipText("Formación");
+    teamsCountComboBox.setSelectedIndex(CommonFields.getTeamsCount() - Constants.TEAMS_COUNT_MIN);
+    teamsCountComboBox.setToolTipText("Cantidad de equipos");
+
+    masterPanel.add(formationComboBox, new CC().width("50%")
+                                               .split());
+    masterPanel.add(teamsCountComboBox, new CC().width("50%"));
+  }
+
   /**
    * Adds the background image to the panel.
    */
   private void addBackgroundImage() {
-    masterPanel.add(new JLabel("", Constants.ICON_BACKGROUND, SwingConstants.CENTER), Constants.MIG_LAYOUT_GROWX);
+    masterPanel.add(new JLabel("", IconRegistry.getIcon(ProgramIcon.BACKGROUND), SwingConstants.CENTER), Constants.MIG_LAYOUT_GROWX);
   }
 
   /**
@@ -129,6 +161,14 @@ public class MainMenuView extends View {
     return issuesButton;
   }
 
+  public JComboBox<Formation> getFormationComboBox() {
+    return formationComboBox;
+  }
+
+  public JComboBox<String> getTeamsCountComboBox() {
+    return teamsCountComboBox;
+  }
+
   // ---------- Setters ------------------------------------------------------------------------------------------------------------------------------
 
   public void setStartButton(JButton startButton) {
@@ -146,4 +186,12 @@ public class MainMenuView extends View {
   public void setIssuesButton(JButton issuesButton) {
     this.issuesButton = issuesButton;
   }
+
+  public void setFormationComboBox(JComboBox<Formation> formationComboBox) {
+    this.formationComboBox = formationComboBox;
+  }
+
+  public void setTeamsCountComboBox(JComboBox<String> teamsCountComboBox) {
+    this.teamsCountComboBox = teamsCountComboBox;
+  }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package armameeldoparti.views;
 
+import armameeldoparti.models.NamesTableModel;
 import armameeldoparti.models.enums.Position;
 import armameeldoparti.utils.common.CommonFields;
 import armameeldoparti.utils.common.CommonFunctions;
@@ -9,28 +10,26 @@ import armameeldoparti.utils.common.custom.graphical.CustomCheckBox;
 import armameeldoparti.utils.common.custom.graphical.CustomComboBox;
 import armameeldoparti.utils.common.custom.graphical.CustomLabel;
 import armameeldoparti.utils.common.custom.graphical.CustomRadioButton;
+import armameeldoparti.utils.common.custom.graphical.CustomRosterTable;
 import armameeldoparti.utils.common.custom.graphical.CustomScrollPane;
 import armameeldoparti.utils.common.custom.graphical.CustomSeparator;
 import armameeldoparti.utils.common.custom.graphical.CustomTextArea;
-import armameeldoparti.utils.common.custom.graphical.CustomTextField;
-import java.util.ArrayList;
-import java.util.EnumMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.IntStream;
+import java.util.Arrays;
 import javax.swing.JButton;
 import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JPanel;
 import javax.swing.JRadioButton;
 import javax.swing.JTextArea;
-import javax.swing.JTextField;
 import javax.swing.SwingConstants;
 import net.miginfocom.swing.MigLayout;
 
 /**
  * Names input view class.
  *
+ * <p>The names of the players of the selected position are entered in a table, with one row per player, instead of in a text field per player, so
+ * the view takes the same memory and layout time however many players there are.
+ *
  * @author Bonino, Francisco Ignacio.
  *
  * @version 3.0.0
@@ -41,8 +40,9 @@ public class NamesInputView extends View {
 
   // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
 
-  private static final int TEXT_AREA_ROWS = 14;
+  private static final int TABLE_MAX_VISIBLE_ROWS = 12;
   private static final int TEXT_AREA_COLUMNS = 9;
+  private static final int TEXT_AREA_MAX_ROWS = 14;
 
   // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
 
@@ -59,11 +59,14 @@ public class NamesInputView extends View {
   private JPanel rightPanel;
 
   private JRadioButton radioButtonBySkillPoints;
+  private JRadioButton radioButtonFast;
   private JRadioButton radioButtonRandom;
 
   private JTextArea textArea;
 
-  private Map<Position, List<JTextField>> textFieldsMap;
+  private NamesTableModel namesTableModel;
+
+  private CustomRosterTable namesTable;
 
   // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
 
@@ -77,7 +80,6 @@ public class NamesInputView extends View {
     setLeftTopPanel(new JPanel(new MigLayout(Constants.MIG_LAYOUT_WRAP)));
     setLeftBottomPanel(new JPanel(new MigLayout(Constants.MIG_LAYOUT_WRAP)));
     setRightPanel(new JPanel(new MigLayout(Constants.MIG_LAYOUT_WRAP)));
-    initializeTextFieldsMap();
     initializeInterface();
   }
 
@@ -92,7 +94,7 @@ public class NamesInputView extends View {
     masterPanel.add(rightPanel, Constants.MIG_LAYOUT_EAST);
 
     addComboBox();
-    addTextFields();
+    addNamesTable();
     addRadioButtons();
     addAnchoragesCheckbox();
     addTextArea();
@@ -113,20 +115,28 @@ public class NamesInputView extends View {
   // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
 
   /**
-   * Adds the combobox.
+   * Adds the combobox, only including the positions that have players in the current formation.
    */
   private void addComboBox() {
     setComboBox(new CustomComboBox<>(Constants.OPTIONS_POSITIONS_COMBOBOX
-                                              .toArray(new String[0])));
+                                              .stream()
+                                              .filter(option -> CommonFields.getFormation()
+                                                                            .getPlayersLimit(CommonFunctions.getCorrespondingPosition(
+                                                                              CommonFields.getPositionsMap(),
+                                                                              option.toUpperCase()
+                                                                            )) > 0)
+                                              .toArray(String[]::new)));
 
     leftTopPanel.add(comboBox, Constants.MIG_LAYOUT_GROWX);
   }
 
   /**
-   * Adds the read-only text area where the entered player names will be displayed in real time.
+   * Adds the read-only text area where the entered player names will be displayed in real time, with one row per player up to a maximum.
    */
   private void addTextArea() {
-    setTextArea(new CustomTextArea(TEXT_AREA_ROWS, TEXT_AREA_COLUMNS));
+    setTextArea(new CustomTextArea(Math.min(CommonFields.getFormation()
+                                                        .getPlayersTotal(CommonFields.getTeamsCount()), TEXT_AREA_MAX_ROWS),
+                                   TEXT_AREA_COLUMNS));
 
     rightPanel.add(new CustomScrollPane(textArea), CommonFunctions.buildMigLayoutConstraints(Constants.MIG_LAYOUT_PUSH,
                                                                                              Constants.MIG_LAYOUT_GROW,
@@ -143,34 +153,31 @@ public class NamesInputView extends View {
   }
 
   /**
-   * Builds, stores and configures each position text fields.
+   * Adds the names table, with as many visible rows as players has the biggest position up to a maximum.
    *
-   * <p>The "java:S1190" and "java:S117" warnings are suppressed since JDK22+ allows the use of unnamed variables.
+   * <p>The table shows no players until a position is selected.
    */
-  @SuppressWarnings({"java:S1190", "java:S117"})
-  private void addTextFields() {
-    for (Position position : Position.values()) {
-      textFieldsMap.get(position)
-                   .addAll(IntStream.range(0, CommonFields.getPlayersLimitPerPosition()
-                                                          .get(position) * 2)
-                                                          .mapToObj(_ -> new CustomTextField())
-                                                          .toList());
-    }
-  }
+  private void addNamesTable() {
+    int maxPlayersPerPosition = Arrays.stream(Position.values())
+                                      .mapToInt(position -> CommonFields.getFormation()
+                                                                        .getPlayersLimit(position) * CommonFields.getTeamsCount())
+                                      .max()
+                                      .orElse(0);
 
-  /**
-   * Initializes the text fields map.
-   */
-  private void initializeTextFieldsMap() {
-    setTextFieldsMap(new EnumMap<>(Position.class));
+    setNamesTableModel(new NamesTableModel());
+    setNamesTable(new CustomRosterTable(namesTableModel));
+
+    namesTable.setUpViewport(Math.min(maxPlayersPerPosition, TABLE_MAX_VISIBLE_ROWS),
+                             Integer.toString(maxPlayersPerPosition),
+                             Constants.PROTOTYPE_PLAYER_NAME);
 
-    for (Position position : Position.values()) {
-      textFieldsMap.put(position, new ArrayList<>());
-    }
+    leftTopPanel.add(new CustomScrollPane(namesTable), CommonFunctions.buildMigLayoutConstraints(Constants.MIG_LAYOUT_GROW,
+                                                                                                  Constants.MIG_LAYOUT_PUSH));
   }
 
   /**
-   * Adds the radio buttons to choose the players distribution method.
+   * Adds the radio buttons to choose the players distribution method: random, by skill points, or by skill points without guaranteeing the most
+   * balanced teams, which is faster for large teams.
    *
    * <p>When using lambda expressions, the event handler is called whenever the event is triggered. This means that the controller is retrieved only
    * when the radio buttons are clicked, avoiding null-reference problems.
@@ -186,11 +193,13 @@ public class NamesInputView extends View {
   private void addRadioButtons() {
     setRadioButtonRandom(new CustomRadioButton("Aleatoria"));
     setRadioButtonBySkillPoints(new CustomRadioButton("Por puntajes"));
+    setRadioButtonFast(new CustomRadioButton("Por puntajes (rápida)"));
 
     leftBottomPanel.add(new CustomLabel("Distribución", null, SwingConstants.CENTER),
                         CommonFunctions.buildMigLayoutConstraints(Constants.MIG_LAYOUT_GROWX, Constants.MIG_LAYOUT_PUSHX));
     leftBottomPanel.add(radioButtonRandom);
     leftBottomPanel.add(radioButtonBySkillPoints);
+    leftBottomPanel.add(radioButtonFast);
     leftBottomPanel.add(new CustomSeparator(), CommonFunctions.buildMigLayoutConstraints(Constants.MIG_LAYOUT_GROWX, Constants.MIG_LAYOUT_PUSHX));
   }
 
@@ -232,6 +241,10 @@ public class NamesInputView extends View {
     return radioButtonBySkillPoints;
   }
 
+  public JRadioButton getRadioButtonFast() {
+    return radioButtonFast;
+  }
+
   public JRadioButton getRadioButtonRandom() {
     return radioButtonRandom;
   }
@@ -240,8 +253,12 @@ public class NamesInputView extends View {
     return textArea;
   }
 
-  public Map<Position, List<JTextField>> getTextFieldsMap() {
-    return textFieldsMap;
+  public NamesTableModel getNamesTableModel() {
+    return namesTableModel;
+  }
+
+  public CustomRosterTable getNamesTable() {
+    return namesTable;
   }
 
   // ---------- Setters ------------------------------------------------------------------------------------------------------------------------------
@@ -282,14 +299,22 @@ public class NamesInputView extends View {
     this.textArea = textArea;
   }
 
-  public void setTextFieldsMap(Map<Position, List<JTextField>> textFieldsMap) {
-    this.textFieldsMap = textFieldsMap;
+  public void setNamesTableModel(NamesTableModel namesTableModel) {
+    this.namesTableModel = namesTableModel;
+  }
+
+  public void setNamesTable(CustomRosterTable namesTable) {
+    this.namesTable = namesTable;
   }
 
   public void setRadioButtonBySkillPoints(JRadioButton radioButtonBySkillPoints) {
     this.radioButtonBySkillPoints = radioButtonBySkillPoints;
   }
 
+  public void setRadioButtonFast(JRadioButton radioButtonFast) {
+    this.radioButtonFast = radioButtonFast;
+  }
+
   public void setRadioButtonRandom(JRadioButton radioButtonRandom) {
     this.radioButtonRandom = radioButtonRandom;
   }
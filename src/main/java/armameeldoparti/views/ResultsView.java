@@ -1,10 +1,12 @@
 package armameeldoparti.views;
 
+import armameeldoparti.models.enums.MixerQuality;
 import armameeldoparti.utils.common.CommonFields;
 import armameeldoparti.utils.common.CommonFunctions;
 import armameeldoparti.utils.common.Constants;
 import armameeldoparti.utils.common.custom.graphical.CustomButton;
 import javax.swing.JButton;
+import javax.swing.JProgressBar;
 import javax.swing.JTable;
 
 /**
@@ -23,6 +25,8 @@ public class ResultsView extends View {
   private JButton backButton;
   private JButton remixButton;
 
+  private JProgressBar progressBar;
+
   private JTable table;
 
   // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
@@ -35,12 +39,19 @@ public class ResultsView extends View {
 
     setBackButton(new CustomButton("Atrás", Constants.ROUNDED_BORDER_ARC_GENERAL));
     setRemixButton(new CustomButton("Redistribuir", Constants.ROUNDED_BORDER_ARC_GENERAL));
+    setProgressBar(new JProgressBar());
+
+    progressBar.setIndeterminate(true);
+    progressBar.setString("Armando los equipos...");
+    progressBar.setStringPainted(true);
   }
 
   // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
 
   @Override
   public void initializeInterface() {
+    masterPanel.removeAll();
+
     setFrameTitle(getUpdatedFrameTitle());
     setTitle(frameTitle);
     addTable();
@@ -48,11 +59,26 @@ public class ResultsView extends View {
     add(masterPanel);
   }
 
+  /**
+   * Initializes the view interface shown while the players are being distributed, with a progress bar instead of the results table.
+   */
+  public void initializeProgressInterface() {
+    masterPanel.removeAll();
+
+    setFrameTitle(getUpdatedFrameTitle());
+    setTitle(frameTitle);
+
+    masterPanel.add(progressBar, CommonFunctions.buildMigLayoutConstraints(Constants.MIG_LAYOUT_GROWX, Constants.MIG_LAYOUT_SPAN));
+    masterPanel.add(backButton, Constants.MIG_LAYOUT_GROWX);
+
+    add(masterPanel);
+  }
+
   // ---------- Protected methods --------------------------------------------------------------------------------------------------------------------
 
   @Override
   protected void addButtons() {
-    if (CommonFields.getDistribution() == Constants.MIX_RANDOM) {
+    if (CommonFields.getMixerQuality() == MixerQuality.RANDOM) {
       masterPanel.add(remixButton, Constants.MIG_LAYOUT_GROWX);
     }
 
@@ -69,7 +95,11 @@ public class ResultsView extends View {
   private static String getUpdatedFrameTitle() {
     return String.join(
       " - ",
-      CommonFields.getDistribution() == Constants.MIX_RANDOM ? "Aleatorio" : "Por puntuaciones",
+      switch (CommonFields.getMixerQuality()) {
+        case RANDOM -> "Aleatorio";
+        case HEURISTIC -> "Por puntuaciones (rápido)";
+        case EXACT -> "Por puntuaciones";
+      },
       CommonFields.isAnchoragesEnabled() ? "Con anclajes" : "Sin anclajes"
     );
   }
@@ -100,6 +130,10 @@ public class ResultsView extends View {
     return remixButton;
   }
 
+  public JProgressBar getProgressBar() {
+    return progressBar;
+  }
+
   public JTable getTable() {
     return table;
   }
@@ -114,6 +148,10 @@ public class ResultsView extends View {
     this.remixButton = remixButton;
   }
 
+  public void setProgressBar(JProgressBar progressBar) {
+    this.progressBar = progressBar;
+  }
+
   public void setTable(JTable table) {
     this.table = table;
   }
@@ -1,27 +1,26 @@
 package armameeldoparti.views;
 
 import armameeldoparti.models.Player;
-import armameeldoparti.models.enums.Position;
+import armameeldoparti.models.SkillPointsTableModel;
 import armameeldoparti.utils.common.CommonFields;
 import armameeldoparti.utils.common.CommonFunctions;
 import armameeldoparti.utils.common.Constants;
 import armameeldoparti.utils.common.custom.graphical.CustomButton;
 import armameeldoparti.utils.common.custom.graphical.CustomLabel;
-import armameeldoparti.utils.common.custom.graphical.CustomSpinner;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
+import armameeldoparti.utils.common.custom.graphical.CustomRosterTable;
+import armameeldoparti.utils.common.custom.graphical.CustomScrollPane;
+import armameeldoparti.utils.common.custom.graphical.CustomSpinnerCellEditor;
 import java.util.List;
-import java.util.Map;
 import javax.swing.JButton;
 import javax.swing.JLabel;
-import javax.swing.JSpinner;
-import javax.swing.SpinnerNumberModel;
 import javax.swing.SwingConstants;
 
 /**
  * Skill points input view class.
  *
+ * <p>The players and their skill points are shown in a single table, with one row per player, so the view costs the same however many players
+ * there are.
+ *
  * @author Bonino, Francisco Ignacio.
  *
  * @version 0.0.1
@@ -30,14 +29,21 @@ import javax.swing.SwingConstants;
  */
 public class SkillPointsInputView extends View {
 
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final int TABLE_MAX_VISIBLE_ROWS = 12;
+
   // ---------- Private fields -----------------------------------------------------------------------------------------------------------------------
 
   private JButton backButton;
   private JButton finishButton;
   private JButton resetSkillPointsButton;
 
-  private transient Map<JSpinner, JLabel> labelsMap;
-  private transient Map<Player, JSpinner> spinnersMap;
+  private JLabel gapLabel;
+
+  private CustomRosterTable skillPointsTable;
+
+  private SkillPointsTableModel skillPointsTableModel;
 
   // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
 
@@ -47,8 +53,6 @@ public class SkillPointsInputView extends View {
   public SkillPointsInputView() {
     super("Ingreso de puntuaciones", "");
 
-    setSpinnersMap(new HashMap<>());
-    setLabelsMap(new HashMap<>());
     initializeInterface();
   }
 
@@ -56,7 +60,7 @@ public class SkillPointsInputView extends View {
 
   @Override
   public void initializeInterface() {
-    addSpinners();
+    addSkillPointsTable();
     addButtons();
     add(masterPanel);
     pack();
@@ -66,6 +70,10 @@ public class SkillPointsInputView extends View {
 
   @Override
   protected void addButtons() {
+    setGapLabel(new CustomLabel("", null, SwingConstants.CENTER));
+
+    masterPanel.add(gapLabel, CommonFunctions.buildMigLayoutConstraints(Constants.MIG_LAYOUT_GROW, Constants.MIG_LAYOUT_SPAN));
+
     setBackButton(new CustomButton("Atrás", Constants.ROUNDED_BORDER_ARC_GENERAL));
     setFinishButton(new CustomButton("Finalizar", Constants.ROUNDED_BORDER_ARC_GENERAL));
     setResetSkillPointsButton(new CustomButton("Reiniciar puntuaciones", Constants.ROUNDED_BORDER_ARC_GENERAL));
@@ -78,34 +86,32 @@ public class SkillPointsInputView extends View {
   // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
 
   /**
-   * Adds the spinners to their corresponding panel.
+   * Adds the table where the skill points of every player are entered, ordered by position.
+   *
+   * <p>The players sets are sorted by position, so the rows follow the Position enum order. Positions without players in the current formation
+   * are left out, since they have no rows.
    */
-  private void addSpinners() {
-    for (Position position : Position.values()) {
-      masterPanel.add(new CustomLabel(CommonFunctions.capitalize(CommonFields.getPositionsMap()
-                                                                             .get(position)),
-                                      null,
-                                      SwingConstants.CENTER),
-                      CommonFunctions.buildMigLayoutConstraints(Constants.MIG_LAYOUT_GROW, Constants.MIG_LAYOUT_SPAN));
-
-      List<Player> players = new ArrayList<>(CommonFields.getPlayersSets()
-                                                         .get(position));
-
-      players.sort(Comparator.comparing(player -> player.getPosition()
-                                                        .ordinal()));
-
-      for (Player player : players) {
-        spinnersMap.put(player, new CustomSpinner(new SpinnerNumberModel(Constants.SKILL_INI,
-                                                                         Constants.SKILL_MIN,
-                                                                         Constants.SKILL_MAX,
-                                                                         Constants.SKILL_STEP)));
-
-        labelsMap.put(spinnersMap.get(player), new JLabel(player.getName()));
-
-        masterPanel.add(labelsMap.get(spinnersMap.get(player)), Constants.MIG_LAYOUT_PUSHX);
-        masterPanel.add(spinnersMap.get(player), players.indexOf(player) % 2 != 0 ? Constants.MIG_LAYOUT_WRAP : null);
-      }
-    }
+  private void addSkillPointsTable() {
+    List<Player> players = CommonFields.getPlayersSets()
+                                       .values()
+                                       .stream()
+                                       .flatMap(List::stream)
+                                       .toList();
+
+    CustomSpinnerCellEditor spinnerCellEditor = new CustomSpinnerCellEditor(Constants.SKILL_MIN, Constants.SKILL_MAX, Constants.SKILL_STEP);
+
+    setSkillPointsTableModel(new SkillPointsTableModel(players, CommonFields.getPositionsMap()));
+    setSkillPointsTable(new CustomRosterTable(skillPointsTableModel));
+
+    skillPointsTable.setDefaultRenderer(Integer.class, spinnerCellEditor);
+    skillPointsTable.setDefaultEditor(Integer.class, spinnerCellEditor);
+    skillPointsTable.setUpViewport(Math.min(players.size(), TABLE_MAX_VISIBLE_ROWS),
+                                   Constants.PROTOTYPE_POSITION_NAME,
+                                   Constants.PROTOTYPE_PLAYER_NAME,
+                                   Constants.SKILL_MAX);
+
+    masterPanel.add(new CustomScrollPane(skillPointsTable), CommonFunctions.buildMigLayoutConstraints(Constants.MIG_LAYOUT_GROW,
+                                                                                                     Constants.MIG_LAYOUT_SPAN));
   }
 
   // ---------- Getters ------------------------------------------------------------------------------------------------------------------------------
@@ -122,12 +128,16 @@ public class SkillPointsInputView extends View {
     return resetSkillPointsButton;
   }
 
-  public Map<JSpinner, JLabel> getLabelsMap() {
-    return labelsMap;
+  public JLabel getGapLabel() {
+    return gapLabel;
   }
 
-  public Map<Player, JSpinner> getSpinnersMap() {
-    return spinnersMap;
+  public CustomRosterTable getSkillPointsTable() {
+    return skillPointsTable;
+  }
+
+  public SkillPointsTableModel getSkillPointsTableModel() {
+    return skillPointsTableModel;
   }
 
   // ---------- Setters ------------------------------------------------------------------------------------------------------------------------------
@@ -144,11 +154,15 @@ public class SkillPointsInputView extends View {
     this.resetSkillPointsButton = resetSkillPointsButton;
   }
 
-  public void setLabelsMap(Map<JSpinner, JLabel> labelsMap) {
-    this.labelsMap = labelsMap;
+  public void setGapLabel(JLabel gapLabel) {
+    this.gapLabel = gapLabel;
+  }
+
+  public void setSkillPointsTable(CustomRosterTable skillPointsTable) {
+    this.skillPointsTable = skillPointsTable;
   }
 
-  public void setSpinnersMap(Map<Player, JSpinner> spinnersMap) {
-    this.spinnersMap = spinnersMap;
+  public void setSkillPointsTableModel(SkillPointsTableModel skillPointsTableModel) {
+    this.skillPointsTableModel = skillPointsTableModel;
   }
 }
\ No newline at end of file
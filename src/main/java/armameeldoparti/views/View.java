@@ -1,6 +1,7 @@
 package armameeldoparti.views;
 
-import armameeldoparti.utils.common.Constants;
+import armameeldoparti.models.enums.ProgramIcon;
+import armameeldoparti.utils.common.IconRegistry;
 import javax.swing.JFrame;
 import javax.swing.JPanel;
 import javax.swing.WindowConstants;
@@ -37,8 +38,8 @@ public abstract class View extends JFrame {
     setFrameTitle(frameTitle);
     setTitle(getFrameTitle());
     setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
-    setIconImage(Constants.ICON_MAIN
-                          .getImage());
+    setIconImage(IconRegistry.getIcon(ProgramIcon.MAIN)
+                             .getImage());
   }
 
   // ---------- Abstract protected methods -----------------------------------------------------------------------------------------------------------
@@ -0,0 +1,294 @@
+package armameeldoparti.utils.mixers;
+
+import static armameeldoparti.utils.mixers.RosterFixtures.ELEVEN_A_SIDE;
+import static armameeldoparti.utils.mixers.RosterFixtures.SMALL_FORMATIONS;
+import static armameeldoparti.utils.mixers.RosterFixtures.anchorRandomPairs;
+import static armameeldoparti.utils.mixers.RosterFixtures.bruteForceGap;
+import static armameeldoparti.utils.mixers.RosterFixtures.formation;
+import static armameeldoparti.utils.mixers.RosterFixtures.randomPlayersSets;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import armameeldoparti.models.Formation;
+import armameeldoparti.models.Player;
+import armameeldoparti.models.RosterSnapshot;
+import armameeldoparti.models.Team;
+import armameeldoparti.models.enums.MixerQuality;
+import armameeldoparti.models.enums.Position;
+import armameeldoparti.utils.mixers.solvers.SplitRoster;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Players mixers tests.
+ *
+ * <p>Every mixer must return valid, position-respecting teams: every player exactly once, playing a position it is eligible for, each position
+ * filled up to the formation limit, and every anchorage kept together. The exact mixers must also split two teams in the most balanced way, and the
+ * mixers selected for exact requests must be exact unless the teams are too large for any exact mixer.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+class MixersTest {
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final int ROSTERS_COUNT = 12;
+
+  /**
+   * Formation too large for a split mask, so no exact mixer is meant for it.
+   */
+  private static final Formation FORTY_A_SIDE = formation("F40", 4, 8, 16, 8, 4);
+
+  private static final List<Supplier<PlayersMixer>> MIXERS = List.of(BySkillPointsMixer::new,
+                                                                     PortfolioMixer::new,
+                                                                     () -> new PortfolioMixer(Duration.ofMillis(1)),
+                                                                     DifferencingMixer::new,
+                                                                     () -> new AnnealingMixer(Duration.ofMillis(10)),
+                                                                     RandomMixer::new);
+
+  private static final List<Supplier<PlayersMixer>> EXACT_MIXERS = List.of(BySkillPointsMixer::new);
+
+  // ---------- Tests --------------------------------------------------------------------------------------------------------------------------------
+
+  @Test
+  void mixersBuildValidTeams() {
+    Random random = new Random(17);
+
+    List<Formation> formations = new ArrayList<>(SMALL_FORMATIONS);
+
+    formations.add(ELEVEN_A_SIDE);
+
+    for (Supplier<PlayersMixer> mixerSupplier : MIXERS) {
+      for (Formation formation : formations) {
+        for (int teamsCount = 2; teamsCount <= 4; teamsCount++) {
+          for (int rosterIndex = 0; rosterIndex < ROSTERS_COUNT; rosterIndex++) {
+            Map<Position, List<Player>> playersSets = randomPlayersSets(formation, teamsCount, 5, random);
+            boolean anchoragesEnabled = rosterIndex % 2 == 1;
+
+            if (anchoragesEnabled) {
+              anchorRandomPairs(playersSets, 1 + random.nextInt(teamsCount), random);
+            }
+
+            if (rosterIndex % 4 >= 2) {
+              addEligiblePositions(playersSets, formation, random);
+            }
+
+            RosterSnapshot snapshot = new RosterSnapshot(formation, teamsCount, anchoragesEnabled, MixerQuality.HEURISTIC, playersSets);
+            List<Team> teams = mix(mixerSupplier.get(), snapshot);
+
+            assertValidTeams(snapshot, teams);
+            assertPublished(snapshot, teams, playersSets);
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void exactMixersFindTheMostBalancedSplit() {
+    Random random = new Random(19);
+
+    for (Supplier<PlayersMixer> mixerSupplier : EXACT_MIXERS) {
+      for (int rosterIndex = 0; rosterIndex < 4 * ROSTERS_COUNT; rosterIndex++) {
+        Formation formation = SMALL_FORMATIONS.get(rosterIndex % SMALL_FORMATIONS.size());
+        Map<Position, List<Player>> playersSets = randomPlayersSets(formation, 2, rosterIndex % 3 == 0 ? 100 : 5, random);
+        boolean anchoragesEnabled = rosterIndex % 2 == 1;
+
+        if (anchoragesEnabled) {
+          anchorRandomPairs(playersSets, 1 + random.nextInt(2), random);
+        }
+
+        RosterSnapshot snapshot = new RosterSnapshot(formation, 2, anchoragesEnabled, MixerQuality.EXACT, playersSets);
+        PlayersMixer mixer = mixerSupplier.get();
+        List<Team> teams = mix(mixer, snapshot);
+
+        assertEquals(MixerQuality.EXACT, mixer.getQuality(formation));
+        assertValidTeams(snapshot, teams);
+
+        int gap = Math.abs(teams.get(0)
+                                .getTeamSkill()
+                           - teams.get(1)
+                                  .getTeamSkill());
+
+        assertEquals(bruteForceGap(new SplitRoster(snapshot.getPlayersSets(), formation, anchoragesEnabled)), gap);
+      }
+    }
+  }
+
+  @Test
+  void exactRequestsGetExactMixers() {
+    List<Formation> formations = new ArrayList<>(SMALL_FORMATIONS);
+
+    formations.add(ELEVEN_A_SIDE);
+
+    for (Formation formation : formations) {
+      for (boolean withAnchorages : List.of(false, true)) {
+        assertEquals(MixerQuality.EXACT, MixerSelector.select(MixerQuality.EXACT, withAnchorages, formation, 3)
+                                                      .getQuality(formation));
+      }
+    }
+  }
+
+  @Test
+  void largeTeamsAreMixedByHeuristicMixers() {
+    Random random = new Random(23);
+
+    for (int teamsCount = 2; teamsCount <= 3; teamsCount++) {
+      for (boolean anchoragesEnabled : List.of(false, true)) {
+        Map<Position, List<Player>> playersSets = randomPlayersSets(FORTY_A_SIDE, teamsCount, 5, random);
+
+        if (anchoragesEnabled) {
+          anchorRandomPairs(playersSets, teamsCount, random);
+        }
+
+        PlayersMixer selectedMixer = MixerSelector.select(MixerQuality.EXACT, anchoragesEnabled, FORTY_A_SIDE, teamsCount);
+
+        assertEquals(MixerQuality.HEURISTIC, selectedMixer.getQuality(FORTY_A_SIDE));
+
+        for (PlayersMixer mixer : List.of(selectedMixer, new DifferencingMixer())) {
+          RosterSnapshot snapshot = new RosterSnapshot(FORTY_A_SIDE, teamsCount, anchoragesEnabled, MixerQuality.EXACT, playersSets);
+
+          assertValidTeams(snapshot, mix(mixer, snapshot));
+        }
+      }
+    }
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * @param mixer    Mixer to use.
+   * @param snapshot Snapshot of the roster to distribute.
+   *
+   * @return The teams distributed by the mixer, considering the anchorages only if they are enabled in the snapshot.
+   */
+  private static List<Team> mix(PlayersMixer mixer, RosterSnapshot snapshot) {
+    List<Team> teams = snapshot.createTeams();
+
+    return snapshot.isAnchoragesEnabled() ? mixer.withAnchorages(teams, snapshot) : mixer.withoutAnchorages(teams, snapshot);
+  }
+
+  /**
+   * Makes about a third of the players eligible for another position used by the formation, some of them with different skill points on it.
+   *
+   * <p>The "java:S1190" and "java:S117" warnings are suppressed since JDK22+ allows the use of unnamed variables.
+   *
+   * @param playersSets Players, grouped by their natural position.
+   * @param formation   Formation of the teams.
+   * @param random      Random generator.
+   */
+  @SuppressWarnings({"java:S1190", "java:S117"})
+  private static void addEligiblePositions(Map<Position, List<Player>> playersSets, Formation formation, Random random) {
+    List<Position> usedPositions = Arrays.stream(Position.values())
+                                         .filter(position -> formation.getPlayersLimit(position) > 0)
+                                         .toList();
+
+    playersSets.values()
+               .stream()
+               .flatMap(List::stream)
+               .filter(_ -> random.nextInt(3) == 0)
+               .forEach(player -> {
+                 Position position = usedPositions.get(random.nextInt(usedPositions.size()));
+
+                 if (random.nextBoolean()) {
+                   player.addEligiblePosition(position);
+                 } else {
+                   player.addEligiblePosition(position, 1 + random.nextInt(5));
+                 }
+               });
+  }
+
+  /**
+   * Checks that the teams hold every snapshot player exactly once, in a position they are eligible for and up to the formation limit, and that
+   * every anchorage is kept together when the anchorages are enabled.
+   *
+   * @param snapshot Snapshot of the distributed roster.
+   * @param teams    Teams returned by the mixer.
+   */
+  private static void assertValidTeams(RosterSnapshot snapshot, List<Team> teams) {
+    Set<Player> distributedPlayers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    assertEquals(snapshot.getTeamsCount(), teams.size());
+
+    for (Team team : teams) {
+      for (Position position : Position.values()) {
+        List<Player> players = team.getTeamPlayers()
+                                   .get(position);
+
+        assertEquals(snapshot.getFormation()
+                             .getPlayersLimit(position), players.size());
+
+        for (Player player : players) {
+          assertTrue(distributedPlayers.add(player));
+          assertEquals(team.getTeamNumber(), player.getTeamNumber());
+          assertEquals(position, player.getPosition());
+          assertTrue(player.isEligibleFor(position));
+        }
+      }
+    }
+
+    assertEquals(snapshot.getPlayers()
+                         .size(), distributedPlayers.size());
+    assertTrue(distributedPlayers.containsAll(snapshot.getPlayers()));
+
+    if (snapshot.isAnchoragesEnabled()) {
+      for (List<Player> anchorage : snapshot.getAnchorages()) {
+        assertTrue(anchorage.stream()
+                            .allMatch(player -> player.getTeamNumber() == anchorage.getFirst()
+                                                                                   .getTeamNumber()));
+      }
+    }
+  }
+
+  /**
+   * Checks that publishing the teams copies the distribution to the original players, and leaves the snapshot players untouched otherwise.
+   *
+   * @param snapshot    Snapshot of the distributed roster.
+   * @param teams       Teams returned by the mixer.
+   * @param playersSets Original players, grouped by their natural position.
+   */
+  private static void assertPublished(RosterSnapshot snapshot, List<Team> teams, Map<Position, List<Player>> playersSets) {
+    List<Team> publishedTeams = snapshot.publish(teams);
+
+    assertEquals(teams.size(), publishedTeams.size());
+
+    for (int teamIndex = 0; teamIndex < teams.size(); teamIndex++) {
+      for (Position position : Position.values()) {
+        List<Player> copies = teams.get(teamIndex)
+                                   .getTeamPlayers()
+                                   .get(position);
+        List<Player> originals = publishedTeams.get(teamIndex)
+                                               .getTeamPlayers()
+                                               .get(position);
+
+        assertEquals(copies.size(), originals.size());
+
+        for (int index = 0; index < copies.size(); index++) {
+          Player original = originals.get(index);
+
+          assertTrue(playersSets.get(original.getNaturalPosition())
+                                .stream()
+                                .anyMatch(player -> player == original));
+          assertEquals(copies.get(index)
+                             .getName(), original.getName());
+          assertEquals(copies.get(index)
+                             .getTeamNumber(), original.getTeamNumber());
+          assertEquals(position, original.getPosition());
+        }
+      }
+    }
+  }
+}
\ No newline at end of file
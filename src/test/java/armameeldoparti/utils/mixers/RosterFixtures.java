@@ -0,0 +1,329 @@
+package armameeldoparti.utils.mixers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import armameeldoparti.models.Formation;
+import armameeldoparti.models.Player;
+import armameeldoparti.models.Team;
+import armameeldoparti.models.enums.Position;
+import armameeldoparti.utils.mixers.solvers.GraySplitEnumerator;
+import armameeldoparti.utils.mixers.solvers.SplitRoster;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Random rosters and brute-force references shared by the mixers and solvers tests.
+ *
+ * <p>The references enumerate every subset of the roster players, without relying on any split enumeration of the solvers under test, so they are
+ * only meant for rosters of a few players.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+public final class RosterFixtures {
+
+  // ---------- Public constants ---------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Formations small enough for the brute-force references, as listed in the formations file: "Fútbol 5", "Fútbol 7" and "Fútbol 8".
+   */
+  public static final List<Formation> SMALL_FORMATIONS = List.of(formation("F5", 1, 0, 2, 1, 1),
+                                                                 formation("F7", 1, 2, 2, 1, 1),
+                                                                 formation("F8", 2, 2, 2, 1, 1));
+
+  /**
+   * The "Fútbol 11" formation, as listed in the formations file.
+   */
+  public static final Formation ELEVEN_A_SIDE = formation("F11", 2, 2, 4, 2, 1);
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final int ROSTERS_COUNT = 60;
+
+  // ---------- Constructor --------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Empty, private, unused constructor.
+   */
+  private RosterFixtures() {
+    // Body not needed
+  }
+
+  // ---------- Public methods -----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * @param name   Formation name.
+   * @param limits Players per team of every position, in the positions order.
+   *
+   * @return The formation with the given players limits.
+   */
+  public static Formation formation(String name, int... limits) {
+    Map<Position, Integer> playersLimitPerPosition = new EnumMap<>(Position.class);
+
+    for (Position position : Position.values()) {
+      playersLimitPerPosition.put(position, limits[position.ordinal()]);
+    }
+
+    return new Formation(name, playersLimitPerPosition);
+  }
+
+  /**
+   * Builds the players of the given number of teams, with random skill points.
+   *
+   * @param formation  Formation of the teams.
+   * @param teamsCount Number of teams.
+   * @param maxSkill   Highest skill points a player can get.
+   * @param random     Random generator.
+   *
+   * @return The players, grouped by their natural position.
+   */
+  public static Map<Position, List<Player>> randomPlayersSets(Formation formation, int teamsCount, int maxSkill, Random random) {
+    Map<Position, List<Player>> playersSets = new EnumMap<>(Position.class);
+
+    for (Position position : Position.values()) {
+      List<Player> players = new ArrayList<>();
+
+      for (int index = 0; index < teamsCount * formation.getPlayersLimit(position); index++) {
+        Player player = new Player(position.name() + index, position);
+
+        player.setSkillPoints(1 + random.nextInt(maxSkill));
+
+        players.add(player);
+      }
+
+      playersSets.put(position, players);
+    }
+
+    return playersSets;
+  }
+
+  /**
+   * Anchors random pairs of players of different positions, so the anchorages can always be sent to different teams.
+   *
+   * @param playersSets     Players, grouped by their natural position.
+   * @param anchoragesCount Number of anchorages, at most the number of teams.
+   * @param random          Random generator.
+   *
+   * @return The anchorages made.
+   */
+  public static List<List<Player>> anchorRandomPairs(Map<Position, List<Player>> playersSets, int anchoragesCount, Random random) {
+    List<Player> freePlayers = new ArrayList<>(playersSets.values()
+                                                          .stream()
+                                                          .flatMap(List::stream)
+                                                          .toList());
+    List<List<Player>> anchorages = new ArrayList<>();
+
+    Collections.shuffle(freePlayers, random);
+
+    while (anchorages.size() < anchoragesCount) {
+      Player first = freePlayers.removeFirst();
+      Player second = freePlayers.stream()
+                                 .filter(player -> player.getNaturalPosition() != first.getNaturalPosition())
+                                 .findFirst()
+                                 .orElseThrow();
+
+      freePlayers.remove(second);
+
+      for (Player player : List.of(first, second)) {
+        player.setAnchored(true);
+        player.setAnchorageNumber(anchorages.size() + 1);
+      }
+
+      anchorages.add(List.of(first, second));
+    }
+
+    return anchorages;
+  }
+
+  /**
+   * Runs the given check on random two-team rosters of every small formation, with skill points up to 5 and up to 100.
+   *
+   * <p>The rosters are always the same ones, since the random generator is seeded.
+   *
+   * @param withAnchorages Whether some players must be anchored, and the anchorages taken into account.
+   * @param check          Check to run on every roster.
+   */
+  public static void forEachRoster(boolean withAnchorages, Consumer<SplitRoster> check) {
+    Random random = new Random(7);
+
+    for (int rosterIndex = 0; rosterIndex < ROSTERS_COUNT; rosterIndex++) {
+      Formation formation = SMALL_FORMATIONS.get(rosterIndex % SMALL_FORMATIONS.size());
+      Map<Position, List<Player>> playersSets = randomPlayersSets(formation, 2, rosterIndex % 2 == 0 ? 5 : 100, random);
+
+      if (withAnchorages) {
+        anchorRandomPairs(playersSets, random.nextInt(3), random);
+      }
+
+      check.accept(new SplitRoster(playersSets, formation, withAnchorages));
+    }
+  }
+
+  /**
+   * @param roster Roster of the two teams.
+   *
+   * @return The roster players, grouped by their position in the roster order.
+   */
+  public static Map<Position, List<Player>> playersSetsOf(SplitRoster roster) {
+    Map<Position, List<Player>> playersSets = new EnumMap<>(Position.class);
+
+    for (Position position : Position.values()) {
+      List<Player> players = new ArrayList<>();
+
+      for (int slot : roster.getPositionSlots()[position.ordinal()]) {
+        players.add(roster.getPlayers()[slot]);
+      }
+
+      playersSets.put(position, players);
+    }
+
+    return playersSets;
+  }
+
+  /**
+   * @param formation Formation of the teams.
+   *
+   * @return Two empty teams, numbered from 1.
+   */
+  public static List<Team> createTeams(Formation formation) {
+    return List.of(new Team(1, formation), new Team(2, formation));
+  }
+
+  /**
+   * @param roster Roster of the two teams.
+   *
+   * @return The first split in Gray-code order that keeps every anchorage together.
+   */
+  public static long firstValidMask(SplitRoster roster) {
+    GraySplitEnumerator enumerator = new GraySplitEnumerator(roster);
+
+    while (!roster.respectsAnchorages(enumerator.getMask())) {
+      enumerator.next();
+    }
+
+    return enumerator.getMask();
+  }
+
+  /**
+   * Enumerates every subset of the roster players, keeping the valid splits only.
+   *
+   * @param roster Roster of the two teams.
+   *
+   * @return The lowest skill points difference of a valid split, or {@link Integer#MAX_VALUE} if there is none.
+   */
+  public static int bruteForceGap(SplitRoster roster) {
+    int bestGap = Integer.MAX_VALUE;
+
+    for (long mask = 0; mask < 1L << roster.getPlayersCount(); mask++) {
+      if (isValidSplit(roster, mask)) {
+        bestGap = Math.min(bestGap, skillGap(roster, mask));
+      }
+    }
+
+    return bestGap;
+  }
+
+  /**
+   * @param roster Roster of the two teams.
+   *
+   * @return The number of valid splits of the roster.
+   */
+  public static long bruteForceSplitsCount(SplitRoster roster) {
+    long splitsCount = 0;
+
+    for (long mask = 0; mask < 1L << roster.getPlayersCount(); mask++) {
+      if (isValidSplit(roster, mask)) {
+        splitsCount++;
+      }
+    }
+
+    return splitsCount;
+  }
+
+  /**
+   * Checks that the given mask gives the first team the players limit of every position, and keeps every anchorage together.
+   *
+   * @param roster Roster of the two teams.
+   * @param mask   Split mask to check.
+   */
+  public static void assertValidSplit(SplitRoster roster, long mask) {
+    assertTrue(isValidSplit(roster, mask), () -> "Invalid split mask " + Long.toBinaryString(mask));
+  }
+
+  /**
+   * Checks that the given gap is the skill points difference of the given split, and the lowest one of any valid split.
+   *
+   * @param roster Roster of the two teams.
+   * @param mask   Split mask found by a solver.
+   * @param gap    Skill points difference reported by the solver.
+   */
+  public static void assertOptimalSplit(SplitRoster roster, long mask, int gap) {
+    assertEquals(bruteForceGap(roster), gap);
+    assertValidSplit(roster, mask);
+    assertEquals(gap, skillGap(roster, mask));
+  }
+
+  /**
+   * @param roster Roster of the two teams.
+   * @param mask   Split mask.
+   *
+   * @return The skill points difference between the teams of the split, summing the players skill points directly.
+   */
+  public static int skillGap(SplitRoster roster, long mask) {
+    int difference = 0;
+
+    for (int index = 0; index < roster.getPlayersCount(); index++) {
+      difference += ((mask >>> index & 1) == 1 ? 1 : -1) * roster.getPlayers()[index].getSkillPoints();
+    }
+
+    return Math.abs(difference);
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * The "java:S1190" and "java:S117" warnings are suppressed since JDK22+ allows the use of unnamed variables.
+   *
+   * @param roster Roster of the two teams.
+   * @param mask   Split mask to check.
+   *
+   * @return Whether the given mask gives the first team the players limit of every position, and keeps every anchorage together.
+   */
+  @SuppressWarnings({"java:S1190", "java:S117"})
+  private static boolean isValidSplit(SplitRoster roster, long mask) {
+    Player[] players = roster.getPlayers();
+
+    Map<Position, Integer> firstTeamCounts = new EnumMap<>(Position.class);
+    Map<Integer, Long> anchorageSides = new HashMap<>();
+
+    for (int index = 0; index < players.length; index++) {
+      long side = mask >>> index & 1;
+
+      if (side == 1) {
+        firstTeamCounts.merge(players[index].getPosition(), 1, Integer::sum);
+      }
+
+      if (roster.getAnchorageMasks().length > 0 && players[index].isAnchored()
+          && anchorageSides.computeIfAbsent(players[index].getAnchorageNumber(), _ -> side) != side) {
+        return false;
+      }
+    }
+
+    for (Position position : Position.values()) {
+      if (firstTeamCounts.getOrDefault(position, 0) != roster.getPositionLimits()[position.ordinal()]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
\ No newline at end of file
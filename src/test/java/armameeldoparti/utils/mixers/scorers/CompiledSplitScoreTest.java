@@ -0,0 +1,162 @@
+package armameeldoparti.utils.mixers.scorers;
+
+import static armameeldoparti.utils.mixers.RosterFixtures.SMALL_FORMATIONS;
+import static armameeldoparti.utils.mixers.RosterFixtures.assertValidSplit;
+import static armameeldoparti.utils.mixers.RosterFixtures.randomPlayersSets;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import armameeldoparti.models.Formation;
+import armameeldoparti.models.Player;
+import armameeldoparti.models.enums.Attribute;
+import armameeldoparti.utils.mixers.solvers.GraySplitEnumerator;
+import armameeldoparti.utils.mixers.solvers.ScoredSplitSearch;
+import armameeldoparti.utils.mixers.solvers.SplitIndex;
+import armameeldoparti.utils.mixers.solvers.SplitRoster;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiConsumer;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compiled split scores tests.
+ *
+ * <p>The compiled scores are checked against the scorers terms evaluated directly on every player, for every valid split of small rosters.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+class CompiledSplitScoreTest {
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final int ROSTERS_COUNT = 15;
+
+  private static final List<List<SplitScorer>> SCORERS_SETS = List.of(List.of(new SumDifferenceScorer(1), new AttributeScorer(1)),
+                                                                      List.of(new SumDifferenceScorer(3), new TopHeavyScorer(3, 2)),
+                                                                      List.of(new SumDifferenceScorer(4), new VarianceScorer(1)),
+                                                                      List.of(new PositionBalanceScorer(1)),
+                                                                      List.of(new SumDifferenceScorer(1), new TopHeavyScorer(2, 1),
+                                                                              new VarianceScorer(1), new PositionBalanceScorer(1),
+                                                                              new AttributeScorer(new int[] {1, 2, 3})));
+
+  // ---------- Tests --------------------------------------------------------------------------------------------------------------------------------
+
+  @Test
+  void compiledScoreMatchesTheScorersTerms() {
+    forEachRoster((roster, scorers) -> {
+      ScoredSplitSearch search = new ScoredSplitSearch(roster, new CompiledSplitScore(roster.getPlayers(), scorers));
+      GraySplitEnumerator enumerator = new GraySplitEnumerator(roster);
+
+      do {
+        assertEquals(directScore(roster.getPlayers(), scorers, enumerator.getMask()), search.score(enumerator.getMask()));
+      } while (enumerator.next());
+    });
+  }
+
+  @Test
+  void exhaustiveSearchFindsTheLowestScore() {
+    forEachRoster((roster, scorers) -> {
+      ScoredSplitSearch search = new ScoredSplitSearch(roster, new CompiledSplitScore(roster.getPlayers(), scorers));
+
+      search.search(new GraySplitEnumerator(roster).getMask(), new SplitIndex(roster).getSplitsCount());
+
+      assertValidSplit(roster, search.getBestMask());
+      assertEquals(lowestScore(roster, scorers), search.getBestScore());
+      assertEquals(search.getBestScore(), directScore(roster.getPlayers(), scorers, search.getBestMask()));
+    });
+  }
+
+  @Test
+  void descentNeverWorsensTheInitialSplit() {
+    forEachRoster((roster, scorers) -> {
+      ScoredSplitSearch search = new ScoredSplitSearch(roster, new CompiledSplitScore(roster.getPlayers(), scorers));
+
+      long initialMask = new GraySplitEnumerator(roster).getMask();
+
+      search.search(initialMask, Long.MAX_VALUE);
+
+      assertValidSplit(roster, search.getBestMask());
+      assertEquals(search.getBestScore(), directScore(roster.getPlayers(), scorers, search.getBestMask()));
+      assertTrue(search.getBestScore() <= directScore(roster.getPlayers(), scorers, initialMask));
+      assertTrue(search.getBestScore() >= lowestScore(roster, scorers));
+    });
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Runs the given check on random rosters of every small formation, with random attributes, for every scorers set.
+   *
+   * @param check Check to run on every roster and scorers set.
+   */
+  private static void forEachRoster(BiConsumer<SplitRoster, List<SplitScorer>> check) {
+    Random random = new Random(5);
+
+    for (List<SplitScorer> scorers : SCORERS_SETS) {
+      for (int rosterIndex = 0; rosterIndex < ROSTERS_COUNT; rosterIndex++) {
+        Formation formation = SMALL_FORMATIONS.get(rosterIndex % SMALL_FORMATIONS.size());
+        SplitRoster roster = new SplitRoster(randomPlayersSets(formation, 2, 5, random), formation, false);
+
+        for (Player player : roster.getPlayers()) {
+          for (Attribute attribute : Attribute.values()) {
+            player.setAttribute(attribute, random.nextInt(6));
+          }
+        }
+
+        check.accept(roster, scorers);
+      }
+    }
+  }
+
+  /**
+   * @param roster  Roster of the two teams.
+   * @param scorers Scorers to evaluate.
+   *
+   * @return The lowest direct score of any valid split of the roster.
+   */
+  private static long lowestScore(SplitRoster roster, List<SplitScorer> scorers) {
+    GraySplitEnumerator enumerator = new GraySplitEnumerator(roster);
+
+    long lowestScore = Long.MAX_VALUE;
+
+    do {
+      lowestScore = Math.min(lowestScore, directScore(roster.getPlayers(), scorers, enumerator.getMask()));
+    } while (enumerator.next());
+
+    return lowestScore;
+  }
+
+  /**
+   * @param players Roster players.
+   * @param scorers Scorers to evaluate.
+   * @param mask    Split mask.
+   *
+   * @return The weighted sum of the squared differences between both teams of every scorer term, written player by player.
+   */
+  private static long directScore(Player[] players, List<SplitScorer> scorers, long mask) {
+    long score = 0;
+
+    for (SplitScorer scorer : scorers) {
+      int[] terms = new int[scorer.getTermsCount()];
+      long[] differences = new long[terms.length];
+
+      for (int index = 0; index < players.length; index++) {
+        scorer.writeTerms(players[index], terms, 0);
+
+        for (int term = 0; term < terms.length; term++) {
+          differences[term] += ((mask >>> index & 1) == 1 ? 1 : -1) * terms[term];
+        }
+      }
+
+      for (int term = 0; term < terms.length; term++) {
+        score += scorer.getTermWeight(term) * differences[term] * differences[term];
+      }
+    }
+
+    return score;
+  }
+}
\ No newline at end of file
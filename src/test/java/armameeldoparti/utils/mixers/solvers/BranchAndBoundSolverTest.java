@@ -0,0 +1,48 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import static armameeldoparti.utils.mixers.RosterFixtures.assertOptimalSplit;
+import static armameeldoparti.utils.mixers.RosterFixtures.bruteForceGap;
+import static armameeldoparti.utils.mixers.RosterFixtures.forEachRoster;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Branch and bound solver tests.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+class BranchAndBoundSolverTest {
+
+  // ---------- Tests --------------------------------------------------------------------------------------------------------------------------------
+
+  @Test
+  void provesTheLowestGap() {
+    forEachRoster(true, roster -> {
+      BranchAndBoundSolver solver = new BranchAndBoundSolver(roster, BranchAndBoundSolver.UNLIMITED_NODES);
+
+      solver.solve(-1, 0);
+
+      assertTrue(solver.isProvenOptimal());
+      assertOptimalSplit(roster, solver.getBestMask(), solver.getBestGap());
+    });
+  }
+
+  @Test
+  void keepsAValidBoundWhenOutOfBudget() {
+    forEachRoster(true, roster -> {
+      BranchAndBoundSolver solver = new BranchAndBoundSolver(roster, 5);
+
+      solver.solve(-1, 0);
+
+      int lowestGap = bruteForceGap(roster);
+
+      assertTrue(solver.getLowerBound() <= lowestGap);
+      assertTrue(solver.getBestMask() == -1 || solver.getBestGap() >= lowestGap);
+    });
+  }
+}
\ No newline at end of file
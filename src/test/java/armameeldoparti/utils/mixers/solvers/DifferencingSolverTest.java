@@ -0,0 +1,46 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import static armameeldoparti.utils.mixers.RosterFixtures.assertValidSplit;
+import static armameeldoparti.utils.mixers.RosterFixtures.bruteForceGap;
+import static armameeldoparti.utils.mixers.RosterFixtures.createTeams;
+import static armameeldoparti.utils.mixers.RosterFixtures.firstValidMask;
+import static armameeldoparti.utils.mixers.RosterFixtures.forEachRoster;
+import static armameeldoparti.utils.mixers.RosterFixtures.playersSetsOf;
+import static armameeldoparti.utils.mixers.RosterFixtures.skillGap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import armameeldoparti.models.Team;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Largest differencing heuristic tests.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+class DifferencingSolverTest {
+
+  // ---------- Tests --------------------------------------------------------------------------------------------------------------------------------
+
+  @Test
+  void returnsAValidSplitNeverBetterThanTheLowestGap() {
+    forEachRoster(true, roster -> {
+      DifferencingSolver solver = new DifferencingSolver(playersSetsOf(roster), roster.getFormation(), roster.getAnchorageMasks().length > 0);
+      List<Team> teams = createTeams(roster.getFormation());
+
+      roster.applySplit(firstValidMask(roster), teams);
+
+      solver.solve(teams.getFirst()
+                        .getTeamNumber());
+
+      assertValidSplit(roster, solver.getBestMask());
+      assertEquals(skillGap(roster, solver.getBestMask()), solver.getBestGap());
+      assertTrue(solver.getBestGap() >= bruteForceGap(roster));
+    });
+  }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import static armameeldoparti.utils.mixers.RosterFixtures.assertOptimalSplit;
+import static armameeldoparti.utils.mixers.RosterFixtures.forEachRoster;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Equivalence class solver tests.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+class EquivalenceClassSolverTest {
+
+  // ---------- Tests --------------------------------------------------------------------------------------------------------------------------------
+
+  @Test
+  void findsTheLowestGap() {
+    forEachRoster(true, roster -> {
+      EquivalenceClassSolver solver = new EquivalenceClassSolver(roster);
+
+      solver.solve();
+
+      assertOptimalSplit(roster, solver.getBestMask(), solver.getBestGap());
+    });
+  }
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import static armameeldoparti.utils.mixers.RosterFixtures.ELEVEN_A_SIDE;
+import static armameeldoparti.utils.mixers.RosterFixtures.assertOptimalSplit;
+import static armameeldoparti.utils.mixers.RosterFixtures.assertValidSplit;
+import static armameeldoparti.utils.mixers.RosterFixtures.bruteForceSplitsCount;
+import static armameeldoparti.utils.mixers.RosterFixtures.forEachRoster;
+import static armameeldoparti.utils.mixers.RosterFixtures.randomPlayersSets;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Gray-code split enumerator tests.
+ *
+ * <p>The enumerator is checked against the valid splits found by enumerating every subset of the roster players.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+class GraySplitEnumeratorTest {
+
+  // ---------- Tests --------------------------------------------------------------------------------------------------------------------------------
+
+  @Test
+  void visitsEveryValidSplitOnceBySwaps() {
+    forEachRoster(false, roster -> {
+      GraySplitEnumerator enumerator = new GraySplitEnumerator(roster);
+      Set<Long> visitedMasks = new HashSet<>();
+
+      long previousMask = enumerator.getMask();
+
+      do {
+        long mask = enumerator.getMask();
+
+        assertTrue(visitedMasks.add(mask));
+        assertValidSplit(roster, mask);
+        assertEquals(roster.getTeamSkill(mask), enumerator.getTeamSkill());
+        assertTrue(mask == previousMask || Long.bitCount(mask ^ previousMask) == 2);
+
+        previousMask = mask;
+      } while (enumerator.next());
+
+      assertEquals(bruteForceSplitsCount(roster), visitedMasks.size());
+    });
+  }
+
+  @Test
+  void findsTheLowestGap() {
+    forEachRoster(true, roster -> {
+      GraySplitEnumerator enumerator = new GraySplitEnumerator(roster);
+
+      int bestGap = Integer.MAX_VALUE;
+      long bestMask = -1;
+
+      do {
+        int gap = roster.getSkillGap(enumerator.getTeamSkill());
+
+        if (gap < bestGap && roster.respectsAnchorages(enumerator.getMask())) {
+          bestGap = gap;
+          bestMask = enumerator.getMask();
+        }
+      } while (enumerator.next());
+
+      assertOptimalSplit(roster, bestMask, bestGap);
+    });
+  }
+
+  @Test
+  void stopsWhenTheThreadIsInterrupted() {
+    SplitRoster roster = new SplitRoster(randomPlayersSets(ELEVEN_A_SIDE, 2, 5, new Random(11)), ELEVEN_A_SIDE, false);
+    GraySplitEnumerator enumerator = new GraySplitEnumerator(roster);
+
+    long visitedSplits = 1;
+
+    Thread.currentThread()
+          .interrupt();
+
+    try {
+      while (enumerator.next()) {
+        visitedSplits++;
+      }
+    } finally {
+      Thread.interrupted();
+    }
+
+    assertTrue(visitedSplits < new SplitIndex(roster).getSplitsCount());
+  }
+}
\ No newline at end of file
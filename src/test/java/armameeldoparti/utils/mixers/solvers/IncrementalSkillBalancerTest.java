@@ -0,0 +1,223 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import static armameeldoparti.utils.mixers.RosterFixtures.ELEVEN_A_SIDE;
+import static armameeldoparti.utils.mixers.RosterFixtures.formation;
+import static armameeldoparti.utils.mixers.RosterFixtures.randomPlayersSets;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import armameeldoparti.models.Formation;
+import armameeldoparti.models.Player;
+import armameeldoparti.models.Team;
+import armameeldoparti.models.enums.Position;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Incremental skill balancer tests.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+class IncrementalSkillBalancerTest {
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * Two midfielders per team only: with two teams, a single swap reaches every other split, so the balancer local optimum is the global one.
+   */
+  private static final Formation MIDFIELDERS_ONLY = formation("M2", 0, 0, 2, 0, 0);
+
+  // ---------- Tests --------------------------------------------------------------------------------------------------------------------------------
+
+  @Test
+  void swapsPlayersUntilTheTeamsAreBalanced() {
+    List<Player> players = midfielders(5, 5, 1, 1);
+
+    assertEquals(0, balancerFor(players, false).getGap());
+  }
+
+  @Test
+  void keepsTheAnchoredPlayersInTheirTeams() {
+    List<Player> players = midfielders(5, 5, 1, 1);
+
+    for (Player player : players.subList(0, 2)) {
+      player.setAnchored(true);
+      player.setAnchorageNumber(1);
+    }
+
+    assertEquals(8, balancerFor(players, true).getGap());
+    assertEquals(0, balancerFor(players, false).getGap());
+  }
+
+  @Test
+  void reachesTheLowestGapAfterEverySkillChange() {
+    Random random = new Random(3);
+    List<Player> players = midfielders(1, 2, 3, 4);
+    IncrementalSkillBalancer balancer = balancerFor(players, false);
+    Map<Player, Integer> skillPoints = skillPointsOf(players);
+
+    for (int update = 0; update < 500; update++) {
+      Player player = players.get(random.nextInt(players.size()));
+      int newSkillPoints = 1 + random.nextInt(random.nextBoolean() ? 5 : 100);
+
+      skillPoints.put(player, newSkillPoints);
+      balancer.updateSkill(player, newSkillPoints);
+
+      assertEquals(lowestGap(players, skillPoints), balancer.getGap());
+    }
+  }
+
+  @Test
+  void neverWorsensTheInitialDistribution() {
+    Random random = new Random(13);
+
+    for (int trial = 0; trial < 50; trial++) {
+      int teamsCount = 2 + random.nextInt(4);
+      List<Player> players = new ArrayList<>();
+
+      randomPlayersSets(ELEVEN_A_SIDE, teamsCount, 5, random).values()
+                                                               .forEach(players::addAll);
+
+      List<Team> teams = distribute(ELEVEN_A_SIDE, teamsCount, players, random);
+      long initialGap = teams.stream()
+                             .mapToLong(Team::getTeamSkill)
+                             .max()
+                             .orElseThrow()
+                        - teams.stream()
+                               .mapToLong(Team::getTeamSkill)
+                               .min()
+                               .orElseThrow();
+
+      IncrementalSkillBalancer balancer = new IncrementalSkillBalancer(teams, skillPointsOf(players), false);
+
+      assertTrue(balancer.getGap() <= initialGap);
+
+      long balancedGap = balancer.getGap();
+
+      balancer.updateSkill(new Player("Outsider", Position.GOALKEEPER), 5);
+
+      assertEquals(balancedGap, balancer.getGap());
+    }
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * @param skillPoints Skill points of every midfielder.
+   *
+   * @return The midfielders with the given skill points, the first half of them meant for the first team.
+   */
+  private static List<Player> midfielders(int... skillPoints) {
+    List<Player> players = new ArrayList<>();
+
+    for (int index = 0; index < skillPoints.length; index++) {
+      Player player = new Player("M" + index, Position.MIDFIELDER);
+
+      player.setSkillPoints(skillPoints[index]);
+
+      players.add(player);
+    }
+
+    return players;
+  }
+
+  /**
+   * @param players        Midfielders, the first half of them meant for the first team.
+   * @param withAnchorages Whether the anchored players must stay in their teams.
+   *
+   * @return A balancer starting from two teams of midfielders, in the given order.
+   */
+  private static IncrementalSkillBalancer balancerFor(List<Player> players, boolean withAnchorages) {
+    List<Team> teams = List.of(new Team(1, MIDFIELDERS_ONLY), new Team(2, MIDFIELDERS_ONLY));
+
+    for (int index = 0; index < players.size(); index++) {
+      teams.get(index < players.size() / 2 ? 0 : 1)
+           .getTeamPlayers()
+           .get(Position.MIDFIELDER)
+           .add(players.get(index));
+    }
+
+    return new IncrementalSkillBalancer(teams, skillPointsOf(players), withAnchorages);
+  }
+
+  /**
+   * @param formation  Formation of the teams.
+   * @param teamsCount Number of teams.
+   * @param players    Players to distribute.
+   * @param random     Random generator.
+   *
+   * @return The players randomly distributed between the teams, respecting the formation.
+   */
+  private static List<Team> distribute(Formation formation, int teamsCount, List<Player> players, Random random) {
+    List<Team> teams = new ArrayList<>();
+
+    for (int teamNumber = 1; teamNumber <= teamsCount; teamNumber++) {
+      teams.add(new Team(teamNumber, formation));
+    }
+
+    for (Position position : Position.values()) {
+      List<Player> positionPlayers = new ArrayList<>(players.stream()
+                                                            .filter(player -> player.getPosition() == position)
+                                                            .toList());
+
+      Collections.shuffle(positionPlayers, random);
+
+      for (int index = 0; index < positionPlayers.size(); index++) {
+        Team team = teams.get(index / formation.getPlayersLimit(position));
+
+        positionPlayers.get(index)
+                       .setTeamNumber(team.getTeamNumber());
+
+        team.getTeamPlayers()
+            .get(position)
+            .add(positionPlayers.get(index));
+      }
+    }
+
+    return teams;
+  }
+
+  /**
+   * @param players Players whose skill points are needed.
+   *
+   * @return The current skill points of every given player.
+   */
+  private static Map<Player, Integer> skillPointsOf(List<Player> players) {
+    Map<Player, Integer> skillPoints = new HashMap<>();
+
+    players.forEach(player -> skillPoints.put(player, player.getSkillPoints()));
+
+    return skillPoints;
+  }
+
+  /**
+   * @param players     Four midfielders.
+   * @param skillPoints Current skill points of every midfielder.
+   *
+   * @return The lowest skill points difference of any split of the midfielders into two pairs.
+   */
+  private static long lowestGap(List<Player> players, Map<Player, Integer> skillPoints) {
+    int totalSkill = players.stream()
+                            .mapToInt(skillPoints::get)
+                            .sum();
+
+    long lowestGap = Long.MAX_VALUE;
+
+    for (int partner = 1; partner < players.size(); partner++) {
+      int pairSkill = skillPoints.get(players.getFirst()) + skillPoints.get(players.get(partner));
+
+      lowestGap = Math.min(lowestGap, Math.abs(2L * pairSkill - totalSkill));
+    }
+
+    return lowestGap;
+  }
+}
\ No newline at end of file
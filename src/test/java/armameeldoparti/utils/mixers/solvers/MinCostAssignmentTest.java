@@ -0,0 +1,107 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Min-cost assignment tests.
+ *
+ * <p>The assignments are checked against every possible assignment of a few items, with random costs, forbidden pairs and capacities.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+class MinCostAssignmentTest {
+
+  // ---------- Tests --------------------------------------------------------------------------------------------------------------------------------
+
+  @Test
+  void findsTheCheapestAssignment() {
+    Random random = new Random(11);
+
+    for (int trial = 0; trial < 2000; trial++) {
+      int itemsCount = 1 + random.nextInt(6);
+      int groupsCount = 1 + random.nextInt(3);
+      int[] capacities = new int[groupsCount];
+      long[][] costs = new long[itemsCount][groupsCount];
+
+      for (int group = 0; group < groupsCount; group++) {
+        capacities[group] = random.nextInt(itemsCount + 1);
+      }
+
+      for (long[] itemCosts : costs) {
+        for (int group = 0; group < groupsCount; group++) {
+          itemCosts[group] = random.nextInt(5) == 0 ? MinCostAssignment.FORBIDDEN : random.nextInt(21) - 10;
+        }
+      }
+
+      int[] assignment = new MinCostAssignment(costs, capacities).solve();
+      long bestCost = bruteForceAssignmentCost(costs, capacities);
+
+      if (bestCost == Long.MAX_VALUE) {
+        assertNull(assignment);
+      } else {
+        assertNotNull(assignment);
+        assertEquals(bestCost, assignmentCost(costs, capacities, assignment));
+      }
+    }
+  }
+
+  // ---------- Private methods ----------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * @param costs      Cost of assigning each item to each group.
+   * @param capacities Number of items each group can take.
+   *
+   * @return The lowest cost of any assignment of every item, or {@link Long#MAX_VALUE} if there is none.
+   */
+  private static long bruteForceAssignmentCost(long[][] costs, int[] capacities) {
+    int groupsCount = capacities.length;
+    int[] assignment = new int[costs.length];
+
+    long bestCost = Long.MAX_VALUE;
+
+    for (int code = 0; code < Math.pow(groupsCount, costs.length); code++) {
+      int remainder = code;
+
+      for (int item = 0; item < costs.length; item++) {
+        assignment[item] = remainder % groupsCount;
+        remainder /= groupsCount;
+      }
+
+      bestCost = Math.min(bestCost, assignmentCost(costs, capacities, assignment));
+    }
+
+    return bestCost;
+  }
+
+  /**
+   * @param costs      Cost of assigning each item to each group.
+   * @param capacities Number of items each group can take.
+   * @param assignment Group of each item.
+   *
+   * @return The cost of the assignment, or {@link Long#MAX_VALUE} if it uses a forbidden pair or exceeds a capacity.
+   */
+  private static long assignmentCost(long[][] costs, int[] capacities, int[] assignment) {
+    int[] counts = new int[capacities.length];
+
+    long cost = 0;
+
+    for (int item = 0; item < costs.length; item++) {
+      if (costs[item][assignment[item]] == MinCostAssignment.FORBIDDEN || ++counts[assignment[item]] > capacities[assignment[item]]) {
+        return Long.MAX_VALUE;
+      }
+
+      cost += costs[item][assignment[item]];
+    }
+
+    return cost;
+  }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import static armameeldoparti.utils.mixers.RosterFixtures.assertOptimalSplit;
+import static armameeldoparti.utils.mixers.RosterFixtures.forEachRoster;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Parallel split search tests.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+class ParallelSplitSearchTest {
+
+  // ---------- Tests --------------------------------------------------------------------------------------------------------------------------------
+
+  @Test
+  void findsTheLowestGap() {
+    forEachRoster(true, roster -> {
+      ParallelSplitSearch search = new ParallelSplitSearch(roster, new SplitIndex(roster));
+
+      search.search();
+
+      assertOptimalSplit(roster, search.getBestMask(), search.getBestGap());
+    });
+  }
+}
\ No newline at end of file
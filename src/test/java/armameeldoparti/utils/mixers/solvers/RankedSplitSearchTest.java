@@ -0,0 +1,59 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import static armameeldoparti.utils.mixers.RosterFixtures.assertOptimalSplit;
+import static armameeldoparti.utils.mixers.RosterFixtures.assertValidSplit;
+import static armameeldoparti.utils.mixers.RosterFixtures.bruteForceSplitsCount;
+import static armameeldoparti.utils.mixers.RosterFixtures.forEachRoster;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Ranked split search tests.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+class RankedSplitSearchTest {
+
+  // ---------- Tests --------------------------------------------------------------------------------------------------------------------------------
+
+  @Test
+  void splitIndexRanksEveryValidSplitOnce() {
+    forEachRoster(false, roster -> {
+      SplitIndex splitIndex = new SplitIndex(roster);
+      Set<Long> rankedMasks = new HashSet<>();
+
+      for (long index = 0; index < splitIndex.getSplitsCount(); index++) {
+        long mask = splitIndex.unrank(index);
+
+        assertTrue(rankedMasks.add(mask));
+        assertValidSplit(roster, mask);
+      }
+
+      assertEquals(bruteForceSplitsCount(roster), rankedMasks.size());
+    });
+  }
+
+  @Test
+  void findsTheLowestGapWithEveryKernel() {
+    forEachRoster(true, roster -> {
+      SplitIndex splitIndex = new SplitIndex(roster);
+
+      for (SkillGapKernel kernel : List.of(new ScalarSkillGapKernel(roster), SkillGapKernel.forRoster(roster))) {
+        RankedSplitSearch search = new RankedSplitSearch(roster, splitIndex, kernel);
+
+        search.search(0, splitIndex.getSplitsCount());
+
+        assertOptimalSplit(roster, search.getBestMask(), search.getBestGap());
+      }
+    });
+  }
+}
\ No newline at end of file
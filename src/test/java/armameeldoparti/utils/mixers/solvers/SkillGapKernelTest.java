@@ -0,0 +1,49 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import static armameeldoparti.utils.mixers.RosterFixtures.forEachRoster;
+import static armameeldoparti.utils.mixers.RosterFixtures.skillGap;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Skill gap kernels tests.
+ *
+ * <p>The kernel picked at runtime is the Vector API one only when the build includes it and the module is present, so it is checked too whenever
+ * that is the case.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+class SkillGapKernelTest {
+
+  // ---------- Tests --------------------------------------------------------------------------------------------------------------------------------
+
+  @Test
+  void kernelsMatchTheSkillGapsOfEverySplit() {
+    forEachRoster(false, roster -> {
+      SplitIndex splitIndex = new SplitIndex(roster);
+
+      long[] masks = new long[(int) splitIndex.getSplitsCount()];
+      int[] scalarGaps = new int[masks.length];
+      int[] kernelGaps = new int[masks.length];
+      int[] expectedGaps = new int[masks.length];
+
+      splitIndex.fill(0, masks.length, masks);
+
+      for (int index = 0; index < masks.length; index++) {
+        expectedGaps[index] = skillGap(roster, masks[index]);
+      }
+
+      new ScalarSkillGapKernel(roster).skillGaps(masks, masks.length, scalarGaps);
+      SkillGapKernel.forRoster(roster)
+                    .skillGaps(masks, masks.length, kernelGaps);
+
+      assertArrayEquals(expectedGaps, scalarGaps);
+      assertArrayEquals(expectedGaps, kernelGaps);
+    });
+  }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import static armameeldoparti.utils.mixers.RosterFixtures.assertOptimalSplit;
+import static armameeldoparti.utils.mixers.RosterFixtures.createTeams;
+import static armameeldoparti.utils.mixers.RosterFixtures.forEachRoster;
+import static armameeldoparti.utils.mixers.RosterFixtures.playersSetsOf;
+
+import armameeldoparti.models.Team;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Skill-sum dynamic programming solver tests.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+class SkillSumDpSolverTest {
+
+  // ---------- Tests --------------------------------------------------------------------------------------------------------------------------------
+
+  @Test
+  void findsTheLowestGapWithTheExactQuantum() {
+    forEachRoster(true, roster -> {
+      SkillSumDpSolver solver = new SkillSumDpSolver(playersSetsOf(roster), roster.getFormation(), roster.getAnchorageMasks().length > 0,
+                                                     SkillSumDpSolver.EXACT_QUANTUM);
+      List<Team> teams = createTeams(roster.getFormation());
+
+      solver.solve();
+      solver.applySplit(teams);
+
+      assertOptimalSplit(roster, roster.maskOf(teams.getFirst()), solver.getBestGap());
+    });
+  }
+}
\ No newline at end of file
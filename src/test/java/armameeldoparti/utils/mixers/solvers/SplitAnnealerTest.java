@@ -0,0 +1,45 @@
+package armameeldoparti.utils.mixers.solvers;
+
+import static armameeldoparti.utils.mixers.RosterFixtures.assertValidSplit;
+import static armameeldoparti.utils.mixers.RosterFixtures.bruteForceGap;
+import static armameeldoparti.utils.mixers.RosterFixtures.firstValidMask;
+import static armameeldoparti.utils.mixers.RosterFixtures.forEachRoster;
+import static armameeldoparti.utils.mixers.RosterFixtures.skillGap;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Split annealer tests.
+ *
+ * @author Bonino, Francisco Ignacio.
+ *
+ * @version 0.0.1
+ *
+ * @since 3.0
+ */
+class SplitAnnealerTest {
+
+  // ---------- Private constants --------------------------------------------------------------------------------------------------------------------
+
+  private static final long ANNEALING_BUDGET = TimeUnit.MILLISECONDS.toNanos(5);
+
+  // ---------- Tests --------------------------------------------------------------------------------------------------------------------------------
+
+  @Test
+  void offersValidSplitsNeverBetterThanTheLowestGap() {
+    forEachRoster(true, roster -> {
+      SplitIncumbent incumbent = new SplitIncumbent(roster);
+
+      long initialMask = firstValidMask(roster);
+
+      new SplitAnnealer(roster, incumbent).anneal(initialMask, System.nanoTime() + ANNEALING_BUDGET);
+
+      long bestMask = incumbent.getBestMask() == -1 ? initialMask : incumbent.getBestMask();
+
+      assertValidSplit(roster, bestMask);
+      assertTrue(skillGap(roster, bestMask) >= bruteForceGap(roster));
+    });
+  }
+}
\ No newline at end of file